@@ -0,0 +1,32 @@
+package me.studyroom.config;
+
+import me.studyroom.domain.payment.gateway.FakePaymentGateway;
+import me.studyroom.domain.payment.gateway.PaymentGateway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Random;
+
+@Configuration
+public class PaymentConfig {
+
+	// 실제 PG 연동이 생기면 studyroom.payment.gateway 값으로 갈아끼움
+	// seed 0 이면 매번 다른 결과, 벤치마크를 재현하려면 고정
+	@Bean
+	@ConditionalOnProperty(name = "studyroom.payment.gateway", havingValue = "fake", matchIfMissing = true)
+	public PaymentGateway fakePaymentGateway(
+		@Value("${studyroom.payment.fake.latency-median-millis:80}") long latencyMedianMillis,
+		@Value("${studyroom.payment.fake.latency-p99-millis:600}") long latencyP99Millis,
+		@Value("${studyroom.payment.fake.decline-rate:0.0}") double declineRate,
+		@Value("${studyroom.payment.fake.error-rate:0.0}") double errorRate,
+		@Value("${studyroom.payment.fake.timeout-rate:0.0}") double timeoutRate,
+		@Value("${studyroom.payment.fake.seed:0}") long seed,
+		@Value("${studyroom.payment.gateway-timeout-millis:3000}") long timeoutMillis) {
+		return new FakePaymentGateway(
+			new FakePaymentGateway.Settings(
+				latencyMedianMillis, latencyP99Millis, declineRate, errorRate, timeoutRate, timeoutMillis),
+			seed == 0 ? new Random() : new Random(seed));
+	}
+}
@@ -0,0 +1,34 @@
+package me.studyroom.config;
+
+import me.studyroom.global.ratelimit.RateLimitInterceptor;
+import me.studyroom.global.ratelimit.RateLimitProperties;
+import me.studyroom.global.ratelimit.RateLimiter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig implements WebMvcConfigurer {
+
+	private final RateLimitProperties properties;
+
+	public RateLimitConfig(RateLimitProperties properties) {
+		this.properties = properties;
+	}
+
+	@Bean
+	public RateLimiter rateLimiter() {
+		return new RateLimiter(properties.maxKeys());
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		if (!properties.enabled()) {
+			return;
+		}
+		registry.addInterceptor(new RateLimitInterceptor(rateLimiter(), properties));
+	}
+}
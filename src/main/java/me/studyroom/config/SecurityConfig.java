@@ -28,6 +28,8 @@ public class SecurityConfig {
 			.csrf(csrf -> csrf.disable())
 			.authorizeHttpRequests(auth -> auth
 				.requestMatchers("/login", "/signup").permitAll()
+				.requestMatchers("/actuator/health/**").permitAll()
+				.requestMatchers("/admin/**").hasRole("ADMIN")
 				.anyRequest().authenticated()
 			)
 			.userDetailsService(customUserDetailsService)
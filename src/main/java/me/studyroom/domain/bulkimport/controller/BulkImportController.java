@@ -0,0 +1,41 @@
+package me.studyroom.domain.bulkimport.controller;
+
+import lombok.RequiredArgsConstructor;
+import me.studyroom.domain.bulkimport.dto.ImportFormat;
+import me.studyroom.domain.bulkimport.dto.ImportReport;
+import me.studyroom.domain.bulkimport.service.BulkImportService;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+// /admin/** 는 SecurityConfig에서 ADMIN만 접근 가능
+// 업로드 파일은 multipart 설정상 디스크에 임시 저장되고, 서비스가 그 파일을 두 번 스트리밍으로 읽음
+@RestController
+@RequestMapping("/admin/import")
+@RequiredArgsConstructor
+public class BulkImportController {
+	private final BulkImportService bulkImportService;
+
+	// 예) curl -F file=@rooms.csv "/admin/import/rooms?format=CSV"
+	@PostMapping("/rooms")
+	public ImportReport importRooms(
+		@RequestPart("file") MultipartFile file,
+		@RequestParam(defaultValue = "CSV") ImportFormat format,
+		@RequestParam(defaultValue = "false") boolean dryRun) {
+
+		return bulkImportService.importRooms(file, format, dryRun);
+	}
+
+	// dryRun=true 면 검증(겹침 포함)만 하고 리포트 반환
+	@PostMapping("/reservations")
+	public ImportReport importReservations(
+		@RequestPart("file") MultipartFile file,
+		@RequestParam(defaultValue = "CSV") ImportFormat format,
+		@RequestParam(defaultValue = "false") boolean dryRun) {
+
+		return bulkImportService.importReservations(file, format, dryRun);
+	}
+}
@@ -0,0 +1,19 @@
+package me.studyroom.domain.bulkimport.dto;
+
+import me.studyroom.domain.bulkimport.parser.CsvRowReader;
+import me.studyroom.domain.bulkimport.parser.ImportRowReader;
+import me.studyroom.domain.bulkimport.parser.NdjsonRowReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public enum ImportFormat {
+	CSV,
+	NDJSON;
+
+	public ImportRowReader open(InputStream inputStream, String[] columns) throws IOException {
+		return this == CSV
+			? new CsvRowReader(inputStream, columns)
+			: new NdjsonRowReader(inputStream, columns);
+	}
+}
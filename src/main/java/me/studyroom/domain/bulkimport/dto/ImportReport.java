@@ -0,0 +1,19 @@
+package me.studyroom.domain.bulkimport.dto;
+
+import java.util.List;
+
+// row는 데이터 행 번호 (헤더 제외, 1부터)
+public record ImportReport(
+	String target,
+	boolean dryRun,
+	long totalRows,
+	long importedRows,
+	long rejectedRows,
+	List<RowError> errors, // 앞에서부터 최대 ERROR_SAMPLE_LIMIT 건만
+	long elapsedMillis
+) {
+	public static final int ERROR_SAMPLE_LIMIT = 100;
+
+	public record RowError(long row, String message) {
+	}
+}
@@ -0,0 +1,105 @@
+package me.studyroom.domain.bulkimport.parser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 첫 줄은 헤더, 컬럼 순서는 자유 (헤더 이름으로 매칭)
+// 따옴표로 감싼 값 안의 콤마, 줄바꿈, "" 이스케이프 지원
+public class CsvRowReader implements ImportRowReader {
+
+	private final BufferedReader reader;
+	private final int[] positions; // columns[i]가 CSV의 몇 번째 칸인지, 없으면 -1
+	private final List<String> fields = new ArrayList<>();
+	private final StringBuilder field = new StringBuilder();
+
+	public CsvRowReader(InputStream inputStream, String[] columns) throws IOException {
+		this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), 64 * 1024);
+
+		if (!readRecord()) {
+			throw new IllegalArgumentException("CSV 헤더가 없습니다");
+		}
+		List<String> header = fields.stream()
+			.map(name -> name.strip().toLowerCase())
+			.toList();
+		// BOM이 붙은 파일(엑셀 저장) 처리
+		if (!header.isEmpty() && header.get(0).startsWith("\uFEFF")) {
+			header = new ArrayList<>(header);
+			header.set(0, header.get(0).substring(1));
+		}
+
+		this.positions = new int[columns.length];
+		for (int i = 0; i < columns.length; i++) {
+			positions[i] = header.indexOf(columns[i]);
+		}
+	}
+
+	@Override
+	public boolean next(String[] values) throws IOException {
+		while (readRecord()) {
+			if (fields.size() == 1 && fields.get(0).isBlank()) {
+				continue; // 빈 줄
+			}
+			Arrays.fill(values, null);
+			for (int i = 0; i < positions.length; i++) {
+				int position = positions[i];
+				if (position >= 0 && position < fields.size()) {
+					String value = fields.get(position);
+					values[i] = value.isEmpty() ? null : value;
+				}
+			}
+			return true;
+		}
+		return false;
+	}
+
+	private boolean readRecord() throws IOException {
+		fields.clear();
+		field.setLength(0);
+
+		int c = reader.read();
+		if (c == -1) {
+			return false;
+		}
+
+		boolean quoted = false;
+		while (c != -1) {
+			if (quoted) {
+				if (c == '"') {
+					reader.mark(1);
+					int nextChar = reader.read();
+					if (nextChar == '"') {
+						field.append('"');
+					} else {
+						quoted = false;
+						reader.reset();
+					}
+				} else {
+					field.append((char) c);
+				}
+			} else if (c == '"' && field.isEmpty()) {
+				quoted = true;
+			} else if (c == ',') {
+				fields.add(field.toString());
+				field.setLength(0);
+			} else if (c == '\n') {
+				break;
+			} else if (c != '\r') {
+				field.append((char) c);
+			}
+			c = reader.read();
+		}
+		fields.add(field.toString());
+		return true;
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+}
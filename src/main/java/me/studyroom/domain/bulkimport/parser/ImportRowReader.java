@@ -0,0 +1,11 @@
+package me.studyroom.domain.bulkimport.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// 한 행씩 읽어서 호출자가 넘긴 배열에 채움 (행마다 Map을 만들지 않음)
+// values[i]는 생성 시 넘긴 columns[i]의 값, 없으면 null
+public interface ImportRowReader extends Closeable {
+
+	boolean next(String[] values) throws IOException;
+}
@@ -0,0 +1,73 @@
+package me.studyroom.domain.bulkimport.parser;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// 한 줄에 JSON 객체 하나
+// 줄 단위로 String을 만들어 readTree 하지 않고 파서 하나로 루트 객체들을 연속으로 읽음
+// 중첩 객체/배열 값은 무시
+public class NdjsonRowReader implements ImportRowReader {
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	private final JsonParser parser;
+	private final Map<String, Integer> columnIndexes = new HashMap<>();
+
+	public NdjsonRowReader(InputStream inputStream, String[] columns) throws IOException {
+		this.parser = JSON_FACTORY.createParser(inputStream);
+		for (int i = 0; i < columns.length; i++) {
+			columnIndexes.put(columns[i], i);
+		}
+	}
+
+	@Override
+	public boolean next(String[] values) throws IOException {
+		JsonToken token = parser.nextToken();
+		if (token == null) {
+			return false;
+		}
+		if (token != JsonToken.START_OBJECT) {
+			throw new IllegalArgumentException("NDJSON 행은 객체여야 합니다: " + parser.currentLocation());
+		}
+
+		Arrays.fill(values, null);
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			Integer index = columnIndexes.get(toColumnName(parser.currentName()));
+			JsonToken valueToken = parser.nextToken();
+			if (valueToken == JsonToken.START_OBJECT || valueToken == JsonToken.START_ARRAY) {
+				parser.skipChildren();
+				continue;
+			}
+			if (index != null && valueToken != JsonToken.VALUE_NULL) {
+				values[index] = parser.getText();
+			}
+		}
+		return true;
+	}
+
+	// CSV 헤더와 같은 이름으로 맞춤 (studyRoomName -> study_room_name)
+	private static String toColumnName(String fieldName) {
+		StringBuilder name = new StringBuilder(fieldName.length() + 4);
+		for (int i = 0; i < fieldName.length(); i++) {
+			char c = fieldName.charAt(i);
+			if (Character.isUpperCase(c)) {
+				name.append('_').append(Character.toLowerCase(c));
+			} else {
+				name.append(c);
+			}
+		}
+		return name.toString();
+	}
+
+	@Override
+	public void close() throws IOException {
+		parser.close();
+	}
+}
@@ -0,0 +1,433 @@
+package me.studyroom.domain.bulkimport.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.studyroom.domain.bulkimport.dto.ImportFormat;
+import me.studyroom.domain.bulkimport.dto.ImportReport;
+import me.studyroom.domain.bulkimport.parser.ImportRowReader;
+import me.studyroom.domain.reservation.ReservationHistoryRepository;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.ReservationStatus;
+import me.studyroom.domain.reservation.dto.ReservationExportRow;
+import me.studyroom.domain.reservation.schedule.RoomScheduleService;
+import me.studyroom.domain.stats.service.RoomStatsService;
+import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.studyRoom.StudyRoomRepository;
+import me.studyroom.domain.user.UserRepository;
+import me.studyroom.global.exception.ApiException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 지점 오픈 시 스터디룸 / 과거 예약 일괄 등록
+// StudyRoomService.create, reservationRepository.save는 IDENTITY라 행마다 INSERT + flush가 일어남
+// 여기서는 파일을 스트리밍으로 읽고 JDBC 배치 INSERT를 청크 단위 트랜잭션으로 넣음
+//
+// 예약은 2 pass
+// 1. 검증 + CONFIRMED 구간 수집 -> 파일이 닿는 방/기간의 기존 예약(reservation + reservation_history)을 읽어
+//    확정 구간은 같은 목록에 넣고 방별 정렬 후 sweep으로 파일 내 + 기존 예약과의 겹침 검출 (거절 행은 BitSet)
+// 2. 같은 파일을 다시 읽어서 거절되지 않은 행 중 기존 예약과 (방, 사용자, 시작, 종료)가 같은 행(재등록)은 거절하고 나머지를 INSERT
+//    (여기서 실패한 행/청크도 거절로 보고서에 남김, 드라이런은 INSERT 만 건너뜀)
+// 끝난 예약만 받음 -> 결제 대기 홀드/반복 예약의 앞으로 회차와는 겹칠 수 없어서 방 락 없이 넣음
+// 파일 전체를 메모리에 올리지 않고, 행당 남는 건 CONFIRMED 구간 16바이트 + 1비트 (+ 그 기간 기존 예약 수만큼의 키)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkImportService {
+
+	private static final String[] ROOM_COLUMNS = {"name", "available", "description", "open_time", "close_time"};
+	private static final String[] RESERVATION_COLUMNS = {"study_room_name", "user_email", "start_at", "end_at", "status", "created_at"};
+
+	private static final LocalDateTime MINUTE_EPOCH = LocalDateTime.of(2000, 1, 1, 0, 0);
+	private static final int USER_CACHE_SIZE = 10_000;
+	private static final long MISSING_USER = -1L;
+
+	private final StudyRoomRepository studyRoomRepository;
+	private final UserRepository userRepository;
+	private final ReservationRepository reservationRepository;
+	private final ReservationHistoryRepository reservationHistoryRepository;
+	private final RoomStatsService roomStatsService;
+	private final RoomScheduleService roomScheduleService;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+	private final Clock clock;
+
+	@Value("${studyroom.import.chunk-size:2000}")
+	private int chunkSize;
+
+	@Value("${studyroom.import.progress-every-rows:100000}")
+	private long progressEveryRows;
+
+	// 스터디룸은 많아야 수백 개라 한 번 읽으면서 바로 넣음
+	public ImportReport importRooms(InputStreamSource source, ImportFormat format, boolean dryRun) {
+		long startedAt = System.currentTimeMillis();
+		ErrorCollector errors = new ErrorCollector();
+		Set<String> names = new HashSet<>();
+		studyRoomRepository.findAll().forEach(room -> names.add(room.getName()));
+
+		List<Object[]> chunk = new ArrayList<>(chunkSize);
+		long total = 0;
+		long imported = 0;
+		long rejected = 0;
+
+		try (ImportRowReader reader = format.open(source.getInputStream(), ROOM_COLUMNS)) {
+			String[] values = new String[ROOM_COLUMNS.length];
+			while (reader.next(values)) {
+				total++;
+				try {
+					// 운영 시간 규칙은 엔티티 생성자 검증을 그대로 사용
+					StudyRoom room = new StudyRoom(
+						required(values[0], "name"),
+						values[1] == null || Boolean.parseBoolean(values[1]),
+						required(values[2], "description"),
+						LocalTime.parse(required(values[3], "open_time")),
+						LocalTime.parse(required(values[4], "close_time"))
+					);
+					if (!names.add(room.getName())) {
+						throw new IllegalArgumentException("이미 존재하는 스터디룸 이름입니다: " + room.getName());
+					}
+					chunk.add(new Object[]{
+						room.getName(),
+						values[1] == null || Boolean.parseBoolean(values[1]),
+						room.getDescription(),
+						room.getOpenTime(),
+						room.getCloseTime()
+					});
+				} catch (ApiException | IllegalArgumentException | DateTimeParseException e) {
+					errors.add(total, e.getMessage());
+					rejected++;
+					continue;
+				}
+
+				if (chunk.size() == chunkSize) {
+					imported += flushRooms(chunk, dryRun);
+				}
+			}
+			imported += flushRooms(chunk, dryRun);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		ImportReport report = errors.report("study_room", dryRun, total, imported, rejected, System.currentTimeMillis() - startedAt);
+		log.info("Study room import finished: {}", report);
+		return report;
+	}
+
+	public ImportReport importReservations(InputStreamSource source, ImportFormat format, boolean dryRun) {
+		long startedAt = System.currentTimeMillis();
+		ErrorCollector errors = new ErrorCollector();
+		Map<String, RoomRef> rooms = loadRooms();
+		Map<String, Long> userIds = userCache();
+		BitSet rejected = new BitSet();
+
+		LocalDateTime now = LocalDateTime.now(clock);
+
+		// pass 1 : 검증 + 방별 CONFIRMED 구간, 방별 파일 기간(분) 수집
+		List<RoomIntervals> intervals = new ArrayList<>(rooms.size());
+		for (int i = 0; i < rooms.size(); i++) {
+			intervals.add(new RoomIntervals());
+		}
+		int[] firstStart = new int[rooms.size()];
+		int[] lastEnd = new int[rooms.size()];
+		Arrays.fill(firstStart, Integer.MAX_VALUE);
+		Arrays.fill(lastEnd, Integer.MIN_VALUE);
+
+		long total = 0;
+		try (ImportRowReader reader = format.open(source.getInputStream(), RESERVATION_COLUMNS)) {
+			String[] values = new String[RESERVATION_COLUMNS.length];
+			while (reader.next(values)) {
+				int row = Math.toIntExact(++total);
+				try {
+					ParsedReservation parsed = parse(values, rooms, userIds, now);
+					int index = parsed.room().index();
+					int start = toMinute(parsed.startAt());
+					int end = toMinute(parsed.endAt());
+					firstStart[index] = Math.min(firstStart[index], start);
+					lastEnd[index] = Math.max(lastEnd[index], end);
+					if (parsed.status() == ReservationStatus.CONFIRMED) {
+						intervals.get(index).add(start, end, row);
+					}
+				} catch (ApiException | IllegalArgumentException | DateTimeParseException e) {
+					rejected.set(row);
+					errors.add(row, e.getMessage());
+				}
+				logProgress("validate", total);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		List<Set<ReservationKey>> existingKeys = loadExisting(rooms, firstStart, lastEnd, intervals);
+
+		int overlaps = 0;
+		for (RoomIntervals roomIntervals : intervals) {
+			overlaps += roomIntervals.sweep(rejected, (row, otherRow) -> errors.add(row, otherRow == RoomIntervals.EXISTING
+				? "이미 등록된 확정 예약과 시간이 겹칩니다"
+				: "같은 스터디룸의 " + otherRow + "번째 행과 시간이 겹칩니다"));
+		}
+		log.info("Reservation import validated: rows={}, rejected={}, overlaps={}", total, rejected.cardinality(), overlaps);
+
+		// pass 2 : 거절되지 않은 행만 청크 단위로 INSERT
+		// 앞 청크는 이미 커밋됐으니 여기서 던지지 않고 실패한 행을 거절로 모아서 보고서를 돌려줌
+		List<Object[]> chunk = new ArrayList<>(chunkSize);
+		List<Integer> chunkRows = new ArrayList<>(chunkSize);
+		long imported = 0;
+		int row = 0;
+		try (ImportRowReader reader = format.open(source.getInputStream(), RESERVATION_COLUMNS)) {
+			String[] values = new String[RESERVATION_COLUMNS.length];
+			while (reader.next(values)) {
+				if (rejected.get(++row)) {
+					continue;
+				}
+				try {
+					// pass 1 뒤에 사용자가 지워졌거나 파일이 바뀌었을 수 있음
+					ParsedReservation parsed = parse(values, rooms, userIds, now);
+					// 같은 파일을 다시 올린 경우 (확정 예약은 위의 겹침 검사에서 이미 걸러짐)
+					if (existingKeys.get(parsed.room().index())
+						.contains(new ReservationKey(parsed.userId(), parsed.startAt(), parsed.endAt()))) {
+						throw new IllegalArgumentException("이미 등록된 예약입니다");
+					}
+					chunk.add(new Object[]{
+						parsed.userId(),
+						parsed.room().id(),
+						parsed.createdAt() == null ? now : parsed.createdAt(),
+						parsed.startAt(),
+						parsed.endAt(),
+						parsed.status().name()
+					});
+					chunkRows.add(row);
+				} catch (ApiException | IllegalArgumentException | DateTimeParseException e) {
+					rejected.set(row);
+					errors.add(row, e.getMessage());
+				}
+				if (chunk.size() == chunkSize) {
+					imported += flushReservations(chunk, chunkRows, rejected, errors, dryRun);
+				}
+				logProgress("insert", row);
+			}
+			imported += flushReservations(chunk, chunkRows, rejected, errors, dryRun);
+		} catch (IOException | UncheckedIOException e) {
+			// 파일을 끝까지 못 읽음 -> 읽은 데까지의 결과를 보고서로
+			// 아직 넣지 않은 청크와 남은 행은 거절로
+			log.warn("Reservation import aborted while inserting: row={}", row, e);
+			errors.add(row, "파일을 끝까지 읽지 못했습니다: " + e.getMessage());
+			chunkRows.forEach(rejected::set);
+			if (total > row) {
+				rejected.set(row + 1, Math.toIntExact(total) + 1);
+			}
+		}
+
+		// outbox를 거치지 않고 넣었으니 집계와 확정 구간 인덱스(검색, 대체 시간 추천이 읽음)는 DB 기준으로 다시 적재
+		if (imported > 0) {
+			roomStatsService.rebuild();
+			roomScheduleService.rebuild();
+		}
+
+		ImportReport report = errors.report("reservation", dryRun, total, imported, rejected.cardinality(), System.currentTimeMillis() - startedAt);
+		log.info("Reservation import finished: total={}, imported={}, rejected={}, elapsedMillis={}",
+			report.totalRows(), report.importedRows(), report.rejectedRows(), report.elapsedMillis());
+		return report;
+	}
+
+	private ParsedReservation parse(String[] values, Map<String, RoomRef> rooms, Map<String, Long> userIds, LocalDateTime now) {
+		String roomName = required(values[0], "study_room_name");
+		RoomRef room = rooms.get(roomName);
+		if (room == null) {
+			throw new IllegalArgumentException("존재하지 않는 스터디룸입니다: " + roomName);
+		}
+
+		String email = required(values[1], "user_email");
+		long userId = userIds.computeIfAbsent(email, key -> userRepository.findIdByEmail(key).orElse(MISSING_USER));
+		if (userId == MISSING_USER) {
+			throw new IllegalArgumentException("존재하지 않는 사용자입니다: " + email);
+		}
+
+		LocalDateTime startAt = LocalDateTime.parse(required(values[2], "start_at"));
+		LocalDateTime endAt = LocalDateTime.parse(required(values[3], "end_at"));
+		if (!startAt.isBefore(endAt) || !startAt.toLocalDate().equals(endAt.toLocalDate())) {
+			throw new IllegalArgumentException("유효하지 않은 시간 요청입니다");
+		}
+		if (startAt.isBefore(MINUTE_EPOCH)) {
+			throw new IllegalArgumentException("2000년 이전 예약은 등록할 수 없습니다");
+		}
+		// 앞으로의 예약은 방 락을 잡고 기존 예약/홀드/반복 예약과 비교해야 하니 여기로 넣지 않음 (API 로 예약)
+		if (endAt.isAfter(now)) {
+			throw new IllegalArgumentException("끝나지 않은 예약은 등록할 수 없습니다");
+		}
+		room.studyRoom().validateOperatingTime(startAt.toLocalTime(), endAt.toLocalTime());
+
+		// 과거 데이터라 결제 대기 상태는 받지 않음 (들어오자마자 만료 대상)
+		ReservationStatus status = ReservationStatus.valueOf(required(values[4], "status").toUpperCase());
+		if (status == ReservationStatus.WAIT_PAYMENT) {
+			throw new IllegalArgumentException("WAIT_PAYMENT 상태는 등록할 수 없습니다");
+		}
+
+		LocalDateTime createdAt = values[5] == null ? null : LocalDateTime.parse(values[5]);
+		return new ParsedReservation(room, userId, startAt, endAt, status, createdAt);
+	}
+
+	private int flushRooms(List<Object[]> chunk, boolean dryRun) {
+		if (chunk.isEmpty()) {
+			return 0;
+		}
+		if (dryRun) {
+			chunk.clear();
+			return 0;
+		}
+		int size = chunk.size();
+		transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate("""
+			INSERT INTO study_room (name, available, description, open_time, close_time, version)
+			VALUES (?, ?, ?, ?, ?, 0)
+			""", chunk));
+		chunk.clear();
+		return size;
+	}
+
+	// 청크마다 커밋 -> 실패해도 앞 청크까지는 남고, 락/undo 로그 크기가 일정함
+	// MySQL은 rewriteBatchedStatements=true 여야 멀티 VALUES로 묶여서 나감
+	// 청크가 실패하면 (롤백됨) 그 청크 행을 모두 거절로 기록하고 다음 청크를 계속 진행
+	private int flushReservations(List<Object[]> chunk, List<Integer> chunkRows, BitSet rejected, ErrorCollector errors,
+																boolean dryRun) {
+		if (chunk.isEmpty()) {
+			return 0;
+		}
+		if (dryRun) {
+			chunk.clear();
+			chunkRows.clear();
+			return 0;
+		}
+		int size = chunk.size();
+		try {
+			transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate("""
+				INSERT INTO reservation (user_id, study_room_id, created_at, start_at, end_at, status)
+				VALUES (?, ?, ?, ?, ?, ?)
+				""", chunk));
+		} catch (DataAccessException e) {
+			log.warn("Reservation import chunk failed: rows={}..{}", chunkRows.get(0), chunkRows.get(size - 1), e);
+			for (int row : chunkRows) {
+				rejected.set(row);
+				errors.add(row, "저장에 실패했습니다: " + e.getMostSpecificCause().getMessage());
+			}
+			size = 0;
+		}
+		chunk.clear();
+		chunkRows.clear();
+		return size;
+	}
+
+	// 파일이 닿는 방마다 [첫 시작일 0시, 마지막 종료) 에 시작하는 기존 예약을 핫/콜드 테이블에서 읽음
+	// 예약은 하루 안에서 끝나서 첫 시작일 0시 이전에 시작한 예약은 파일 구간과 겹칠 수 없음
+	// 확정 구간은 sweep 목록에 EXISTING 행으로 넣고, (사용자, 시작, 종료) 키는 방별로 모아서 돌려줌 (익명화된 이력은 키 없음)
+	private List<Set<ReservationKey>> loadExisting(Map<String, RoomRef> rooms, int[] firstStart, int[] lastEnd,
+																								 List<RoomIntervals> intervals) {
+		List<Set<ReservationKey>> keys = new ArrayList<>(rooms.size());
+		for (int i = 0; i < rooms.size(); i++) {
+			keys.add(new HashSet<>());
+		}
+		for (RoomRef room : rooms.values()) {
+			int index = room.index();
+			if (firstStart[index] == Integer.MAX_VALUE) {
+				continue;
+			}
+			LocalDateTime from = MINUTE_EPOCH.plusMinutes(firstStart[index]).toLocalDate().atStartOfDay();
+			LocalDateTime to = MINUTE_EPOCH.plusMinutes(lastEnd[index]);
+			List<ReservationExportRow> existing = new ArrayList<>(reservationRepository.findImportRows(room.id(), from, to));
+			existing.addAll(reservationHistoryRepository.findImportRows(room.id(), from, to));
+			for (ReservationExportRow row : existing) {
+				if (row.status() == ReservationStatus.CONFIRMED) {
+					intervals.get(index).add(toMinute(row.startAt()), toMinute(row.endAt()), RoomIntervals.EXISTING);
+				}
+				if (row.userId() != null) {
+					keys.get(index).add(new ReservationKey(row.userId(), row.startAt(), row.endAt()));
+				}
+			}
+		}
+		return keys;
+	}
+
+	private Map<String, RoomRef> loadRooms() {
+		Map<String, RoomRef> rooms = new HashMap<>();
+		for (StudyRoom room : studyRoomRepository.findAll()) {
+			rooms.put(room.getName(), new RoomRef(rooms.size(), room.getId(), room));
+		}
+		return rooms;
+	}
+
+	// 사용자는 많을 수 있어서 전부 올리지 않고 최근 사용 순으로 일정 개수만 유지
+	private static Map<String, Long> userCache() {
+		return new LinkedHashMap<>(USER_CACHE_SIZE, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+				return size() > USER_CACHE_SIZE;
+			}
+		};
+	}
+
+	private void logProgress(String phase, long rows) {
+		if (rows % progressEveryRows == 0) {
+			log.info("Reservation import {}: rows={}", phase, rows);
+		}
+	}
+
+	private static int toMinute(LocalDateTime time) {
+		return Math.toIntExact(ChronoUnit.MINUTES.between(MINUTE_EPOCH, time));
+	}
+
+	private static String required(String value, String column) {
+		if (value == null || value.isBlank()) {
+			throw new IllegalArgumentException(column + " 값이 없습니다");
+		}
+		return value.strip();
+	}
+
+	// index : pass 1에서 방별 구간 버퍼 위치
+	private record RoomRef(int index, Long id, StudyRoom studyRoom) {
+	}
+
+	private record ParsedReservation(
+		RoomRef room,
+		long userId,
+		LocalDateTime startAt,
+		LocalDateTime endAt,
+		ReservationStatus status,
+		LocalDateTime createdAt
+	) {
+	}
+
+	private record ReservationKey(long userId, LocalDateTime startAt, LocalDateTime endAt) {
+	}
+
+	private static class ErrorCollector {
+		private final List<ImportReport.RowError> samples = new ArrayList<>();
+
+		void add(long row, String message) {
+			if (samples.size() < ImportReport.ERROR_SAMPLE_LIMIT) {
+				samples.add(new ImportReport.RowError(row, message));
+			}
+		}
+
+		ImportReport report(String target, boolean dryRun, long total, long imported, long rejected, long elapsedMillis) {
+			return new ImportReport(target, dryRun, total, imported, rejected, samples, elapsedMillis);
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package me.studyroom.domain.bulkimport.service;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+// 파일 안의 한 방에 대한 CONFIRMED 구간 모음 + 같은 기간에 이미 DB 에 있는 확정 구간
+// 행마다 객체를 만들지 않고 원시 배열에 쌓아둠 (행당 16바이트)
+class RoomIntervals {
+
+	// DB 에 이미 있는 구간의 행 번호 (파일 행은 1부터라 겹치지 않음), 거절 표시 대상이 아님
+	static final int EXISTING = 0;
+
+	private long[] startAndSlot = new long[64]; // 상위 32비트: 시작(분), 하위 32비트: 슬롯 번호 -> 정렬 한 번으로 시작순 + 슬롯 추적
+	private int[] endMinutes = new int[64];
+	private int[] rows = new int[64];
+	private int size;
+
+	// 분 단위는 2000-01-01 기준이라 int 범위 안에 들어옴
+	void add(int startMinute, int endMinute, int row) {
+		if (size == rows.length) {
+			int capacity = size * 2;
+			startAndSlot = Arrays.copyOf(startAndSlot, capacity);
+			endMinutes = Arrays.copyOf(endMinutes, capacity);
+			rows = Arrays.copyOf(rows, capacity);
+		}
+		startAndSlot[size] = ((long) startMinute << 32) | size;
+		endMinutes[size] = endMinute;
+		rows[size] = row;
+		size++;
+	}
+
+	// 시작 시간으로 정렬 후 한 번 훑으면서 지금까지의 최대 종료 시간보다 먼저 시작하는 구간을 찾음
+	// 겹친 두 행 모두 rejected에 표시 (DB 구간끼리 겹친 건 건너뜀, 파일 행만 표시)
+	// onOverlap 의 row 는 항상 파일 행, otherRow 는 파일 행이거나 EXISTING
+	int sweep(BitSet rejected, OverlapListener onOverlap) {
+		long[] sorted = Arrays.copyOf(startAndSlot, size);
+		Arrays.sort(sorted);
+
+		int overlaps = 0;
+		int maxEnd = Integer.MIN_VALUE;
+		int maxEndRow = -1;
+		for (long packed : sorted) {
+			int start = (int) (packed >>> 32);
+			int slot = (int) packed;
+			if (start < maxEnd && (rows[slot] != EXISTING || maxEndRow != EXISTING)) {
+				int row = rows[slot] == EXISTING ? maxEndRow : rows[slot];
+				int otherRow = rows[slot] == EXISTING ? rows[slot] : maxEndRow;
+				rejected.set(row);
+				if (otherRow != EXISTING) {
+					rejected.set(otherRow);
+				}
+				onOverlap.overlapped(row, otherRow);
+				overlaps++;
+			}
+			if (endMinutes[slot] > maxEnd) {
+				maxEnd = endMinutes[slot];
+				maxEndRow = rows[slot];
+			}
+		}
+		return overlaps;
+	}
+
+	interface OverlapListener {
+		void overlapped(int row, int otherRow);
+	}
+}
@@ -0,0 +1,45 @@
+package me.studyroom.domain.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+// 소비자별로 어디까지 처리했는지 기록하는 커서
+// 전달 후 커서를 저장하기 전에 죽으면 같은 이벤트가 다시 전달됨 -> at-least-once
+@Entity
+@Table(name = "outbox_cursor")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxCursor {
+	@Id
+	@Column(length = 50)
+	private String name;
+
+	@Column(nullable = false)
+	private Long lastEventId;
+
+	@Column(nullable = false)
+	private LocalDateTime updatedAt;
+
+	public OutboxCursor(String name, Clock clock) {
+		this.name = name;
+		this.lastEventId = 0L;
+		this.updatedAt = LocalDateTime.now(clock);
+	}
+
+	public void advance(Long eventId, Clock clock) {
+		// 커서는 뒤로 가지 않음
+		if (eventId <= this.lastEventId) {
+			return;
+		}
+		this.lastEventId = eventId;
+		this.updatedAt = LocalDateTime.now(clock);
+	}
+}
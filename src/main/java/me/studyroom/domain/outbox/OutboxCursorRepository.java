@@ -0,0 +1,21 @@
+package me.studyroom.domain.outbox;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface OutboxCursorRepository extends JpaRepository<OutboxCursor, String> {
+
+	// 자체 커서를 가진 소비자가 이벤트 반영과 커서 이동을 한 트랜잭션에서 하기 위해 사용
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT c FROM OutboxCursor c WHERE c.name = :name")
+	Optional<OutboxCursor> findByNameForUpdate(@Param("name") String name);
+
+	// 가장 뒤처진 소비자 기준으로만 지워야 재전달이 가능함
+	@Query("SELECT min(c.lastEventId) FROM OutboxCursor c")
+	Optional<Long> findMinLastEventId();
+}
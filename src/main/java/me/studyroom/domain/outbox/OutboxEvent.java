@@ -0,0 +1,95 @@
+package me.studyroom.domain.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import me.studyroom.domain.reservation.Reservation;
+import me.studyroom.domain.reservation.ReservationStatus;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+// 예약 상태 변경과 같은 트랜잭션에서 기록되는 이벤트
+// 알림, 캐시 무효화, 통계 같은 후처리는 락을 잡은 트랜잭션 밖에서 이 테이블을 읽어서 처리한다
+// payload를 JSON으로 두지 않고 컬럼으로 풀어둔 이유 : 소비자가 직렬화 포맷에 묶이지 않게, 벌크 INSERT ... SELECT로도 쌓을 수 있게
+@Entity
+@Table(name = "outbox_event")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 30)
+	private OutboxEventType eventType;
+
+	@Column(nullable = false)
+	private Long reservationId;
+
+	@Column(nullable = false)
+	private Long studyRoomId;
+
+	@Column(nullable = false)
+	private Long userId;
+
+	@Column(nullable = false)
+	private LocalDateTime startAt;
+
+	@Column(nullable = false)
+	private LocalDateTime endAt;
+
+	// 이벤트 발생 후의 상태
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private ReservationStatus status;
+
+	// 이벤트 발생 전의 상태 (RESERVED는 이전 상태가 없음)
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20)
+	private ReservationStatus previousStatus;
+
+	// 아래 세 값은 UPDATED 이벤트에서만 채워짐
+	private Long previousStudyRoomId;
+
+	private LocalDateTime previousStartAt;
+
+	private LocalDateTime previousEndAt;
+
+	@Column(nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	private OutboxEvent(OutboxEventType eventType, Reservation reservation, ReservationStatus previousStatus, Clock clock) {
+		this.eventType = eventType;
+		this.reservationId = reservation.getId();
+		// 지연 로딩 프록시라도 getId()는 초기화 없이 식별자만 꺼내옴
+		this.studyRoomId = reservation.getStudyRoom().getId();
+		this.userId = reservation.getUser().getId();
+		this.startAt = reservation.getStartAt();
+		this.endAt = reservation.getEndAt();
+		this.status = reservation.getStatus();
+		this.previousStatus = previousStatus;
+		this.createdAt = LocalDateTime.now(clock);
+	}
+
+	public static OutboxEvent of(OutboxEventType eventType,
+															 Reservation reservation,
+															 ReservationStatus previousStatus,
+															 Clock clock) {
+		return new OutboxEvent(eventType, reservation, previousStatus, clock);
+	}
+
+	public static OutboxEvent updated(Reservation reservation,
+																		Long previousStudyRoomId,
+																		LocalDateTime previousStartAt,
+																		LocalDateTime previousEndAt,
+																		Clock clock) {
+		OutboxEvent event = new OutboxEvent(OutboxEventType.UPDATED, reservation, reservation.getStatus(), clock);
+		event.previousStudyRoomId = previousStudyRoomId;
+		event.previousStartAt = previousStartAt;
+		event.previousEndAt = previousEndAt;
+		return event;
+	}
+}
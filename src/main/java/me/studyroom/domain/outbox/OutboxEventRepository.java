@@ -0,0 +1,59 @@
+package me.studyroom.domain.outbox;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+	// 커서 기반 배치 조회 (offset 페이징은 뒤로 갈수록 느려지니 id > cursor 방식)
+	List<OutboxEvent> findByIdGreaterThanAndCreatedAtLessThanEqualOrderByIdAsc(
+		Long cursor,
+		LocalDateTime settledBefore,
+		Limit limit
+	);
+
+	// 커서 아래에서 늦게 커밋된 이벤트 (OutboxGaps)
+	List<OutboxEvent> findByIdInOrderByIdAsc(Collection<Long> ids);
+
+	// 엔티티를 하나씩 로딩하지 않고 예약 행에서 바로 이벤트를 쌓는 벌크 버전
+	// 상태 변경 UPDATE와 같은 트랜잭션에서, 대상 행에 락을 잡은 뒤 호출해야 함
+	@Modifying(flushAutomatically = true)
+	@Query(value = """
+		INSERT INTO outbox_event
+			(event_type, reservation_id, study_room_id, user_id, start_at, end_at, status, previous_status, created_at)
+		SELECT :eventType, r.id, r.study_room_id, r.user_id, r.start_at, r.end_at, :status, r.status, :now
+		FROM reservation r
+		WHERE r.id IN (:ids)
+		""", nativeQuery = true)
+	int appendForReservations(
+		@Param("eventType") String eventType,
+		@Param("status") String status,
+		@Param("ids") List<Long> ids,
+		@Param("now") LocalDateTime now
+	);
+
+	@Query("SELECT coalesce(max(e.id), 0) FROM OutboxEvent e")
+	Long findMaxId();
+
+	// rebuild 스냅샷에 보이는 워터마크 이하 이벤트 (스캔에 이미 들어간 이벤트)
+	@Query("SELECT e.id FROM OutboxEvent e WHERE e.id <= :lastEventId")
+	List<Long> findIdsUpTo(@Param("lastEventId") Long lastEventId);
+
+	@Modifying
+	@Query("""
+		DELETE FROM OutboxEvent e
+		WHERE e.id <= :cursor
+		AND e.createdAt < :before
+		""")
+	int deleteDispatched(
+		@Param("cursor") Long cursor,
+		@Param("before") LocalDateTime before
+	);
+}
@@ -0,0 +1,9 @@
+package me.studyroom.domain.outbox;
+
+public enum OutboxEventType {
+	RESERVED, // 예약 생성 (WAIT_PAYMENT)
+	CONFIRMED, // 결제 완료
+	UPDATED, // 예약 시간/방 변경
+	CANCELED, // 사용자 취소
+	EXPIRED // 결제 시간 초과
+}
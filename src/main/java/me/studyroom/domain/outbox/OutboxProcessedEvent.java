@@ -0,0 +1,35 @@
+package me.studyroom.domain.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 자체 커서를 가진 소비자가 어떤 이벤트를 반영했는지 기록
+// 커서는 가장 멀리 간 id 라서 그 아래에서 늦게 커밋된 이벤트를 구분 못함 -> 중복 판단은 이 테이블로
+@Entity
+@Table(
+	name = "outbox_processed_event",
+	uniqueConstraints = @UniqueConstraint(
+		name = "uk_outbox_processed_event_consumer_event",
+		columnNames = {"consumer", "event_id"}
+	)
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxProcessedEvent {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false, length = 50)
+	private String consumer;
+
+	@Column(name = "event_id", nullable = false)
+	private Long eventId;
+
+	@Column(nullable = false)
+	private LocalDateTime processedAt;
+}
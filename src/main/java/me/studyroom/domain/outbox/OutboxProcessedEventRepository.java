@@ -0,0 +1,42 @@
+package me.studyroom.domain.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface OutboxProcessedEventRepository extends JpaRepository<OutboxProcessedEvent, Long> {
+
+	// 이벤트 반영과 같은 트랜잭션에서 먼저 호출, 0 이면 이미 반영된 이벤트 (유니크 키 중복)
+	// save() 로 넣으면 중복 예외가 트랜잭션을 rollback-only 로 만들어서 INSERT IGNORE 로 결과 행 수만 봄
+	@Modifying
+	@Query(value = """
+		INSERT IGNORE INTO outbox_processed_event (consumer, event_id, processed_at)
+		VALUES (:consumer, :eventId, :now)
+		""", nativeQuery = true)
+	int markProcessed(
+		@Param("consumer") String consumer,
+		@Param("eventId") Long eventId,
+		@Param("now") LocalDateTime now
+	);
+
+	// rebuild 로 처음부터 다시 셀 때 기존 기록을 버림
+	@Modifying
+	@Query("DELETE FROM OutboxProcessedEvent p WHERE p.consumer = :consumer")
+	int deleteByConsumer(@Param("consumer") String consumer);
+
+	// OutboxEventRepository.deleteDispatched 와 같은 조건 -> 지워진 이벤트는 다시 전달될 일이 없음
+	// processed_at >= 이벤트 created_at 이라 processed_at 이 before 이전이면 이벤트도 같이 지워진 것
+	@Modifying
+	@Query("""
+		DELETE FROM OutboxProcessedEvent p
+		WHERE p.eventId <= :cursor
+		AND p.processedAt < :before
+		""")
+	int deleteProcessed(
+		@Param("cursor") Long cursor,
+		@Param("before") LocalDateTime before
+	);
+}
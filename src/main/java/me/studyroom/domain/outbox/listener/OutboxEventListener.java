@@ -0,0 +1,15 @@
+package me.studyroom.domain.outbox.listener;
+
+import me.studyroom.domain.outbox.OutboxEvent;
+import me.studyroom.domain.outbox.OutboxEventType;
+
+// 예약 정책(ReservationPolicy)처럼 빈으로 등록만 하면 디스패처가 List로 주입받아 전달함
+// 이벤트는 최소 한 번(at-least-once) 전달되므로 구현체는 멱등하게 만들어야 함
+public interface OutboxEventListener {
+
+	default boolean supports(OutboxEventType eventType) {
+		return true;
+	}
+
+	void handle(OutboxEvent event);
+}
@@ -0,0 +1,179 @@
+package me.studyroom.domain.outbox.service;
+
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import me.studyroom.domain.outbox.OutboxCursor;
+import me.studyroom.domain.outbox.OutboxCursorRepository;
+import me.studyroom.domain.outbox.OutboxEvent;
+import me.studyroom.domain.outbox.OutboxEventRepository;
+import me.studyroom.domain.outbox.OutboxProcessedEventRepository;
+import me.studyroom.domain.outbox.listener.OutboxEventListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+	static final String CURSOR_NAME = "outbox-dispatcher";
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final OutboxCursorRepository outboxCursorRepository;
+	private final OutboxProcessedEventRepository outboxProcessedEventRepository;
+	private final List<OutboxEventListener> listeners;
+	private final Clock clock;
+	private final OutboxGaps gaps;
+
+	// 이벤트 id -> 연속 실패 횟수 (지금 막혀 있는 이벤트만 들어 있음)
+	private final Map<Long, Integer> failures = new HashMap<>();
+
+	@Value("${studyroom.outbox.batch-size:200}")
+	private int batchSize;
+
+	// IDENTITY id는 발급 순서와 커밋 순서가 다를 수 있음
+	// 막 생성된 이벤트는 잠깐 기다렸다 읽어서 순서가 뒤바뀌는 경우를 줄이고, 그래도 늦게 커밋된 건 OutboxGaps 로 다시 찾음
+	@Value("${studyroom.outbox.settle-millis:1000}")
+	private long settleMillis;
+
+	// 같은 이벤트가 이만큼 연속으로 실패하면 그 리스너에 대해서는 포기하고(parked) 다음 이벤트로 넘어감
+	// 한 이벤트 때문에 뒤 이벤트가 전부 막히지 않게, 포기한 이벤트는 ERROR 로그 + 보관 기간 동안 outbox_event 에 남음
+	@Value("${studyroom.outbox.max-attempts:5}")
+	private int maxAttempts;
+
+	@Value("${studyroom.outbox.retention-hours:24}")
+	private long retentionHours;
+
+	public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+													OutboxCursorRepository outboxCursorRepository,
+													OutboxProcessedEventRepository outboxProcessedEventRepository,
+													List<OutboxEventListener> listeners,
+													Clock clock,
+													@Value("${studyroom.outbox.gap-window-millis:60000}") long gapWindowMillis,
+													@Value("${studyroom.outbox.max-gaps:1000}") int maxGaps) {
+		this.outboxEventRepository = outboxEventRepository;
+		this.outboxCursorRepository = outboxCursorRepository;
+		this.outboxProcessedEventRepository = outboxProcessedEventRepository;
+		this.listeners = listeners;
+		this.clock = clock;
+		this.gaps = new OutboxGaps(gapWindowMillis, maxGaps);
+	}
+
+	// 디스패처 자체는 트랜잭션을 잡지 않음 -> 리스너가 오래 걸려도 DB 커넥션/락을 물고 있지 않음
+	// 커서, 빈 id, 실패 횟수가 인스턴스 상태라 한 번에 하나만 돔
+	@Scheduled(fixedDelayString = "${studyroom.outbox.poll-delay-millis:1000}")
+	public synchronized void dispatch() {
+		redeliverGaps();
+
+		OutboxCursor cursor = loadCursor();
+		long lastEventId = cursor.getLastEventId();
+
+		while (true) {
+			LocalDateTime settledBefore = LocalDateTime.now(clock).minus(Duration.ofMillis(settleMillis));
+
+			List<OutboxEvent> batch = outboxEventRepository.findByIdGreaterThanAndCreatedAtLessThanEqualOrderByIdAsc(
+				lastEventId,
+				settledBefore,
+				Limit.of(batchSize)
+			);
+
+			if (batch.isEmpty()) {
+				return;
+			}
+
+			long delivered = deliver(batch, lastEventId);
+
+			if (delivered > lastEventId) {
+				cursor.advance(delivered, clock);
+				outboxCursorRepository.save(cursor);
+				lastEventId = delivered;
+			}
+
+			// 중간에 실패했거나 더 읽을게 없으면 다음 주기에 다시 시도
+			boolean failedMidway = delivered < batch.get(batch.size() - 1).getId();
+			if (failedMidway || batch.size() < batchSize) {
+				return;
+			}
+		}
+	}
+
+	// 커서 아래의 빈 id 중 그 사이 커밋된 이벤트를 전달 (순서는 커서 쪽 이벤트보다 늦음)
+	// 서로 순서가 정해진 이벤트가 아니라서 하나가 실패해도 나머지는 계속
+	private void redeliverGaps() {
+		List<Long> pending = gaps.pending(clock.instant().toEpochMilli());
+		if (pending.isEmpty()) {
+			return;
+		}
+		for (OutboxEvent event : outboxEventRepository.findByIdInOrderByIdAsc(pending)) {
+			log.info("Outbox 늦게 커밋된 이벤트 전달 : eventId={}", event.getId());
+			if (deliverOne(event)) {
+				gaps.remove(event.getId());
+			}
+		}
+	}
+
+	// 성공적으로 전달한 마지막 이벤트 id 반환
+	// 한 리스너라도 실패하면 거기서 멈춤 -> 이미 성공한 리스너도 다음 주기에 같은 이벤트를 다시 받음
+	// 지나간 이벤트 사이의 빈 id 는 늦게 커밋될 수 있으니 기록해 둠
+	private long deliver(List<OutboxEvent> batch, long lastEventId) {
+		long nowMillis = clock.instant().toEpochMilli();
+		long delivered = lastEventId;
+
+		for (OutboxEvent event : batch) {
+			if (!deliverOne(event)) {
+				return delivered;
+			}
+			gaps.record(delivered, event.getId(), nowMillis);
+			delivered = event.getId();
+		}
+		return delivered;
+	}
+
+	// 모든 리스너가 처리했거나 실패한 리스너가 시도 횟수를 다 써서 포기했으면 true
+	private boolean deliverOne(OutboxEvent event) {
+		for (OutboxEventListener listener : listeners) {
+			if (!listener.supports(event.getEventType())) {
+				continue;
+			}
+			try {
+				listener.handle(event);
+			} catch (Exception e) {
+				int attempts = failures.merge(event.getId(), 1, Integer::sum);
+				if (attempts < maxAttempts) {
+					log.warn("Outbox 이벤트 전달 실패 : eventId={}, listener={}, attempts={}",
+						event.getId(), listener.getClass().getSimpleName(), attempts, e);
+					return false;
+				}
+				log.error("Outbox 이벤트 전달 포기 (parked) : eventId={}, type={}, reservationId={}, listener={}, attempts={}",
+					event.getId(), event.getEventType(), event.getReservationId(), listener.getClass().getSimpleName(), attempts, e);
+			}
+		}
+		failures.remove(event.getId());
+		return true;
+	}
+
+	private OutboxCursor loadCursor() {
+		return outboxCursorRepository.findById(CURSOR_NAME)
+			.orElseGet(() -> outboxCursorRepository.save(new OutboxCursor(CURSOR_NAME, clock)));
+	}
+
+	// 모든 소비자가 지나간 이벤트만 보관 기간 이후 삭제, 지운 이벤트의 반영 기록도 같이 삭제
+	@Scheduled(cron = "${studyroom.outbox.purge-cron:0 30 4 * * *}")
+	@Transactional
+	public void purgeDispatched() {
+		outboxCursorRepository.findMinLastEventId().ifPresent(minCursor -> {
+			LocalDateTime before = LocalDateTime.now(clock).minusHours(retentionHours);
+			int deleted = outboxEventRepository.deleteDispatched(minCursor, before);
+			int processed = outboxProcessedEventRepository.deleteProcessed(minCursor, before);
+			log.info("Dispatched outbox events purged: {}, processed records purged: {}", deleted, processed);
+		});
+	}
+}
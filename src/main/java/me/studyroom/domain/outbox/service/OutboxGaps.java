@@ -0,0 +1,49 @@
+package me.studyroom.domain.outbox.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+// 커서보다 작은데 아직 못 본 이벤트 id
+// IDENTITY id 는 발급 순서와 커밋 순서가 달라서, 큰 id 를 먼저 전달하면 그 사이 id 가 뒤늦게 커밋될 수 있음
+// (방 락 대기, GC 멈춤 등으로 settle-millis 보다 늦게 커밋되는 경우)
+// 롤백된 트랜잭션의 id 는 끝내 나타나지 않으니 window 가 지나면 버림
+// 메모리에만 있어서 재시작하면 그 순간의 빈 id 는 잃음 (window 안에 늦게 커밋된 경우만 해당)
+// 자체 커서로 outbox 를 따라가는 소비자(OutboxDispatcher, RoomScheduleService)가 각자 하나씩 가짐
+public class OutboxGaps {
+
+	// id -> 빈 칸을 처음 본 시각 (epoch millis)
+	private final TreeMap<Long, Long> firstSeen = new TreeMap<>();
+	private final long windowMillis;
+	private final int maxSize;
+
+	public OutboxGaps(long windowMillis, int maxSize) {
+		this.windowMillis = windowMillis;
+		this.maxSize = maxSize;
+	}
+
+	// previousId 다음으로 id 를 봤을 때 그 사이 id 를 기록
+	// 한 번에 크게 건너뛰면 (오래된 이벤트 정리, 롤백이 몰린 경우) id 에 가까운 maxSize 개만
+	public void record(long previousId, long id, long nowMillis) {
+		for (long missing = Math.max(previousId + 1, id - maxSize); missing < id; missing++) {
+			firstSeen.putIfAbsent(missing, nowMillis);
+		}
+		while (firstSeen.size() > maxSize) {
+			firstSeen.pollFirstEntry();
+		}
+	}
+
+	public void remove(long id) {
+		firstSeen.remove(id);
+	}
+
+	// window 가 지난 id 는 버리고 남은 id 를 작은 순서로
+	public List<Long> pending(long nowMillis) {
+		firstSeen.values().removeIf(seenAt -> nowMillis - seenAt > windowMillis);
+		return new ArrayList<>(firstSeen.keySet());
+	}
+
+	public int size() {
+		return firstSeen.size();
+	}
+}
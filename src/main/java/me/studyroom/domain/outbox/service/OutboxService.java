@@ -0,0 +1,50 @@
+package me.studyroom.domain.outbox.service;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import me.studyroom.domain.outbox.OutboxEvent;
+import me.studyroom.domain.outbox.OutboxEventRepository;
+import me.studyroom.domain.outbox.OutboxEventType;
+import me.studyroom.domain.reservation.Reservation;
+import me.studyroom.domain.reservation.ReservationStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 이벤트 기록만 담당 (INSERT 한 번), 실제 후처리는 OutboxDispatcher가 트랜잭션 밖에서 함
+// 호출하는 쪽 트랜잭션에 참여해야 상태 변경과 이벤트가 같이 커밋/롤백 됨
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class OutboxService {
+	private final OutboxEventRepository outboxEventRepository;
+	private final Clock clock;
+
+	public void append(OutboxEventType eventType, Reservation reservation, ReservationStatus previousStatus) {
+		outboxEventRepository.save(OutboxEvent.of(eventType, reservation, previousStatus, clock));
+	}
+
+	public void appendUpdated(Reservation reservation,
+														Long previousStudyRoomId,
+														LocalDateTime previousStartAt,
+														LocalDateTime previousEndAt) {
+		outboxEventRepository.save(
+			OutboxEvent.updated(reservation, previousStudyRoomId, previousStartAt, previousEndAt, clock)
+		);
+	}
+
+	// 벌크 상태 변경용, 반드시 상태 UPDATE 전에 호출해야 previous_status가 변경 전 값으로 남음
+	public int appendForReservations(OutboxEventType eventType, ReservationStatus status, List<Long> reservationIds) {
+		if (reservationIds.isEmpty()) {
+			return 0;
+		}
+		return outboxEventRepository.appendForReservations(
+			eventType.name(),
+			status.name(),
+			reservationIds,
+			LocalDateTime.now(clock)
+		);
+	}
+}
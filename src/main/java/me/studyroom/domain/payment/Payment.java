@@ -0,0 +1,153 @@
+package me.studyroom.domain.payment;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.ReservationException;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+// 예약 하나의 결제 사가 상태
+// PENDING -> AUTHORIZED -> CONFIRMED -> CAPTURED
+//        \-> FAILED    \-> VOIDED (예약 확정 실패 시 보상)
+// CONFIRMED, CAPTURED -> REFUND_PENDING -> REFUNDED (결제가 끝난 예약이 취소됨)
+// 상태 전이 규칙은 엔티티가 가짐, 게이트웨이 호출은 트랜잭션 밖(PaymentSaga)에서만
+@Entity
+@Table(
+	name = "payment",
+	uniqueConstraints = @UniqueConstraint(name = "uk_payment_reservation", columnNames = "reservation_id"),
+	indexes = @Index(name = "idx_payment_status_updated", columnList = "status, updated_at")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Payment {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "reservation_id", nullable = false)
+	private Long reservationId;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	@Column(name = "study_room_id", nullable = false)
+	private Long studyRoomId;
+
+	@Column(nullable = false)
+	private long amount;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private PaymentStatus status;
+
+	// 다시 시도할 때마다 올림 -> 게이트웨이 키가 바뀌어서 이전 시도의 승인과 섞이지 않음
+	@Column(nullable = false)
+	private int attempt;
+
+	@Column(length = 64)
+	private String authorizationId;
+
+	// 실패/취소 사유 (DECLINED, GATEWAY_ERROR, 또는 예약 확정 실패 ExceptionCode)
+	@Column(length = 40)
+	private String failureCode;
+
+	@Column(nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "updated_at", nullable = false)
+	private LocalDateTime updatedAt;
+
+	// 같은 예약으로 동시에 결제를 시작하면 하나만 성공
+	@Version
+	private long version;
+
+	public Payment(Long reservationId, Long userId, Long studyRoomId, long amount, Clock clock) {
+		this.reservationId = reservationId;
+		this.userId = userId;
+		this.studyRoomId = studyRoomId;
+		this.amount = amount;
+		this.status = PaymentStatus.PENDING;
+		this.attempt = 1;
+		this.createdAt = LocalDateTime.now(clock);
+		this.updatedAt = this.createdAt;
+	}
+
+	// 게이트웨이 멱등 키 (같은 키로 다시 보내면 같은 승인)
+	public String gatewayKey() {
+		return "pay-" + id + "-" + attempt;
+	}
+
+	public void retry(long amount, Clock clock) {
+		if (!status.isRetryable()) {
+			throw new ReservationException(ExceptionCode.INVALID_STATUS);
+		}
+		this.amount = amount;
+		this.attempt++;
+		this.authorizationId = null;
+		this.failureCode = null;
+		moveTo(PaymentStatus.PENDING, clock);
+	}
+
+	public void authorize(String authorizationId, Clock clock) {
+		ensure(PaymentStatus.PENDING);
+		this.authorizationId = authorizationId;
+		moveTo(PaymentStatus.AUTHORIZED, clock);
+	}
+
+	public void confirm(Clock clock) {
+		ensure(PaymentStatus.AUTHORIZED);
+		moveTo(PaymentStatus.CONFIRMED, clock);
+	}
+
+	public void capture(Clock clock) {
+		ensure(PaymentStatus.CONFIRMED);
+		moveTo(PaymentStatus.CAPTURED, clock);
+	}
+
+	// 승인 전 실패 (거절, 오류) : PENDING 에서만
+	public void fail(String failureCode, Clock clock) {
+		ensure(PaymentStatus.PENDING);
+		this.failureCode = failureCode;
+		moveTo(PaymentStatus.FAILED, clock);
+	}
+
+	// 승인 후 예약 확정 실패 -> 승인 취소까지 끝난 뒤
+	public void voided(String failureCode, Clock clock) {
+		ensure(PaymentStatus.AUTHORIZED);
+		this.failureCode = failureCode;
+		moveTo(PaymentStatus.VOIDED, clock);
+	}
+
+	// 예약이 취소됨 -> 게이트웨이 환불은 트랜잭션 밖에서 (매입 전이면 승인 취소)
+	public void requestRefund(Clock clock) {
+		if (status != PaymentStatus.CONFIRMED && status != PaymentStatus.CAPTURED) {
+			throw new ReservationException(ExceptionCode.INVALID_STATUS);
+		}
+		moveTo(PaymentStatus.REFUND_PENDING, clock);
+	}
+
+	public void refunded(Clock clock) {
+		ensure(PaymentStatus.REFUND_PENDING);
+		moveTo(PaymentStatus.REFUNDED, clock);
+	}
+
+	// 복구 스케줄러가 다시 집어가기 전에 시간만 갱신 (같은 건을 계속 붙잡지 않게)
+	public void touch(Clock clock) {
+		this.updatedAt = LocalDateTime.now(clock);
+	}
+
+	private void ensure(PaymentStatus expected) {
+		if (status != expected) {
+			throw new ReservationException(ExceptionCode.INVALID_STATUS);
+		}
+	}
+
+	private void moveTo(PaymentStatus next, Clock clock) {
+		this.status = next;
+		this.updatedAt = LocalDateTime.now(clock);
+	}
+}
@@ -0,0 +1,24 @@
+package me.studyroom.domain.payment;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PaymentRepository extends JpaRepository<Payment, Long> {
+
+	Optional<Payment> findByReservationId(Long reservationId);
+
+	Optional<Payment> findByReservationIdAndUserId(Long reservationId, Long userId);
+
+	// 복구 대상 : 사가가 끝나지 않은 채로 오래 멈춘 결제
+	// idx_payment_status_updated (status, updated_at) 범위 스캔
+	List<Payment> findByStatusInAndUpdatedAtBeforeOrderByUpdatedAtAsc(
+		Collection<PaymentStatus> statuses,
+		LocalDateTime cutoff,
+		Limit limit
+	);
+}
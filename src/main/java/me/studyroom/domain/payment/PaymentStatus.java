@@ -0,0 +1,22 @@
+package me.studyroom.domain.payment;
+
+public enum PaymentStatus {
+	PENDING, // 게이트웨이 승인 요청 중
+	AUTHORIZED, // 승인됨, 예약 확정 전 (돈은 잡혀 있고 아직 안 나감)
+	CONFIRMED, // 예약 확정됨, 매입 전
+	CAPTURED, // 매입 완료 (끝)
+	VOIDED, // 확정 실패로 승인 취소 (보상 끝)
+	FAILED, // 승인 거절/오류 (돈 안 나감)
+	REFUND_PENDING, // 결제가 끝난 예약이 취소됨, 게이트웨이 환불 전
+	REFUNDED; // 매입 전이면 승인 취소, 매입 후면 환불까지 끝남
+
+	// 사가가 아직 끝나지 않은 상태 (복구 스케줄러 대상)
+	public boolean isInFlight() {
+		return this == PENDING || this == AUTHORIZED || this == CONFIRMED || this == REFUND_PENDING;
+	}
+
+	// 다시 결제를 시작할 수 있는 상태
+	public boolean isRetryable() {
+		return this == VOIDED || this == FAILED;
+	}
+}
@@ -0,0 +1,21 @@
+package me.studyroom.domain.payment.dto;
+
+import me.studyroom.domain.payment.PaymentStatus;
+
+import java.time.LocalDateTime;
+
+public sealed interface PaymentResponse
+	permits PaymentResponse.Status {
+
+	// 결제 확정 요청은 바로 이 상태를 돌려주고(202) 나머지는 비동기로 진행
+	// 클라이언트는 GET /reservations/{id}/payment 로 CAPTURED(성공) / FAILED, VOIDED(실패) 가 될 때까지 조회
+	record Status(
+		Long paymentId,
+		Long reservationId,
+		PaymentStatus status,
+		long amount,
+		String failureCode,
+		LocalDateTime updatedAt
+	) implements PaymentResponse {
+	}
+}
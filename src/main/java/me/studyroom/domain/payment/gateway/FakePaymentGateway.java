@@ -0,0 +1,156 @@
+package me.studyroom.domain.payment.gateway;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 로컬/테스트/벤치마크용 가짜 게이트웨이 (studyroom.payment.gateway=fake)
+// 지연 : 로그정규분포, 중앙값(median)과 p99로 지정 -> 대부분 빠르고 가끔 길게 늘어지는 실제 PG 모양
+// 실패 : 호출마다 독립적으로 decline-rate(거절), error-rate(바로 오류), timeout-rate(timeout 까지 기다렸다 오류)
+// 지연이 timeout 을 넘으면 timeout 에서 끊고 오류 (실제 HTTP read timeout 과 같음)
+// key 별 승인 결과를 기억해서 같은 key 재요청은 같은 결과 (멱등)
+public class FakePaymentGateway implements PaymentGateway {
+
+	// 표준정규분포 99 분위수
+	private static final double Z_99 = 2.3263;
+
+	public record Settings(
+		long latencyMedianMillis,
+		long latencyP99Millis,
+		double declineRate,
+		double errorRate,
+		double timeoutRate,
+		long timeoutMillis
+	) {
+		public Settings {
+			if (latencyMedianMillis < 0 || latencyP99Millis < latencyMedianMillis || timeoutMillis <= 0) {
+				throw new IllegalArgumentException("invalid latency settings");
+			}
+			if (declineRate < 0 || errorRate < 0 || timeoutRate < 0 || declineRate + errorRate + timeoutRate > 1) {
+				throw new IllegalArgumentException("invalid failure rates");
+			}
+		}
+
+		public static Settings instant() {
+			return new Settings(0, 0, 0, 0, 0, 1_000);
+		}
+	}
+
+	private final Settings settings;
+	private final Random random;
+	private final double sigma;
+	private final Map<String, Authorization> authorizations = new ConcurrentHashMap<>();
+	private final Map<String, Boolean> captured = new ConcurrentHashMap<>();
+	private final Map<String, Boolean> refunded = new ConcurrentHashMap<>();
+	private final AtomicLong sequence = new AtomicLong();
+
+	public FakePaymentGateway(Settings settings, Random random) {
+		this.settings = settings;
+		this.random = random;
+		this.sigma = settings.latencyMedianMillis() == 0
+			? 0
+			: Math.log((double) settings.latencyP99Millis() / settings.latencyMedianMillis()) / Z_99;
+	}
+
+	@Override
+	public Authorization authorize(String key, long amount) {
+		Authorization previous = authorizations.get(key);
+		if (previous != null) {
+			pause(sampleLatencyMillis());
+			return previous;
+		}
+		// 타임아웃은 PG가 처리는 했는데 응답만 못 받은 경우로 봄 -> 승인이 남아 있어서 보상(void)이 필요
+		call(() -> authorizations.computeIfAbsent(key, k -> Authorization.approved(nextId())));
+		if (random.nextDouble() < settings.declineRate()) {
+			return authorizations.computeIfAbsent(key, k -> Authorization.declined("DECLINED"));
+		}
+		return authorizations.computeIfAbsent(key, k -> Authorization.approved(nextId()));
+	}
+
+	@Override
+	public void capture(String key) {
+		Authorization authorization = authorizations.get(key);
+		if (authorization == null || !authorization.approved()) {
+			throw new IllegalStateException("no authorization: " + key);
+		}
+		call(() -> captured.put(key, Boolean.TRUE));
+		captured.put(key, Boolean.TRUE);
+	}
+
+	@Override
+	public void voidAuthorization(String key) {
+		if (captured.containsKey(key)) {
+			throw new IllegalStateException("already captured: " + key);
+		}
+		call(() -> authorizations.remove(key));
+		authorizations.remove(key);
+	}
+
+	@Override
+	public void refund(String key) {
+		call(() -> refundNow(key));
+		refundNow(key);
+	}
+
+	private void refundNow(String key) {
+		if (captured.remove(key) != null || authorizations.remove(key) != null) {
+			refunded.put(key, Boolean.TRUE);
+		}
+	}
+
+	public boolean isAuthorized(String key) {
+		Authorization authorization = authorizations.get(key);
+		return authorization != null && authorization.approved();
+	}
+
+	public boolean isCaptured(String key) {
+		return captured.containsKey(key);
+	}
+
+	public boolean isRefunded(String key) {
+		return refunded.containsKey(key);
+	}
+
+	// 한 번의 네트워크 호출 : 실패 종류를 먼저 뽑고, 지연만큼 기다림
+	// 오류는 요청이 PG에 닿지 않은 것, 타임아웃은 PG 쪽 처리(appliedOnTimeout)는 된 것으로 흉내 냄
+	private void call(Runnable appliedOnTimeout) {
+		double roll = random.nextDouble();
+		if (roll < settings.errorRate()) {
+			pause(sampleLatencyMillis());
+			throw new PaymentGatewayException("gateway error");
+		}
+		long latency = roll < settings.errorRate() + settings.timeoutRate()
+			? settings.timeoutMillis()
+			: sampleLatencyMillis();
+		if (latency >= settings.timeoutMillis()) {
+			appliedOnTimeout.run();
+			pause(settings.timeoutMillis());
+			throw new PaymentGatewayException("gateway timeout");
+		}
+		pause(latency);
+	}
+
+	private String nextId() {
+		return "fake-" + sequence.incrementAndGet();
+	}
+
+	long sampleLatencyMillis() {
+		if (settings.latencyMedianMillis() == 0) {
+			return 0;
+		}
+		return Math.round(settings.latencyMedianMillis() * Math.exp(sigma * random.nextGaussian()));
+	}
+
+	private static void pause(long millis) {
+		if (millis <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new PaymentGatewayException("interrupted");
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package me.studyroom.domain.payment.gateway;
+
+// 외부 결제 게이트웨이 (PG)
+// 모든 호출은 key 기준으로 멱등이어야 함 : 같은 key로 다시 보내면 같은 결과 (타임아웃 후 재시도, 보상용)
+// 거절은 결과로, 타임아웃/연결 오류처럼 결과를 모르는 경우는 PaymentGatewayException 으로
+// 네트워크 호출이라 느릴 수 있음 -> 트랜잭션(특히 방 락) 안에서 부르면 안 됨
+public interface PaymentGateway {
+
+	Authorization authorize(String key, long amount);
+
+	// 승인된 금액을 실제로 가져감
+	void capture(String key);
+
+	// 승인 취소, 승인이 없거나 이미 취소된 key 여도 성공 (보상은 몇 번이고 다시 보낼 수 있어야 함)
+	void voidAuthorization(String key);
+
+	// 예약 취소 환불 : 매입 전이면 승인 취소, 매입 후면 환불, 이미 환불된 key 여도 성공
+	void refund(String key);
+
+	record Authorization(boolean approved, String authorizationId, String declineReason) {
+
+		public static Authorization approved(String authorizationId) {
+			return new Authorization(true, authorizationId, null);
+		}
+
+		public static Authorization declined(String reason) {
+			return new Authorization(false, null, reason);
+		}
+	}
+}
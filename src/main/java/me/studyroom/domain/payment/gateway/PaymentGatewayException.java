@@ -0,0 +1,10 @@
+package me.studyroom.domain.payment.gateway;
+
+// 게이트웨이 호출 결과를 알 수 없음 (타임아웃, 연결 오류, 5xx)
+// 사용자에게 그대로 나가는 예외가 아니라 사가 안에서 보상/재시도 판단용이라 ApiException 이 아님
+public class PaymentGatewayException extends RuntimeException {
+
+	public PaymentGatewayException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,30 @@
+package me.studyroom.domain.payment.listener;
+
+import lombok.RequiredArgsConstructor;
+import me.studyroom.domain.outbox.OutboxEvent;
+import me.studyroom.domain.outbox.OutboxEventType;
+import me.studyroom.domain.outbox.listener.OutboxEventListener;
+import me.studyroom.domain.payment.service.PaymentSaga;
+import me.studyroom.domain.reservation.ReservationStatus;
+import org.springframework.stereotype.Component;
+
+// 확정(결제 완료)된 예약이 취소되면 환불
+// 본인 취소, 방 일괄 비활성화, 탈퇴 회원 예약 취소 모두 CANCELED 이벤트에 취소 전 상태가 남음
+// 게이트웨이 호출은 사가 워커에서 -> 디스패처는 결제 행만 REFUND_PENDING 으로 바꾸고 다음 이벤트로
+@Component
+@RequiredArgsConstructor
+public class PaymentRefundListener implements OutboxEventListener {
+	private final PaymentSaga paymentSaga;
+
+	@Override
+	public boolean supports(OutboxEventType eventType) {
+		return eventType == OutboxEventType.CANCELED;
+	}
+
+	@Override
+	public void handle(OutboxEvent event) {
+		if (event.getPreviousStatus() == ReservationStatus.CONFIRMED) {
+			paymentSaga.refund(event.getReservationId());
+		}
+	}
+}
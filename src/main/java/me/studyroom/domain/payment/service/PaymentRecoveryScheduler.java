@@ -0,0 +1,45 @@
+package me.studyroom.domain.payment.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+// 끝나지 않은 결제 사가 이어서 진행 (서버 재시작, 게이트웨이 장애, 방 혼잡 등)
+// stale-millis 는 게이트웨이 타임아웃 + 방 게이트 대기보다 충분히 길어야 진행 중인 사가와 겹치지 않음
+// 결제 대기 10분이 지나면 예약 확정이 PAYMENT_TIMEOUT 으로 실패 -> 승인 취소로 끝나므로 무한히 남지 않음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentRecoveryScheduler {
+
+	private final PaymentService paymentService;
+	private final PaymentSaga paymentSaga;
+
+	@Value("${studyroom.payment.stale-millis:60000}")
+	private long staleMillis;
+
+	@Value("${studyroom.payment.recovery-batch-size:100}")
+	private int batchSize;
+
+	@Scheduled(fixedDelayString = "${studyroom.payment.recovery-delay-millis:30000}")
+	public void recover() {
+		List<Long> ids = paymentService.findStalled(Duration.ofMillis(staleMillis), batchSize);
+		for (Long paymentId : ids) {
+			try {
+				paymentSaga.proceed(paymentId);
+			} catch (RuntimeException e) {
+				// 계속 실패하는 건이 배치 앞자리를 차지하지 않게 시간만 갱신
+				log.warn("Payment recovery failed: paymentId={}, cause={}", paymentId, e.toString());
+				paymentService.touch(paymentId);
+			}
+		}
+		if (!ids.isEmpty()) {
+			log.info("Payment recovery processed: {}", ids.size());
+		}
+	}
+}
@@ -0,0 +1,188 @@
+package me.studyroom.domain.payment.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import me.studyroom.domain.payment.Payment;
+import me.studyroom.domain.payment.PaymentStatus;
+import me.studyroom.domain.payment.dto.PaymentResponse;
+import me.studyroom.domain.payment.gateway.PaymentGateway;
+import me.studyroom.domain.payment.gateway.PaymentGatewayException;
+import me.studyroom.domain.reservation.service.ReservationFacade;
+import me.studyroom.global.exception.ApiException;
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.ReservationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 결제 확정 사가
+// 1. 결제 행 PENDING (짧은 트랜잭션, 락 없음) -> 여기까지만 요청 스레드, 202 응답
+// 2. 게이트웨이 승인 (트랜잭션 밖, 수백 ms 걸려도 아무 락도 안 잡음)
+// 3. 예약 확정 (ReservationFacade : 방 게이트 -> 방 락 잡는 짧은 트랜잭션, 예약 CONFIRMED + 결제 CONFIRMED)
+// 4. 게이트웨이 매입 (트랜잭션 밖)
+// 보상 : 승인 타임아웃(결과 모름) -> 승인 취소 후 FAILED, 확정 실패(중복, 결제 시간 만료) -> 승인 취소 후 VOIDED
+// 중간에 서버가 죽거나 게이트웨이가 계속 안 되면 상태가 그대로 남고 PaymentRecoveryScheduler 가 proceed 로 이어서 진행
+// 게이트웨이 호출은 모두 key 기준 멱등이라 같은 단계를 두 번 실행해도 됨
+// 환불 : 결제가 끝난 예약이 취소되면 REFUND_PENDING -> 게이트웨이 환불 -> REFUNDED (PaymentRefundListener)
+@Slf4j
+@Service
+public class PaymentSaga {
+
+	public static final String DECLINED = "DECLINED";
+	public static final String GATEWAY_ERROR = "GATEWAY_ERROR";
+
+	private final PaymentService paymentService;
+	private final ReservationFacade reservationFacade;
+	private final PaymentGateway paymentGateway;
+	private final ThreadPoolExecutor workers;
+	private final Executor executor;
+
+	// workerThreads 가 0 이면 요청 스레드에서 바로 실행 (테스트용, 그래도 트랜잭션 밖)
+	public PaymentSaga(PaymentService paymentService,
+										 ReservationFacade reservationFacade,
+										 PaymentGateway paymentGateway,
+										 @Value("${studyroom.payment.worker-threads:8}") int workerThreads,
+										 @Value("${studyroom.payment.queue-capacity:1000}") int queueCapacity) {
+		this.paymentService = paymentService;
+		this.reservationFacade = reservationFacade;
+		this.paymentGateway = paymentGateway;
+		if (workerThreads <= 0) {
+			this.workers = null;
+			this.executor = Runnable::run;
+		} else {
+			AtomicInteger sequence = new AtomicInteger();
+			this.workers = new ThreadPoolExecutor(
+				workerThreads, workerThreads, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				runnable -> {
+					Thread thread = new Thread(runnable, "payment-" + sequence.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+			this.executor = workers;
+		}
+	}
+
+	// POST /reservations/{id}/confirm
+	public PaymentResponse.Status start(Long reservationId, Long userId) {
+		PaymentService.Begin begin;
+		try {
+			begin = paymentService.begin(reservationId, userId);
+		} catch (DataIntegrityViolationException | OptimisticLockingFailureException e) {
+			// 같은 예약으로 동시에 시작 -> 먼저 시작한 쪽 상태를 돌려줌
+			return paymentService.getStatus(reservationId, userId);
+		}
+		if (!begin.started()) {
+			return begin.status();
+		}
+
+		Long paymentId = begin.status().paymentId();
+		try {
+			executor.execute(() -> proceedQuietly(paymentId));
+		} catch (RejectedExecutionException e) {
+			paymentService.markFailed(paymentId, ExceptionCode.PAYMENT_BUSY.name());
+			throw new ReservationException(ExceptionCode.PAYMENT_BUSY);
+		}
+		return begin.status();
+	}
+
+	// 예약 취소 후 환불 (CANCELED 이벤트)
+	// 결제 행은 REFUND_PENDING 으로 먼저 남기고 게이트웨이는 워커에서 -> 큐가 차도 복구 스케줄러가 이어서 진행
+	public void refund(Long reservationId) {
+		paymentService.requestRefund(reservationId).ifPresent(paymentId -> {
+			try {
+				executor.execute(() -> proceedQuietly(paymentId));
+			} catch (RejectedExecutionException e) {
+				log.warn("Payment refund queued for recovery: paymentId={}", paymentId);
+			}
+		});
+	}
+
+	// 현재 상태부터 남은 단계를 진행 (복구 스케줄러도 여기로 들어옴)
+	// 게이트웨이/DB 오류는 그대로 던짐 -> 상태는 마지막으로 성공한 단계에 남음
+	public void proceed(Long paymentId) {
+		Payment payment = paymentService.get(paymentId);
+		PaymentStatus status = payment.getStatus();
+		if (status == PaymentStatus.PENDING) {
+			status = authorize(payment);
+		}
+		if (status == PaymentStatus.AUTHORIZED) {
+			status = confirm(payment);
+		}
+		if (status == PaymentStatus.CONFIRMED) {
+			paymentGateway.capture(payment.gatewayKey());
+			paymentService.markCaptured(paymentId);
+		}
+		// 매입과 취소가 엇갈리면 markCaptured 는 INVALID_STATUS 로 실패하고 환불은 그대로 진행 (게이트웨이 환불이 매입 전후 모두 처리)
+		if (status == PaymentStatus.REFUND_PENDING) {
+			paymentGateway.refund(payment.gatewayKey());
+			paymentService.markRefunded(paymentId);
+		}
+	}
+
+	private void proceedQuietly(Long paymentId) {
+		try {
+			proceed(paymentId);
+		} catch (RuntimeException e) {
+			log.warn("Payment saga stalled, recovery will retry: paymentId={}, cause={}", paymentId, e.toString());
+		}
+	}
+
+	private PaymentStatus authorize(Payment payment) {
+		PaymentGateway.Authorization authorization;
+		try {
+			authorization = paymentGateway.authorize(payment.gatewayKey(), payment.getAmount());
+		} catch (PaymentGatewayException e) {
+			// 승인이 됐는지 모름 -> 취소를 먼저 보내고 실패 처리 (취소도 실패하면 PENDING 으로 남아서 복구 때 다시)
+			paymentGateway.voidAuthorization(payment.gatewayKey());
+			paymentService.markFailed(payment.getId(), GATEWAY_ERROR);
+			return PaymentStatus.FAILED;
+		}
+		if (!authorization.approved()) {
+			paymentService.markFailed(payment.getId(), DECLINED);
+			return PaymentStatus.FAILED;
+		}
+		paymentService.markAuthorized(payment.getId(), authorization.authorizationId());
+		return PaymentStatus.AUTHORIZED;
+	}
+
+	private PaymentStatus confirm(Payment payment) {
+		try {
+			reservationFacade.confirmPayment(payment.getReservationId(), payment.getUserId(), payment.getId());
+			return PaymentStatus.CONFIRMED;
+		} catch (ApiException e) {
+			// 방에 요청이 잠깐 몰린 것 -> 승인은 그대로 두고 복구 때 다시 확정 시도
+			if (e.getExceptionCode() == ExceptionCode.ROOM_BUSY) {
+				throw e;
+			}
+			return compensate(payment, e.getExceptionCode().name());
+		}
+	}
+
+	// 확정 실패 (중복 예약, 결제 시간 만료, 취소된 예약 등) -> 승인 취소
+	// 다른 실행(복구 스케줄러)이 먼저 확정했으면 실패가 그 때문이니 취소하면 안 됨
+	private PaymentStatus compensate(Payment payment, String failureCode) {
+		PaymentStatus current = paymentService.get(payment.getId()).getStatus();
+		if (current != PaymentStatus.AUTHORIZED) {
+			return current;
+		}
+		paymentGateway.voidAuthorization(payment.gatewayKey());
+		paymentService.markVoided(payment.getId(), failureCode);
+		return PaymentStatus.VOIDED;
+	}
+
+	@PreDestroy
+	void shutdown() {
+		if (workers != null) {
+			workers.shutdown();
+		}
+	}
+}
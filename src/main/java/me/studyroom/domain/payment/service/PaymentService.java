@@ -0,0 +1,154 @@
+package me.studyroom.domain.payment.service;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import me.studyroom.domain.payment.Payment;
+import me.studyroom.domain.payment.PaymentRepository;
+import me.studyroom.domain.payment.PaymentStatus;
+import me.studyroom.domain.payment.dto.PaymentResponse;
+import me.studyroom.domain.reservation.Reservation;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.ReservationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+// 결제 행 상태 변경 (각각 짧은 트랜잭션, 방 락 없음)
+// 예약 확정과 같이 바뀌어야 하는 confirm 만 ReservationService 트랜잭션 안에서 호출됨
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class PaymentService {
+
+	private static final EnumSet<PaymentStatus> IN_FLIGHT =
+		EnumSet.of(PaymentStatus.PENDING, PaymentStatus.AUTHORIZED, PaymentStatus.CONFIRMED, PaymentStatus.REFUND_PENDING);
+
+	private final PaymentRepository paymentRepository;
+	private final ReservationRepository reservationRepository;
+	private final Clock clock;
+
+	@Value("${studyroom.payment.price-per-hour:5000}")
+	private long pricePerHour;
+
+	public record Begin(PaymentResponse.Status status, boolean started) {
+	}
+
+	// 이미 진행 중이거나 끝난 결제가 있으면 그 상태를 그대로 돌려줌 (재요청해도 결제가 두 번 시작되지 않음)
+	// 실패/취소된 결제만 다시 시작
+	public Begin begin(Long reservationId, Long userId) {
+		Reservation reservation = reservationRepository.findByIdAndUserId(reservationId, userId)
+			.orElseThrow(() -> new ReservationException(ExceptionCode.NOT_FOUND_RESERVATION));
+
+		Payment payment = paymentRepository.findByReservationId(reservationId).orElse(null);
+		if (payment != null && !payment.getStatus().isRetryable()) {
+			return new Begin(toResponse(payment), false);
+		}
+
+		// 승인 전에 미리 걸러냄 (만료된 예약에 승인부터 받고 다시 취소하는 일이 없게)
+		reservation.ensurePayable(clock);
+		long amount = amountOf(reservation);
+
+		if (payment == null) {
+			payment = paymentRepository.save(new Payment(
+				reservationId, userId, reservation.getStudyRoom().getId(), amount, clock));
+		} else {
+			payment.retry(amount, clock);
+		}
+		paymentRepository.flush();
+		return new Begin(toResponse(payment), true);
+	}
+
+	public PaymentResponse.Status getStatus(Long reservationId, Long userId) {
+		return paymentRepository.findByReservationIdAndUserId(reservationId, userId)
+			.map(PaymentService::toResponse)
+			.orElseThrow(() -> new ReservationException(ExceptionCode.NOT_FOUND_PAYMENT));
+	}
+
+	public Payment get(Long paymentId) {
+		return paymentRepository.findById(paymentId)
+			.orElseThrow(() -> new ReservationException(ExceptionCode.NOT_FOUND_PAYMENT));
+	}
+
+	public void markAuthorized(Long paymentId, String authorizationId) {
+		get(paymentId).authorize(authorizationId, clock);
+	}
+
+	public void markFailed(Long paymentId, String failureCode) {
+		get(paymentId).fail(failureCode, clock);
+	}
+
+	public void markVoided(Long paymentId, String failureCode) {
+		get(paymentId).voided(failureCode, clock);
+	}
+
+	public void markCaptured(Long paymentId) {
+		get(paymentId).capture(clock);
+	}
+
+	public void markRefunded(Long paymentId) {
+		get(paymentId).refunded(clock);
+	}
+
+	// 예약이 취소됨 -> 환불할 결제가 있으면 REFUND_PENDING 으로 바꾸고 id 반환
+	// 이미 REFUND_PENDING 이면 (이벤트 재전달) 그대로 id 반환, 결제가 없거나 확정 전이면 empty
+	public Optional<Long> requestRefund(Long reservationId) {
+		Payment payment = paymentRepository.findByReservationId(reservationId).orElse(null);
+		if (payment == null) {
+			return Optional.empty();
+		}
+		PaymentStatus status = payment.getStatus();
+		if (status == PaymentStatus.CONFIRMED || status == PaymentStatus.CAPTURED) {
+			payment.requestRefund(clock);
+		} else if (status != PaymentStatus.REFUND_PENDING) {
+			return Optional.empty();
+		}
+		return Optional.of(payment.getId());
+	}
+
+	// ReservationService.confirmPayment 트랜잭션 안 (방 락 -> 예약 -> 결제 순서)
+	public void confirm(Long paymentId, Long reservationId) {
+		Payment payment = get(paymentId);
+		if (!payment.getReservationId().equals(reservationId)) {
+			throw new ReservationException(ExceptionCode.INVALID_STATUS);
+		}
+		payment.confirm(clock);
+	}
+
+	public void touch(Long paymentId) {
+		get(paymentId).touch(clock);
+	}
+
+	// 복구 대상 id (멈춘 지 오래된 순)
+	public List<Long> findStalled(Duration staleAfter, int limit) {
+		LocalDateTime cutoff = LocalDateTime.now(clock).minus(staleAfter);
+		return paymentRepository.findByStatusInAndUpdatedAtBeforeOrderByUpdatedAtAsc(IN_FLIGHT, cutoff, Limit.of(limit))
+			.stream()
+			.map(Payment::getId)
+			.toList();
+	}
+
+	// 시간당 요금, 분 단위 올림
+	private long amountOf(Reservation reservation) {
+		long minutes = Duration.between(reservation.getStartAt(), reservation.getEndAt()).toMinutes();
+		return (minutes * pricePerHour + 59) / 60;
+	}
+
+	private static PaymentResponse.Status toResponse(Payment payment) {
+		return new PaymentResponse.Status(
+			payment.getId(),
+			payment.getReservationId(),
+			payment.getStatus(),
+			payment.getAmount(),
+			payment.getFailureCode(),
+			payment.getUpdatedAt()
+		);
+	}
+}
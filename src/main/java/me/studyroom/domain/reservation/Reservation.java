@@ -10,6 +10,7 @@ import me.studyroom.global.exception.ExceptionCode;
 import me.studyroom.global.exception.ReservationException;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 @Entity
@@ -25,6 +26,9 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Reservation {
+	// 결제 대기(WAIT_PAYMENT) 예약이 시간대를 잡아두는(홀드) 기간
+	public static final Duration PAYMENT_WINDOW = Duration.ofMinutes(10);
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
@@ -66,7 +70,13 @@ public class Reservation {
 
 		LocalDateTime now = LocalDateTime.now(clock);
 
-		return createdAt.plusMinutes(10).isBefore(now);
+		// 홀드가 풀리는 시각과 같은 기준 : 마감 시각부터는 다른 사람이 예약할 수 있으니 여기서도 만료
+		return !now.isBefore(paymentDeadline());
+	}
+
+	// 결제 마감 = 홀드가 풀리는 시각
+	public LocalDateTime paymentDeadline() {
+		return createdAt.plus(PAYMENT_WINDOW);
 	}
 
 	public void update(StudyRoom studyRoom, LocalDateTime startAt, LocalDateTime endAt) {
@@ -94,6 +104,13 @@ public class Reservation {
 	}
 
 	public void confirm(Clock clock) {
+		ensurePayable(clock);
+
+		this.status = ReservationStatus.CONFIRMED;
+	}
+
+	// 결제를 시작할 수 있는지 (결제 사가 시작 전, 확정 직전 둘 다)
+	public void ensurePayable(Clock clock) {
 		// confirm을 아무 상태에서나 호출하면 안됨
 		// 상태 전이 규칙은 엔티티가 가진다
 		if (status != ReservationStatus.WAIT_PAYMENT) {
@@ -105,8 +122,6 @@ public class Reservation {
 		if (isPaymentExpired(clock)) {
 			throw new ReservationException(ExceptionCode.PAYMENT_TIMEOUT);
 		}
-
-		this.status = ReservationStatus.CONFIRMED;
 	}
 
 	public void expire(Clock clock) {
@@ -0,0 +1,50 @@
+package me.studyroom.domain.reservation;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 끝난 예약(지난 예약, EXPIRED/CANCELED)을 옮겨두는 콜드 테이블
+// reservation(핫 테이블)은 앞으로의 예약 위주로만 유지해서 인덱스 깊이/버퍼풀 사용량이 이력과 함께 커지지 않게 함
+// id는 원본 예약 id를 그대로 사용 (outbox 이벤트 등 외부 참조가 그대로 유효)
+// 연관관계 대신 id만 들고 있음 -> 이력 때문에 유저/스터디룸 삭제가 막히지 않게
+@Entity
+@Table(
+	name = "reservation_history",
+	indexes = {
+		@Index(name = "idx_reservation_history_user_start", columnList = "user_id, start_at"),
+		@Index(name = "idx_reservation_history_room_start", columnList = "study_room_id, start_at")
+	}
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReservationHistory {
+	@Id
+	private Long id;
+
+	// 탈퇴 유저 익명화 시 null이 될 수 있음
+	@Column(name = "user_id")
+	private Long userId;
+
+	@Column(name = "study_room_id", nullable = false)
+	private Long studyRoomId;
+
+	@Column(nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	@Column(nullable = false)
+	private LocalDateTime startAt;
+
+	@Column(nullable = false)
+	private LocalDateTime endAt;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private ReservationStatus status;
+
+	@Column(nullable = false)
+	private LocalDateTime archivedAt;
+}
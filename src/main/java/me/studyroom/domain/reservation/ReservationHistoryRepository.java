@@ -0,0 +1,108 @@
+package me.studyroom.domain.reservation;
+
+import jakarta.persistence.QueryHint;
+import me.studyroom.domain.reservation.dto.ReservationExportRow;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface ReservationHistoryRepository extends JpaRepository<ReservationHistory, Long> {
+
+	List<ReservationHistory> findByUserIdOrderByStartAtDesc(Long userId, Limit limit);
+
+	// 추출 시 콜드 테이블도 같은 방식으로 스트리밍
+	@QueryHints({
+		@QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+		@QueryHint(name = "org.hibernate.readOnly", value = "true")
+	})
+	@Query("""
+		SELECT new me.studyroom.domain.reservation.dto.ReservationExportRow(
+			h.id, h.studyRoomId, h.userId, h.status, h.startAt, h.endAt, h.createdAt)
+		FROM ReservationHistory h
+		WHERE h.startAt >= :from
+		AND h.startAt < :to
+		ORDER BY h.id
+		""")
+	Stream<ReservationExportRow> streamForExport(
+		@Param("from") LocalDateTime from,
+		@Param("to") LocalDateTime to
+	);
+
+	// 컬럼형 아카이브 작성용, (방, 시작 시간) 순서여야 delta가 작게 나옴
+	@QueryHints({
+		@QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+		@QueryHint(name = "org.hibernate.readOnly", value = "true")
+	})
+	@Query("""
+		SELECT new me.studyroom.domain.reservation.dto.ReservationExportRow(
+			h.id, h.studyRoomId, h.userId, h.status, h.startAt, h.endAt, h.createdAt)
+		FROM ReservationHistory h
+		WHERE h.startAt >= :from
+		AND h.startAt < :to
+		ORDER BY h.studyRoomId, h.startAt
+		""")
+	Stream<ReservationExportRow> streamForColumnarArchive(
+		@Param("from") LocalDateTime from,
+		@Param("to") LocalDateTime to
+	);
+
+	// 일괄 등록 검증용 : ReservationRepository.findImportRows 의 콜드 테이블 버전, idx_reservation_history_room_start
+	@Query("""
+		SELECT new me.studyroom.domain.reservation.dto.ReservationExportRow(
+			h.id, h.studyRoomId, h.userId, h.status, h.startAt, h.endAt, h.createdAt)
+		FROM ReservationHistory h
+		WHERE h.studyRoomId = :studyRoomId
+		AND h.startAt >= :from
+		AND h.startAt < :to
+		""")
+	List<ReservationExportRow> findImportRows(
+		@Param("studyRoomId") Long studyRoomId,
+		@Param("from") LocalDateTime from,
+		@Param("to") LocalDateTime to
+	);
+
+	// 엔티티 로딩 없이 핫 테이블 행을 그대로 복사 (원본 행은 호출 전에 락을 잡아둬야 함)
+	@Modifying(flushAutomatically = true)
+	@Query(value = """
+		INSERT INTO reservation_history
+			(id, user_id, study_room_id, created_at, start_at, end_at, status, archived_at)
+		SELECT r.id, r.user_id, r.study_room_id, r.created_at, r.start_at, r.end_at, r.status, :now
+		FROM reservation r
+		WHERE r.id IN (:ids)
+		""", nativeQuery = true)
+	int copyFromReservation(
+		@Param("ids") List<Long> ids,
+		@Param("now") LocalDateTime now
+	);
+
+	// 탈퇴 회원 예약 : copyFromReservation 과 같지만 user_id 를 비워서 옮김
+	@Modifying(flushAutomatically = true)
+	@Query(value = """
+		INSERT INTO reservation_history
+			(id, user_id, study_room_id, created_at, start_at, end_at, status, archived_at)
+		SELECT r.id, NULL, r.study_room_id, r.created_at, r.start_at, r.end_at, r.status, :now
+		FROM reservation r
+		WHERE r.id IN (:ids)
+		""", nativeQuery = true)
+	int copyFromReservationAnonymized(
+		@Param("ids") List<Long> ids,
+		@Param("now") LocalDateTime now
+	);
+
+	// 탈퇴 회원의 이미 옮겨진 이력, idx_reservation_history_user_start
+	@Query("SELECT h.id FROM ReservationHistory h WHERE h.userId = :userId")
+	List<Long> findIdsByUserId(@Param("userId") Long userId, Limit limit);
+
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("UPDATE ReservationHistory h SET h.userId = NULL WHERE h.id IN :ids")
+	int anonymizeByIds(@Param("ids") List<Long> ids);
+
+	boolean existsByStudyRoomId(Long studyRoomId);
+}
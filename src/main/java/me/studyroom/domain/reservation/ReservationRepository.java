@@ -1,66 +1,351 @@
 package me.studyroom.domain.reservation;
 
+import jakarta.persistence.QueryHint;
+import me.studyroom.domain.reservation.dto.ReservationExportRow;
 import me.studyroom.domain.studyRoom.StudyRoom;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+	// count(r) > 0 은 겹치는 행을 끝까지 다 셈 -> EXISTS 로 첫 행에서 멈춤
+	// 예약 가능 여부 : 확정 예약 또는 결제 창이 아직 안 닫힌 결제 대기(홀드)와 겹치면 불가
+	// 홀드는 createdAt + 결제 창 까지만 유효 (holdCutoff = now - 결제 창), 만료 스케줄러가 아직 안 돌았어도 그 시각에 바로 풀림
+	// OR 로 한 WHERE 에 합치면 인덱스를 못 타니 상태별 EXISTS 두 개로 나눔 (각각 idx_reservation_room_status_time)
 	@Query("""
-		SELECT count(r)>0
-		 FROM Reservation r
-		  WHERE r.studyRoom = :studyRoom
-		   AND r.startAt < :endAt
-		    AND r.endAt > :startAt
-		     AND r.status = :status
+		SELECT CASE WHEN EXISTS (
+			SELECT 1
+			FROM Reservation r
+			WHERE r.studyRoom = :studyRoom
+			AND r.status = me.studyroom.domain.reservation.ReservationStatus.CONFIRMED
+			AND r.startAt < :endAt
+			AND r.endAt > :startAt
+		) OR EXISTS (
+			SELECT 1
+			FROM Reservation h
+			WHERE h.studyRoom = :studyRoom
+			AND h.status = me.studyroom.domain.reservation.ReservationStatus.WAIT_PAYMENT
+			AND h.startAt < :endAt
+			AND h.endAt > :startAt
+			AND h.createdAt > :holdCutoff
+		) THEN true ELSE false END
 		""")
-	boolean existsReservedOverlappingReservation(
+	boolean existsBlockingReservation(
+		@Param("studyRoom") StudyRoom studyRoom,
+		@Param("startAt") LocalDateTime startAt,
+		@Param("endAt") LocalDateTime endAt,
+		@Param("holdCutoff") LocalDateTime holdCutoff
+	);
+
+	// 예약 수정용 (자기 자신 제외), 수정은 CONFIRMED 예약만 하니 자기 자신은 홀드가 아님
+	@Query("""
+		SELECT CASE WHEN EXISTS (
+			SELECT 1
+			FROM Reservation r
+			WHERE r.studyRoom = :studyRoom
+			AND r.status = me.studyroom.domain.reservation.ReservationStatus.CONFIRMED
+			AND r.startAt < :endAt
+			AND r.endAt > :startAt
+			AND r.id <> :reservationId
+		) OR EXISTS (
+			SELECT 1
+			FROM Reservation h
+			WHERE h.studyRoom = :studyRoom
+			AND h.status = me.studyroom.domain.reservation.ReservationStatus.WAIT_PAYMENT
+			AND h.startAt < :endAt
+			AND h.endAt > :startAt
+			AND h.createdAt > :holdCutoff
+		) THEN true ELSE false END
+		""")
+	boolean existsBlockingReservationExceptSelf(
+		@Param("studyRoom") StudyRoom studyRoom,
+		@Param("startAt") LocalDateTime startAt,
+		@Param("endAt") LocalDateTime endAt,
+		@Param("holdCutoff") LocalDateTime holdCutoff,
+		@Param("reservationId") Long reservationId
+	);
+
+	// <> : SQL/ JPQL에서 "같지 않다(NOT EQUAL)" 연산자
+
+	@Query("""
+		SELECT CASE WHEN EXISTS (
+			SELECT 1
+			FROM Reservation r
+			WHERE r.studyRoom = :studyRoom
+			AND r.status = :status
+			AND r.startAt < :endAt
+			AND r.endAt > :startAt
+			AND r.id <> :reservationId
+		) THEN true ELSE false END
+		""")
+	boolean existsReservedOverlappingReservationExceptSelf(
 		@Param("studyRoom") StudyRoom studyRoom,
 		@Param("status") ReservationStatus status,
 		@Param("startAt") LocalDateTime startAt,
+		@Param("endAt") LocalDateTime endAt,
+		@Param("reservationId") Long reservationId
+	);
+
+	// 대기 전환용, 결제 대기(WAIT_PAYMENT)도 자리를 잡은 것으로 봄
+	// 전환된 예약이 결제 전인데 다음 대기자까지 같은 시간대로 전환되면 안 되니까
+	@Query("""
+		SELECT CASE WHEN EXISTS (
+			SELECT 1
+			FROM Reservation r
+			WHERE r.studyRoom = :studyRoom
+			AND r.status IN :statuses
+			AND r.startAt < :endAt
+			AND r.endAt > :startAt
+		) THEN true ELSE false END
+		""")
+	boolean existsOverlappingInStatuses(
+		@Param("studyRoom") StudyRoom studyRoom,
+		@Param("statuses") Collection<ReservationStatus> statuses,
+		@Param("startAt") LocalDateTime startAt,
 		@Param("endAt") LocalDateTime endAt
 	);
 
-	// <> : SQL/ JPQL에서 "같지 않다(NOT EQUAL)" 연산자
+	// 만료로 비는 시간대 조회 (대기 전환 대상 찾기용)
+	@Query("""
+		SELECT new me.studyroom.domain.reservation.dto.ReservationExportRow(
+			r.id, r.studyRoom.id, r.user.id, r.status, r.startAt, r.endAt, r.createdAt)
+		FROM Reservation r
+		WHERE r.id IN :ids
+		""")
+	List<ReservationExportRow> findRowsByIds(@Param("ids") List<Long> ids);
 
+	// 반복 예약 충돌 검사용 : 기간 전체의 확정 예약 + 유효한 홀드를 시작 순서로 한 번에 (회차마다 조회하지 않음)
+	// existsBlockingReservation 과 같은 기준, idx_reservation_room_status_time
 	@Query("""
-		SELECT count (r) > 0
+		SELECT new me.studyroom.domain.reservation.dto.ReservationExportRow(
+			r.id, r.studyRoom.id, r.user.id, r.status, r.startAt, r.endAt, r.createdAt)
 		FROM Reservation r
 		WHERE r.studyRoom = :studyRoom
-		AND r.status = :status
+		AND r.status IN (
+			me.studyroom.domain.reservation.ReservationStatus.CONFIRMED,
+			me.studyroom.domain.reservation.ReservationStatus.WAIT_PAYMENT)
 		AND r.startAt < :endAt
 		AND r.endAt > :startAt
-		AND r.id <> :reservationId
+		AND (r.status = me.studyroom.domain.reservation.ReservationStatus.CONFIRMED OR r.createdAt > :holdCutoff)
+		ORDER BY r.startAt
 		""")
-	boolean existsReservedOverlappingReservationExceptSelf(
+	List<ReservationExportRow> findBlockingRows(
 		@Param("studyRoom") StudyRoom studyRoom,
-		@Param("status") ReservationStatus status,
 		@Param("startAt") LocalDateTime startAt,
 		@Param("endAt") LocalDateTime endAt,
-		@Param("reservationId") Long reservationId
+		@Param("holdCutoff") LocalDateTime holdCutoff
 	);
 
+	// 일괄 등록 검증용 : 방의 기간 안 예약 전부 (확정 구간 겹침 + 같은 예약 재등록 검사)
+	// idx_reservation_room_status_time (study_room_id 앞부분)
+	@Query("""
+		SELECT new me.studyroom.domain.reservation.dto.ReservationExportRow(
+			r.id, r.studyRoom.id, r.user.id, r.status, r.startAt, r.endAt, r.createdAt)
+		FROM Reservation r
+		WHERE r.studyRoom.id = :studyRoomId
+		AND r.startAt >= :from
+		AND r.startAt < :to
+		""")
+	List<ReservationExportRow> findImportRows(
+		@Param("studyRoomId") Long studyRoomId,
+		@Param("from") LocalDateTime from,
+		@Param("to") LocalDateTime to
+	);
+
+	// 홀드 인덱스 적재용 : 결제 창이 아직 안 닫힌 결제 대기 (idx_reservation_status_created)
+	@Query("""
+		SELECT new me.studyroom.domain.reservation.dto.ReservationExportRow(
+			r.id, r.studyRoom.id, r.user.id, r.status, r.startAt, r.endAt, r.createdAt)
+		FROM Reservation r
+		WHERE r.status = me.studyroom.domain.reservation.ReservationStatus.WAIT_PAYMENT
+		AND r.createdAt > :holdCutoff
+		""")
+	List<ReservationExportRow> findActiveHoldRows(@Param("holdCutoff") LocalDateTime holdCutoff);
+
+	// 조회 응답(mapToRead)에서 사용자 이름, 방 이름을 쓰니까 같이 가져옴 (안 하면 예약 수만큼 추가 SELECT)
+	@EntityGraph(attributePaths = {"user", "studyRoom"})
 	List<Reservation> findByUserIdAndStatus(Long userId, ReservationStatus status);
 
+	// 이력 조회용, 방 이름을 같이 쓰니까 한 번에 가져옴
+	@EntityGraph(attributePaths = "studyRoom")
+	List<Reservation> findByUserIdOrderByStartAtDesc(Long userId, Limit limit);
+
 	Optional<Reservation> findByIdAndUserId(Long reservationId, Long userId);
 
+	// 락 없이 방 id만 조회 (결제 확정 전에 어느 방 게이트로 보낼지 정하는 용도)
+	@Query("SELECT r.studyRoom.id FROM Reservation r WHERE r.id = :reservationId AND r.user.id = :userId")
+	Optional<Long> findStudyRoomIdByIdAndUserId(
+		@Param("reservationId") Long reservationId,
+		@Param("userId") Long userId
+	);
+
+	// 만료 대상 id만 락을 걸고 가져옴 (배치 크기 제한)
+	// 락을 먼저 잡아야 이벤트 기록(INSERT ... SELECT)과 상태 변경(UPDATE) 사이에 다른 트랜잭션이 끼어들지 못함
+	@Query(value = """
+		SELECT r.id
+		FROM reservation r
+		WHERE r.status = :wait
+		AND r.created_at <= :deadline
+		ORDER BY r.id
+		LIMIT :limit
+		FOR UPDATE
+		""", nativeQuery = true)
+	List<Long> findExpirableIdsForUpdate(
+		@Param("wait") String wait,
+		@Param("deadline") LocalDateTime deadline,
+		@Param("limit") int limit
+	);
+
+	// 스터디룸 일괄 비활성화 시 취소할 앞으로의 예약 (이미 시작한 예약은 건드리지 않음)
+	// idx_reservation_room_status_time (study_room_id, status, start_at) 범위 스캔
+	@Query(value = """
+		SELECT r.id
+		FROM reservation r
+		WHERE r.study_room_id IN (:studyRoomIds)
+		AND r.status IN (:statuses)
+		AND r.start_at >= :from
+		ORDER BY r.id
+		LIMIT :limit
+		FOR UPDATE
+		""", nativeQuery = true)
+	List<Long> findUpcomingIdsByStudyRoomsForUpdate(
+		@Param("studyRoomIds") List<Long> studyRoomIds,
+		@Param("statuses") List<String> statuses,
+		@Param("from") LocalDateTime from,
+		@Param("limit") int limit
+	);
+
+	// 탈퇴 회원 정리 1) 취소할 앞으로의 예약, idx_reservation_user_status (user_id, status)
+	@Query(value = """
+		SELECT r.id
+		FROM reservation r
+		WHERE r.user_id = :userId
+		AND r.status IN (:statuses)
+		AND r.start_at >= :from
+		ORDER BY r.id
+		LIMIT :limit
+		FOR UPDATE
+		""", nativeQuery = true)
+	List<Long> findUpcomingIdsByUserForUpdate(
+		@Param("userId") Long userId,
+		@Param("statuses") List<String> statuses,
+		@Param("from") LocalDateTime from,
+		@Param("limit") int limit
+	);
+
+	// 탈퇴 회원 정리 2) 자리를 막지 않는 예약 (익명화해서 이력 테이블로), idx_reservation_user_start
+	// 진행 중인 blocking 상태 예약을 옮기면 DB 에서 남은 시간이 비어 보여서 다른 사람이 잡을 수 있으니
+	// 끝났거나 취소/만료된 것만
+	@Query(value = """
+		SELECT r.id
+		FROM reservation r
+		WHERE r.user_id = :userId
+		AND (r.end_at <= :now OR r.status NOT IN (:blocking))
+		ORDER BY r.id
+		LIMIT :limit
+		FOR UPDATE
+		""", nativeQuery = true)
+	List<Long> findReleasedIdsByUserForUpdate(
+		@Param("userId") Long userId,
+		@Param("blocking") List<String> blocking,
+		@Param("now") LocalDateTime now,
+		@Param("limit") int limit
+	);
+
+	boolean existsByUserId(Long userId);
+
+	boolean existsByStudyRoomId(Long studyRoomId);
+
+	// 월별 추출용 스트림 (forward-only 커서)
+	// fetchSize만큼씩 끊어서 가져오므로 행 수와 상관없이 메모리 일정
+	// MySQL은 useCursorFetch=true 여야 fetchSize가 실제 커서로 동작함
+	// 반드시 트랜잭션 안에서 소비하고 try-with-resources로 닫아야 함
+	@QueryHints({
+		@QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+		@QueryHint(name = "org.hibernate.readOnly", value = "true")
+	})
+	@Query("""
+		SELECT new me.studyroom.domain.reservation.dto.ReservationExportRow(
+			r.id, r.studyRoom.id, r.user.id, r.status, r.startAt, r.endAt, r.createdAt)
+		FROM Reservation r
+		WHERE r.startAt >= :from
+		AND r.startAt < :to
+		ORDER BY r.id
+		""")
+	Stream<ReservationExportRow> streamForExport(
+		@Param("from") LocalDateTime from,
+		@Param("to") LocalDateTime to
+	);
+
+	// 확정 구간 인덱스 전체 적재용 (RoomScheduleService), 끝나지 않은 확정 예약만
+	// idx_reservation_end 범위 스캔, 방이 많으면 행도 많으니 스트림으로 읽음
+	@QueryHints({
+		@QueryHint(name = "org.hibernate.fetchSize", value = "1000"),
+		@QueryHint(name = "org.hibernate.readOnly", value = "true")
+	})
+	@Query("""
+		SELECT new me.studyroom.domain.reservation.dto.ReservationExportRow(
+			r.id, r.studyRoom.id, r.user.id, r.status, r.startAt, r.endAt, r.createdAt)
+		FROM Reservation r
+		WHERE r.endAt > :from
+		AND r.status = me.studyroom.domain.reservation.ReservationStatus.CONFIRMED
+		""")
+	Stream<ReservationExportRow> streamConfirmedEndingAfter(@Param("from") LocalDateTime from);
+
+	@Query("SELECT coalesce(max(r.id), 0) FROM Reservation r")
+	Long findMaxId();
+
+	// 아카이빙 대상 1) 종료 시간이 보관 기간보다 오래된 예약
+	// OR 조건 하나로 합치면 인덱스를 못 타니 조건별로 나눔
+	@Query(value = """
+		SELECT r.id
+		FROM reservation r
+		WHERE r.end_at < :cutoff
+		ORDER BY r.id
+		LIMIT :limit
+		FOR UPDATE
+		""", nativeQuery = true)
+	List<Long> findPastIdsForUpdate(
+		@Param("cutoff") LocalDateTime cutoff,
+		@Param("limit") int limit
+	);
+
+	// 아카이빙 대상 2) 이미 끝난 상태(EXPIRED, CANCELED)로 보관 기간이 지난 예약
+	@Query(value = """
+		SELECT r.id
+		FROM reservation r
+		WHERE r.status IN (:statuses)
+		AND r.created_at < :cutoff
+		ORDER BY r.id
+		LIMIT :limit
+		FOR UPDATE
+		""", nativeQuery = true)
+	List<Long> findTerminalIdsForUpdate(
+		@Param("statuses") List<String> statuses,
+		@Param("cutoff") LocalDateTime cutoff,
+		@Param("limit") int limit
+	);
+
 	// clearAutomatically=true : 벌크 업데이트 후 1차 캐시 비워서 상태 꼬임 방지
 	// flushAutomatically=true : 혹시 같은 트랜잭션에서 쌓인 변경사항이 있으면 먼저 flush
 	@Modifying(clearAutomatically = true, flushAutomatically = true)
 	@Query("""
 		UPDATE Reservation r
-		SET r.status = :expired
-		WHERE r.status = :wait
-		AND r.createdAt < :deadline
-""")
-	int expireWaitPayments(
-		@Param("wait") ReservationStatus wait,
-		@Param("expired") ReservationStatus expired,
-		@Param("deadline") LocalDateTime deadline
+		SET r.status = :status
+		WHERE r.id IN :ids
+		""")
+	int updateStatusByIds(
+		@Param("status") ReservationStatus status,
+		@Param("ids") List<Long> ids
 	);
 }
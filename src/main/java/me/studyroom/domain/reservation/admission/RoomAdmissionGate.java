@@ -0,0 +1,170 @@
+package me.studyroom.domain.reservation.admission;
+
+import lombok.extern.slf4j.Slf4j;
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.ReservationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// 방 단위 입장 제한
+// 인기 방이 열리면 요청마다 커넥션을 잡고 findByIdForUpdate에서 줄을 서서 풀이 바닥남 -> 다른 방/조회까지 같이 느려짐
+// 트랜잭션(커넥션) 시작 전에 방별로 동시 실행 수를 제한하고, 짧은 대기열이 차면 바로 거절
+// 어차피 같은 방 락은 한 번에 하나만 잡으니 동시 실행을 몇 개로 줄여도 처리량은 거의 같음
+@Slf4j
+@Component
+public class RoomAdmissionGate {
+
+	private final Map<Long, Gate> gates = new ConcurrentHashMap<>();
+
+	private final int maxConcurrent;
+	private final int maxQueue;
+	private final long maxWaitMillis;
+	private final int maxRooms;
+
+	public RoomAdmissionGate(@Value("${studyroom.admission.max-concurrent-per-room:2}") int maxConcurrent,
+													 @Value("${studyroom.admission.max-queue-per-room:8}") int maxQueue,
+													 @Value("${studyroom.admission.max-wait-millis:500}") long maxWaitMillis,
+													 @Value("${studyroom.admission.max-rooms:10000}") int maxRooms) {
+		this.maxConcurrent = maxConcurrent;
+		this.maxQueue = maxQueue;
+		this.maxWaitMillis = maxWaitMillis;
+		this.maxRooms = maxRooms;
+	}
+
+	public <T> T execute(Long studyRoomId, Supplier<T> action) {
+		Gate gate = claim(studyRoomId);
+		try {
+			gate.enter(maxQueue, maxWaitMillis);
+			try {
+				return action.get();
+			} finally {
+				gate.permits.release();
+			}
+		} finally {
+			gate.users.decrementAndGet();
+		}
+	}
+
+	// 꺼낸 게이트가 막 정리된 것이면 맵에서 치우고 새 게이트로 다시
+	// (정리와 엇갈려 같은 방에 게이트가 둘 생기면 동시 실행 제한이 두 배가 됨)
+	private Gate claim(Long studyRoomId) {
+		while (true) {
+			Gate gate = gates.computeIfAbsent(studyRoomId, id -> new Gate(maxConcurrent));
+			if (gate.claim()) {
+				return gate;
+			}
+			gates.remove(studyRoomId, gate);
+		}
+	}
+
+	public void run(Long studyRoomId, Runnable action) {
+		execute(studyRoomId, () -> {
+			action.run();
+			return null;
+		});
+	}
+
+	// 요청이 몰린 방부터
+	public List<RoomGateStats> stats() {
+		return gates.entrySet().stream()
+			.map(entry -> entry.getValue().stats(entry.getKey(), maxConcurrent))
+			.sorted(Comparator.comparingLong(RoomGateStats::rejected).reversed()
+				.thenComparing(Comparator.comparingInt(RoomGateStats::waiting).reversed()))
+			.toList();
+	}
+
+	// 없는 방 id로 요청이 들어와도 맵이 끝없이 커지지 않게, 한도의 절반을 넘으면 쉬고 있는 게이트를 정리
+	@Scheduled(fixedDelayString = "${studyroom.admission.evict-delay-millis:60000}")
+	public void evictIdle() {
+		if (gates.size() <= maxRooms / 2) {
+			return;
+		}
+		// 쓰는 요청이 없는 게이트만 retire -> 그 뒤로는 claim 이 실패하니 remove 사이에 새로 들어올 수 없음
+		int evicted = 0;
+		for (Map.Entry<Long, Gate> entry : gates.entrySet()) {
+			if (entry.getValue().retire() && gates.remove(entry.getKey(), entry.getValue())) {
+				evicted++;
+			}
+		}
+		if (evicted > 0) {
+			log.info("Evicted idle room admission gates: evicted={}, remaining={}", evicted, gates.size());
+		}
+	}
+
+	private static class Gate {
+		private final Semaphore permits;
+		// execute 안에 있는 요청 수 (대기 + 실행), -1 이면 정리된 게이트
+		private final AtomicInteger users = new AtomicInteger();
+		private final AtomicInteger waiting = new AtomicInteger();
+		private final LongAdder admitted = new LongAdder();
+		private final LongAdder rejected = new LongAdder();
+		private final LongAdder timedOut = new LongAdder();
+
+		Gate(int maxConcurrent) {
+			this.permits = new Semaphore(maxConcurrent, true); // 먼저 온 순서대로
+		}
+
+		void enter(int maxQueue, long maxWaitMillis) {
+			if (permits.tryAcquire()) {
+				admitted.increment();
+				return;
+			}
+			// 대기열이 꽉 찼으면 기다리지 않고 바로 거절 (커넥션도, 스레드도 오래 잡지 않음)
+			if (waiting.incrementAndGet() > maxQueue) {
+				waiting.decrementAndGet();
+				rejected.increment();
+				throw new ReservationException(ExceptionCode.ROOM_BUSY);
+			}
+			try {
+				if (!permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+					timedOut.increment();
+					throw new ReservationException(ExceptionCode.ROOM_BUSY);
+				}
+				admitted.increment();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new ReservationException(ExceptionCode.ROOM_BUSY);
+			} finally {
+				waiting.decrementAndGet();
+			}
+		}
+
+		boolean claim() {
+			while (true) {
+				int current = users.get();
+				if (current < 0) {
+					return false;
+				}
+				if (users.compareAndSet(current, current + 1)) {
+					return true;
+				}
+			}
+		}
+
+		boolean retire() {
+			return users.compareAndSet(0, -1);
+		}
+
+		RoomGateStats stats(Long studyRoomId, int maxConcurrent) {
+			return new RoomGateStats(
+				studyRoomId,
+				maxConcurrent - permits.availablePermits(),
+				waiting.get(),
+				admitted.sum(),
+				rejected.sum(),
+				timedOut.sum()
+			);
+		}
+	}
+}
@@ -0,0 +1,13 @@
+package me.studyroom.domain.reservation.admission;
+
+// inFlight : 지금 실행 중, waiting : 대기열 길이
+// rejected : 대기열이 꽉 차서 바로 거절, timedOut : 대기하다 시간 초과
+public record RoomGateStats(
+	Long studyRoomId,
+	int inFlight,
+	int waiting,
+	long admitted,
+	long rejected,
+	long timedOut
+) {
+}
@@ -0,0 +1,65 @@
+package me.studyroom.domain.reservation.archive;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+// 컬럼별 버퍼 (ByteArrayOutputStream은 메서드마다 synchronized라 단일 스레드 인코딩엔 불필요한 비용)
+final class ByteSink {
+	private byte[] bytes;
+	private int size;
+
+	ByteSink(int initialCapacity) {
+		this.bytes = new byte[Math.max(16, initialCapacity)];
+	}
+
+	void write(int b) {
+		ensureCapacity(size + 1);
+		bytes[size++] = (byte) b;
+	}
+
+	// 7비트씩 끊어서 쓰고 다음 바이트가 있으면 최상위 비트를 1로 (작은 값일수록 적은 바이트)
+	void writeVarLong(long value) {
+		ensureCapacity(size + 10);
+		while ((value & ~0x7FL) != 0) {
+			bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		bytes[size++] = (byte) value;
+	}
+
+	// 음수 delta도 작은 양수로 만들어서 varint 효율 유지 (0,-1,1,-2 -> 0,1,2,3)
+	void writeZigZag(long value) {
+		writeVarLong((value << 1) ^ (value >> 63));
+	}
+
+	int size() {
+		return size;
+	}
+
+	ByteBuffer asBuffer() {
+		return ByteBuffer.wrap(bytes, 0, size);
+	}
+
+	private void ensureCapacity(int required) {
+		if (required > bytes.length) {
+			bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length * 2));
+		}
+	}
+
+	static long readVarLong(ByteBuffer buffer) {
+		long result = 0;
+		int shift = 0;
+		byte b;
+		do {
+			b = buffer.get();
+			result |= (long) (b & 0x7F) << shift;
+			shift += 7;
+		} while (b < 0);
+		return result;
+	}
+
+	static long readZigZag(ByteBuffer buffer) {
+		long raw = readVarLong(buffer);
+		return (raw >>> 1) ^ -(raw & 1);
+	}
+}
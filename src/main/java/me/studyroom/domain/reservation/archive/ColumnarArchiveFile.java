@@ -0,0 +1,102 @@
+package me.studyroom.domain.reservation.archive;
+
+import me.studyroom.domain.reservation.ReservationStatus;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.YearMonth;
+
+// ColumnarArchiveWriter가 쓴 파일을 메모리 매핑으로 읽음
+// 힙으로 복사하지 않고 OS 페이지 캐시를 그대로 읽기 때문에 여러 해의 파일도 GC 부담 없이 스캔 가능
+public final class ColumnarArchiveFile {
+
+	@FunctionalInterface
+	public interface RowVisitor {
+		// userId 0 = 익명화된 유저, 시간은 epoch minute
+		void visit(long studyRoomId, long userId, long startMinute, int durationMinutes, ReservationStatus status);
+	}
+
+	private final MappedByteBuffer mapped;
+	private final YearMonth yearMonth;
+	private final int rowCount;
+	private final int[] columnOffsets = new int[ColumnarArchiveWriter.COLUMN_COUNT];
+	private final ReservationStatus[] statusByCode;
+
+	private ColumnarArchiveFile(MappedByteBuffer mapped) {
+		this.mapped = mapped;
+		ByteBuffer header = mapped.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+
+		if (header.getInt() != ColumnarArchiveWriter.MAGIC) {
+			throw new IllegalStateException("컬럼형 아카이브 파일이 아닙니다");
+		}
+		int version = header.getInt();
+		if (version != ColumnarArchiveWriter.VERSION) {
+			throw new IllegalStateException("지원하지 않는 아카이브 버전입니다 : " + version);
+		}
+		this.yearMonth = YearMonth.of(header.getInt(), header.getInt());
+		this.rowCount = header.getInt();
+		int columnCount = header.getInt();
+		for (int i = 0; i < columnCount; i++) {
+			columnOffsets[i] = Math.toIntExact(header.getLong());
+			header.getLong(); // length
+		}
+
+		int statusCount = header.get();
+		this.statusByCode = new ReservationStatus[statusCount];
+		for (int i = 0; i < statusCount; i++) {
+			byte[] name = new byte[header.get()];
+			header.get(name);
+			statusByCode[i] = ReservationStatus.valueOf(new String(name, StandardCharsets.US_ASCII));
+		}
+	}
+
+	public static ColumnarArchiveFile open(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			// 매핑은 채널을 닫아도 유지됨
+			return new ColumnarArchiveFile(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+		}
+	}
+
+	public YearMonth yearMonth() {
+		return yearMonth;
+	}
+
+	public int rowCount() {
+		return rowCount;
+	}
+
+	// 다섯 컬럼을 각자의 위치에서 동시에 한 행씩 디코딩
+	// duplicate()는 내용 복사 없이 position만 따로 가지는 뷰라 여러 스레드가 동시에 스캔해도 안전
+	public void scan(RowVisitor visitor) {
+		ByteBuffer rooms = column(0);
+		ByteBuffer users = column(1);
+		ByteBuffer starts = column(2);
+		ByteBuffer durations = column(3);
+		ByteBuffer statuses = column(4);
+
+		long roomId = 0;
+		long userId = 0;
+		long startMinute = 0;
+		for (int i = 0; i < rowCount; i++) {
+			roomId += ByteSink.readZigZag(rooms);
+			userId += ByteSink.readZigZag(users);
+			startMinute += ByteSink.readZigZag(starts);
+			int duration = (int) ByteSink.readVarLong(durations);
+			ReservationStatus status = statusByCode[statuses.get()];
+
+			visitor.visit(roomId, userId, startMinute, duration, status);
+		}
+	}
+
+	private ByteBuffer column(int index) {
+		ByteBuffer view = mapped.duplicate();
+		view.position(columnOffsets[index]);
+		return view;
+	}
+}
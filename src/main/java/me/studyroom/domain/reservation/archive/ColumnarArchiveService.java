@@ -0,0 +1,169 @@
+package me.studyroom.domain.reservation.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import me.studyroom.domain.reservation.ReservationHistoryRepository;
+import me.studyroom.domain.reservation.ReservationStatus;
+import me.studyroom.domain.reservation.dto.ReservationExportRow;
+import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.studyRoom.calendar.RoomCalendarService;
+import me.studyroom.global.service.CommonService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+// reservation_history -> 월별 컬럼형 파일
+// 몇 년치 이력 통계를 DB를 건드리지 않고 매핑된 파일 스캔만으로 계산
+@Slf4j
+@Service
+public class ColumnarArchiveService {
+
+	private final ReservationHistoryRepository reservationHistoryRepository;
+	private final CommonService commonService;
+	private final RoomCalendarService roomCalendarService;
+	private final TransactionTemplate readOnlyTransaction;
+	private final Clock clock;
+	private final Path directory;
+
+	// 한 번 매핑한 파일은 재사용 (월 파일은 다시 쓰기 전까지 불변)
+	private final Map<YearMonth, ColumnarArchiveFile> openFiles = new ConcurrentHashMap<>();
+
+	public ColumnarArchiveService(ReservationHistoryRepository reservationHistoryRepository,
+																CommonService commonService,
+																RoomCalendarService roomCalendarService,
+																PlatformTransactionManager transactionManager,
+																Clock clock,
+																@Value("${studyroom.archive.columnar-dir:./archive/columnar}") String directory) {
+		this.reservationHistoryRepository = reservationHistoryRepository;
+		this.commonService = commonService;
+		this.roomCalendarService = roomCalendarService;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.clock = clock;
+		this.directory = Path.of(directory);
+	}
+
+	// 보관 기간(기본 7일)이 지나야 지난달 예약이 전부 콜드 테이블로 넘어오니 매달 10일에 지난달 파일 작성
+	@Scheduled(cron = "${studyroom.archive.columnar-cron:0 0 5 10 * *}")
+	public void writePreviousMonth() {
+		writeMonth(YearMonth.now(clock).minusMonths(1));
+	}
+
+	public int writeMonth(YearMonth month) {
+		try {
+			Files.createDirectories(directory);
+
+			int rows = readOnlyTransaction.execute(status -> {
+				ColumnarArchiveWriter writer = new ColumnarArchiveWriter(1024);
+				try (Stream<ReservationExportRow> stream = reservationHistoryRepository.streamForColumnarArchive(
+					month.atDay(1).atStartOfDay(),
+					month.plusMonths(1).atDay(1).atStartOfDay())) {
+					stream.forEach(writer::append);
+				}
+				try {
+					writer.writeTo(pathOf(month), month);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+				return writer.rowCount();
+			});
+
+			// 다시 쓴 파일은 새로 매핑해야 함
+			openFiles.remove(month);
+			log.info("Columnar archive written: month={}, rows={}", month, rows);
+			return rows;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public ColumnarArchiveStats stats(YearMonth from, YearMonth to, Long studyRoomId) {
+		long startedAt = System.nanoTime();
+
+		long[] countsByStatus = new long[ReservationStatus.values().length];
+		long[] scannedRows = {0};
+		long[] confirmedMinutes = {0};
+		int scannedFiles = 0;
+
+		for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+			ColumnarArchiveFile file = open(month);
+			if (file == null) {
+				continue;
+			}
+			scannedFiles++;
+			scannedRows[0] += file.rowCount();
+
+			// 람다 안에서 박싱 없이 누적하려고 배열 사용
+			file.scan((roomId, userId, startMinute, durationMinutes, status) -> {
+				if (studyRoomId != null && roomId != studyRoomId) {
+					return;
+				}
+				countsByStatus[status.ordinal()]++;
+				if (status == ReservationStatus.CONFIRMED) {
+					confirmedMinutes[0] += durationMinutes;
+				}
+			});
+		}
+
+		Map<ReservationStatus, Long> counts = new EnumMap<>(ReservationStatus.class);
+		long reservations = 0;
+		for (ReservationStatus status : ReservationStatus.values()) {
+			counts.put(status, countsByStatus[status.ordinal()]);
+			reservations += countsByStatus[status.ordinal()];
+		}
+
+		return new ColumnarArchiveStats(
+			from,
+			to,
+			studyRoomId,
+			scannedFiles,
+			scannedRows[0],
+			reservations,
+			counts,
+			confirmedMinutes[0],
+			utilization(from, to, studyRoomId, confirmedMinutes[0]),
+			(System.nanoTime() - startedAt) / 1_000
+		);
+	}
+
+	// 분모는 날짜마다 운영 달력의 운영 분 합 (요일별 시간, 휴관일은 0)
+	// 달력은 현재 규칙 기준이라 과거에 운영 시간이 바뀌었으면 그만큼 오차가 있음
+	private Double utilization(YearMonth from, YearMonth to, Long studyRoomId, long confirmedMinutes) {
+		if (studyRoomId == null) {
+			return null;
+		}
+		StudyRoom room = commonService.getStudyRoomById(studyRoomId);
+		long operatingMinutes = roomCalendarService.openMinutes(room, from.atDay(1), to.atEndOfMonth());
+		return operatingMinutes == 0 ? null : (double) confirmedMinutes / operatingMinutes;
+	}
+
+	private ColumnarArchiveFile open(YearMonth month) {
+		Path path = pathOf(month);
+		if (!Files.exists(path)) {
+			return null;
+		}
+		return openFiles.computeIfAbsent(month, key -> {
+			try {
+				return ColumnarArchiveFile.open(path);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+
+	private Path pathOf(YearMonth month) {
+		return directory.resolve("reservations-" + month + ".col");
+	}
+}
@@ -0,0 +1,21 @@
+package me.studyroom.domain.reservation.archive;
+
+import me.studyroom.domain.reservation.ReservationStatus;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+// utilization : CONFIRMED 예약 분 / 운영 분 (studyRoomId를 지정했을 때만 계산)
+public record ColumnarArchiveStats(
+	YearMonth from,
+	YearMonth to,
+	Long studyRoomId,
+	int scannedFiles,
+	long scannedRows,
+	long reservations,
+	Map<ReservationStatus, Long> countsByStatus,
+	long confirmedMinutes,
+	Double utilization,
+	long elapsedMicros
+) {
+}
@@ -0,0 +1,142 @@
+package me.studyroom.domain.reservation.archive;
+
+import me.studyroom.domain.reservation.ReservationStatus;
+import me.studyroom.domain.reservation.dto.ReservationExportRow;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+
+/*
+월 단위 컬럼형 아카이브 파일 작성기
+
+파일 구조 (little endian)
+[header]
+  int magic, int version, int year, int month, int rowCount, int columnCount
+  columnCount * (long offset, long length)
+  byte statusCount, statusCount * (byte length, ascii name)   <- enum 순서가 바뀌어도 파일은 그대로 읽히게 이름으로 저장
+[columns]
+  ROOM     : 이전 행 대비 delta, zigzag varint
+  USER     : 이전 행 대비 delta, zigzag varint (0 = 익명화된 유저)
+  START    : epoch minute, 이전 행 대비 delta, zigzag varint
+  DURATION : end - start (분), varint
+  STATUS   : 1 byte 코드
+
+(study_room_id, start_at) 순으로 넣으면 ROOM/START delta가 대부분 1바이트로 끝남
+ */
+public final class ColumnarArchiveWriter {
+
+	static final int MAGIC = 0x53524341; // "SRCA"
+	static final int VERSION = 1;
+	static final int COLUMN_COUNT = 5;
+
+	private static final ReservationStatus[] STATUSES = ReservationStatus.values();
+
+	private final ByteSink rooms;
+	private final ByteSink users;
+	private final ByteSink starts;
+	private final ByteSink durations;
+	private final ByteSink statuses;
+
+	private long previousRoomId;
+	private long previousUserId;
+	private long previousStartMinute;
+	private int rowCount;
+
+	public ColumnarArchiveWriter(int expectedRows) {
+		this.rooms = new ByteSink(expectedRows);
+		this.users = new ByteSink(expectedRows * 2);
+		this.starts = new ByteSink(expectedRows * 2);
+		this.durations = new ByteSink(expectedRows);
+		this.statuses = new ByteSink(expectedRows);
+	}
+
+	public void append(ReservationExportRow row) {
+		long roomId = row.studyRoomId();
+		long userId = row.userId() == null ? 0 : row.userId();
+		long startMinute = toEpochMinute(row.startAt());
+		long endMinute = toEpochMinute(row.endAt());
+
+		rooms.writeZigZag(roomId - previousRoomId);
+		users.writeZigZag(userId - previousUserId);
+		starts.writeZigZag(startMinute - previousStartMinute);
+		durations.writeVarLong(endMinute - startMinute);
+		statuses.write(row.status().ordinal());
+
+		previousRoomId = roomId;
+		previousUserId = userId;
+		previousStartMinute = startMinute;
+		rowCount++;
+	}
+
+	public int rowCount() {
+		return rowCount;
+	}
+
+	// 임시 파일에 다 쓴 뒤 rename -> 읽는 쪽이 쓰다 만 파일을 보지 않음
+	public void writeTo(Path path, YearMonth month) throws IOException {
+		ByteSink[] columns = {rooms, users, starts, durations, statuses};
+
+		ByteBuffer header = buildHeader(month, columns);
+
+		Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+		try (FileChannel channel = FileChannel.open(temp,
+			StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			writeFully(channel, header);
+			for (ByteSink column : columns) {
+				writeFully(channel, column.asBuffer());
+			}
+			channel.force(true);
+		}
+		Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private ByteBuffer buildHeader(YearMonth month, ByteSink[] columns) {
+		int dictionarySize = 1;
+		for (ReservationStatus status : STATUSES) {
+			dictionarySize += 1 + status.name().length();
+		}
+		int headerSize = 6 * Integer.BYTES + COLUMN_COUNT * 2 * Long.BYTES + dictionarySize;
+
+		ByteBuffer header = ByteBuffer.allocate(headerSize).order(ByteOrder.LITTLE_ENDIAN);
+		header.putInt(MAGIC)
+			.putInt(VERSION)
+			.putInt(month.getYear())
+			.putInt(month.getMonthValue())
+			.putInt(rowCount)
+			.putInt(COLUMN_COUNT);
+
+		long offset = headerSize;
+		for (ByteSink column : columns) {
+			header.putLong(offset).putLong(column.size());
+			offset += column.size();
+		}
+
+		header.put((byte) STATUSES.length);
+		for (ReservationStatus status : STATUSES) {
+			byte[] name = status.name().getBytes(StandardCharsets.US_ASCII);
+			header.put((byte) name.length).put(name);
+		}
+		return header.flip();
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	// 벽시계 시간을 그대로 분 단위 정수로 (타임존 변환 없음, 읽을 때도 같은 기준)
+	static long toEpochMinute(LocalDateTime time) {
+		return time.toEpochSecond(ZoneOffset.UTC) / 60;
+	}
+}
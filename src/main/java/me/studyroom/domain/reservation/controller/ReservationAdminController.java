@@ -0,0 +1,87 @@
+package me.studyroom.domain.reservation.controller;
+
+import lombok.RequiredArgsConstructor;
+import me.studyroom.domain.reservation.admission.RoomAdmissionGate;
+import me.studyroom.domain.reservation.admission.RoomGateStats;
+import me.studyroom.domain.reservation.archive.ColumnarArchiveService;
+import me.studyroom.domain.reservation.archive.ColumnarArchiveStats;
+import me.studyroom.domain.reservation.dto.ExportFormat;
+import me.studyroom.domain.reservation.lock.RoomContentionTracker;
+import me.studyroom.domain.reservation.lock.RoomLockStats;
+import me.studyroom.domain.reservation.service.ReservationExportService;
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.ReservationException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+// /admin/** 는 SecurityConfig에서 ADMIN만 접근 가능
+@RestController
+@RequestMapping("/admin/reservations")
+@RequiredArgsConstructor
+public class ReservationAdminController {
+	private final ReservationExportService reservationExportService;
+	private final ColumnarArchiveService columnarArchiveService;
+	private final RoomAdmissionGate roomAdmissionGate;
+	private final RoomContentionTracker roomContentionTracker;
+
+	// 예) /admin/reservations/export?from=2026-09-01&to=2026-10-01&format=NDJSON&gzip=true
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> export(
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+		@RequestParam(defaultValue = "CSV") ExportFormat format,
+		@RequestParam(defaultValue = "false") boolean gzip) {
+
+		if (!from.isBefore(to)) {
+			throw new ReservationException(ExceptionCode.INVALID_TIME_RANGE);
+		}
+
+		String fileName = "reservations_" + from + "_" + to + "." + format.getExtension() + (gzip ? ".gz" : "");
+		String contentType = gzip ? "application/gzip" : format.getContentType() + ";charset=UTF-8";
+
+		return ResponseEntity.ok()
+			.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+			.contentType(MediaType.parseMediaType(contentType))
+			.body(reservationExportService.export(from, to, format, gzip));
+	}
+
+	// 해당 월 컬럼형 아카이브 파일 (재)작성, 작성된 행 수 반환
+	@PostMapping("/archive/{month}")
+	public int writeColumnarArchive(@PathVariable YearMonth month) {
+		return columnarArchiveService.writeMonth(month);
+	}
+
+	// 예) /admin/reservations/archive/stats?from=2024-01&to=2026-09&studyRoomId=3
+	@GetMapping("/archive/stats")
+	public ColumnarArchiveStats columnarArchiveStats(
+		@RequestParam YearMonth from,
+		@RequestParam YearMonth to,
+		@RequestParam(required = false) Long studyRoomId) {
+		return columnarArchiveService.stats(from, to, studyRoomId);
+	}
+
+	// 방별 게이트 상태 (거절이 많은 방부터)
+	@GetMapping("/admission")
+	public List<RoomGateStats> admissionStats() {
+		return roomAdmissionGate.stats();
+	}
+
+	// 방별 락 방식과 전환 기록 (비관적 방부터)
+	@GetMapping("/room-locks")
+	public List<RoomLockStats> roomLockStats() {
+		return roomContentionTracker.stats();
+	}
+}
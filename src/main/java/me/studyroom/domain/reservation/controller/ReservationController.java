@@ -2,7 +2,11 @@ package me.studyroom.domain.reservation.controller;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import me.studyroom.domain.payment.dto.PaymentResponse;
+import me.studyroom.domain.payment.service.PaymentSaga;
+import me.studyroom.domain.payment.service.PaymentService;
 import me.studyroom.domain.reservation.dto.ReservationResponse;
+import me.studyroom.domain.reservation.service.ReservationFacade;
 import me.studyroom.domain.reservation.service.ReservationService;
 import me.studyroom.global.dto.request.ReservationRequest;
 import me.studyroom.security.CustomUserDetails;
@@ -16,18 +20,35 @@ import java.util.List;
 @RequestMapping("/reservations")
 @RequiredArgsConstructor
 public class ReservationController {
+	private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
 	private final ReservationService reservationService;
+	private final ReservationFacade reservationFacade;
+	private final PaymentSaga paymentSaga;
+	private final PaymentService paymentService;
 
+	// 모바일 클라이언트가 타임아웃 후 재시도해도 같은 키면 예약을 다시 만들지 않고 처음 응답을 그대로 돌려줌
 	@PostMapping
 	@ResponseStatus(HttpStatus.CREATED)
 	public ReservationResponse.Create reserve(@Valid @RequestBody ReservationRequest.Create createRequest,
+																						@RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
 																						@AuthenticationPrincipal CustomUserDetails user) {
-		return reservationService.reserve(createRequest, user.getId());
+		return reservationFacade.reserve(createRequest, idempotencyKey, user.getId());
 	}
 
+	// 결제는 비동기 사가로 진행 (PaymentSaga), 결제 행만 만들고 바로 202
+	// 같은 예약으로 다시 보내면 새로 시작하지 않고 진행 중인 결제 상태를 돌려줌 (실패/취소된 결제만 다시 시작)
 	@PostMapping("/{id}/confirm")
-	public void confirm(@PathVariable Long id) {
+	@ResponseStatus(HttpStatus.ACCEPTED)
+	public PaymentResponse.Status confirm(@PathVariable Long id,
+																				@AuthenticationPrincipal CustomUserDetails user) {
+		return paymentSaga.start(id, user.getId());
+	}
 
+	@GetMapping("/{id}/payment")
+	public PaymentResponse.Status getPayment(@PathVariable Long id,
+																					 @AuthenticationPrincipal CustomUserDetails user) {
+		return paymentService.getStatus(id, user.getId());
 	}
 
 
@@ -35,7 +56,7 @@ public class ReservationController {
 	public ReservationResponse.Update updateReservation(@PathVariable Long reservationId,
 																											@Valid @RequestBody ReservationRequest.Update updateRequest,
 																											@AuthenticationPrincipal CustomUserDetails user) {
-		return reservationService.update(reservationId, updateRequest, user.getId());
+		return reservationFacade.update(reservationId, updateRequest, user.getId());
 	}
 
 	@GetMapping
@@ -43,6 +64,14 @@ public class ReservationController {
 		return reservationService.reservationConfirm(user.getId());
 	}
 
+	@GetMapping("/history")
+	public List<ReservationResponse.History> getReservationHistory(
+		@RequestParam(defaultValue = "false") boolean includeArchived,
+		@RequestParam(defaultValue = "100") int limit,
+		@AuthenticationPrincipal CustomUserDetails user) {
+		return reservationService.reservationHistory(user.getId(), includeArchived, limit);
+	}
+
 	///  todo : 비밀번호 검증 제거(이미 인증됨), delete는 path + 인증 정보만 사용
 	@DeleteMapping("/{reservationId}")
 	@ResponseStatus(HttpStatus.NO_CONTENT)
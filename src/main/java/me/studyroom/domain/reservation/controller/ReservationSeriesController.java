@@ -0,0 +1,64 @@
+package me.studyroom.domain.reservation.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import me.studyroom.domain.reservation.dto.ReservationSeriesResponse;
+import me.studyroom.domain.reservation.series.ReservationSeriesService;
+import me.studyroom.domain.reservation.service.ReservationFacade;
+import me.studyroom.global.dto.request.ReservationSeriesRequest;
+import me.studyroom.security.CustomUserDetails;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/reservation-series")
+@RequiredArgsConstructor
+public class ReservationSeriesController {
+	private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+	private final ReservationSeriesService reservationSeriesService;
+	private final ReservationFacade reservationFacade;
+
+	// 매일/매주 반복 예약, 겹치는 회차가 있으면 SCHEDULE_CONFLICT (skipConflicts 면 그 날짜만 빼고 생성)
+	@PostMapping
+	@ResponseStatus(HttpStatus.CREATED)
+	public ReservationSeriesResponse.Series create(@Valid @RequestBody ReservationSeriesRequest.Create createRequest,
+																								 @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+																								 @AuthenticationPrincipal CustomUserDetails user) {
+		return reservationFacade.createSeries(createRequest, idempotencyKey, user.getId());
+	}
+
+	@GetMapping
+	public List<ReservationSeriesResponse.Series> getMine(@AuthenticationPrincipal CustomUserDetails user) {
+		return reservationSeriesService.getMine(user.getId());
+	}
+
+	// [from, to] 날짜의 회차만 계산해서 돌려줌
+	@GetMapping("/{seriesId}/occurrences")
+	public List<ReservationSeriesResponse.Occurrence> getOccurrences(@PathVariable Long seriesId,
+																																		 @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+																																		 @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+																																		 @AuthenticationPrincipal CustomUserDetails user) {
+		return reservationSeriesService.getOccurrences(seriesId, user.getId(), from, to);
+	}
+
+	@DeleteMapping("/{seriesId}/occurrences/{date}")
+	@ResponseStatus(HttpStatus.NO_CONTENT)
+	public void excludeOccurrence(@PathVariable Long seriesId,
+																@PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+																@AuthenticationPrincipal CustomUserDetails user) {
+		reservationSeriesService.excludeOccurrence(seriesId, date, user.getId());
+	}
+
+	@DeleteMapping("/{seriesId}")
+	@ResponseStatus(HttpStatus.NO_CONTENT)
+	public void cancel(@PathVariable Long seriesId,
+										 @AuthenticationPrincipal CustomUserDetails user) {
+		reservationSeriesService.cancel(seriesId, user.getId());
+	}
+}
@@ -0,0 +1,14 @@
+package me.studyroom.domain.reservation.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+	CSV("text/csv", "csv"),
+	NDJSON("application/x-ndjson", "ndjson");
+
+	private final String contentType;
+	private final String extension;
+}
@@ -0,0 +1,18 @@
+package me.studyroom.domain.reservation.dto;
+
+import me.studyroom.domain.reservation.ReservationStatus;
+
+import java.time.LocalDateTime;
+
+// 대량 추출용 프로젝션
+// 엔티티가 아니라서 영속성 컨텍스트에 쌓이지 않음 (dirty checking, 1차 캐시 대상 아님)
+public record ReservationExportRow(
+	Long reservationId,
+	Long studyRoomId,
+	Long userId,
+	ReservationStatus status,
+	LocalDateTime startAt,
+	LocalDateTime endAt,
+	LocalDateTime createdAt
+) {
+}
@@ -1,5 +1,7 @@
 package me.studyroom.domain.reservation.dto;
 
+import me.studyroom.domain.reservation.ReservationStatus;
+
 import java.time.LocalDateTime;
 
 public sealed interface ReservationResponse
@@ -30,4 +32,15 @@ public sealed interface ReservationResponse
 		LocalDateTime endAt
 	) implements ReservationResponse {
 	}
+
+	// 지난 예약 조회용, archived = true면 reservation_history에서 온 행
+	record History(
+		Long reservationId,
+		String reservationRoomName,
+		LocalDateTime startAt,
+		LocalDateTime endAt,
+		ReservationStatus status,
+		boolean archived
+	) implements ReservationResponse {
+	}
 }
@@ -0,0 +1,37 @@
+package me.studyroom.domain.reservation.dto;
+
+import me.studyroom.domain.reservation.series.SeriesFrequency;
+import me.studyroom.domain.reservation.series.SeriesStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public sealed interface ReservationSeriesResponse
+	permits ReservationSeriesResponse.Series,
+	ReservationSeriesResponse.Occurrence {
+
+	// occurrenceCount 는 제외 날짜까지 센 전체 회차 수
+	record Series(
+		Long id,
+		Long studyRoomId,
+		String studyRoomName,
+		SeriesFrequency frequency,
+		int interval,
+		LocalDateTime firstStartAt,
+		LocalDateTime firstEndAt,
+		int occurrenceCount,
+		LocalDate until,
+		LocalDateTime lastEndAt,
+		SeriesStatus status,
+		List<LocalDate> excludedDates
+	) implements ReservationSeriesResponse {
+	}
+
+	record Occurrence(
+		LocalDate date,
+		LocalDateTime startAt,
+		LocalDateTime endAt
+	) implements ReservationSeriesResponse {
+	}
+}
@@ -0,0 +1,101 @@
+package me.studyroom.domain.reservation.hold;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 방별 홀드(결제 대기 예약이 잡아둔 시간대) 메모리 인덱스
+// 예약 요청이 방 게이트/락에 들어가기 전에 "누가 결제 중인 시간대인가"를 바로 확인해서 거절하는 용도
+// 만료는 시각 비교로 판단 (expiresAt 이 지나면 지우지 않아도 이미 없는 것으로 봄), 지우는 건 메모리 정리일 뿐
+// 방 하나의 홀드는 결제 창(10분) 안에 만들어진 것뿐이라 몇 개 안 됨 -> 정렬 없이 전부 훑음
+// 최종 판단은 항상 락을 잡은 트랜잭션에서 DB로 다시 함 (ReservationRepository.existsBlockingReservation)
+@Component
+public class SlotHoldIndex {
+
+	private volatile Map<Long, Map<Long, Hold>> rooms = new ConcurrentHashMap<>();
+
+	public void add(Hold hold) {
+		// compute 안에서 넣어야 동시에 비워져서 지워지는 방 맵에 넣고 잃어버리지 않음
+		rooms.compute(hold.studyRoomId(), (id, holds) -> {
+			Map<Long, Hold> target = holds != null ? holds : new ConcurrentHashMap<>();
+			target.put(hold.reservationId(), hold);
+			return target;
+		});
+	}
+
+	public void release(long studyRoomId, long reservationId) {
+		rooms.computeIfPresent(studyRoomId, (id, holds) -> {
+			holds.remove(reservationId);
+			return holds.isEmpty() ? null : holds;
+		});
+	}
+
+	// 본인 홀드는 빼고 봄 (같은 요청 재시도는 Idempotency-Key 가 처리, 본인 중복 예약은 DB 검증에서 걸림)
+	public boolean isHeld(long studyRoomId, LocalDateTime startAt, LocalDateTime endAt, long userId, LocalDateTime now) {
+		Map<Long, Hold> holds = rooms.get(studyRoomId);
+		if (holds == null) {
+			return false;
+		}
+		for (Hold hold : holds.values()) {
+			if (hold.userId() != userId
+				&& hold.expiresAt().isAfter(now)
+				&& hold.startAt().isBefore(endAt)
+				&& hold.endAt().isAfter(startAt)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	// 예약 충돌 시 빈 시간 계산용 : 그 방의 살아 있는 다른 사람 홀드
+	public List<Hold> activeHolds(long studyRoomId, long userId, LocalDateTime now) {
+		Map<Long, Hold> holds = rooms.get(studyRoomId);
+		if (holds == null) {
+			return List.of();
+		}
+		List<Hold> active = new ArrayList<>();
+		for (Hold hold : holds.values()) {
+			if (hold.userId() != userId && hold.expiresAt().isAfter(now)) {
+				active.add(hold);
+			}
+		}
+		return active;
+	}
+
+	public void removeExpired(LocalDateTime now) {
+		for (Long studyRoomId : rooms.keySet()) {
+			rooms.computeIfPresent(studyRoomId, (id, holds) -> {
+				holds.values().removeIf(hold -> !hold.expiresAt().isAfter(now));
+				return holds.isEmpty() ? null : holds;
+			});
+		}
+	}
+
+	// DB 기준으로 통째로 교체
+	public void reload(Collection<Hold> holds) {
+		Map<Long, Map<Long, Hold>> loaded = new ConcurrentHashMap<>();
+		for (Hold hold : holds) {
+			loaded.computeIfAbsent(hold.studyRoomId(), id -> new ConcurrentHashMap<>()).put(hold.reservationId(), hold);
+		}
+		this.rooms = loaded;
+	}
+
+	public int size() {
+		return rooms.values().stream().mapToInt(Map::size).sum();
+	}
+
+	public record Hold(
+		long reservationId,
+		long studyRoomId,
+		long userId,
+		LocalDateTime startAt,
+		LocalDateTime endAt,
+		LocalDateTime expiresAt
+	) {
+	}
+}
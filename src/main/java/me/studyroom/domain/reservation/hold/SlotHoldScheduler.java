@@ -0,0 +1,34 @@
+package me.studyroom.domain.reservation.hold;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SlotHoldScheduler {
+
+	private final SlotHoldService slotHoldService;
+
+	// 시작할 때 적재는 StartupWarmup, 다른 인스턴스에서 생긴/풀린 홀드는 주기적으로 반영
+	// 그 사이에 어긋난 홀드는 빠른 거절만 틀릴 수 있음 (최종 판단은 DB라 잘못 예약되는 일은 없음)
+	@Scheduled(initialDelayString = "${studyroom.hold.reload-delay-millis:30000}",
+		fixedDelayString = "${studyroom.hold.reload-delay-millis:30000}")
+	public void reloadIndex() {
+		// 실패해도 비어 있으면 빠른 거절만 못 하고 DB에서 거절
+		try {
+			int size = slotHoldService.reloadIndex();
+			log.debug("Slot hold index reloaded: {}", size);
+		} catch (RuntimeException e) {
+			log.warn("Slot hold index reload failed", e);
+		}
+	}
+
+	// 만료된 홀드는 이미 무시되고 있고 메모리만 정리
+	@Scheduled(fixedDelayString = "${studyroom.hold.purge-delay-millis:10000}")
+	public void removeExpired() {
+		slotHoldService.removeExpired();
+	}
+}
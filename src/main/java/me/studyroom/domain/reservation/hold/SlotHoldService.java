@@ -0,0 +1,92 @@
+package me.studyroom.domain.reservation.hold;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import me.studyroom.domain.reservation.Reservation;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.dto.ReservationExportRow;
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.ReservationException;
+import me.studyroom.global.transaction.AfterCommit;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 결제 대기(WAIT_PAYMENT) 예약은 결제 창(Reservation.PAYMENT_WINDOW) 동안 시간대를 잡아둠
+// 예전에는 확정 예약만 겹침 검사를 해서 같은 시간대에 결제 대기가 여러 개 생기고
+// 결제까지 한 뒤에 하나 빼고 전부 confirmPayment 에서 SCHEDULE_CONFLICT (락 시간, 결제 호출 낭비)
+// 메모리 인덱스 : 방 게이트 전에 빠르게 거절 / DB : 락 잡은 트랜잭션에서 최종 판단 (existsBlockingReservation)
+// 인덱스 반영은 커밋 후, 다른 인스턴스에서 생긴/풀린 홀드는 SlotHoldScheduler 가 주기적으로 다시 적재해서 맞춤
+// 게이트 전에 부르는 ensureNotHeld 가 커넥션을 잡지 않도록 클래스 단위 트랜잭션은 안 씀
+// hold/release 는 부르는 쪽(예약, 대기) 트랜잭션 안에서 실행
+@Service
+@RequiredArgsConstructor
+public class SlotHoldService {
+
+	private final ReservationRepository reservationRepository;
+	private final SlotHoldIndex slotHoldIndex;
+	private final Clock clock;
+
+	// ReservationFacade.reserve 에서 방 게이트 전에 호출 (트랜잭션 없음, DB 조회 없음)
+	public void ensureNotHeld(Long studyRoomId, LocalDateTime startAt, LocalDateTime endAt, Long userId) {
+		if (slotHoldIndex.isHeld(studyRoomId, startAt, endAt, userId, LocalDateTime.now(clock))) {
+			throw new ReservationException(ExceptionCode.SCHEDULE_CONFLICT);
+		}
+	}
+
+	// 방 검색에서 후보를 거를 때 (DB 조회 없음)
+	public boolean isHeld(Long studyRoomId, LocalDateTime startAt, LocalDateTime endAt, Long userId) {
+		return slotHoldIndex.isHeld(studyRoomId, startAt, endAt, userId, LocalDateTime.now(clock));
+	}
+
+	// 빈 시간 제안용 (DB 조회 없음)
+	public List<SlotHoldIndex.Hold> activeHolds(Long studyRoomId, Long userId) {
+		return slotHoldIndex.activeHolds(studyRoomId, userId, LocalDateTime.now(clock));
+	}
+
+	// 이 시각보다 나중에 만들어진 결제 대기만 홀드로 유효
+	public LocalDateTime holdCutoff() {
+		return LocalDateTime.now(clock).minus(Reservation.PAYMENT_WINDOW);
+	}
+
+	// 결제 대기 예약 생성 (예약, 대기 전환)
+	public void hold(Reservation reservation) {
+		SlotHoldIndex.Hold hold = new SlotHoldIndex.Hold(
+			reservation.getId(),
+			reservation.getStudyRoom().getId(),
+			reservation.getUser().getId(),
+			reservation.getStartAt(),
+			reservation.getEndAt(),
+			reservation.paymentDeadline()
+		);
+		AfterCommit.run(() -> slotHoldIndex.add(hold));
+	}
+
+	// 결제 확정, 취소 (만료는 시각으로 자동)
+	public void release(Reservation reservation) {
+		long studyRoomId = reservation.getStudyRoom().getId();
+		long reservationId = reservation.getId();
+		AfterCommit.run(() -> slotHoldIndex.release(studyRoomId, reservationId));
+	}
+
+	public void removeExpired() {
+		slotHoldIndex.removeExpired(LocalDateTime.now(clock));
+	}
+
+	@Transactional
+	public int reloadIndex() {
+		List<ReservationExportRow> rows = reservationRepository.findActiveHoldRows(holdCutoff());
+		slotHoldIndex.reload(rows.stream()
+			.map(row -> new SlotHoldIndex.Hold(
+				row.reservationId(),
+				row.studyRoomId(),
+				row.userId(),
+				row.startAt(),
+				row.endAt(),
+				row.createdAt().plus(Reservation.PAYMENT_WINDOW)))
+			.toList());
+		return slotHoldIndex.size();
+	}
+}
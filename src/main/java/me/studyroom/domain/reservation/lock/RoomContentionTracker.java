@@ -0,0 +1,183 @@
+package me.studyroom.domain.reservation.lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 방별 락 방식 선택
+// 대부분의 방은 시간당 한두 번 예약이 들어와서 FOR UPDATE가 그냥 비용 -> 기본은 낙관적 락
+// 구간(window) 안에서 낙관적 락 충돌 비율이 기준을 넘으면 비관적 락으로 바꾸고,
+// 비관적 상태로 cooldown이 지난 뒤 한 구간 동안 시도가 min-samples 미만이면 다시 낙관적으로 돌림
+// 인스턴스마다 따로 판단함 (섞여도 둘 다 version을 올리니 정합성 문제는 없음)
+@Slf4j
+@Component
+public class RoomContentionTracker {
+
+	private static final int HISTORY_SIZE = 20;
+
+	private final Map<Long, Contention> rooms = new ConcurrentHashMap<>();
+	private final Clock clock;
+	private final long windowMillis;
+	private final int minSamples;
+	private final double conflictRate;
+	private final long cooldownMillis;
+	private final int maxRooms;
+
+	public RoomContentionTracker(Clock clock,
+															 @Value("${studyroom.room-lock.window-millis:10000}") long windowMillis,
+															 @Value("${studyroom.room-lock.min-samples:10}") int minSamples,
+															 @Value("${studyroom.room-lock.conflict-rate:0.2}") double conflictRate,
+															 @Value("${studyroom.room-lock.cooldown-millis:60000}") long cooldownMillis,
+															 @Value("${studyroom.room-lock.max-rooms:10000}") int maxRooms) {
+		this.clock = clock;
+		this.windowMillis = windowMillis;
+		this.minSamples = minSamples;
+		this.conflictRate = conflictRate;
+		this.cooldownMillis = cooldownMillis;
+		this.maxRooms = maxRooms;
+	}
+
+	// 기록이 없는 방은 낙관적
+	public RoomLockMode modeOf(Long studyRoomId) {
+		Contention contention = rooms.get(studyRoomId);
+		return contention == null ? RoomLockMode.OPTIMISTIC : contention.mode;
+	}
+
+	public void recordSuccess(Long studyRoomId) {
+		record(studyRoomId, false);
+	}
+
+	public void recordConflict(Long studyRoomId) {
+		record(studyRoomId, true);
+	}
+
+	private void record(Long studyRoomId, boolean conflict) {
+		Contention contention = rooms.get(studyRoomId);
+		if (contention == null) {
+			// 조용한 방까지 전부 들고 있을 필요는 없음, 가득 찼으면 충돌이 난 방만 새로 추적
+			if (!conflict && rooms.size() >= maxRooms) {
+				return;
+			}
+			contention = rooms.computeIfAbsent(studyRoomId, id -> new Contention(clock.instant().toEpochMilli()));
+		}
+		Instant now = clock.instant();
+		contention.record(studyRoomId, conflict, now.toEpochMilli(), () -> LocalDateTime.ofInstant(now, clock.getZone()));
+	}
+
+	// 모드 우선(비관적 먼저), 그다음 충돌 많은 순
+	public List<RoomLockStats> stats() {
+		return rooms.entrySet().stream()
+			.map(e -> e.getValue().snapshot(e.getKey()))
+			.sorted(Comparator.comparing((RoomLockStats s) -> s.mode() == RoomLockMode.OPTIMISTIC)
+				.thenComparing(RoomLockStats::windowConflicts, Comparator.reverseOrder()))
+			.toList();
+	}
+
+	// 요청이 끊긴 방도 구간을 넘겨서 식히고, 낙관적 상태로 오래 조용한 방은 정리
+	@Scheduled(fixedDelayString = "${studyroom.room-lock.evict-delay-millis:60000}")
+	public void evictIdle() {
+		Instant now = clock.instant();
+		long nowMillis = now.toEpochMilli();
+		rooms.forEach((studyRoomId, contention) -> {
+			contention.roll(studyRoomId, nowMillis, () -> LocalDateTime.ofInstant(now, clock.getZone()));
+			if (contention.isIdle(nowMillis)) {
+				rooms.remove(studyRoomId, contention);
+			}
+		});
+	}
+
+	private final class Contention {
+		private volatile RoomLockMode mode = RoomLockMode.OPTIMISTIC;
+		private LocalDateTime modeSince;
+		private long modeSinceMillis;
+		private long windowStartMillis;
+		private long lastSeenMillis;
+		private int attempts;
+		private int conflicts;
+		private final Deque<RoomLockStats.ModeSwitch> history = new ArrayDeque<>();
+
+		private Contention(long nowMillis) {
+			this.windowStartMillis = nowMillis;
+			this.modeSinceMillis = nowMillis;
+			this.lastSeenMillis = nowMillis;
+		}
+
+		private synchronized void record(Long studyRoomId, boolean conflict, long nowMillis, TimeSource at) {
+			roll(studyRoomId, nowMillis, at);
+			lastSeenMillis = nowMillis;
+			attempts++;
+			if (conflict) {
+				conflicts++;
+			}
+			// 충돌은 구간이 끝나길 기다리지 않고 바로 판단 (몰릴 때 빨리 바꿔야 재시도가 줄어듦)
+			if (mode == RoomLockMode.OPTIMISTIC && attempts >= minSamples && conflicts >= attempts * conflictRate) {
+				switchTo(studyRoomId, RoomLockMode.PESSIMISTIC, attempts, conflicts, nowMillis, at);
+			}
+		}
+
+		private synchronized void roll(Long studyRoomId, long nowMillis, TimeSource at) {
+			long elapsed = nowMillis - windowStartMillis;
+			if (elapsed < windowMillis) {
+				return;
+			}
+			// 구간이 두 번 이상 지났으면 바로 전 구간은 시도가 0건이었던 것
+			boolean skipped = elapsed >= windowMillis * 2;
+			int lastAttempts = skipped ? 0 : attempts;
+			int lastConflicts = skipped ? 0 : conflicts;
+			if (mode == RoomLockMode.PESSIMISTIC
+				&& nowMillis - modeSinceMillis >= cooldownMillis
+				&& lastAttempts < minSamples) {
+				switchTo(studyRoomId, RoomLockMode.OPTIMISTIC, lastAttempts, lastConflicts, nowMillis, at);
+			}
+			windowStartMillis = nowMillis;
+			attempts = 0;
+			conflicts = 0;
+		}
+
+		private void switchTo(Long studyRoomId,
+													RoomLockMode to,
+													int windowAttempts,
+													int windowConflicts,
+													long nowMillis,
+													TimeSource at) {
+			LocalDateTime switchedAt = at.now();
+			history.addLast(new RoomLockStats.ModeSwitch(switchedAt, mode, to, windowAttempts, windowConflicts));
+			if (history.size() > HISTORY_SIZE) {
+				history.removeFirst();
+			}
+			log.info("Room lock mode switched: studyRoomId={}, {} -> {}, attempts={}, conflicts={}",
+				studyRoomId, mode, to, windowAttempts, windowConflicts);
+			mode = to;
+			modeSince = switchedAt;
+			modeSinceMillis = nowMillis;
+		}
+
+		// 전환 기록이 있는 방은 조회용으로 남겨둠 (기록이 없고 오래 조용한 낙관적 방만 정리)
+		private synchronized boolean isIdle(long nowMillis) {
+			return mode == RoomLockMode.OPTIMISTIC
+				&& history.isEmpty()
+				&& nowMillis - lastSeenMillis >= cooldownMillis;
+		}
+
+		private synchronized RoomLockStats snapshot(Long studyRoomId) {
+			return new RoomLockStats(studyRoomId, mode, modeSince, attempts, conflicts, List.copyOf(history));
+		}
+	}
+
+	// 전환이 일어날 때만 LocalDateTime을 만들기 위한 용도
+	@FunctionalInterface
+	private interface TimeSource {
+		LocalDateTime now();
+	}
+}
@@ -0,0 +1,6 @@
+package me.studyroom.domain.reservation.lock;
+
+public enum RoomLockMode {
+	OPTIMISTIC, // 락 없이 읽고 커밋 때 version 검사 (대부분의 방)
+	PESSIMISTIC // SELECT ... FOR UPDATE 로 줄 세움 (경합이 심한 방)
+}
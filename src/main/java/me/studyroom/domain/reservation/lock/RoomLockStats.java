@@ -0,0 +1,24 @@
+package me.studyroom.domain.reservation.lock;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// windowAttempts / windowConflicts : 지금 집계 중인 구간의 시도 수 / 낙관적 락 충돌 수
+public record RoomLockStats(
+	Long studyRoomId,
+	RoomLockMode mode,
+	LocalDateTime modeSince,
+	int windowAttempts,
+	int windowConflicts,
+	List<ModeSwitch> history
+) {
+	// attempts / conflicts : 전환을 결정한 구간의 값
+	public record ModeSwitch(
+		LocalDateTime at,
+		RoomLockMode from,
+		RoomLockMode to,
+		int attempts,
+		int conflicts
+	) {
+	}
+}
@@ -3,33 +3,31 @@ package me.studyroom.domain.reservation.policy;
 import lombok.RequiredArgsConstructor;
 import me.studyroom.domain.reservation.Reservation;
 import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.studyRoom.calendar.RoomCalendarService;
 import me.studyroom.domain.user.User;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 
 @RequiredArgsConstructor
 @Component
 public class OperatingTimePolicy implements ReservationPolicy {
 
+	private final RoomCalendarService roomCalendarService;
+
 	@Override
 	public PolicyPhase phase() {
 		return PolicyPhase.RESERVE;
 	}
 
+	// 요일별 운영 시간, 휴관까지 반영된 운영 달력에 물어봄 (미리 컴파일된 달력이라 날짜 계산 없음)
+	// 예전 studyRoom.validateOperatingTime()은 기본 운영 시간만 봤음
 	@Override
 	public void validate(LocalDateTime start,
 											 LocalDateTime end,
 											 StudyRoom studyRoom,
 											 User user,
 											 Reservation reservation) {
-		LocalTime startTime = start.toLocalTime();
-		LocalTime endTime = end.toLocalTime();
-
-		// 이 부분은 studyRoom에 묻는 것 같음
-		// studyRoom.validateOperatingTime() 이런식으로 판단해라! 로 좀 더 객체지향적으로 만들어도 좋을 것 같음
-//
-		studyRoom.validateOperatingTime(startTime, endTime);
+		roomCalendarService.validateOpen(studyRoom, start, end);
 	}
 }
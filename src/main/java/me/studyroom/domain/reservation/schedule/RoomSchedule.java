@@ -0,0 +1,173 @@
+package me.studyroom.domain.reservation.schedule;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+// 방 하나의 확정(CONFIRMED) 예약 구간 (불변, 바뀌면 새 객체)
+// 시간은 LocalDateTime 을 UTC 로 본 epoch second (시간대 변환 없이 값만 옮김)
+// 시작 순으로 정렬, 같은 방의 확정 예약은 겹치지 않으므로(방 락) 종료 순서도 같음
+public final class RoomSchedule {
+
+	public static final RoomSchedule EMPTY = new RoomSchedule(new long[0], new long[0], new long[0]);
+
+	private final long[] reservationIds;
+	private final long[] starts;
+	private final long[] ends;
+
+	private RoomSchedule(long[] reservationIds, long[] starts, long[] ends) {
+		this.reservationIds = reservationIds;
+		this.starts = starts;
+		this.ends = ends;
+	}
+
+	// 스냅샷 파일에서 읽을 때 (이미 정렬된 상태로 저장됨)
+	static RoomSchedule ofSorted(long[] reservationIds, long[] starts, long[] ends) {
+		return reservationIds.length == 0 ? EMPTY : new RoomSchedule(reservationIds, starts, ends);
+	}
+
+	// DB에서 전체 적재할 때 (순서 상관없이 모은 뒤 한 번 정렬)
+	public static final class Builder {
+		private long[] reservationIds = new long[4];
+		private long[] starts = new long[4];
+		private long[] ends = new long[4];
+		private int size;
+
+		public Builder add(long reservationId, long start, long end) {
+			if (size == reservationIds.length) {
+				reservationIds = Arrays.copyOf(reservationIds, size * 2);
+				starts = Arrays.copyOf(starts, size * 2);
+				ends = Arrays.copyOf(ends, size * 2);
+			}
+			reservationIds[size] = reservationId;
+			starts[size] = start;
+			ends[size] = end;
+			size++;
+			return this;
+		}
+
+		public RoomSchedule build() {
+			Integer[] order = new Integer[size];
+			for (int i = 0; i < size; i++) {
+				order[i] = i;
+			}
+			Arrays.sort(order, (a, b) -> Long.compare(starts[a], starts[b]));
+			long[] sortedIds = new long[size];
+			long[] sortedStarts = new long[size];
+			long[] sortedEnds = new long[size];
+			for (int i = 0; i < size; i++) {
+				sortedIds[i] = reservationIds[order[i]];
+				sortedStarts[i] = starts[order[i]];
+				sortedEnds[i] = ends[order[i]];
+			}
+			return ofSorted(sortedIds, sortedStarts, sortedEnds);
+		}
+	}
+
+	public static long toEpochSecond(LocalDateTime time) {
+		return time.toEpochSecond(ZoneOffset.UTC);
+	}
+
+	public static LocalDateTime toDateTime(long epochSecond) {
+		return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+	}
+
+	// 같은 예약이 이미 있으면 교체 (이벤트가 다시 전달돼도 멱등)
+	public RoomSchedule with(long reservationId, long start, long end) {
+		RoomSchedule base = without(reservationId);
+		int at = base.lowerBound(start);
+		int size = base.size();
+		long[] ids = new long[size + 1];
+		long[] newStarts = new long[size + 1];
+		long[] newEnds = new long[size + 1];
+		copyAround(base.reservationIds, ids, at, reservationId);
+		copyAround(base.starts, newStarts, at, start);
+		copyAround(base.ends, newEnds, at, end);
+		return new RoomSchedule(ids, newStarts, newEnds);
+	}
+
+	public RoomSchedule without(long reservationId) {
+		int index = indexOf(reservationId);
+		if (index < 0) {
+			return this;
+		}
+		if (size() == 1) {
+			return EMPTY;
+		}
+		return new RoomSchedule(remove(reservationIds, index), remove(starts, index), remove(ends, index));
+	}
+
+	// 이미 끝난 구간은 검색에 쓸 일이 없으니 스냅샷 전에 버림
+	public RoomSchedule withoutEndedBefore(long epochSecond) {
+		int from = 0;
+		while (from < size() && ends[from] <= epochSecond) {
+			from++;
+		}
+		if (from == 0) {
+			return this;
+		}
+		return ofSorted(
+			Arrays.copyOfRange(reservationIds, from, size()),
+			Arrays.copyOfRange(starts, from, size()),
+			Arrays.copyOfRange(ends, from, size()));
+	}
+
+	// [start, end) 와 겹치는 구간이 있는지 : end 보다 먼저 시작한 마지막 구간만 보면 됨
+	public boolean overlaps(long start, long end) {
+		int before = lowerBound(end) - 1;
+		return before >= 0 && ends[before] > start;
+	}
+
+	// start 이상에서 시작하는 첫 구간 위치
+	public int lowerBound(long start) {
+		int low = 0;
+		int high = size();
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (starts[mid] < start) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	public int size() {
+		return reservationIds.length;
+	}
+
+	public long reservationIdAt(int index) {
+		return reservationIds[index];
+	}
+
+	public long startAt(int index) {
+		return starts[index];
+	}
+
+	public long endAt(int index) {
+		return ends[index];
+	}
+
+	private int indexOf(long reservationId) {
+		for (int i = 0; i < reservationIds.length; i++) {
+			if (reservationIds[i] == reservationId) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static void copyAround(long[] source, long[] target, int at, long value) {
+		System.arraycopy(source, 0, target, 0, at);
+		target[at] = value;
+		System.arraycopy(source, at, target, at + 1, source.length - at);
+	}
+
+	private static long[] remove(long[] source, int index) {
+		long[] result = new long[source.length - 1];
+		System.arraycopy(source, 0, result, 0, index);
+		System.arraycopy(source, index + 1, result, index, source.length - index - 1);
+		return result;
+	}
+}
@@ -0,0 +1,71 @@
+package me.studyroom.domain.reservation.schedule;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 방별 확정 예약 구간 (메모리)
+// 읽기는 락 없이 방 하나의 불변 RoomSchedule 을 꺼내 씀
+// 쓰기(이벤트 반영, 전체 교체, 스냅샷 복사)는 한 번에 하나씩 -> 스냅샷은 appliedEventId 와 정확히 맞는 상태
+// 최종 판단은 항상 락을 잡은 트랜잭션에서 DB로 함, 이 인덱스는 검색/추천 같은 읽기 전용 용도
+@Component
+public class RoomScheduleIndex {
+
+	// 전체 교체는 새 맵을 만들어 바꿔 끼움 (읽는 쪽이 빈 중간 상태를 보지 않게)
+	private volatile Map<Long, RoomSchedule> schedules = new ConcurrentHashMap<>();
+
+	// 여기까지의 outbox 이벤트가 반영됨
+	private volatile long appliedEventId;
+
+	public record Snapshot(long eventId, Map<Long, RoomSchedule> schedules) {
+	}
+
+	public RoomSchedule get(Long studyRoomId) {
+		return schedules.getOrDefault(studyRoomId, RoomSchedule.EMPTY);
+	}
+
+	public long appliedEventId() {
+		return appliedEventId;
+	}
+
+	public synchronized void apply(List<ScheduleChange> changes, long lastEventId) {
+		for (ScheduleChange change : changes) {
+			schedules.compute(change.studyRoomId(), (roomId, current) -> {
+				RoomSchedule base = current == null ? RoomSchedule.EMPTY : current;
+				RoomSchedule next = change.op() == ScheduleChange.Op.ADD
+					? base.with(change.reservationId(), change.start(), change.end())
+					: base.without(change.reservationId());
+				return next.size() == 0 ? null : next;
+			});
+		}
+		appliedEventId = Math.max(appliedEventId, lastEventId);
+	}
+
+	public synchronized void reload(Map<Long, RoomSchedule> loaded, long eventId) {
+		Map<Long, RoomSchedule> next = new ConcurrentHashMap<>(loaded.size() * 2);
+		loaded.forEach((roomId, schedule) -> {
+			if (schedule.size() > 0) {
+				next.put(roomId, schedule);
+			}
+		});
+		schedules = next;
+		appliedEventId = eventId;
+	}
+
+	// 끝난 구간은 인덱스에서도 버린 뒤 복사 (RoomSchedule 은 불변이라 맵만 복사)
+	public synchronized Snapshot snapshot(long endedBeforeEpochSecond) {
+		schedules.replaceAll((roomId, schedule) -> schedule.withoutEndedBefore(endedBeforeEpochSecond));
+		schedules.values().removeIf(schedule -> schedule.size() == 0);
+		return new Snapshot(appliedEventId, Map.copyOf(schedules));
+	}
+
+	public int roomCount() {
+		return schedules.size();
+	}
+
+	public long intervalCount() {
+		return schedules.values().stream().mapToLong(RoomSchedule::size).sum();
+	}
+}
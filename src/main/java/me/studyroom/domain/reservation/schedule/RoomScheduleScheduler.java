@@ -0,0 +1,36 @@
+package me.studyroom.domain.reservation.schedule;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomScheduleScheduler {
+
+	private final RoomScheduleService roomScheduleService;
+
+	// 시작 적재(스냅샷 + 저널)는 StartupWarmup, 실패했으면 sync 주기마다 다시 시도
+	@Scheduled(initialDelayString = "${studyroom.schedule.sync-delay-millis:1000}",
+		fixedDelayString = "${studyroom.schedule.sync-delay-millis:1000}")
+	public void sync() {
+		int applied = roomScheduleService.sync();
+		if (applied > 0) {
+			log.debug("Room schedule events applied: {}", applied);
+		}
+	}
+
+	@Scheduled(initialDelayString = "${studyroom.schedule.snapshot-delay-millis:300000}",
+		fixedDelayString = "${studyroom.schedule.snapshot-delay-millis:300000}")
+	public void snapshot() {
+		roomScheduleService.snapshot();
+	}
+
+	@Scheduled(cron = "${studyroom.schedule.rebuild-cron:0 45 4 * * *}")
+	public void rebuild() {
+		roomScheduleService.rebuild();
+		log.info("Room schedule index rebuilt from database");
+	}
+}
@@ -0,0 +1,260 @@
+package me.studyroom.domain.reservation.schedule;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import me.studyroom.domain.outbox.OutboxEvent;
+import me.studyroom.domain.outbox.OutboxEventRepository;
+import me.studyroom.domain.outbox.service.OutboxGaps;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.dto.ReservationExportRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+// 확정 구간 인덱스(RoomScheduleIndex) 적재와 동기화
+//   시작 : 스냅샷 + 저널 꼬리 -> 그 뒤 outbox 이벤트만 DB에서 (id 워터마크)
+//          스냅샷이 없거나, 너무 오래됐거나(이벤트가 이미 지워졌을 수 있음), 다른 DB 것이면 reservation 에서 전체 적재
+//   동기화 : outbox_event 를 id 순서로 읽어 반영하고 저널에 덧붙임
+//            디스패처 커서와 따로 감 (디스패처는 인스턴스끼리 이벤트를 나눠 가지지만 인덱스는 인스턴스마다 전부 필요)
+//            워터마크 아래에서 늦게 커밋된 이벤트는 디스패처처럼 OutboxGaps 로 다시 찾음
+//   스냅샷 : 주기적으로 파일에 쓰고 저널을 비움
+// 세 작업 모두 synchronized 라 저널에는 항상 현재 스냅샷 이후의 변경만 있음
+@Slf4j
+@Service
+public class RoomScheduleService {
+
+	private final ReservationRepository reservationRepository;
+	private final OutboxEventRepository outboxEventRepository;
+	private final RoomScheduleIndex roomScheduleIndex;
+	private final TransactionTemplate readOnlyTransaction;
+	private final Clock clock;
+	private final ScheduleStore store;
+	private final int batchSize;
+	private final long settleMillis;
+	private final Duration maxSnapshotAge;
+	private final OutboxGaps gaps;
+
+	// 시작 적재 전에는 동기화/스냅샷을 하지 않음 (빈 인덱스를 스냅샷으로 덮어쓰지 않게)
+	private volatile boolean started;
+
+	public RoomScheduleService(ReservationRepository reservationRepository,
+														 OutboxEventRepository outboxEventRepository,
+														 RoomScheduleIndex roomScheduleIndex,
+														 PlatformTransactionManager transactionManager,
+														 Clock clock,
+														 @Value("${studyroom.schedule.dir:./data/schedule}") String directory,
+														 @Value("${studyroom.schedule.batch-size:1000}") int batchSize,
+														 @Value("${studyroom.outbox.settle-millis:1000}") long settleMillis,
+														 @Value("${studyroom.outbox.retention-hours:24}") long retentionHours,
+														 @Value("${studyroom.outbox.gap-window-millis:60000}") long gapWindowMillis,
+														 @Value("${studyroom.outbox.max-gaps:1000}") int maxGaps) {
+		this.reservationRepository = reservationRepository;
+		this.outboxEventRepository = outboxEventRepository;
+		this.roomScheduleIndex = roomScheduleIndex;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.clock = clock;
+		this.store = new ScheduleStore(Path.of(directory));
+		this.batchSize = batchSize;
+		this.settleMillis = settleMillis;
+		// 보관 기간이 지난 outbox 이벤트는 지워지므로 그보다 오래된 스냅샷은 뒤를 이어 붙일 수 없음 (여유를 두고 절반)
+		this.maxSnapshotAge = Duration.ofHours(retentionHours).dividedBy(2);
+		this.gaps = new OutboxGaps(gapWindowMillis, maxGaps);
+	}
+
+	public synchronized void warmStart() {
+		if (started) {
+			return;
+		}
+		long startedAt = System.nanoTime();
+		boolean restored = restore();
+		if (!restored) {
+			reloadFromDatabase();
+		}
+		started = true;
+		int applied = sync();
+		log.info("Room schedule index ready ({}): rooms={}, intervals={}, replayed={}, {}ms",
+			restored ? "snapshot" : "database",
+			roomScheduleIndex.roomCount(),
+			roomScheduleIndex.intervalCount(),
+			applied,
+			Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+	}
+
+	// outbox 에서 반영 안 한 이벤트를 읽어 인덱스 + 저널에 반영, 반영한 이벤트 수 반환
+	// IDENTITY id 는 커밋 순서와 다를 수 있으니 settle-millis 지난 이벤트만 읽음 (OutboxDispatcher 와 같은 이유)
+	// 그래도 늦게 커밋된 건 지나온 빈 id 를 OutboxGaps 에 기록해 두고 gap-window-millis 동안 다시 조회
+	// 시작 적재가 실패했으면 여기서 다시 시도
+	public synchronized int sync() {
+		if (!started) {
+			warmStart();
+			return 0;
+		}
+		int applied = applyGaps();
+		while (true) {
+			LocalDateTime settledBefore = LocalDateTime.now(clock).minus(Duration.ofMillis(settleMillis));
+			long previousId = roomScheduleIndex.appliedEventId();
+			List<OutboxEvent> batch = outboxEventRepository.findByIdGreaterThanAndCreatedAtLessThanEqualOrderByIdAsc(
+				previousId, settledBefore, Limit.of(batchSize));
+			if (batch.isEmpty()) {
+				return applied;
+			}
+
+			long nowMillis = clock.instant().toEpochMilli();
+			List<ScheduleChange> changes = new ArrayList<>();
+			for (OutboxEvent event : batch) {
+				changes.addAll(ScheduleChange.of(event));
+				gaps.record(previousId, event.getId(), nowMillis);
+				previousId = event.getId();
+			}
+			roomScheduleIndex.apply(changes, previousId);
+			appendJournal(changes);
+			applied += batch.size();
+
+			if (batch.size() < batchSize) {
+				return applied;
+			}
+		}
+	}
+
+	// 워터마크 아래에서 그 사이 커밋된 이벤트를 반영 (반영은 멱등이라 순서가 늦어도 같은 결과)
+	// 저널 재생은 스냅샷 워터마크 이후 id 만 읽어서 작은 id 는 저널로 살릴 수 없음 -> 반영했으면 바로 스냅샷
+	// 늦게 커밋되는 경우는 드물어서 스냅샷을 자주 쓰게 되지는 않음
+	private int applyGaps() {
+		List<Long> pending = gaps.pending(clock.instant().toEpochMilli());
+		if (pending.isEmpty()) {
+			return 0;
+		}
+		List<OutboxEvent> late = outboxEventRepository.findByIdInOrderByIdAsc(pending);
+		if (late.isEmpty()) {
+			return 0;
+		}
+		List<ScheduleChange> changes = new ArrayList<>();
+		for (OutboxEvent event : late) {
+			log.info("Room schedule 늦게 커밋된 이벤트 반영 : eventId={}", event.getId());
+			changes.addAll(ScheduleChange.of(event));
+			gaps.remove(event.getId());
+		}
+		roomScheduleIndex.apply(changes, roomScheduleIndex.appliedEventId());
+		snapshot();
+		return late.size();
+	}
+
+	public synchronized void snapshot() {
+		if (!started) {
+			return;
+		}
+		LocalDateTime now = LocalDateTime.now(clock);
+		RoomScheduleIndex.Snapshot snapshot = roomScheduleIndex.snapshot(RoomSchedule.toEpochSecond(now));
+		try {
+			store.writeSnapshot(new ScheduleStore.Snapshot(
+				snapshot.eventId(), clock.instant().toEpochMilli(), snapshot.schedules()));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	// gap-window-millis 보다 늦게 커밋됐거나 재시작으로 빈 id 기록을 잃은 경우를 위해 하루 한 번은 DB 기준으로 다시 맞춤
+	public synchronized void rebuild() {
+		if (!started) {
+			return;
+		}
+		reloadFromDatabase();
+		sync();
+		snapshot();
+	}
+
+	// 정상 종료 때 스냅샷을 남겨두면 다음 시작은 저널 없이 바로 뜸
+	@PreDestroy
+	public synchronized void shutdown() {
+		try {
+			snapshot();
+			store.close();
+		} catch (IOException | RuntimeException e) {
+			log.warn("Room schedule snapshot on shutdown failed", e);
+		}
+	}
+
+	private boolean restore() {
+		try {
+			Optional<ScheduleStore.Snapshot> stored = store.readSnapshot();
+			if (stored.isEmpty()) {
+				return false;
+			}
+			ScheduleStore.Snapshot snapshot = stored.get();
+			Duration age = Duration.ofMillis(clock.instant().toEpochMilli() - snapshot.writtenAtMillis());
+			if (age.compareTo(maxSnapshotAge) > 0) {
+				log.info("Room schedule snapshot is too old ({}), reloading from database", age);
+				return false;
+			}
+			// 워터마크나 예약 id가 DB의 마지막 값보다 앞서 있으면 다른(초기화된) DB의 스냅샷
+			if (snapshot.eventId() > outboxEventRepository.findMaxId()
+				|| maxReservationId(snapshot) > reservationRepository.findMaxId()) {
+				log.info("Room schedule snapshot is ahead of the database, reloading from database");
+				return false;
+			}
+
+			List<ScheduleChange> journal = new ArrayList<>();
+			long lastEventId = store.replayJournal(snapshot.eventId(), journal::add);
+			roomScheduleIndex.reload(snapshot.schedules(), snapshot.eventId());
+			roomScheduleIndex.apply(journal, lastEventId);
+			return true;
+		} catch (IOException | RuntimeException e) {
+			log.warn("Room schedule snapshot could not be restored, reloading from database", e);
+			return false;
+		}
+	}
+
+	// 워터마크를 먼저 읽고 예약을 읽음 -> 그 사이 생긴 변경은 sync 에서 다시 반영 (반영은 멱등)
+	private void reloadFromDatabase() {
+		long watermark = outboxEventRepository.findMaxId();
+		LocalDateTime now = LocalDateTime.now(clock);
+		Map<Long, RoomSchedule> loaded = readOnlyTransaction.execute(status -> {
+			Map<Long, RoomSchedule.Builder> builders = new HashMap<>();
+			try (Stream<ReservationExportRow> rows = reservationRepository.streamConfirmedEndingAfter(now)) {
+				rows.forEach(row -> builders.computeIfAbsent(row.studyRoomId(), id -> new RoomSchedule.Builder())
+					.add(row.reservationId(),
+						RoomSchedule.toEpochSecond(row.startAt()),
+						RoomSchedule.toEpochSecond(row.endAt())));
+			}
+			Map<Long, RoomSchedule> schedules = new HashMap<>(builders.size() * 2);
+			builders.forEach((roomId, builder) -> schedules.put(roomId, builder.build()));
+			return schedules;
+		});
+		roomScheduleIndex.reload(loaded, watermark);
+	}
+
+	private static long maxReservationId(ScheduleStore.Snapshot snapshot) {
+		long max = 0;
+		for (RoomSchedule schedule : snapshot.schedules().values()) {
+			for (int i = 0; i < schedule.size(); i++) {
+				max = Math.max(max, schedule.reservationIdAt(i));
+			}
+		}
+		return max;
+	}
+
+	// 저널 쓰기가 실패해도 인덱스는 맞음, 다음 재시작 때 DB에서 다시 가져오면 됨
+	private void appendJournal(List<ScheduleChange> changes) {
+		try {
+			store.append(changes);
+		} catch (IOException e) {
+			log.warn("Room schedule journal append failed", e);
+		}
+	}
+}
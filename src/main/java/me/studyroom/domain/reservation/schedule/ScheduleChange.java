@@ -0,0 +1,61 @@
+package me.studyroom.domain.reservation.schedule;
+
+import me.studyroom.domain.outbox.OutboxEvent;
+import me.studyroom.domain.reservation.ReservationStatus;
+
+import java.util.List;
+
+// 확정 구간 인덱스에 반영할 변경 한 건 (저널 레코드 한 줄과 같음)
+// eventId : 이 변경을 만든 outbox_event.id (재시작 후 DB와 맞출 때 기준)
+public record ScheduleChange(
+	long eventId,
+	Op op,
+	long studyRoomId,
+	long reservationId,
+	long start,
+	long end
+) {
+
+	public enum Op {
+		ADD, REMOVE
+	}
+
+	// 확정 구간에 영향이 없는 이벤트(RESERVED, 결제 대기의 취소/만료)는 빈 리스트
+	public static List<ScheduleChange> of(OutboxEvent event) {
+		long eventId = event.getId();
+		long reservationId = event.getReservationId();
+		return switch (event.getEventType()) {
+			case CONFIRMED -> List.of(add(eventId, event));
+			case UPDATED -> updated(eventId, event);
+			case CANCELED, EXPIRED -> event.getPreviousStatus() == ReservationStatus.CONFIRMED
+				? List.of(new ScheduleChange(eventId, Op.REMOVE, event.getStudyRoomId(), reservationId, 0, 0))
+				: List.of();
+			case RESERVED -> List.of();
+		};
+	}
+
+	// 방이 바뀌었으면 이전 방에서 빼고 새 방에 넣음 (같은 방이면 add 가 교체)
+	private static List<ScheduleChange> updated(long eventId, OutboxEvent event) {
+		if (event.getStatus() != ReservationStatus.CONFIRMED) {
+			return List.of();
+		}
+		Long previousStudyRoomId = event.getPreviousStudyRoomId();
+		if (previousStudyRoomId == null || previousStudyRoomId.equals(event.getStudyRoomId())) {
+			return List.of(add(eventId, event));
+		}
+		return List.of(
+			new ScheduleChange(eventId, Op.REMOVE, previousStudyRoomId, event.getReservationId(), 0, 0),
+			add(eventId, event));
+	}
+
+	private static ScheduleChange add(long eventId, OutboxEvent event) {
+		return new ScheduleChange(
+			eventId,
+			Op.ADD,
+			event.getStudyRoomId(),
+			event.getReservationId(),
+			RoomSchedule.toEpochSecond(event.getStartAt()),
+			RoomSchedule.toEpochSecond(event.getEndAt())
+		);
+	}
+}
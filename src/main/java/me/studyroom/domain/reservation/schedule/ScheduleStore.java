@@ -0,0 +1,212 @@
+package me.studyroom.domain.reservation.schedule;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+// 확정 구간 인덱스의 파일 저장 (스냅샷 + 저널)
+// 재시작할 때 reservation 테이블 전체를 다시 읽지 않고 스냅샷 + 저널 꼬리만 읽은 뒤, 그 이후 outbox 이벤트만 DB에서 가져옴
+//
+// 스냅샷 (schedule.snapshot, 리틀 엔디언, 메모리 매핑으로 쓰고 읽음)
+//   header : magic, version, eventId, writtenAtMillis, roomCount, intervalCount, crc32(본문)
+//   본문   : 방마다 studyRoomId(8) count(4) + 구간마다 reservationId(8) start(8) end(8)
+// 저널 (schedule.journal) : 스냅샷 이후 반영한 변경을 고정 길이 레코드로 덧붙임
+//   eventId(8) op(1) studyRoomId(8) reservationId(8) start(8) end(8)
+//   쓰기마다 fsync 하지 않음 -> 잃어버린 꼬리는 DB(outbox)에서 다시 가져오면 되니까
+//   마지막 레코드가 잘렸으면(쓰는 중 종료) 잘린 부분만 버림
+// 스레드 안전하지 않음, 호출하는 쪽(RoomScheduleService)이 하나씩 부름
+public class ScheduleStore {
+
+	static final int MAGIC = 0x53535253; // "SRSS"
+	static final int VERSION = 1;
+	static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 4 + 4 + 4;
+	static final int ROOM_BYTES = 8 + 4;
+	static final int INTERVAL_BYTES = 8 + 8 + 8;
+	static final int JOURNAL_RECORD_BYTES = 8 + 1 + 8 + 8 + 8 + 8;
+
+	public record Snapshot(long eventId, long writtenAtMillis, Map<Long, RoomSchedule> schedules) {
+	}
+
+	private final Path snapshotPath;
+	private final Path journalPath;
+	private FileChannel journal;
+
+	public ScheduleStore(Path directory) {
+		this.snapshotPath = directory.resolve("schedule.snapshot");
+		this.journalPath = directory.resolve("schedule.journal");
+	}
+
+	// 없거나 깨진 스냅샷은 빈 값 (DB에서 전체 적재)
+	public Optional<Snapshot> readSnapshot() throws IOException {
+		if (!Files.exists(snapshotPath)) {
+			return Optional.empty();
+		}
+		try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+			if (channel.size() < HEADER_BYTES) {
+				return Optional.empty();
+			}
+			MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			ByteBuffer buffer = mapped.order(ByteOrder.LITTLE_ENDIAN);
+			if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+				return Optional.empty();
+			}
+			long eventId = buffer.getLong();
+			long writtenAtMillis = buffer.getLong();
+			int roomCount = buffer.getInt();
+			int intervalCount = buffer.getInt();
+			int crc = buffer.getInt();
+
+			long expectedBytes = HEADER_BYTES + (long) roomCount * ROOM_BYTES + (long) intervalCount * INTERVAL_BYTES;
+			if (channel.size() != expectedBytes || checksum(buffer.duplicate().position(HEADER_BYTES)) != crc) {
+				return Optional.empty();
+			}
+
+			Map<Long, RoomSchedule> schedules = new HashMap<>(roomCount * 2);
+			for (int r = 0; r < roomCount; r++) {
+				long studyRoomId = buffer.getLong();
+				int count = buffer.getInt();
+				long[] ids = new long[count];
+				long[] starts = new long[count];
+				long[] ends = new long[count];
+				for (int i = 0; i < count; i++) {
+					ids[i] = buffer.getLong();
+					starts[i] = buffer.getLong();
+					ends[i] = buffer.getLong();
+				}
+				schedules.put(studyRoomId, RoomSchedule.ofSorted(ids, starts, ends));
+			}
+			return Optional.of(new Snapshot(eventId, writtenAtMillis, schedules));
+		}
+	}
+
+	// 임시 파일에 매핑해서 쓰고 원자적으로 교체, 그 다음 저널 비움
+	// 교체와 비우기 사이에 죽어도 저널의 레코드는 eventId 로 걸러지니 문제 없음
+	public void writeSnapshot(Snapshot snapshot) throws IOException {
+		Files.createDirectories(snapshotPath.getParent());
+		int intervalCount = 0;
+		for (RoomSchedule schedule : snapshot.schedules().values()) {
+			intervalCount += schedule.size();
+		}
+		long bytes = HEADER_BYTES
+			+ (long) snapshot.schedules().size() * ROOM_BYTES
+			+ (long) intervalCount * INTERVAL_BYTES;
+
+		Path temp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+		try (FileChannel channel = FileChannel.open(temp,
+			StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+			StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+			ByteBuffer buffer = mapped.order(ByteOrder.LITTLE_ENDIAN);
+			buffer.position(HEADER_BYTES);
+			snapshot.schedules().forEach((studyRoomId, schedule) -> {
+				buffer.putLong(studyRoomId).putInt(schedule.size());
+				for (int i = 0; i < schedule.size(); i++) {
+					buffer.putLong(schedule.reservationIdAt(i))
+						.putLong(schedule.startAt(i))
+						.putLong(schedule.endAt(i));
+				}
+			});
+			int crc = checksum(buffer.duplicate().position(HEADER_BYTES));
+			buffer.position(0);
+			buffer.putInt(MAGIC)
+				.putInt(VERSION)
+				.putLong(snapshot.eventId())
+				.putLong(snapshot.writtenAtMillis())
+				.putInt(snapshot.schedules().size())
+				.putInt(intervalCount)
+				.putInt(crc);
+			mapped.force();
+		}
+		Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+		closeJournal();
+		Files.deleteIfExists(journalPath);
+	}
+
+	// 스냅샷보다 뒤(eventId 초과)의 레코드만 순서대로 넘김, 마지막으로 읽은 eventId 반환
+	public long replayJournal(long afterEventId, Consumer<ScheduleChange> consumer) throws IOException {
+		if (!Files.exists(journalPath)) {
+			return afterEventId;
+		}
+		long lastEventId = afterEventId;
+		try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			long complete = channel.size() - channel.size() % JOURNAL_RECORD_BYTES;
+			if (complete < channel.size()) {
+				channel.truncate(complete);
+			}
+			if (complete == 0) {
+				return afterEventId;
+			}
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, complete).order(ByteOrder.LITTLE_ENDIAN);
+			while (buffer.hasRemaining()) {
+				long eventId = buffer.getLong();
+				ScheduleChange.Op op = buffer.get() == 0 ? ScheduleChange.Op.ADD : ScheduleChange.Op.REMOVE;
+				ScheduleChange change = new ScheduleChange(
+					eventId, op, buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+				if (eventId > afterEventId) {
+					consumer.accept(change);
+					lastEventId = Math.max(lastEventId, eventId);
+				}
+			}
+		}
+		return lastEventId;
+	}
+
+	public void append(List<ScheduleChange> changes) throws IOException {
+		if (changes.isEmpty()) {
+			return;
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(changes.size() * JOURNAL_RECORD_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		for (ScheduleChange change : changes) {
+			buffer.putLong(change.eventId())
+				.put((byte) (change.op() == ScheduleChange.Op.ADD ? 0 : 1))
+				.putLong(change.studyRoomId())
+				.putLong(change.reservationId())
+				.putLong(change.start())
+				.putLong(change.end());
+		}
+		buffer.flip();
+		FileChannel channel = openJournal();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	public void close() throws IOException {
+		closeJournal();
+	}
+
+	private FileChannel openJournal() throws IOException {
+		if (journal == null) {
+			Files.createDirectories(journalPath.getParent());
+			journal = FileChannel.open(journalPath,
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		}
+		return journal;
+	}
+
+	private void closeJournal() throws IOException {
+		if (journal != null) {
+			journal.close();
+			journal = null;
+		}
+	}
+
+	private static int checksum(ByteBuffer body) {
+		CRC32 crc = new CRC32();
+		crc.update(body);
+		return (int) crc.getValue();
+	}
+}
@@ -0,0 +1,125 @@
+package me.studyroom.domain.reservation.series;
+
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.ReservationException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// 반복 규칙 (RRULE 의 FREQ=DAILY|WEEKLY, INTERVAL, COUNT | UNTIL 만)
+// n번째 회차 시작 = firstStart + n * stepDays 일, 길이는 모두 같음
+// 회차를 미리 만들어 두지 않고 필요한 구간 [from, to) 의 회차만 계산 (구간 첫 회차 번호는 나눗셈으로 바로 구함)
+public record Recurrence(
+	SeriesFrequency frequency,
+	int interval,
+	LocalDateTime firstStart,
+	int durationMinutes,
+	int occurrences
+) {
+
+	private static final long MINUTES_PER_DAY = 24 * 60;
+
+	public record Occurrence(LocalDate date, LocalDateTime startAt, LocalDateTime endAt) {
+	}
+
+	// 첫 회차 [firstStart, firstEnd) + 횟수(count) 또는 마지막 날짜(until, 포함) 중 하나
+	// 회차는 하루 안에서 끝나고 분 단위 (운영 달력이 분 단위)
+	public static Recurrence of(SeriesFrequency frequency,
+															int interval,
+															LocalDateTime firstStart,
+															LocalDateTime firstEnd,
+															Integer count,
+															LocalDate until) {
+		if (!firstStart.isBefore(firstEnd)
+			|| !firstStart.toLocalDate().equals(firstEnd.toLocalDate())
+			|| !firstStart.equals(firstStart.truncatedTo(ChronoUnit.MINUTES))
+			|| !firstEnd.equals(firstEnd.truncatedTo(ChronoUnit.MINUTES))) {
+			throw new ReservationException(ExceptionCode.INVALID_TIME_RANGE);
+		}
+		if (frequency == null || interval < 1 || (count == null) == (until == null)) {
+			throw new ReservationException(ExceptionCode.INVALID_RECURRENCE);
+		}
+
+		int stepDays = frequency.getDays() * interval;
+		long occurrences = count != null
+			? count
+			: ChronoUnit.DAYS.between(firstStart.toLocalDate(), until) / stepDays + 1;
+		if (occurrences < 1 || until != null && until.isBefore(firstStart.toLocalDate())) {
+			throw new ReservationException(ExceptionCode.INVALID_RECURRENCE);
+		}
+		if (occurrences > Integer.MAX_VALUE) {
+			throw new ReservationException(ExceptionCode.TOO_MANY_OCCURRENCES);
+		}
+		int durationMinutes = (int) ChronoUnit.MINUTES.between(firstStart, firstEnd);
+		return new Recurrence(frequency, interval, firstStart, durationMinutes, (int) occurrences);
+	}
+
+	public int stepDays() {
+		return frequency.getDays() * interval;
+	}
+
+	public LocalDateTime startOf(int n) {
+		return firstStart.plusDays((long) n * stepDays());
+	}
+
+	public LocalDateTime lastEnd() {
+		return startOf(occurrences - 1).plusMinutes(durationMinutes);
+	}
+
+	// 그 날짜가 몇 번째 회차인지, 회차가 아니면 -1
+	public int indexOf(LocalDate date) {
+		long days = ChronoUnit.DAYS.between(firstStart.toLocalDate(), date);
+		if (days < 0 || days % stepDays() != 0 || days / stepDays() >= occurrences) {
+			return -1;
+		}
+		return (int) (days / stepDays());
+	}
+
+	public Occurrence occurrence(int n) {
+		LocalDateTime start = startOf(n);
+		return new Occurrence(start.toLocalDate(), start, start.plusMinutes(durationMinutes));
+	}
+
+	// [from, to) 와 겹치는 회차를 시작 순서로, excluded 날짜는 뺌
+	// 구간 앞의 회차는 건너뛰고 계산만 함 -> 시리즈 전체 길이와 상관없이 구간 안 회차 수만큼만 돔
+	public List<Occurrence> between(LocalDateTime from, LocalDateTime to, Set<LocalDate> excluded) {
+		long offsetMinutes = ChronoUnit.MINUTES.between(firstStart, from) - durationMinutes;
+		int n = offsetMinutes <= 0
+			? 0
+			: (int) Math.min(occurrences, offsetMinutes / (stepDays() * MINUTES_PER_DAY));
+
+		List<Occurrence> result = new ArrayList<>();
+		for (; n < occurrences; n++) {
+			Occurrence occurrence = occurrence(n);
+			if (!occurrence.startAt().isBefore(to)) {
+				break;
+			}
+			if (occurrence.endAt().isAfter(from) && !excluded.contains(occurrence.date())) {
+				result.add(occurrence);
+			}
+		}
+		return result;
+	}
+
+	// 후보 회차(시작 순서)와 이미 잡힌 구간(시작 순서)을 한 번씩만 훑어서 겹치는 후보 날짜를 찾음
+	// 회차마다 DB를 조회하지 않고, 기간 전체의 예약을 한 번 읽은 뒤 여기서 비교
+	// busy 의 j번째 구간이 지금 후보 시작 전에 끝났으면 뒤 후보(더 늦게 시작)와도 안 겹치니 버림
+	// 남은 첫 구간이 후보 종료 전에 시작하면 겹침 (그 뒤 구간은 시작이 더 늦으니 볼 필요 없음)
+	public static List<LocalDate> conflicts(List<Occurrence> candidates, List<Occurrence> busy) {
+		List<LocalDate> conflicts = new ArrayList<>();
+		int j = 0;
+		for (Occurrence candidate : candidates) {
+			while (j < busy.size() && !busy.get(j).endAt().isAfter(candidate.startAt())) {
+				j++;
+			}
+			if (j < busy.size() && busy.get(j).startAt().isBefore(candidate.endAt())) {
+				conflicts.add(candidate.date());
+			}
+		}
+		return conflicts;
+	}
+}
@@ -0,0 +1,105 @@
+package me.studyroom.domain.reservation.series;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.ReservationException;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 반복 예약 (매주 화요일 19~21시, 학기 동안 등)
+// 회차를 reservation 행으로 만들지 않음 -> 조회/충돌 검사 때 필요한 구간만 Recurrence 로 계산
+// 결제 사가를 거치지 않고 만들 때부터 확정 예약처럼 자리를 막음 (결제 행이 예약당 하나라서)
+// 상태 변경(생성/취소/회차 제외)은 모두 방 락을 잡은 트랜잭션에서만 일어남
+@Entity
+@Table(
+	name = "reservation_series",
+	indexes = {
+		@Index(name = "idx_reservation_series_room_status_end", columnList = "study_room_id, status, last_end_at"),
+		@Index(name = "idx_reservation_series_user_status", columnList = "user_id, status")
+	}
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReservationSeries {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	@Column(name = "study_room_id", nullable = false)
+	private Long studyRoomId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 10)
+	private SeriesFrequency frequency;
+
+	@Column(name = "repeat_interval", nullable = false)
+	private int repeatInterval;
+
+	@Column(name = "first_start_at", nullable = false)
+	private LocalDateTime firstStartAt;
+
+	@Column(name = "duration_minutes", nullable = false)
+	private int durationMinutes;
+
+	@Column(name = "occurrence_count", nullable = false)
+	private int occurrenceCount;
+
+	// until 로 만든 경우만 (응답용), 계산은 occurrenceCount 로
+	@Column(name = "until_date")
+	private LocalDate untilDate;
+
+	@Column(name = "last_end_at", nullable = false)
+	private LocalDateTime lastEndAt;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private SeriesStatus status;
+
+	@Column(nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	private LocalDateTime canceledAt;
+
+	public ReservationSeries(Long userId, Long studyRoomId, Recurrence recurrence, LocalDate untilDate, Clock clock) {
+		this.userId = userId;
+		this.studyRoomId = studyRoomId;
+		this.frequency = recurrence.frequency();
+		this.repeatInterval = recurrence.interval();
+		this.firstStartAt = recurrence.firstStart();
+		this.durationMinutes = recurrence.durationMinutes();
+		this.occurrenceCount = recurrence.occurrences();
+		this.untilDate = untilDate;
+		this.lastEndAt = recurrence.lastEnd();
+		this.status = SeriesStatus.ACTIVE;
+		this.createdAt = LocalDateTime.now(clock);
+	}
+
+	public Recurrence recurrence() {
+		return new Recurrence(frequency, repeatInterval, firstStartAt, durationMinutes, occurrenceCount);
+	}
+
+	public boolean isActive() {
+		return status == SeriesStatus.ACTIVE;
+	}
+
+	// 지난 회차는 그대로 두고 남은 회차만 풀림 (취소 시각 이후 회차는 자리를 막지 않음)
+	public void cancel(Clock clock) {
+		ensureActive();
+		this.status = SeriesStatus.CANCELED;
+		this.canceledAt = LocalDateTime.now(clock);
+	}
+
+	public void ensureActive() {
+		if (status != SeriesStatus.ACTIVE) {
+			throw new ReservationException(ExceptionCode.ALREADY_CANCELED);
+		}
+	}
+}
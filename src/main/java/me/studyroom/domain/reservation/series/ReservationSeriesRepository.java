@@ -0,0 +1,70 @@
+package me.studyroom.domain.reservation.series;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ReservationSeriesRepository extends JpaRepository<ReservationSeries, Long> {
+
+	// 방 하나에서 기간이 [startAt, endAt) 와 겹치는 진행 중 시리즈 (회차는 꺼낸 뒤 계산)
+	// idx_reservation_series_room_status_end : 끝난 시리즈는 last_end_at 범위에서 빠지니 오래 쌓여도 안 읽음
+	@Query("""
+		SELECT s
+		FROM ReservationSeries s
+		WHERE s.studyRoomId = :studyRoomId
+		AND s.status = me.studyroom.domain.reservation.series.SeriesStatus.ACTIVE
+		AND s.lastEndAt > :startAt
+		AND s.firstStartAt < :endAt
+		""")
+	List<ReservationSeries> findActiveOverlapping(
+		@Param("studyRoomId") Long studyRoomId,
+		@Param("startAt") LocalDateTime startAt,
+		@Param("endAt") LocalDateTime endAt
+	);
+
+	// 방 검색 : 후보 방들 중 기간이 겹치는 진행 중 시리즈를 한 번에 (같은 인덱스를 방마다 범위로 읽음)
+	@Query("""
+		SELECT s
+		FROM ReservationSeries s
+		WHERE s.studyRoomId IN :studyRoomIds
+		AND s.status = me.studyroom.domain.reservation.series.SeriesStatus.ACTIVE
+		AND s.lastEndAt > :startAt
+		AND s.firstStartAt < :endAt
+		""")
+	List<ReservationSeries> findActiveOverlappingInRooms(
+		@Param("studyRoomIds") Collection<Long> studyRoomIds,
+		@Param("startAt") LocalDateTime startAt,
+		@Param("endAt") LocalDateTime endAt
+	);
+
+	List<ReservationSeries> findByUserIdOrderByIdDesc(Long userId);
+
+	Optional<ReservationSeries> findByIdAndUserId(Long id, Long userId);
+
+	// 사용자당 진행 중 시리즈 수 제한 (마지막 회차가 끝난 시리즈는 세지 않음)
+	long countByUserIdAndStatusAndLastEndAtAfter(Long userId, SeriesStatus status, LocalDateTime now);
+
+	boolean existsByStudyRoomId(Long studyRoomId);
+
+	// 스터디룸 일괄 비활성화 시 같이 취소
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("""
+		UPDATE ReservationSeries s
+		SET s.status = me.studyroom.domain.reservation.series.SeriesStatus.CANCELED,
+		s.canceledAt = :now
+		WHERE s.status = me.studyroom.domain.reservation.series.SeriesStatus.ACTIVE
+		AND s.studyRoomId IN :studyRoomIds
+		""")
+	int cancelActiveByStudyRoomIds(@Param("studyRoomIds") List<Long> studyRoomIds, @Param("now") LocalDateTime now);
+
+	// 탈퇴 회원 정리 배치 (시리즈는 탈퇴할 때 이미 취소됨), 제외 날짜를 먼저 지워야 함
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("DELETE FROM ReservationSeries s WHERE s.userId = :userId")
+	int deleteByUserId(@Param("userId") Long userId);
+}
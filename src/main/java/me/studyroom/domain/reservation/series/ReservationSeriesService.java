@@ -0,0 +1,281 @@
+package me.studyroom.domain.reservation.series;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.dto.ReservationExportRow;
+import me.studyroom.domain.reservation.dto.ReservationSeriesResponse;
+import me.studyroom.domain.reservation.hold.SlotHoldService;
+import me.studyroom.domain.reservation.policy.PolicyPhase;
+import me.studyroom.domain.reservation.policy.ReservationPolicy;
+import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.user.User;
+import me.studyroom.domain.waitlist.service.WaitlistService;
+import me.studyroom.global.dto.request.ReservationSeriesRequest;
+import me.studyroom.global.exception.ApiException;
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.ReservationException;
+import me.studyroom.global.service.CommonService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+// 반복 예약 생성/조회/취소
+// 생성 : 회차를 전부 계산한 뒤 기간 전체의 예약 + 다른 시리즈 회차를 한 번씩 읽어 merge-sweep 으로 비교 (회차마다 조회하지 않음)
+// 조회 : 요청 구간의 회차만 계산 (행으로 만들어 둔 회차가 없음)
+// 다른 사용자의 예약/대기/수정은 SeriesOccupancy 로 회차와 겹치는지 확인 -> 회차도 확정 예약처럼 자리를 막음
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ReservationSeriesService {
+
+	private static final int MAX_QUERY_DAYS = 92;
+
+	private final ReservationSeriesRepository reservationSeriesRepository;
+	private final SeriesExclusionRepository seriesExclusionRepository;
+	private final SeriesOccupancy seriesOccupancy;
+	private final ReservationRepository reservationRepository;
+	private final SlotHoldService slotHoldService;
+	private final WaitlistService waitlistService;
+	private final CommonService commonService;
+	private final Clock clock;
+	private final List<ReservationPolicy> policies;
+
+	@Value("${studyroom.series.max-occurrences:200}")
+	private int maxOccurrences;
+
+	// 회차마다 자리를 막으니 한 사람이 시리즈를 계속 만들어 방을 선점하지 못하게
+	@Value("${studyroom.series.max-active-per-user:5}")
+	private int maxActivePerUser;
+
+	public ReservationSeriesResponse.Series create(ReservationSeriesRequest.Create request, Long userId) {
+		Recurrence recurrence = Recurrence.of(
+			request.frequency(),
+			request.interval() == null ? 1 : request.interval(),
+			request.startAt(),
+			request.endAt(),
+			request.count(),
+			request.until()
+		);
+		if (!recurrence.firstStart().isAfter(LocalDateTime.now(clock))) {
+			throw new ReservationException(ExceptionCode.INVALID_TIME_RANGE);
+		}
+		if (recurrence.occurrences() > maxOccurrences) {
+			throw new ReservationException(ExceptionCode.TOO_MANY_OCCURRENCES);
+		}
+
+		User user = commonService.getUserById(userId);
+		if (reservationSeriesRepository.countByUserIdAndStatusAndLastEndAtAfter(
+			userId, SeriesStatus.ACTIVE, LocalDateTime.now(clock)) >= maxActivePerUser) {
+			throw new ReservationException(ExceptionCode.SERIES_LIMIT_EXCEEDED);
+		}
+
+		// 예약과 같은 방 락 -> 검사하고 저장하는 사이에 다른 예약/시리즈가 끼어들지 않음
+		StudyRoom studyRoom = commonService.getStudyRoomForBooking(request.studyRoomId());
+		studyRoom.ensureAvailable();
+
+		Set<LocalDate> excluded = new TreeSet<>();
+		if (request.excludedDates() != null) {
+			request.excludedDates().stream()
+				.filter(date -> recurrence.indexOf(date) >= 0)
+				.forEach(excluded::add);
+		}
+
+		// 운영 시간 등 예약과 같은 정책을 회차마다 (운영 달력이 메모리에 있어 DB 조회 없음)
+		List<Recurrence.Occurrence> candidates = new ArrayList<>();
+		for (Recurrence.Occurrence occurrence : recurrence.between(recurrence.firstStart(), recurrence.lastEnd(), excluded)) {
+			try {
+				validatePolicies(occurrence, studyRoom, user);
+				candidates.add(occurrence);
+			} catch (ApiException e) {
+				if (!request.skipConflicts() || e.getExceptionCode() != ExceptionCode.OUT_OF_OPERATING_TIME) {
+					throw e;
+				}
+				excluded.add(occurrence.date());
+			}
+		}
+
+		if (candidates.isEmpty()) {
+			throw new ReservationException(ExceptionCode.INVALID_RECURRENCE);
+		}
+
+		List<LocalDate> conflicts = conflicts(studyRoom, candidates);
+		if (!conflicts.isEmpty()) {
+			if (!request.skipConflicts()) {
+				throw new ReservationException(ExceptionCode.SCHEDULE_CONFLICT);
+			}
+			excluded.addAll(conflicts);
+		}
+		if (candidates.size() == conflicts.size()) {
+			throw new ReservationException(ExceptionCode.SCHEDULE_CONFLICT);
+		}
+
+		ReservationSeries series = reservationSeriesRepository.save(
+			new ReservationSeries(userId, studyRoom.getId(), recurrence, request.until(), clock)
+		);
+		seriesExclusionRepository.saveAll(excluded.stream()
+			.map(date -> new SeriesExclusion(series.getId(), date))
+			.toList());
+
+		log.info("Reservation series created: id={}, studyRoomId={}, occurrences={}, excluded={}",
+			series.getId(), studyRoom.getId(), recurrence.occurrences(), excluded.size());
+		return toResponse(series, studyRoom.getName(), List.copyOf(excluded));
+	}
+
+	public List<ReservationSeriesResponse.Series> getMine(Long userId) {
+		List<ReservationSeries> series = reservationSeriesRepository.findByUserIdOrderByIdDesc(userId);
+		if (series.isEmpty()) {
+			return List.of();
+		}
+		Map<Long, String> roomNames = commonService.getStudyRoomNames(
+			series.stream().map(ReservationSeries::getStudyRoomId).collect(Collectors.toSet())
+		);
+		Map<Long, List<LocalDate>> excluded = seriesExclusionRepository
+			.findBySeriesIdIn(series.stream().map(ReservationSeries::getId).toList())
+			.stream()
+			.collect(Collectors.groupingBy(
+				SeriesExclusion::getSeriesId,
+				Collectors.mapping(SeriesExclusion::getOccurrenceDate, Collectors.toList())
+			));
+		return series.stream()
+			.map(s -> toResponse(s, roomNames.get(s.getStudyRoomId()),
+				excluded.getOrDefault(s.getId(), List.of()).stream().sorted().toList()))
+			.toList();
+	}
+
+	// [from, to] 날짜의 회차 (제외 날짜 빠짐)
+	public List<ReservationSeriesResponse.Occurrence> getOccurrences(Long seriesId, Long userId, LocalDate from, LocalDate to) {
+		if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_QUERY_DAYS) {
+			throw new ReservationException(ExceptionCode.INVALID_TIME_RANGE);
+		}
+		ReservationSeries series = getSeries(seriesId, userId);
+		Set<LocalDate> excluded = seriesExclusionRepository
+			.findBySeriesIdInAndOccurrenceDateBetween(List.of(seriesId), from, to)
+			.stream()
+			.map(SeriesExclusion::getOccurrenceDate)
+			.collect(Collectors.toSet());
+		return series.recurrence()
+			.between(from.atStartOfDay(), to.plusDays(1).atStartOfDay(), excluded)
+			.stream()
+			.map(o -> new ReservationSeriesResponse.Occurrence(o.date(), o.startAt(), o.endAt()))
+			.toList();
+	}
+
+	// 회차 하나만 취소, 그 시간대 대기자는 같은 트랜잭션에서 전환
+	public void excludeOccurrence(Long seriesId, LocalDate date, Long userId) {
+		ReservationSeries series = getSeries(seriesId, userId);
+		series.ensureActive();
+		int index = series.recurrence().indexOf(date);
+		if (index < 0) {
+			throw new ReservationException(ExceptionCode.NOT_FOUND_OCCURRENCE);
+		}
+		Recurrence.Occurrence occurrence = series.recurrence().occurrence(index);
+		if (!occurrence.startAt().isAfter(LocalDateTime.now(clock))) {
+			throw new ReservationException(ExceptionCode.INVALID_TIME_RANGE);
+		}
+
+		// 대기 전환과 같은 방 락
+		StudyRoom studyRoom = commonService.getStudyRoomForUpdate(series.getStudyRoomId());
+		if (seriesExclusionRepository.existsBySeriesIdAndOccurrenceDate(seriesId, date)) {
+			return;
+		}
+		seriesExclusionRepository.save(new SeriesExclusion(seriesId, date));
+		promoteWaiters(studyRoom, List.of(occurrence));
+	}
+
+	// 남은 회차 전부 취소
+	public void cancel(Long seriesId, Long userId) {
+		ReservationSeries series = getSeries(seriesId, userId);
+		StudyRoom studyRoom = commonService.getStudyRoomForUpdate(series.getStudyRoomId());
+		series.cancel(clock);
+
+		LocalDateTime now = LocalDateTime.now(clock);
+		if (!series.getLastEndAt().isAfter(now) || !waitlistService.hasAnyWaiters()) {
+			return;
+		}
+		Set<LocalDate> excluded = seriesExclusionRepository.findBySeriesIdIn(List.of(seriesId))
+			.stream()
+			.map(SeriesExclusion::getOccurrenceDate)
+			.collect(Collectors.toSet());
+		promoteWaiters(studyRoom, series.recurrence().between(now, series.getLastEndAt(), excluded));
+	}
+
+	// 회원 탈퇴 : 진행 중인 시리즈를 cancel 과 같이 하나씩 취소 (남은 회차 자리에 대기자 전환), 방 id 순서로
+	public int cancelForUser(Long userId) {
+		List<ReservationSeries> active = reservationSeriesRepository.findByUserIdOrderByIdDesc(userId)
+			.stream()
+			.filter(ReservationSeries::isActive)
+			.sorted(Comparator.comparing(ReservationSeries::getStudyRoomId))
+			.toList();
+		active.forEach(series -> cancel(series.getId(), userId));
+		return active.size();
+	}
+
+	// 스터디룸 일괄 비활성화 트랜잭션 안에서 호출 (방 락을 이미 잡은 상태)
+	public int cancelForRooms(List<Long> studyRoomIds) {
+		return reservationSeriesRepository.cancelActiveByStudyRoomIds(studyRoomIds, LocalDateTime.now(clock));
+	}
+
+	// 기존 예약(확정 + 유효한 홀드)과 다른 시리즈 회차를 시작 순서로 합친 뒤 후보와 한 번에 비교
+	private List<LocalDate> conflicts(StudyRoom studyRoom, List<Recurrence.Occurrence> candidates) {
+		LocalDateTime from = candidates.get(0).startAt();
+		LocalDateTime to = candidates.get(candidates.size() - 1).endAt();
+
+		List<Recurrence.Occurrence> busy = new ArrayList<>(seriesOccupancy.occurrences(studyRoom.getId(), from, to));
+		for (ReservationExportRow row : reservationRepository.findBlockingRows(studyRoom, from, to, slotHoldService.holdCutoff())) {
+			busy.add(new Recurrence.Occurrence(row.startAt().toLocalDate(), row.startAt(), row.endAt()));
+		}
+		busy.sort(Comparator.comparing(Recurrence.Occurrence::startAt));
+		return Recurrence.conflicts(candidates, busy);
+	}
+
+	// 대기자 여부는 메모리 인덱스로 먼저 보고 있는 회차만 전환 (promote 가 로그를 남김)
+	private void promoteWaiters(StudyRoom studyRoom, List<Recurrence.Occurrence> freed) {
+		for (Recurrence.Occurrence occurrence : freed) {
+			if (waitlistService.hasWaiters(studyRoom.getId(), occurrence.startAt(), occurrence.endAt())) {
+				waitlistService.promote(studyRoom, occurrence.startAt(), occurrence.endAt());
+			}
+		}
+	}
+
+	private void validatePolicies(Recurrence.Occurrence occurrence, StudyRoom studyRoom, User user) {
+		policies.stream()
+			.filter(p -> p.phase() == PolicyPhase.RESERVE)
+			.forEach(p -> p.validate(occurrence.startAt(), occurrence.endAt(), studyRoom, user, null));
+	}
+
+	private ReservationSeries getSeries(Long seriesId, Long userId) {
+		return reservationSeriesRepository.findByIdAndUserId(seriesId, userId)
+			.orElseThrow(() -> new ReservationException(ExceptionCode.NOT_FOUND_SERIES));
+	}
+
+	private ReservationSeriesResponse.Series toResponse(ReservationSeries series, String studyRoomName, List<LocalDate> excluded) {
+		return new ReservationSeriesResponse.Series(
+			series.getId(),
+			series.getStudyRoomId(),
+			studyRoomName,
+			series.getFrequency(),
+			series.getRepeatInterval(),
+			series.getFirstStartAt(),
+			series.getFirstStartAt().plusMinutes(series.getDurationMinutes()),
+			series.getOccurrenceCount(),
+			series.getUntilDate(),
+			series.getLastEndAt(),
+			series.getStatus(),
+			excluded
+		);
+	}
+}
@@ -0,0 +1,37 @@
+package me.studyroom.domain.reservation.series;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 반복 예약에서 빠지는 회차 날짜 (RRULE 의 EXDATE)
+// 만들 때 지정하거나(휴관, 겹침 건너뛰기), 나중에 회차 하나만 취소할 때 추가
+@Entity
+@Table(
+	name = "reservation_series_exclusion",
+	uniqueConstraints = @UniqueConstraint(
+		name = "uk_series_exclusion_series_date",
+		columnNames = {"series_id", "occurrence_date"}
+	)
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SeriesExclusion {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "series_id", nullable = false)
+	private Long seriesId;
+
+	@Column(name = "occurrence_date", nullable = false)
+	private LocalDate occurrenceDate;
+
+	public SeriesExclusion(Long seriesId, LocalDate occurrenceDate) {
+		this.seriesId = seriesId;
+		this.occurrenceDate = occurrenceDate;
+	}
+}
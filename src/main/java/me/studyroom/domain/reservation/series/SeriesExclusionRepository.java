@@ -0,0 +1,25 @@
+package me.studyroom.domain.reservation.series;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface SeriesExclusionRepository extends JpaRepository<SeriesExclusion, Long> {
+
+	// 회차 계산할 구간의 제외 날짜만, uk_series_exclusion_series_date
+	List<SeriesExclusion> findBySeriesIdInAndOccurrenceDateBetween(Collection<Long> seriesIds, LocalDate from, LocalDate to);
+
+	List<SeriesExclusion> findBySeriesIdIn(Collection<Long> seriesIds);
+
+	boolean existsBySeriesIdAndOccurrenceDate(Long seriesId, LocalDate occurrenceDate);
+
+	// 탈퇴 회원 정리 배치 : 그 회원 시리즈의 제외 날짜
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("DELETE FROM SeriesExclusion e WHERE e.seriesId IN :seriesIds")
+	int deleteBySeriesIds(@Param("seriesIds") Collection<Long> seriesIds);
+}
@@ -0,0 +1,14 @@
+package me.studyroom.domain.reservation.series;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// WEEKLY 는 첫 회차 요일로 반복
+@Getter
+@RequiredArgsConstructor
+public enum SeriesFrequency {
+	DAILY(1),
+	WEEKLY(7);
+
+	private final int days;
+}
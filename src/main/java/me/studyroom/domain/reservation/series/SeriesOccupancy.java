@@ -0,0 +1,83 @@
+package me.studyroom.domain.reservation.series;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 반복 예약 회차가 차지한 시간 (예약, 대기, 시리즈 생성의 충돌 검사용)
+// 회차는 행이 없으니 겹치는 시리즈만 인덱스로 찾고 요청 구간 안의 회차만 계산
+// 최종 판단이라 방 락을 잡은 트랜잭션 안에서 호출해야 함
+@Component
+@RequiredArgsConstructor
+public class SeriesOccupancy {
+
+	private final ReservationSeriesRepository reservationSeriesRepository;
+	private final SeriesExclusionRepository seriesExclusionRepository;
+
+	public boolean occupied(Long studyRoomId, LocalDateTime startAt, LocalDateTime endAt) {
+		return !occurrences(studyRoomId, startAt, endAt).isEmpty();
+	}
+
+	// 방 검색용 : 후보 방 중 [startAt, endAt) 에 회차가 있는 방 (쿼리 두 번, 방 수와 상관없음)
+	public Set<Long> occupiedRooms(Collection<Long> studyRoomIds, LocalDateTime startAt, LocalDateTime endAt) {
+		return occurrencesByRoom(studyRoomIds, startAt, endAt).keySet();
+	}
+
+	// 여러 방의 [from, to) 회차를 방별로 (회차가 있는 방만 들어감, 시작 순서는 보장 안 함)
+	public Map<Long, List<Recurrence.Occurrence>> occurrencesByRoom(Collection<Long> studyRoomIds,
+																																	 LocalDateTime from,
+																																	 LocalDateTime to) {
+		if (studyRoomIds.isEmpty()) {
+			return Map.of();
+		}
+		List<ReservationSeries> series = reservationSeriesRepository.findActiveOverlappingInRooms(studyRoomIds, from, to);
+		if (series.isEmpty()) {
+			return Map.of();
+		}
+		Map<Long, Set<LocalDate>> excluded = excludedDates(series, from, to);
+		Map<Long, List<Recurrence.Occurrence>> occurrences = new HashMap<>();
+		for (ReservationSeries s : series) {
+			List<Recurrence.Occurrence> between = s.recurrence().between(from, to, excluded.getOrDefault(s.getId(), Set.of()));
+			if (!between.isEmpty()) {
+				occurrences.computeIfAbsent(s.getStudyRoomId(), id -> new ArrayList<>()).addAll(between);
+			}
+		}
+		return occurrences;
+	}
+
+	// 방 하나의 [from, to) 와 겹치는 회차, 시작 순서
+	// 시리즈가 없는 방(대부분)은 쿼리 하나로 끝
+	public List<Recurrence.Occurrence> occurrences(Long studyRoomId, LocalDateTime from, LocalDateTime to) {
+		List<ReservationSeries> series = reservationSeriesRepository.findActiveOverlapping(studyRoomId, from, to);
+		if (series.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, Set<LocalDate>> excluded = excludedDates(series, from, to);
+		List<Recurrence.Occurrence> occurrences = new ArrayList<>();
+		for (ReservationSeries s : series) {
+			occurrences.addAll(s.recurrence().between(from, to, excluded.getOrDefault(s.getId(), Set.of())));
+		}
+		occurrences.sort(Comparator.comparing(Recurrence.Occurrence::startAt));
+		return occurrences;
+	}
+
+	// 회차가 전날 시작해서 from 에 걸치는 일은 없음 (회차는 하루 안에서 끝남)
+	private Map<Long, Set<LocalDate>> excludedDates(List<ReservationSeries> series, LocalDateTime from, LocalDateTime to) {
+		Map<Long, Set<LocalDate>> excluded = new HashMap<>();
+		seriesExclusionRepository.findBySeriesIdInAndOccurrenceDateBetween(
+				series.stream().map(ReservationSeries::getId).toList(), from.toLocalDate(), to.toLocalDate())
+			.forEach(e -> excluded.computeIfAbsent(e.getSeriesId(), id -> new HashSet<>()).add(e.getOccurrenceDate()));
+		return excluded;
+	}
+}
@@ -0,0 +1,6 @@
+package me.studyroom.domain.reservation.series;
+
+public enum SeriesStatus {
+	ACTIVE, // 남은 회차가 자리를 막고 있음
+	CANCELED // 사용자 취소 또는 방 비활성화, 남은 회차가 풀림
+}
@@ -0,0 +1,71 @@
+package me.studyroom.domain.reservation.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.studyroom.domain.reservation.ReservationHistoryRepository;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.ReservationStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+// 핫/콜드 분리
+// 보관 기간이 지난 예약을 reservation -> reservation_history로 배치 단위로 옮김
+// 배치마다 트랜잭션을 나눠서 락 범위와 undo 로그 크기를 일정하게 유지
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationArchiveScheduler {
+
+	private static final List<String> TERMINAL_STATUSES = List.of(
+		ReservationStatus.EXPIRED.name(),
+		ReservationStatus.CANCELED.name()
+	);
+
+	private final ReservationRepository reservationRepository;
+	private final ReservationHistoryRepository reservationHistoryRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Clock clock;
+
+	@Value("${studyroom.archive.retention-days:7}")
+	private long retentionDays;
+
+	@Value("${studyroom.archive.batch-size:1000}")
+	private int batchSize;
+
+	// 트래픽 적은 새벽에 실행
+	@Scheduled(cron = "${studyroom.archive.cron:0 0 4 * * *}")
+	public void archive() {
+		LocalDateTime cutoff = LocalDateTime.now(clock).minusDays(retentionDays);
+
+		int past = archiveAll(limit -> reservationRepository.findPastIdsForUpdate(cutoff, limit));
+		int terminal = archiveAll(limit -> reservationRepository.findTerminalIdsForUpdate(TERMINAL_STATUSES, cutoff, limit));
+
+		log.info("Archived reservations: past={}, terminal={}", past, terminal);
+	}
+
+	private int archiveAll(Function<Integer, List<Long>> idFinder) {
+		int total = 0;
+		int moved;
+		do {
+			moved = transactionTemplate.execute(status -> archiveBatch(idFinder.apply(batchSize)));
+			total += moved;
+		} while (moved == batchSize);
+		return total;
+	}
+
+	private int archiveBatch(List<Long> ids) {
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		reservationHistoryRepository.copyFromReservation(ids, LocalDateTime.now(clock));
+		reservationRepository.deleteAllByIdInBatch(ids);
+		return ids.size();
+	}
+}
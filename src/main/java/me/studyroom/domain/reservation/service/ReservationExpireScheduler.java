@@ -1,38 +1,103 @@
 package me.studyroom.domain.reservation.service;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.studyroom.domain.outbox.OutboxEventType;
+import me.studyroom.domain.outbox.service.OutboxService;
+import me.studyroom.domain.reservation.Reservation;
 import me.studyroom.domain.reservation.ReservationRepository;
 import me.studyroom.domain.reservation.ReservationStatus;
+import me.studyroom.domain.reservation.dto.ReservationExportRow;
+import me.studyroom.domain.waitlist.service.WaitlistService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class ReservationExpireScheduler {
 
-	private static final int PAYMENT_TIMEOUT_MINUTES = 10;
-
 	private final ReservationRepository reservationRepository;
+	private final OutboxService outboxService;
+	private final WaitlistService waitlistService;
+	private final TransactionTemplate transactionTemplate;
 	private final Clock clock;
 
+	@Value("${studyroom.reservation.expire-batch-size:500}")
+	private int batchSize;
+
 	// 일단 1분마다 실행으로 주기를 둠 (나중에 원하는 주기로 바꾸겠다)
+	// 배치마다 트랜잭션을 나눠서 한 번에 수천 건 락을 오래 잡지 않게 함
 	@Scheduled(fixedDelay = 60_000)
-	@Transactional
 	public void expiredWaitPayments() {
 		LocalDateTime now = LocalDateTime.now(clock);
-		LocalDateTime deadline = now.minusMinutes(PAYMENT_TIMEOUT_MINUTES);
+		// createdAt + 결제 창 <= now 이면 만료 (Reservation.paymentDeadline 과 같은 기준)
+		LocalDateTime deadline = now.minus(Reservation.PAYMENT_WINDOW);
+
+		int total = 0;
+		int updated;
+		List<ReservationExportRow> freed = new ArrayList<>();
+		do {
+			updated = transactionTemplate.execute(status -> expireBatch(deadline, freed));
+			total += updated;
+		} while (updated == batchSize);
+
+		if (total > 0) {
+			log.info("Expired WAIT_PAYMENT reservations: {}", total);
+		}
+
+		promoteWaitlist(freed);
+	}
 
-		int updated = reservationRepository.expireWaitPayments(
-			ReservationStatus.WAIT_PAYMENT,
-			ReservationStatus.EXPIRED,
-			deadline
+	// 만료로 빈 시간대에 대기자 전환
+	// 만료 배치는 예약 행 락을 잡고 있어서 여기서 방 락까지 잡으면 confirmPayment(방 -> 예약)와 교착될 수 있음
+	// 그래서 만료를 커밋한 뒤 방마다 따로 트랜잭션 (방 id 순서로)
+	private void promoteWaitlist(List<ReservationExportRow> freed) {
+		Map<Long, List<ReservationExportRow>> byRoom = freed.stream()
+			.collect(Collectors.groupingBy(ReservationExportRow::studyRoomId, TreeMap::new, Collectors.toList()));
+
+		byRoom.forEach((studyRoomId, rows) -> {
+			try {
+				transactionTemplate.executeWithoutResult(status -> waitlistService.promote(studyRoomId, rows));
+			} catch (RuntimeException e) {
+				// 한 방이 실패해도 나머지 방은 계속 (남은 대기는 다음 취소/만료 때 다시 기회가 있음)
+				log.warn("Waitlist promotion failed: studyRoomId={}", studyRoomId, e);
+			}
+		});
+	}
+
+	private int expireBatch(LocalDateTime deadline, List<ReservationExportRow> freed) {
+		List<Long> ids = reservationRepository.findExpirableIdsForUpdate(
+			ReservationStatus.WAIT_PAYMENT.name(),
+			deadline,
+			batchSize
 		);
 
-		// 로그
-		// log.info("Expired WAIT_PAYMENT reservations: {}", updated);
+		if (ids.isEmpty()) {
+			return 0;
+		}
+
+		// 대기자가 있는 시간대만 모아둠 (대기가 하나도 없으면 조회 안 함)
+		if (waitlistService.hasAnyWaiters()) {
+			reservationRepository.findRowsByIds(ids)
+				.stream()
+				.filter(row -> waitlistService.hasWaiters(row.studyRoomId(), row.startAt(), row.endAt()))
+				.forEach(freed::add);
+		}
+
+		// 이벤트 먼저 기록해야 previous_status에 WAIT_PAYMENT가 남음
+		outboxService.appendForReservations(OutboxEventType.EXPIRED, ReservationStatus.EXPIRED, ids);
+
+		return reservationRepository.updateStatusByIds(ReservationStatus.EXPIRED, ids);
 	}
 }
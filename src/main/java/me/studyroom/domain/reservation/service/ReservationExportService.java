@@ -0,0 +1,140 @@
+package me.studyroom.domain.reservation.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.studyroom.domain.reservation.ReservationHistoryRepository;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.dto.ExportFormat;
+import me.studyroom.domain.reservation.dto.ReservationExportRow;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+// 재무팀 월별 추출
+// 전체를 List로 받지 않고 커서 스트림 -> 바로 응답 스트림에 쓰기 때문에 메모리가 행 수와 무관함
+@Slf4j
+@Service
+public class ReservationExportService {
+
+	private static final int FLUSH_EVERY_ROWS = 1_000;
+
+	private final ReservationRepository reservationRepository;
+	private final ReservationHistoryRepository reservationHistoryRepository;
+	private final TransactionTemplate readOnlyTransaction;
+
+	public ReservationExportService(ReservationRepository reservationRepository,
+																	ReservationHistoryRepository reservationHistoryRepository,
+																	PlatformTransactionManager transactionManager) {
+		this.reservationRepository = reservationRepository;
+		this.reservationHistoryRepository = reservationHistoryRepository;
+		// 스트림은 트랜잭션(커넥션)이 열려 있는 동안만 읽을 수 있음
+		// StreamingResponseBody는 별도 스레드에서 실행되니 거기서 직접 트랜잭션을 열어야 함
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+	}
+
+	// to는 포함하지 않음 [from, to)
+	public StreamingResponseBody export(LocalDate from, LocalDate to, ExportFormat format, boolean gzip) {
+		LocalDateTime fromAt = from.atStartOfDay();
+		LocalDateTime toAt = to.atStartOfDay();
+
+		return outputStream -> {
+			OutputStream target = gzip ? new GZIPOutputStream(outputStream, 64 * 1024) : outputStream;
+			Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 64 * 1024);
+
+			if (format == ExportFormat.CSV) {
+				writer.write("reservation_id,study_room_id,user_id,status,start_at,end_at,created_at,archived\n");
+			}
+
+			long rows = readOnlyTransaction.execute(status -> {
+				long written = 0;
+				try (Stream<ReservationExportRow> hot = reservationRepository.streamForExport(fromAt, toAt)) {
+					written += writeRows(hot, writer, format, false);
+				}
+				try (Stream<ReservationExportRow> cold = reservationHistoryRepository.streamForExport(fromAt, toAt)) {
+					written += writeRows(cold, writer, format, true);
+				}
+				return written;
+			});
+
+			writer.flush();
+			if (target instanceof GZIPOutputStream gzipStream) {
+				gzipStream.finish();
+			}
+			log.info("Reservation export finished: from={}, to={}, format={}, rows={}", from, to, format, rows);
+		};
+	}
+
+	private long writeRows(Stream<ReservationExportRow> rows, Writer writer, ExportFormat format, boolean archived) {
+		long[] count = {0};
+		rows.forEach(row -> {
+			try {
+				if (format == ExportFormat.CSV) {
+					writeCsv(row, writer, archived);
+				} else {
+					writeNdjson(row, writer, archived);
+				}
+				// 주기적으로 내보내서 클라이언트가 받기 시작할 수 있게 함 (버퍼에 다 쌓아두지 않음)
+				if (++count[0] % FLUSH_EVERY_ROWS == 0) {
+					writer.flush();
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+		return count[0];
+	}
+
+	// 모든 값이 숫자, enum, ISO 시간이라 따옴표 이스케이프가 필요 없음
+	private void writeCsv(ReservationExportRow row, Writer writer, boolean archived) throws IOException {
+		writer.write(String.valueOf(row.reservationId()));
+		writer.write(',');
+		writer.write(String.valueOf(row.studyRoomId()));
+		writer.write(',');
+		writer.write(row.userId() == null ? "" : String.valueOf(row.userId()));
+		writer.write(',');
+		writer.write(row.status().name());
+		writer.write(',');
+		writer.write(row.startAt().toString());
+		writer.write(',');
+		writer.write(row.endAt().toString());
+		writer.write(',');
+		writer.write(row.createdAt().toString());
+		writer.write(',');
+		writer.write(archived ? "true" : "false");
+		writer.write('\n');
+	}
+
+	// ObjectMapper를 거치지 않고 직접 씀 (행마다 트리/맵 객체를 만들지 않음)
+	private void writeNdjson(ReservationExportRow row, Writer writer, boolean archived) throws IOException {
+		writer.write("{\"reservationId\":");
+		writer.write(String.valueOf(row.reservationId()));
+		writer.write(",\"studyRoomId\":");
+		writer.write(String.valueOf(row.studyRoomId()));
+		writer.write(",\"userId\":");
+		writer.write(row.userId() == null ? "null" : String.valueOf(row.userId()));
+		writer.write(",\"status\":\"");
+		writer.write(row.status().name());
+		writer.write("\",\"startAt\":\"");
+		writer.write(row.startAt().toString());
+		writer.write("\",\"endAt\":\"");
+		writer.write(row.endAt().toString());
+		writer.write("\",\"createdAt\":\"");
+		writer.write(row.createdAt().toString());
+		writer.write("\",\"archived\":");
+		writer.write(archived ? "true" : "false");
+		writer.write("}\n");
+	}
+}
@@ -0,0 +1,139 @@
+package me.studyroom.domain.reservation.service;
+
+import lombok.RequiredArgsConstructor;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.admission.RoomAdmissionGate;
+import me.studyroom.domain.reservation.dto.ReservationResponse;
+import me.studyroom.domain.reservation.dto.ReservationSeriesResponse;
+import me.studyroom.domain.reservation.hold.SlotHoldService;
+import me.studyroom.domain.reservation.lock.RoomContentionTracker;
+import me.studyroom.domain.reservation.series.ReservationSeriesService;
+import me.studyroom.domain.reservation.suggest.AlternativeSlotService;
+import me.studyroom.global.dto.request.ReservationRequest;
+import me.studyroom.global.dto.request.ReservationSeriesRequest;
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.ReservationException;
+import me.studyroom.global.exception.ScheduleConflictException;
+import me.studyroom.global.idempotency.IdempotencyService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// 방 락을 잡는 경로(예약, 수정, 결제 확정)의 입구
+// ReservationService는 클래스 전체가 @Transactional이라 메서드에 들어가는 순간 커넥션을 잡음
+// 그래서 Idempotency-Key -> 방 게이트 -> 트랜잭션 순서로 감싸려면 트랜잭션이 없는 여기서 해야 함
+// 키가 가장 바깥 : 이미 처리된 요청의 재시도, 처리 중인 같은 키 요청은 게이트 자리를 잡지 않고 저장된 응답을 받음
+@Service
+@RequiredArgsConstructor
+public class ReservationFacade {
+	private final ReservationService reservationService;
+	private final ReservationRepository reservationRepository;
+	private final RoomAdmissionGate roomAdmissionGate;
+	private final IdempotencyService idempotencyService;
+	private final RoomContentionTracker roomContentionTracker;
+	private final SlotHoldService slotHoldService;
+	private final ReservationSeriesService reservationSeriesService;
+	private final AlternativeSlotService alternativeSlotService;
+
+	@Value("${studyroom.room-lock.max-attempts:3}")
+	private int maxAttempts;
+
+	// SCHEDULE_CONFLICT 면 가까운 빈 시간을 붙여서 다시 던짐
+	// 트랜잭션이 롤백되고 방 게이트를 빠져나온 뒤라 계산하는 동안 락, 게이트 자리를 잡고 있지 않음
+	public ReservationResponse.Create reserve(ReservationRequest.Create request, String idempotencyKey, Long userId) {
+		try {
+			return idempotent(
+				userId,
+				idempotencyKey,
+				"reserve",
+				request,
+				ReservationResponse.Create.class,
+				execution -> {
+					// 다른 사람이 결제 중인 시간대면 방 게이트/락까지 가지 않고 바로 거절
+					slotHoldService.ensureNotHeld(request.studyRoomId(), request.startAt(), request.endAt(), userId);
+					return gated(request.studyRoomId(), execution);
+				},
+				() -> reservationService.reserve(request, userId)
+			);
+		} catch (ReservationException e) {
+			if (e.getExceptionCode() != ExceptionCode.SCHEDULE_CONFLICT || e instanceof ScheduleConflictException) {
+				throw e;
+			}
+			throw alternativeSlotService.conflict(request, userId);
+		}
+	}
+
+	// 반복 예약도 예약과 같은 방 락을 잡으니 같은 게이트 + Idempotency-Key
+	public ReservationSeriesResponse.Series createSeries(ReservationSeriesRequest.Create request, String idempotencyKey, Long userId) {
+		return idempotent(
+			userId,
+			idempotencyKey,
+			"reserve-series",
+			request,
+			ReservationSeriesResponse.Series.class,
+			execution -> gated(request.studyRoomId(), execution),
+			() -> reservationSeriesService.create(request, userId)
+		);
+	}
+
+	// 바꾸려는 방의 락을 잡으니 그 방 게이트로 보냄
+	public ReservationResponse.Update update(Long reservationId, ReservationRequest.Update request, Long userId) {
+		slotHoldService.ensureNotHeld(request.StudyRoomId(), request.startAt(), request.endAt(), userId);
+
+		return roomAdmissionGate.execute(request.StudyRoomId(), () -> retryOnConflict(
+			request.StudyRoomId(),
+			() -> reservationService.update(reservationId, request, userId)
+		));
+	}
+
+	// 결제 사가(PaymentSaga)의 확정 단계, 게이트웨이 승인이 끝난 뒤에만 들어옴
+	// 같은 예약으로 두 번 시작되지 않는 건 결제 행(예약당 하나)이 보장하니 Idempotency-Key 는 안 씀
+	public void confirmPayment(Long reservationId, Long userId, Long paymentId) {
+		Long studyRoomId = reservationRepository.findStudyRoomIdByIdAndUserId(reservationId, userId)
+			.orElseThrow(() -> new ReservationException(ExceptionCode.NOT_FOUND_RESERVATION));
+
+		roomAdmissionGate.run(studyRoomId, () -> retryOnConflict(studyRoomId, () -> {
+			reservationService.confirmPayment(reservationId, userId, paymentId);
+			return null;
+		}));
+	}
+
+	// 낙관적 락 충돌(커밋 시 version 불일치)이면 트랜잭션이 통째로 롤백된 상태라 처음부터 다시 실행
+	// 결과를 RoomContentionTracker에 남겨서 충돌이 잦은 방은 비관적 락으로 바뀜 (재시도 중에 바뀌면 바로 적용)
+	private <T> T retryOnConflict(Long studyRoomId, Supplier<T> action) {
+		for (int attempt = 1; ; attempt++) {
+			try {
+				T result = action.get();
+				roomContentionTracker.recordSuccess(studyRoomId);
+				return result;
+			} catch (OptimisticLockingFailureException e) {
+				roomContentionTracker.recordConflict(studyRoomId);
+				if (attempt >= maxAttempts) {
+					throw new ReservationException(ExceptionCode.ROOM_BUSY);
+				}
+			}
+		}
+	}
+
+	private <T> T gated(Long studyRoomId, Supplier<T> action) {
+		return roomAdmissionGate.execute(studyRoomId, () -> retryOnConflict(studyRoomId, action));
+	}
+
+	// around 는 저장된 응답이 없을 때만 (트랜잭션 + 키 저장)을 감싸서 실행 (방 게이트, 재시도)
+	// 키가 없으면 그냥 around 로 실행
+	private <T> T idempotent(Long userId,
+													 String idempotencyKey,
+													 String operation,
+													 Object request,
+													 Class<T> responseType,
+													 Function<Supplier<T>, T> around,
+													 Supplier<T> action) {
+		if (idempotencyKey == null) {
+			return around.apply(action);
+		}
+		return idempotencyService.execute(userId, idempotencyKey, operation, request, responseType, around, action);
+	}
+}
@@ -2,30 +2,50 @@ package me.studyroom.domain.reservation.service;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import me.studyroom.domain.outbox.OutboxEventType;
+import me.studyroom.domain.outbox.service.OutboxService;
+import me.studyroom.domain.payment.service.PaymentService;
 import me.studyroom.domain.reservation.Reservation;
+import me.studyroom.domain.reservation.ReservationHistory;
+import me.studyroom.domain.reservation.ReservationHistoryRepository;
 import me.studyroom.domain.reservation.ReservationRepository;
 import me.studyroom.domain.reservation.ReservationStatus;
 import me.studyroom.domain.reservation.dto.ReservationResponse;
+import me.studyroom.domain.reservation.hold.SlotHoldService;
 import me.studyroom.domain.reservation.policy.PolicyPhase;
 import me.studyroom.domain.reservation.policy.ReservationPolicy;
+import me.studyroom.domain.reservation.series.SeriesOccupancy;
 import me.studyroom.domain.studyRoom.StudyRoom;
 import me.studyroom.domain.user.User;
+import me.studyroom.domain.waitlist.service.WaitlistService;
 import me.studyroom.global.dto.request.ReservationRequest;
 import me.studyroom.global.exception.ExceptionCode;
 import me.studyroom.global.exception.ReservationException;
 import me.studyroom.global.service.CommonService;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class ReservationService {
+	private static final int MAX_HISTORY_LIMIT = 500;
+
 	private final ReservationRepository reservationRepository;
+	private final ReservationHistoryRepository reservationHistoryRepository;
 	private final CommonService commonService;
+	private final OutboxService outboxService;
+	private final WaitlistService waitlistService;
+	private final PaymentService paymentService;
+	private final SlotHoldService slotHoldService;
+	private final SeriesOccupancy seriesOccupancy;
 	private final Clock clock;
 	// private final ReservationPolicy reservationPolicy;
 	private final List<ReservationPolicy> policies;
@@ -69,8 +89,8 @@ public class ReservationService {
 
 		//StudyRoom studyRoom = commonService.getStudyRoomById(request.studyRoomId());
 
-		// 락 걸고 조회
-		StudyRoom studyRoom = commonService.getStudyRoomForUpdate(request.studyRoomId());
+		// 락 걸고 조회 (방마다 낙관적/비관적 중 하나)
+		StudyRoom studyRoom = commonService.getStudyRoomForBooking(request.studyRoomId());
 
 		studyRoom.ensureAvailable();
 
@@ -102,12 +122,13 @@ public class ReservationService {
 			null
 		);
 
-		boolean existReservation = reservationRepository.existsReservedOverlappingReservation(
+		// 확정 예약뿐 아니라 아직 결제 창 안인 결제 대기(홀드), 반복 예약 회차와 겹쳐도 불가
+		boolean existReservation = reservationRepository.existsBlockingReservation(
 			studyRoom,
-			ReservationStatus.CONFIRMED,
 			request.startAt(),
-			request.endAt()
-		);
+			request.endAt(),
+			slotHoldService.holdCutoff()
+		) || seriesOccupancy.occupied(studyRoom.getId(), request.startAt(), request.endAt());
 
 		if (existReservation) {
 			throw new ReservationException(ExceptionCode.SCHEDULE_CONFLICT);
@@ -121,6 +142,10 @@ public class ReservationService {
 			clock);
 
 		reservationRepository.save(reservation);
+		slotHoldService.hold(reservation);
+
+		// 후처리(알림, 통계 등)는 여기서 하지 않고 이벤트만 남김 -> 방 락 잡는 시간이 늘어나지 않음
+		outboxService.append(OutboxEventType.RESERVED, reservation, null);
 
 		return new ReservationResponse.Create(
 			user.getName(),
@@ -130,12 +155,20 @@ public class ReservationService {
 		);
 	}
 
+	// 결제 사가의 확정 단계 (PaymentSaga -> ReservationFacade)
+	// 게이트웨이 승인은 트랜잭션 밖에서 이미 끝났고 여기서는 방 락 잡고 검증 + 상태 변경만 -> 락 잡는 시간이 게이트웨이 지연과 무관
+	// 예약과 결제 상태가 같이 커밋/롤백
+	public void confirmPayment(Long reservationId, Long userId, Long paymentId) {
+		confirmPayment(reservationId, userId);
+		paymentService.confirm(paymentId, reservationId);
+	}
+
 	public void confirmPayment(Long reservationId, Long userId) {
 		Reservation reservation =
 			reservationRepository.findByIdAndUserId(reservationId, userId)
 				.orElseThrow(() -> new ReservationException(ExceptionCode.NOT_FOUND_RESERVATION));
 
-		StudyRoom room = commonService.getStudyRoomForUpdate(
+		StudyRoom room = commonService.getStudyRoomForBooking(
 			reservation.getStudyRoom().getId()
 		);
 
@@ -159,13 +192,16 @@ public class ReservationService {
 				reservation.getStartAt(),
 				reservation.getEndAt(),
 				reservationId
-			);
+			) || seriesOccupancy.occupied(room.getId(), reservation.getStartAt(), reservation.getEndAt());
 
 		if (conflict) {
 			throw new ReservationException(ExceptionCode.SCHEDULE_CONFLICT);
 		}
 
 		reservation.confirm(clock);
+		slotHoldService.release(reservation);
+
+		outboxService.append(OutboxEventType.CONFIRMED, reservation, ReservationStatus.WAIT_PAYMENT);
 	}
 
 	// 예약 확인
@@ -176,6 +212,61 @@ public class ReservationService {
 			.toList();
 	}
 
+	// 지난 예약 조회, includeArchived면 콜드 테이블까지 합쳐서 시작 시간 역순으로 limit건
+	// 두 테이블 모두 (user_id, start_at) 인덱스로 정렬된 상태로 가져오니 merge만 하면 됨
+	public List<ReservationResponse.History> reservationHistory(Long userId, boolean includeArchived, int requestedLimit) {
+		int limit = Math.max(1, Math.min(requestedLimit, MAX_HISTORY_LIMIT));
+
+		List<ReservationResponse.History> hot = reservationRepository
+			.findByUserIdOrderByStartAtDesc(userId, Limit.of(limit))
+			.stream()
+			.map(r -> new ReservationResponse.History(
+				r.getId(),
+				r.getStudyRoom().getName(),
+				r.getStartAt(),
+				r.getEndAt(),
+				r.getStatus(),
+				false))
+			.toList();
+
+		if (!includeArchived) {
+			return hot;
+		}
+
+		List<ReservationHistory> archived = reservationHistoryRepository.findByUserIdOrderByStartAtDesc(userId, Limit.of(limit));
+		Map<Long, String> roomNames = commonService.getStudyRoomNames(
+			archived.stream().map(ReservationHistory::getStudyRoomId).collect(Collectors.toSet())
+		);
+		List<ReservationResponse.History> cold = archived.stream()
+			.map(h -> new ReservationResponse.History(
+				h.getId(),
+				roomNames.get(h.getStudyRoomId()),
+				h.getStartAt(),
+				h.getEndAt(),
+				h.getStatus(),
+				true))
+			.toList();
+
+		return mergeByStartAtDesc(hot, cold, limit);
+	}
+
+	private List<ReservationResponse.History> mergeByStartAtDesc(List<ReservationResponse.History> left,
+																															 List<ReservationResponse.History> right,
+																															 int limit) {
+		List<ReservationResponse.History> merged = new ArrayList<>(Math.min(limit, left.size() + right.size()));
+		int i = 0;
+		int j = 0;
+		while (merged.size() < limit && (i < left.size() || j < right.size())) {
+			if (j >= right.size()
+				|| (i < left.size() && !left.get(i).startAt().isBefore(right.get(j).startAt()))) {
+				merged.add(left.get(i++));
+			} else {
+				merged.add(right.get(j++));
+			}
+		}
+		return merged;
+	}
+
 	// 변환 책임을 dto 내부에 둬도 되지만 service에 두는게 더 깔끔함 dto는 순수 데이터 구조로 유지
 	// DTO가 변환 책임을 갖는 방식은 코드가 짧고 깔끔하고 변환 로직이 DTO에 모여 있긴 함
 	// DTO가 도메인(Entity)에 의존함, 계층 의존성이 흐려짐 그래서 나는 변환을 service단에서 하는게 좋다고 생각
@@ -212,7 +303,7 @@ public class ReservationService {
 		// 동시성 문제 발생 가능
 		// 코드 복잡도 증가
 
-		StudyRoom studyRoom = commonService.getStudyRoomForUpdate(request.StudyRoomId());
+		StudyRoom studyRoom = commonService.getStudyRoomForBooking(request.StudyRoomId());
 		studyRoom.ensureAvailable();
 
 		// 다 좋은데 여기서 걸리는게 있음
@@ -228,22 +319,29 @@ public class ReservationService {
 
 		// 이 방법은 추천하지 않음
 		// 정석은 "자기 자신 예약 제외"
-		boolean checkExist = reservationRepository.existsReservedOverlappingReservationExceptSelf(
+		// 다른 사람이 결제 중인 시간(홀드)으로도 옮길 수 없음
+		boolean checkExist = reservationRepository.existsBlockingReservationExceptSelf(
 			studyRoom,
-			ReservationStatus.CONFIRMED,
 			request.startAt(),
 			request.endAt(),
+			slotHoldService.holdCutoff(),
 			reservationId
-		);
+		) || seriesOccupancy.occupied(studyRoom.getId(), request.startAt(), request.endAt());
 
 		if (checkExist) {
 			throw new ReservationException(ExceptionCode.SCHEDULE_CONFLICT);
 		}
 
+		Long previousStudyRoomId = reservation.getStudyRoom().getId();
+		LocalDateTime previousStartAt = reservation.getStartAt();
+		LocalDateTime previousEndAt = reservation.getEndAt();
+
 		reservation.update(studyRoom, request.startAt(), request.endAt());
 
 		reservationRepository.save(reservation);
 
+		outboxService.appendUpdated(reservation, previousStudyRoomId, previousStartAt, previousEndAt);
+
 		return new ReservationResponse.Update(
 			user.getName(),
 			studyRoom.getName(),
@@ -265,6 +363,25 @@ public class ReservationService {
 		Reservation reservation = reservationRepository.findByIdAndUserId(reservationId, userId)
 			.orElseThrow(() -> new ReservationException(ExceptionCode.NOT_FOUND_RESERVATION));
 
+		// 이 시간대를 기다리는 사람이 있으면 방 락부터 잡음
+		// confirmPayment와 같은 순서(방 -> 예약)로 잡아야 서로 기다리다 교착되지 않음
+		Long studyRoomId = reservation.getStudyRoom().getId();
+		StudyRoom lockedRoom = waitlistService.hasWaiters(studyRoomId, reservation.getStartAt(), reservation.getEndAt())
+			? commonService.getStudyRoomForUpdate(studyRoomId)
+			: null;
+
+		ReservationStatus previousStatus = reservation.getStatus();
+
 		reservation.canceled();
+		if (previousStatus == ReservationStatus.WAIT_PAYMENT) {
+			slotHoldService.release(reservation);
+		}
+
+		outboxService.append(OutboxEventType.CANCELED, reservation, previousStatus);
+
+		// 같은 트랜잭션에서 대기자 전환 -> 취소와 전환이 같이 커밋/롤백
+		if (lockedRoom != null) {
+			waitlistService.promote(lockedRoom, reservation.getStartAt(), reservation.getEndAt());
+		}
 	}
 }
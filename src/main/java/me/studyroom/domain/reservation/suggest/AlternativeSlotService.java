@@ -0,0 +1,232 @@
+package me.studyroom.domain.reservation.suggest;
+
+import jakarta.transaction.Transactional;
+import me.studyroom.domain.reservation.hold.SlotHoldIndex;
+import me.studyroom.domain.reservation.hold.SlotHoldService;
+import me.studyroom.domain.reservation.schedule.RoomSchedule;
+import me.studyroom.domain.reservation.schedule.RoomScheduleIndex;
+import me.studyroom.domain.reservation.series.Recurrence;
+import me.studyroom.domain.reservation.series.SeriesOccupancy;
+import me.studyroom.domain.studyRoom.calendar.RoomCalendarService;
+import me.studyroom.domain.studyRoom.dto.StudyRoomResponse;
+import me.studyroom.domain.studyRoom.search.RoomSearchService;
+import me.studyroom.global.dto.request.ReservationRequest;
+import me.studyroom.global.exception.ScheduleConflictException;
+import me.studyroom.global.service.CommonService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+// 예약이 SCHEDULE_CONFLICT 로 끝났을 때 같은 길이의 가까운 빈 시간을 찾아 응답에 붙임
+//   같은 방 : 가까운 순서로 count 개
+//   다른 방 : 비슷한 방(RoomSearchService.similarRooms) 마다 가장 가까운 하나, 그중 가까운 count 개
+// 빈 구간 = 운영 달력 영업 구간 - (확정 구간 + 다른 사람 홀드 + 반복 예약 회차), 모두 메모리 인덱스 (회차만 DB 쿼리 한 번)
+// 날짜는 요청한 날부터 0, +1, -1, +2 .. 순서로 보고, 남은 날의 최소 거리가 지금 count 번째보다 멀면 멈춤
+// 실패 응답에 붙는 덤이라 budget 이 지나면 그때까지 찾은 것만 돌려줌 (같은 방의 요청한 날은 항상 봄)
+// 메모리 인덱스 기준이라 안내용, 실제 예약은 다시 락 잡고 DB로 검사
+@Service
+public class AlternativeSlotService {
+
+	private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+
+	private final RoomScheduleIndex roomScheduleIndex;
+	private final RoomCalendarService roomCalendarService;
+	private final SlotHoldService slotHoldService;
+	private final SeriesOccupancy seriesOccupancy;
+	private final RoomSearchService roomSearchService;
+	private final CommonService commonService;
+	private final Clock clock;
+	private final int count;
+	private final int horizonDays;
+	private final int maxRooms;
+	private final Duration budget;
+
+	public AlternativeSlotService(RoomScheduleIndex roomScheduleIndex,
+																RoomCalendarService roomCalendarService,
+																SlotHoldService slotHoldService,
+																SeriesOccupancy seriesOccupancy,
+																RoomSearchService roomSearchService,
+																CommonService commonService,
+																Clock clock,
+																@Value("${studyroom.suggest.count:3}") int count,
+																@Value("${studyroom.suggest.horizon-days:3}") int horizonDays,
+																@Value("${studyroom.suggest.max-rooms:20}") int maxRooms,
+																@Value("${studyroom.suggest.budget-millis:50}") long budgetMillis) {
+		this.roomScheduleIndex = roomScheduleIndex;
+		this.roomCalendarService = roomCalendarService;
+		this.slotHoldService = slotHoldService;
+		this.seriesOccupancy = seriesOccupancy;
+		this.roomSearchService = roomSearchService;
+		this.commonService = commonService;
+		this.clock = clock;
+		this.count = count;
+		this.horizonDays = horizonDays;
+		this.maxRooms = maxRooms;
+		this.budget = Duration.ofMillis(budgetMillis);
+	}
+
+	// ReservationFacade 에서 예약 트랜잭션이 롤백되고 방 게이트를 빠져나온 뒤에 호출 (락 없이)
+	// 달력이 메모리에 없는 방, 반복 예약 조회가 같은 커넥션을 쓰도록 트랜잭션 하나로
+	@Transactional
+	public ScheduleConflictException conflict(ReservationRequest.Create request, Long userId) {
+		long deadline = System.nanoTime() + budget.toNanos();
+		LocalDateTime now = LocalDateTime.now(clock);
+		LocalDate date = request.startAt().toLocalDate();
+		LocalDate first = maxOf(date.minusDays(horizonDays), now.toLocalDate());
+		LocalDate last = date.plusDays(horizonDays);
+		int duration = (int) ChronoUnit.MINUTES.between(request.startAt(), request.endAt().plusSeconds(59));
+		if (!request.startAt().isBefore(request.endAt())
+			|| !date.equals(request.endAt().toLocalDate())
+			|| last.isBefore(first)
+			|| count <= 0) {
+			return new ScheduleConflictException(List.of());
+		}
+
+		Window window = new Window(date, request.startAt().getHour() * 60 + request.startAt().getMinute(),
+			duration, first, last, now, deadline);
+		List<StudyRoomResponse.Detail> others = roomSearchService.similarRooms(request.studyRoomId(), maxRooms);
+		List<Long> studyRoomIds = new ArrayList<>(others.size() + 1);
+		studyRoomIds.add(request.studyRoomId());
+		others.forEach(room -> studyRoomIds.add(room.id()));
+		Map<Long, List<Recurrence.Occurrence>> series = seriesOccupancy.occurrencesByRoom(
+			studyRoomIds, first.atStartOfDay(), last.plusDays(1).atStartOfDay());
+
+		List<ScheduleConflictException.Alternative> alternatives = new ArrayList<>();
+		String name = roomSearchService.find(request.studyRoomId())
+			.map(StudyRoomResponse.Detail::name)
+			.orElseGet(() -> commonService.getStudyRoomById(request.studyRoomId()).getName());
+		for (Candidate candidate : nearest(request.studyRoomId(), userId, series, window, count, true)) {
+			alternatives.add(candidate.toAlternative(request.studyRoomId(), name));
+		}
+
+		List<RoomCandidate> otherRooms = new ArrayList<>();
+		for (StudyRoomResponse.Detail room : others) {
+			if (System.nanoTime() > deadline) {
+				break;
+			}
+			nearest(room.id(), userId, series, window, 1, false).stream()
+				.findFirst()
+				.ifPresent(candidate -> otherRooms.add(new RoomCandidate(room, candidate)));
+		}
+		otherRooms.stream()
+			.sorted(Comparator.comparingLong((RoomCandidate c) -> c.candidate().distance()))
+			.limit(count)
+			.forEach(c -> alternatives.add(c.candidate().toAlternative(c.room().id(), c.room().name())));
+		return new ScheduleConflictException(alternatives);
+	}
+
+	// 방 하나에서 요청 시작과 가까운 빈 창 limit 개 (가까운 순, 같으면 이른 순)
+	private List<Candidate> nearest(Long studyRoomId,
+																	Long userId,
+																	Map<Long, List<Recurrence.Occurrence>> series,
+																	Window window,
+																	int limit,
+																	boolean sameRoom) {
+		RoomSchedule schedule = roomScheduleIndex.get(studyRoomId);
+		List<SlotHoldIndex.Hold> holds = slotHoldService.activeHolds(studyRoomId, userId);
+		List<Recurrence.Occurrence> occurrences = series.getOrDefault(studyRoomId, List.of());
+		Comparator<Candidate> order = Comparator.comparingLong(Candidate::distance).thenComparing(Candidate::startAt);
+
+		List<Candidate> candidates = new ArrayList<>();
+		for (int step = 0; step <= 2 * horizonDays; step++) {
+			int offset = step % 2 == 1 ? (step + 1) / 2 : -step / 2;
+			// 이 날부터는 아무리 가까워도 (|offset| - 1) 일 이상 떨어짐
+			long minDistance = Math.max(0, (Math.abs(offset) - 1L) * FreeWindows.MINUTES_PER_DAY);
+			if (candidates.size() >= limit && candidates.get(limit - 1).distance() <= minDistance) {
+				break;
+			}
+			if (step > 0 && System.nanoTime() > window.deadline()) {
+				break;
+			}
+			LocalDate day = window.date().plusDays(offset);
+			if (day.isBefore(window.first()) || day.isAfter(window.last())) {
+				continue;
+			}
+
+			int notBefore = day.equals(window.now().toLocalDate())
+				? (int) ChronoUnit.MINUTES.between(day.atStartOfDay(), window.now().plusSeconds(59))
+				: 0;
+			List<Integer> starts = FreeWindows.nearestStarts(
+				roomCalendarService.openRanges(studyRoomId, day),
+				busy(day, schedule, holds, occurrences),
+				window.duration(),
+				window.requested(),
+				notBefore);
+			for (int start : starts) {
+				if (sameRoom && offset == 0 && start == window.requested()) {
+					// 인덱스가 아직 충돌한 예약을 못 본 경우
+					continue;
+				}
+				long distance = Math.abs((long) offset * FreeWindows.MINUTES_PER_DAY + start - window.requested());
+				LocalDateTime startAt = day.atStartOfDay().plusMinutes(start);
+				candidates.add(new Candidate(startAt, startAt.plusMinutes(window.duration()), distance));
+			}
+			candidates.sort(order);
+		}
+		return candidates.size() > limit ? candidates.subList(0, limit) : candidates;
+	}
+
+	// 그날과 겹치는 확정 구간, 홀드, 회차를 분 단위로 (시작은 내림, 종료는 올림)
+	private static List<int[]> busy(LocalDate day,
+																	RoomSchedule schedule,
+																	List<SlotHoldIndex.Hold> holds,
+																	List<Recurrence.Occurrence> occurrences) {
+		long dayStart = RoomSchedule.toEpochSecond(day.atStartOfDay());
+		List<int[]> busy = new ArrayList<>();
+		// 전날 시작해서 넘어온 구간이 있을 수 있으니 하나 앞부터
+		for (int i = Math.max(0, schedule.lowerBound(dayStart) - 1);
+				 i < schedule.size() && schedule.startAt(i) < dayStart + SECONDS_PER_DAY; i++) {
+			add(busy, dayStart, schedule.startAt(i), schedule.endAt(i));
+		}
+		for (SlotHoldIndex.Hold hold : holds) {
+			add(busy, dayStart, RoomSchedule.toEpochSecond(hold.startAt()), RoomSchedule.toEpochSecond(hold.endAt()));
+		}
+		for (Recurrence.Occurrence occurrence : occurrences) {
+			add(busy, dayStart, RoomSchedule.toEpochSecond(occurrence.startAt()), RoomSchedule.toEpochSecond(occurrence.endAt()));
+		}
+		return busy;
+	}
+
+	private static void add(List<int[]> busy, long dayStart, long start, long end) {
+		if (end <= dayStart || start >= dayStart + SECONDS_PER_DAY) {
+			return;
+		}
+		int from = (int) (Math.max(start - dayStart, 0) / 60);
+		int to = (int) ((Math.min(end - dayStart, SECONDS_PER_DAY) + 59) / 60);
+		busy.add(new int[]{from, to});
+	}
+
+	private static LocalDate maxOf(LocalDate a, LocalDate b) {
+		return a.isAfter(b) ? a : b;
+	}
+
+	// 요청 시작(requested)은 그날 0시부터의 분
+	private record Window(
+		LocalDate date,
+		int requested,
+		int duration,
+		LocalDate first,
+		LocalDate last,
+		LocalDateTime now,
+		long deadline
+	) {
+	}
+
+	private record Candidate(LocalDateTime startAt, LocalDateTime endAt, long distance) {
+		ScheduleConflictException.Alternative toAlternative(Long studyRoomId, String studyRoomName) {
+			return new ScheduleConflictException.Alternative(studyRoomId, studyRoomName, startAt, endAt);
+		}
+	}
+
+	private record RoomCandidate(StudyRoomResponse.Detail room, Candidate candidate) {
+	}
+}
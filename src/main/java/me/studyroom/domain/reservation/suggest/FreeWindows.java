@@ -0,0 +1,52 @@
+package me.studyroom.domain.reservation.suggest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// 하루 안의 빈 구간 계산 (분 단위, 0 ~ 1440)
+// 영업 구간 [open, close) 에서 잡힌 구간(busy)을 빼고 남은 빈 구간마다
+// 길이 duration 이 들어가는 시작 분 중 요청 시작에 가장 가까운 것 하나씩
+// 영업 구간과 busy 를 시작 순으로 한 번씩만 훑음 (busy 는 겹쳐 있어도 됨)
+final class FreeWindows {
+
+	static final int MINUTES_PER_DAY = 24 * 60;
+
+	// 예약은 하루 안에서 끝나야 하니 24:00 종료는 못 씀
+	private static final int LAST_END = MINUTES_PER_DAY - 1;
+
+	private FreeWindows() {
+	}
+
+	// openRanges : [open, close) 쌍, 시작 순 (OperatingCalendar.openRanges)
+	// busy : [start, end) 쌍 목록, 순서 상관없음
+	// notBefore : 이 분보다 먼저 시작하는 창은 안 됨 (오늘이면 지금 시각)
+	static List<Integer> nearestStarts(int[] openRanges, List<int[]> busy, int duration, int requested, int notBefore) {
+		List<int[]> sorted = new ArrayList<>(busy);
+		sorted.sort(Comparator.comparingInt(interval -> interval[0]));
+
+		List<Integer> starts = new ArrayList<>();
+		int j = 0;
+		for (int i = 0; i < openRanges.length; i += 2) {
+			int cursor = Math.max(openRanges[i], notBefore);
+			int close = Math.min(openRanges[i + 1], LAST_END);
+			// 이 영업 구간 전에 끝난 busy 는 뒤 구간과도 안 겹침
+			while (j < sorted.size() && sorted.get(j)[1] <= cursor) {
+				j++;
+			}
+			int k = j;
+			while (cursor < close) {
+				int gapEnd = k < sorted.size() ? Math.min(sorted.get(k)[0], close) : close;
+				if (gapEnd - cursor >= duration) {
+					starts.add(Math.max(cursor, Math.min(requested, gapEnd - duration)));
+				}
+				if (k >= sorted.size() || sorted.get(k)[0] >= close) {
+					break;
+				}
+				cursor = Math.max(cursor, sorted.get(k)[1]);
+				k++;
+			}
+		}
+		return starts;
+	}
+}
@@ -0,0 +1,113 @@
+package me.studyroom.domain.stats;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+// 방 x 날짜 단위 집계
+// 예약 상태가 바뀔 때마다(outbox 이벤트) 증분으로 갱신해서 통계 조회가 원본 테이블 크기와 무관하게 O(일 수)
+// 카운트는 모두 "현재 시작 날짜" 기준 (rebuild 결과와 같게 맞추기 위함)
+@Entity
+@Table(
+	name = "room_daily_stat",
+	uniqueConstraints = @UniqueConstraint(
+		name = "uk_room_daily_stat_room_date",
+		columnNames = {"study_room_id", "stat_date"}
+	)
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RoomDailyStat {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "study_room_id", nullable = false)
+	private Long studyRoomId;
+
+	@Column(name = "stat_date", nullable = false)
+	private LocalDate statDate;
+
+	// 생성된 예약 수 (상태 무관)
+	@Column(nullable = false)
+	private int reservedCount;
+
+	// 현재 CONFIRMED 상태인 예약 수
+	@Column(nullable = false)
+	private int confirmedCount;
+
+	@Column(nullable = false)
+	private int canceledCount;
+
+	@Column(nullable = false)
+	private int expiredCount;
+
+	// CONFIRMED 예약이 차지하는 분
+	@Column(nullable = false)
+	private long bookedMinutes;
+
+	// 시간대별(0~23시) CONFIRMED 분, "0,0,...,60" 형태
+	// int[]를 그대로 매핑하면 배열 내부 변경을 dirty checking이 못 잡을 수 있어서 문자열을 통째로 교체함
+	@Column(nullable = false, length = 200)
+	private String hourlyMinutes;
+
+	public RoomDailyStat(Long studyRoomId, LocalDate statDate) {
+		this.studyRoomId = studyRoomId;
+		this.statDate = statDate;
+		this.hourlyMinutes = format(new int[24]);
+	}
+
+	public void reserved(int delta) {
+		this.reservedCount += delta;
+	}
+
+	public void confirmed(int delta) {
+		this.confirmedCount += delta;
+	}
+
+	public void canceled(int delta) {
+		this.canceledCount += delta;
+	}
+
+	public void expired(int delta) {
+		this.expiredCount += delta;
+	}
+
+	// sign : +1 예약 추가, -1 예약 제거
+	public void booked(LocalDateTime start, LocalDateTime end, int sign) {
+		int[] hourly = getHourlyMinutesArray();
+		addHourlyMinutes(hourly, start, end, sign);
+		this.bookedMinutes += sign * Duration.between(start, end).toMinutes();
+		this.hourlyMinutes = format(hourly);
+	}
+
+	public int[] getHourlyMinutesArray() {
+		return Arrays.stream(hourlyMinutes.split(","))
+			.mapToInt(Integer::parseInt)
+			.toArray();
+	}
+
+	// 구간을 시 단위로 잘라서 각 시간대에 겹치는 분만큼 더함 (자정 넘는 예약은 없음)
+	public static void addHourlyMinutes(int[] hourly, LocalDateTime start, LocalDateTime end, int sign) {
+		LocalDateTime cursor = start;
+		while (cursor.isBefore(end)) {
+			LocalDateTime nextHour = cursor.withMinute(0).withSecond(0).withNano(0).plusHours(1);
+			LocalDateTime sliceEnd = nextHour.isBefore(end) ? nextHour : end;
+			hourly[cursor.getHour()] += sign * (int) Duration.between(cursor, sliceEnd).toMinutes();
+			cursor = sliceEnd;
+		}
+	}
+
+	public static String format(int[] hourly) {
+		return Arrays.stream(hourly)
+			.mapToObj(String::valueOf)
+			.collect(Collectors.joining(","));
+	}
+}
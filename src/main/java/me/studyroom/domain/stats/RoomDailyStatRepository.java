@@ -0,0 +1,19 @@
+package me.studyroom.domain.stats;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface RoomDailyStatRepository extends JpaRepository<RoomDailyStat, Long> {
+
+	Optional<RoomDailyStat> findByStudyRoomIdAndStatDate(Long studyRoomId, LocalDate statDate);
+
+	// uk_room_daily_stat_room_date 인덱스 범위 스캔
+	List<RoomDailyStat> findByStudyRoomIdAndStatDateBetweenOrderByStatDateAsc(
+		Long studyRoomId,
+		LocalDate from,
+		LocalDate to
+	);
+}
@@ -0,0 +1,42 @@
+package me.studyroom.domain.stats.controller;
+
+import lombok.RequiredArgsConstructor;
+import me.studyroom.domain.stats.dto.RoomStatsResponse;
+import me.studyroom.domain.stats.service.RoomStatsService;
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.StudyRoomException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+// /admin/** 는 SecurityConfig에서 ADMIN만 접근 가능
+@RestController
+@RequestMapping("/admin/stats")
+@RequiredArgsConstructor
+public class RoomStatsController {
+	private final RoomStatsService roomStatsService;
+
+	// 예) /admin/stats/rooms/3?from=2026-09-01&to=2026-09-30
+	@GetMapping("/rooms/{studyRoomId}")
+	public RoomStatsResponse.Summary roomStats(
+		@PathVariable Long studyRoomId,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+		if (from.isAfter(to)) {
+			throw new StudyRoomException(ExceptionCode.INVALID_TIME_RANGE);
+		}
+		return roomStatsService.stats(studyRoomId, from, to);
+	}
+
+	@PostMapping("/rebuild")
+	public RoomStatsResponse.Rebuild rebuild() {
+		return roomStatsService.rebuild();
+	}
+}
@@ -0,0 +1,51 @@
+package me.studyroom.domain.stats.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public sealed interface RoomStatsResponse
+	permits RoomStatsResponse.Summary,
+	RoomStatsResponse.Daily,
+	RoomStatsResponse.Weekly,
+	RoomStatsResponse.Rebuild {
+
+	// heatmap[요일(월=0)][시] = CONFIRMED 분
+	record Summary(
+		Long studyRoomId,
+		LocalDate from,
+		LocalDate to,
+		List<Daily> daily,
+		List<Weekly> weekly,
+		long[][] heatmap
+	) implements RoomStatsResponse {
+	}
+
+	// occupancy : bookedMinutes / 하루 운영 분
+	record Daily(
+		LocalDate date,
+		int reservedCount,
+		int confirmedCount,
+		int canceledCount,
+		int expiredCount,
+		long bookedMinutes,
+		double occupancy
+	) implements RoomStatsResponse {
+	}
+
+	// weekStart는 월요일
+	record Weekly(
+		LocalDate weekStart,
+		int confirmedCount,
+		long bookedMinutes,
+		double occupancy
+	) implements RoomStatsResponse {
+	}
+
+	record Rebuild(
+		long scannedReservations,
+		int statRows,
+		long lastEventId,
+		long elapsedMillis
+	) implements RoomStatsResponse {
+	}
+}
@@ -0,0 +1,20 @@
+package me.studyroom.domain.stats.listener;
+
+import lombok.RequiredArgsConstructor;
+import me.studyroom.domain.outbox.OutboxEvent;
+import me.studyroom.domain.outbox.listener.OutboxEventListener;
+import me.studyroom.domain.stats.service.RoomStatsService;
+import org.springframework.stereotype.Component;
+
+// 예약 트랜잭션에서 집계 행을 같이 갱신하면 인기 방의 같은 날짜 행에 쓰기가 몰림
+// outbox로 빼서 락을 잡는 트랜잭션 밖에서 한 줄씩 반영
+@Component
+@RequiredArgsConstructor
+public class RoomStatsOutboxListener implements OutboxEventListener {
+	private final RoomStatsService roomStatsService;
+
+	@Override
+	public void handle(OutboxEvent event) {
+		roomStatsService.apply(event);
+	}
+}
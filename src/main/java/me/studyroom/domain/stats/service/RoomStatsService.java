@@ -0,0 +1,336 @@
+package me.studyroom.domain.stats.service;
+
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+import me.studyroom.domain.outbox.OutboxCursor;
+import me.studyroom.domain.outbox.OutboxCursorRepository;
+import me.studyroom.domain.outbox.OutboxEvent;
+import me.studyroom.domain.outbox.OutboxEventRepository;
+import me.studyroom.domain.outbox.OutboxProcessedEventRepository;
+import me.studyroom.domain.reservation.ReservationHistoryRepository;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.ReservationStatus;
+import me.studyroom.domain.reservation.dto.ReservationExportRow;
+import me.studyroom.domain.stats.RoomDailyStat;
+import me.studyroom.domain.stats.RoomDailyStatRepository;
+import me.studyroom.domain.stats.dto.RoomStatsResponse;
+import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.studyRoom.calendar.RoomCalendarService;
+import me.studyroom.global.service.CommonService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@Transactional
+public class RoomStatsService {
+
+	// outbox_cursor에 저장되는 이 소비자의 커서 이름
+	public static final String CURSOR_NAME = "room-daily-stat";
+
+	private static final LocalDateTime REBUILD_FROM = LocalDateTime.of(2000, 1, 1, 0, 0);
+	private static final LocalDateTime REBUILD_TO = LocalDateTime.of(9999, 1, 1, 0, 0);
+	private static final int INSERT_BATCH_SIZE = 1_000;
+
+	private final RoomDailyStatRepository roomDailyStatRepository;
+	private final OutboxCursorRepository outboxCursorRepository;
+	private final OutboxEventRepository outboxEventRepository;
+	private final OutboxProcessedEventRepository outboxProcessedEventRepository;
+	private final ReservationRepository reservationRepository;
+	private final ReservationHistoryRepository reservationHistoryRepository;
+	private final CommonService commonService;
+	private final RoomCalendarService roomCalendarService;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate snapshotTransaction;
+	private final Clock clock;
+
+	public RoomStatsService(RoomDailyStatRepository roomDailyStatRepository,
+													OutboxCursorRepository outboxCursorRepository,
+													OutboxEventRepository outboxEventRepository,
+												OutboxProcessedEventRepository outboxProcessedEventRepository,
+													ReservationRepository reservationRepository,
+													ReservationHistoryRepository reservationHistoryRepository,
+													CommonService commonService,
+												RoomCalendarService roomCalendarService,
+													JdbcTemplate jdbcTemplate,
+													PlatformTransactionManager transactionManager,
+													Clock clock) {
+		this.roomDailyStatRepository = roomDailyStatRepository;
+		this.outboxCursorRepository = outboxCursorRepository;
+		this.outboxEventRepository = outboxEventRepository;
+		this.outboxProcessedEventRepository = outboxProcessedEventRepository;
+		this.reservationRepository = reservationRepository;
+		this.reservationHistoryRepository = reservationHistoryRepository;
+		this.commonService = commonService;
+		this.roomCalendarService = roomCalendarService;
+		this.jdbcTemplate = jdbcTemplate;
+		// rebuild 용 : 이벤트 워터마크와 예약 스캔을 같은 스냅샷에서 읽음
+		this.snapshotTransaction = new TransactionTemplate(transactionManager);
+		this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+		this.clock = clock;
+	}
+
+	// 반영 기록 + 이벤트 반영 + 커서 이동을 한 트랜잭션에서 처리 -> 재전달돼도 두 번 더해지지 않음
+	// 커서보다 작은 id 라도 늦게 커밋돼서 처음 오는 이벤트일 수 있음 -> 중복 판단은 커서가 아니라 반영 기록으로
+	// 커서 행 락은 rebuild 와 순서를 맞추는 용도
+	public void apply(OutboxEvent event) {
+		OutboxCursor cursor = lockCursor();
+		if (outboxProcessedEventRepository.markProcessed(CURSOR_NAME, event.getId(), LocalDateTime.now(clock)) == 0) {
+			return; // 이미 반영된 이벤트 (at-least-once 재전달)
+		}
+
+		switch (event.getEventType()) {
+			case RESERVED -> statOf(event.getStudyRoomId(), event.getStartAt()).reserved(1);
+			case CONFIRMED -> {
+				RoomDailyStat stat = statOf(event.getStudyRoomId(), event.getStartAt());
+				stat.confirmed(1);
+				stat.booked(event.getStartAt(), event.getEndAt(), 1);
+			}
+			case CANCELED -> {
+				RoomDailyStat stat = statOf(event.getStudyRoomId(), event.getStartAt());
+				stat.canceled(1);
+				if (event.getPreviousStatus() == ReservationStatus.CONFIRMED) {
+					stat.confirmed(-1);
+					stat.booked(event.getStartAt(), event.getEndAt(), -1);
+				}
+			}
+			case EXPIRED -> statOf(event.getStudyRoomId(), event.getStartAt()).expired(1);
+			case UPDATED -> {
+				// 수정은 CONFIRMED만 가능 -> 이전 구간을 빼고 새 구간을 더함
+				RoomDailyStat before = statOf(event.getPreviousStudyRoomId(), event.getPreviousStartAt());
+				before.reserved(-1);
+				before.confirmed(-1);
+				before.booked(event.getPreviousStartAt(), event.getPreviousEndAt(), -1);
+
+				RoomDailyStat after = statOf(event.getStudyRoomId(), event.getStartAt());
+				after.reserved(1);
+				after.confirmed(1);
+				after.booked(event.getStartAt(), event.getEndAt(), 1);
+			}
+		}
+
+		cursor.advance(event.getId(), clock);
+	}
+
+	// 집계 테이블만 읽음 -> 원본 예약 테이블 크기와 무관
+	// 점유율 분모는 날짜마다 운영 달력의 운영 분 (요일별 시간, 휴관일은 0)
+	public RoomStatsResponse.Summary stats(Long studyRoomId, LocalDate from, LocalDate to) {
+		StudyRoom room = commonService.getStudyRoomById(studyRoomId);
+
+		List<RoomDailyStat> stats = roomDailyStatRepository
+			.findByStudyRoomIdAndStatDateBetweenOrderByStatDateAsc(studyRoomId, from, to);
+
+		List<RoomStatsResponse.Daily> daily = new ArrayList<>(stats.size());
+		Map<LocalDate, long[]> weekly = new LinkedHashMap<>(); // weekStart -> [confirmedCount, bookedMinutes, days]
+		long[][] heatmap = new long[7][24];
+
+		for (RoomDailyStat stat : stats) {
+			daily.add(new RoomStatsResponse.Daily(
+				stat.getStatDate(),
+				stat.getReservedCount(),
+				stat.getConfirmedCount(),
+				stat.getCanceledCount(),
+				stat.getExpiredCount(),
+				stat.getBookedMinutes(),
+				ratio(stat.getBookedMinutes(), roomCalendarService.openMinutes(room, stat.getStatDate()))
+			));
+
+			LocalDate weekStart = stat.getStatDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+			long[] week = weekly.computeIfAbsent(weekStart, key -> new long[2]);
+			week[0] += stat.getConfirmedCount();
+			week[1] += stat.getBookedMinutes();
+
+			int[] hourly = stat.getHourlyMinutesArray();
+			int dayIndex = stat.getStatDate().getDayOfWeek().getValue() - 1;
+			for (int hour = 0; hour < 24; hour++) {
+				heatmap[dayIndex][hour] += hourly[hour];
+			}
+		}
+
+		// 주간 점유율 분모는 그 주에서 조회 범위에 포함된 날들의 운영 분 합
+		List<RoomStatsResponse.Weekly> weeks = weekly.entrySet().stream()
+			.map(entry -> {
+				LocalDate weekStart = entry.getKey();
+				LocalDate first = weekStart.isBefore(from) ? from : weekStart;
+				LocalDate last = weekStart.plusDays(6).isAfter(to) ? to : weekStart.plusDays(6);
+				return new RoomStatsResponse.Weekly(
+					weekStart,
+					(int) entry.getValue()[0],
+					entry.getValue()[1],
+					ratio(entry.getValue()[1], roomCalendarService.openMinutes(room, first, last))
+				);
+			})
+			.toList();
+
+		return new RoomStatsResponse.Summary(studyRoomId, from, to, daily, weeks, heatmap);
+	}
+
+	// 집계를 처음부터 다시 계산 (집계 로직 변경, 데이터 보정 시 사용)
+	// 커서 행 락을 잡고 하므로 그동안 증분 반영은 대기함
+	// 스캔이 끝난 뒤에 max id 를 읽으면 스캔 중에 커밋된 이벤트가 스캔에도 없고 커서 뒤에도 없음
+	// -> REPEATABLE READ 한 트랜잭션에서 워터마크를 먼저 읽고 같은 스냅샷으로 스캔
+	// 반영 기록은 스냅샷에 보이는 이벤트로 바꿔 둠 -> 워터마크보다 작은 id 가 스냅샷 이후에 커밋되면
+	// 스캔에는 없지만 반영 기록에도 없어서 디스패처가 늦게 전달할 때 apply 로 더해짐
+	@Transactional(Transactional.TxType.NOT_SUPPORTED)
+	public RoomStatsResponse.Rebuild rebuild() {
+		return snapshotTransaction.execute(status -> rebuildInSnapshot());
+	}
+
+	private RoomStatsResponse.Rebuild rebuildInSnapshot() {
+		long startedAt = System.currentTimeMillis();
+		OutboxCursor cursor = lockCursor();
+		long lastEventId = outboxEventRepository.findMaxId();
+
+		Map<StatKey, Accumulator> accumulators = new HashMap<>();
+		long[] scanned = {0};
+
+		try (Stream<ReservationExportRow> hot = reservationRepository.streamForExport(REBUILD_FROM, REBUILD_TO)) {
+			hot.forEach(row -> {
+				accumulate(accumulators, row);
+				scanned[0]++;
+			});
+		}
+		try (Stream<ReservationExportRow> cold = reservationHistoryRepository.streamForExport(REBUILD_FROM, REBUILD_TO)) {
+			cold.forEach(row -> {
+				accumulate(accumulators, row);
+				scanned[0]++;
+			});
+		}
+
+		jdbcTemplate.update("DELETE FROM room_daily_stat");
+		insertAll(accumulators);
+
+		outboxProcessedEventRepository.deleteByConsumer(CURSOR_NAME);
+		markAllProcessed(outboxEventRepository.findIdsUpTo(lastEventId));
+		cursor.advance(lastEventId, clock);
+
+		RoomStatsResponse.Rebuild result = new RoomStatsResponse.Rebuild(
+			scanned[0],
+			accumulators.size(),
+			lastEventId,
+			System.currentTimeMillis() - startedAt
+		);
+		log.info("Room daily stats rebuilt: {}", result);
+		return result;
+	}
+
+	private void accumulate(Map<StatKey, Accumulator> accumulators, ReservationExportRow row) {
+		Accumulator acc = accumulators.computeIfAbsent(
+			new StatKey(row.studyRoomId(), row.startAt().toLocalDate()),
+			key -> new Accumulator()
+		);
+		acc.reserved++;
+		switch (row.status()) {
+			case CONFIRMED -> {
+				acc.confirmed++;
+				acc.bookedMinutes += Duration.between(row.startAt(), row.endAt()).toMinutes();
+				RoomDailyStat.addHourlyMinutes(acc.hourly, row.startAt(), row.endAt(), 1);
+			}
+			case CANCELED -> acc.canceled++;
+			case EXPIRED -> acc.expired++;
+			default -> {
+			}
+		}
+	}
+
+	// IDENTITY 키라 saveAll은 한 건씩 INSERT 됨 -> JDBC 배치로 넣음
+	private void insertAll(Map<StatKey, Accumulator> accumulators) {
+		List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+		for (Map.Entry<StatKey, Accumulator> entry : accumulators.entrySet()) {
+			Accumulator acc = entry.getValue();
+			batch.add(new Object[]{
+				entry.getKey().studyRoomId(),
+				entry.getKey().date(),
+				acc.reserved,
+				acc.confirmed,
+				acc.canceled,
+				acc.expired,
+				acc.bookedMinutes,
+				RoomDailyStat.format(acc.hourly)
+			});
+			if (batch.size() == INSERT_BATCH_SIZE) {
+				flush(batch);
+			}
+		}
+		flush(batch);
+	}
+
+	private void flush(List<Object[]> batch) {
+		if (batch.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate("""
+			INSERT INTO room_daily_stat
+				(study_room_id, stat_date, reserved_count, confirmed_count, canceled_count, expired_count, booked_minutes, hourly_minutes)
+			VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+			""", batch);
+		batch.clear();
+	}
+
+	// 스캔과 같은 스냅샷에서 읽은 id 만 기록 (INSERT ... SELECT 는 MySQL 에서 최신 커밋을 읽어서 사용 안 함)
+	private void markAllProcessed(List<Long> eventIds) {
+		LocalDateTime now = LocalDateTime.now(clock);
+		List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+		for (Long eventId : eventIds) {
+			batch.add(new Object[]{CURSOR_NAME, eventId, now});
+			if (batch.size() == INSERT_BATCH_SIZE) {
+				flushProcessed(batch);
+			}
+		}
+		flushProcessed(batch);
+	}
+
+	private void flushProcessed(List<Object[]> batch) {
+		if (batch.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate("""
+			INSERT INTO outbox_processed_event (consumer, event_id, processed_at)
+			VALUES (?, ?, ?)
+			""", batch);
+		batch.clear();
+	}
+
+	private RoomDailyStat statOf(Long studyRoomId, LocalDateTime startAt) {
+		LocalDate date = startAt.toLocalDate();
+		return roomDailyStatRepository.findByStudyRoomIdAndStatDate(studyRoomId, date)
+			.orElseGet(() -> roomDailyStatRepository.save(new RoomDailyStat(studyRoomId, date)));
+	}
+
+	private OutboxCursor lockCursor() {
+		return outboxCursorRepository.findByNameForUpdate(CURSOR_NAME)
+			.orElseGet(() -> outboxCursorRepository.save(new OutboxCursor(CURSOR_NAME, clock)));
+	}
+
+	private static double ratio(long minutes, long total) {
+		return total == 0 ? 0 : (double) minutes / total;
+	}
+
+	private record StatKey(Long studyRoomId, LocalDate date) {
+	}
+
+	private static class Accumulator {
+		int reserved;
+		int confirmed;
+		int canceled;
+		int expired;
+		long bookedMinutes;
+		final int[] hourly = new int[24];
+	}
+}
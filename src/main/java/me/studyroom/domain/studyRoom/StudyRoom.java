@@ -38,6 +38,27 @@ public class StudyRoom {
 	@Column(nullable = false)
 	private LocalTime closeTime;
 
+	// 검색 조건 (RoomSearchIndex)
+	@Column(nullable = false)
+	private int capacity = 1;
+
+	@Column(nullable = false)
+	private int floor = 1;
+
+	@Column(nullable = false)
+	private boolean whiteboard;
+
+	@Column(nullable = false)
+	private boolean projector;
+
+	@Column(nullable = false)
+	private boolean quietZone;
+
+	// 예약 경로(낙관적/비관적 둘 다)에서 방을 잡을 때마다 올라감 -> 두 방식이 섞여도 같은 방 예약 검증이 겹치지 않음
+	@Version
+	@Column(nullable = false)
+	private long version;
+
 	public StudyRoom(String name, boolean available, String description, LocalTime openTime, LocalTime closeTime) {
 		validateOperatingHours(openTime, closeTime);
 
@@ -59,20 +80,51 @@ public class StudyRoom {
 		}
 	}
 
+	public void rename(String name) {
+		this.name = name;
+	}
+
+	public void describe(String description) {
+		this.description = description;
+	}
+
+	// 운영 시간 변경도 생성할 때와 같은 규칙으로 검증
+	// 이미 잡힌 예약이 새 운영 시간 밖이어도 그대로 둠 (필요하면 관리자가 직접 취소)
+	public void changeOperatingHours(LocalTime openTime, LocalTime closeTime) {
+		validateOperatingHours(openTime, closeTime);
+		this.openTime = openTime;
+		this.closeTime = closeTime;
+	}
+
+	// 검색 조건이라 값 범위만 확인 (인원은 1명 이상)
+	public void changeAttributes(int capacity, int floor, boolean whiteboard, boolean projector, boolean quietZone) {
+		if (capacity < 1) {
+			throw new StudyRoomException(ExceptionCode.INVALID_ROOM_ATTRIBUTE);
+		}
+		this.capacity = capacity;
+		this.floor = floor;
+		this.whiteboard = whiteboard;
+		this.projector = projector;
+		this.quietZone = quietZone;
+	}
+
 	// 상태 전이 규칙이 나중에 생길 수 있기에 if문으로 확인 후 변경으로 만들었다
 	// 의미 없는 상태 변경 방지 (로그/ 이벤트/ 감사 기록이 꼬일 수 있음)
-	public void enable() {
+	// 반환값 : 실제로 상태가 바뀌었는지 (일괄 처리에서 바뀐 방 수 집계용)
+	public boolean enable() {
 		if (this.available) {
-			return;
+			return false;
 		}
 		this.available = true;
+		return true;
 	}
 
-	public void disable() {
+	public boolean disable() {
 		if (!this.available) {
-			return;
+			return false;
 		}
 		this.available = false;
+		return true;
 	}
 
 	public void ensureAvailable() {
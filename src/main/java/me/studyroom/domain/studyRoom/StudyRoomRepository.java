@@ -1,16 +1,53 @@
 package me.studyroom.domain.studyRoom;
 
 import jakarta.persistence.LockModeType;
+import me.studyroom.domain.studyRoom.dto.StudyRoomResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface StudyRoomRepository extends JpaRepository<StudyRoom, Long> {
 
-	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	// 락을 잡으면서 version도 바로 올림
+	// 낙관적 경로로 같은 방을 읽은 트랜잭션이 있으면 그쪽 커밋이 버전 충돌로 실패함
+	@Lock(LockModeType.PESSIMISTIC_FORCE_INCREMENT)
 	@Query("SELECT s FROM StudyRoom s WHERE s.id = :id")
 	Optional<StudyRoom> findByIdForUpdate(@Param("id") Long id);
+
+	// 락 없이 읽고 커밋할 때 version을 올림 (UPDATE ... WHERE version = 읽은 값)
+	// 그 사이 다른 트랜잭션이 먼저 올렸으면 ObjectOptimisticLockingFailureException -> 통째로 롤백
+	@Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+	@Query("SELECT s FROM StudyRoom s WHERE s.id = :id")
+	Optional<StudyRoom> findByIdForOptimisticUpdate(@Param("id") Long id);
+
+	// 여러 방을 한 번에 잠글 때는 항상 id 순서로 잡음 (서로 다른 순서로 잡으면 데드락)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT s FROM StudyRoom s WHERE s.id IN :ids ORDER BY s.id")
+	List<StudyRoom> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+	// available은 엔티티 밖으로 노출하지 않으니 조회 응답은 프로젝션으로 바로 만듦
+	@Query("""
+		SELECT new me.studyroom.domain.studyRoom.dto.StudyRoomResponse$Detail(
+			s.id, s.name, s.available, s.description, s.openTime, s.closeTime,
+			s.capacity, s.floor, s.whiteboard, s.projector, s.quietZone)
+		FROM StudyRoom s
+		WHERE s.id = :id
+		""")
+	Optional<StudyRoomResponse.Detail> findDetailById(@Param("id") Long id);
+
+	@Query("""
+		SELECT new me.studyroom.domain.studyRoom.dto.StudyRoomResponse$Detail(
+			s.id, s.name, s.available, s.description, s.openTime, s.closeTime,
+			s.capacity, s.floor, s.whiteboard, s.projector, s.quietZone)
+		FROM StudyRoom s
+		ORDER BY s.id
+		""")
+	List<StudyRoomResponse.Detail> findAllDetails();
+
+	boolean existsByName(String name);
 }
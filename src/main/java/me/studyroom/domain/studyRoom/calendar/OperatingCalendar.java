@@ -0,0 +1,123 @@
+package me.studyroom.domain.studyRoom.calendar;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+// 방 하나의 운영 달력을 [firstDay, firstDay + days) 기간만큼 미리 계산해 둔 것 (불변)
+// 날짜별 영업 구간을 배열 하나에 이어 붙여 둠 (CSR 형태)
+//   offsets[d] ~ offsets[d + 1] : d번째 날의 구간이 ranges 에서 차지하는 위치
+//   ranges : 분 단위 [open, close) 쌍 (OperatingRules.openRanges 참고)
+// 조회는 날짜 -> 인덱스 계산 + 그날 구간 몇 개 비교라 요청마다 날짜 규칙을 다시 돌지 않음
+// 기간 밖(과거, 먼 미래)은 규칙으로 바로 계산 (느리지만 드묾)
+public final class OperatingCalendar {
+
+	private final OperatingRules rules;
+	private final long firstDay;
+	private final int[] offsets;
+	private final int[] ranges;
+
+	private OperatingCalendar(OperatingRules rules, long firstDay, int[] offsets, int[] ranges) {
+		this.rules = rules;
+		this.firstDay = firstDay;
+		this.offsets = offsets;
+		this.ranges = ranges;
+	}
+
+	public static OperatingCalendar compile(OperatingRules rules, LocalDate from, int days) {
+		OperatingRules active = rules.withoutClosuresEndedBefore(from.atStartOfDay());
+		int[][] perDay = new int[days][];
+		for (int d = 0; d < days; d++) {
+			perDay[d] = active.openRanges(from.plusDays(d));
+		}
+		return pack(active, from.toEpochDay(), perDay);
+	}
+
+	// 규칙이 바뀌었는데 영향 받는 날짜가 [from, to] 뿐일 때 (휴관 추가/삭제)
+	// 그 날짜만 다시 계산하고 나머지는 기존 값을 그대로 복사
+	public OperatingCalendar recompile(OperatingRules newRules, LocalDate from, LocalDate to) {
+		OperatingRules active = newRules.withoutClosuresEndedBefore(firstDay().atStartOfDay());
+		int days = days();
+		long changeFrom = Math.max(from.toEpochDay() - firstDay, 0);
+		long changeTo = Math.min(to.toEpochDay() - firstDay, days - 1L);
+		int[][] perDay = new int[days][];
+		for (int d = 0; d < days; d++) {
+			perDay[d] = d >= changeFrom && d <= changeTo
+				? active.openRanges(firstDay().plusDays(d))
+				: Arrays.copyOfRange(ranges, offsets[d], offsets[d + 1]);
+		}
+		return pack(active, firstDay, perDay);
+	}
+
+	private static OperatingCalendar pack(OperatingRules rules, long firstDay, int[][] perDay) {
+		int[] offsets = new int[perDay.length + 1];
+		for (int d = 0; d < perDay.length; d++) {
+			offsets[d + 1] = offsets[d] + perDay[d].length;
+		}
+		int[] ranges = new int[offsets[perDay.length]];
+		for (int d = 0; d < perDay.length; d++) {
+			System.arraycopy(perDay[d], 0, ranges, offsets[d], perDay[d].length);
+		}
+		return new OperatingCalendar(rules, firstDay, offsets, ranges);
+	}
+
+	// [start, end) 가 하루 안이고 영업 구간 하나에 통째로 들어가는지
+	// 시작은 내림, 종료는 올림 (초 단위 요청도 운영 시간 밖으로 나가면 거절)
+	public boolean isOpen(LocalDateTime start, LocalDateTime end) {
+		if (!start.isBefore(end) || !start.toLocalDate().equals(end.toLocalDate())) {
+			return false;
+		}
+		int from = OperatingRules.floorMinute(start.toLocalTime());
+		int to = OperatingRules.ceilMinute(end.toLocalTime());
+
+		int index = indexOf(start.toLocalDate());
+		if (index < 0) {
+			int[] day = rules.openRanges(start.toLocalDate());
+			return contains(day, 0, day.length, from, to);
+		}
+		return contains(ranges, offsets[index], offsets[index + 1], from, to);
+	}
+
+	public int[] openRanges(LocalDate date) {
+		int index = indexOf(date);
+		if (index < 0) {
+			return rules.openRanges(date);
+		}
+		return Arrays.copyOfRange(ranges, offsets[index], offsets[index + 1]);
+	}
+
+	public int openMinutes(LocalDate date) {
+		int[] day = openRanges(date);
+		int minutes = 0;
+		for (int i = 0; i < day.length; i += 2) {
+			minutes += day[i + 1] - day[i];
+		}
+		return minutes;
+	}
+
+	public OperatingRules rules() {
+		return rules;
+	}
+
+	public LocalDate firstDay() {
+		return LocalDate.ofEpochDay(firstDay);
+	}
+
+	public int days() {
+		return offsets.length - 1;
+	}
+
+	private int indexOf(LocalDate date) {
+		long index = date.toEpochDay() - firstDay;
+		return index < 0 || index >= days() ? -1 : (int) index;
+	}
+
+	private static boolean contains(int[] ranges, int begin, int end, int from, int to) {
+		for (int i = begin; i < end; i += 2) {
+			if (ranges[i] <= from && to <= ranges[i + 1]) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,49 @@
+package me.studyroom.domain.studyRoom.calendar;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+// 방별 컴파일된 운영 달력 (메모리)
+// 바꾸는 쪽은 항상 DB 커밋 뒤에 새 달력으로 통째로 교체 (OperatingCalendar는 불변)
+@Component
+public class OperatingCalendarIndex {
+
+	private volatile Map<Long, OperatingCalendar> calendars = new ConcurrentHashMap<>();
+
+	public OperatingCalendar get(Long studyRoomId) {
+		return calendars.get(studyRoomId);
+	}
+
+	public void put(Long studyRoomId, OperatingCalendar calendar) {
+		calendars.put(studyRoomId, calendar);
+	}
+
+	// 처음 보는 방을 요청 경로에서 컴파일했을 때, 그 사이 다른 쪽이 넣은 게 있으면 그걸 씀
+	public OperatingCalendar putIfAbsent(Long studyRoomId, OperatingCalendar calendar) {
+		OperatingCalendar existing = calendars.putIfAbsent(studyRoomId, calendar);
+		return existing != null ? existing : calendar;
+	}
+
+	public void update(Long studyRoomId, UnaryOperator<OperatingCalendar> change) {
+		calendars.computeIfPresent(studyRoomId, (id, calendar) -> change.apply(calendar));
+	}
+
+	public void updateAll(UnaryOperator<OperatingCalendar> change) {
+		calendars.replaceAll((id, calendar) -> change.apply(calendar));
+	}
+
+	public void remove(Long studyRoomId) {
+		calendars.remove(studyRoomId);
+	}
+
+	public void reload(Map<Long, OperatingCalendar> loaded) {
+		calendars = new ConcurrentHashMap<>(loaded);
+	}
+
+	public int size() {
+		return calendars.size();
+	}
+}
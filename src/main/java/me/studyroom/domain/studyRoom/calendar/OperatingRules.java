@@ -0,0 +1,147 @@
+package me.studyroom.domain.studyRoom.calendar;
+
+import me.studyroom.domain.studyRoom.StudyRoom;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// 방 하나의 운영 규칙 원본 (기본 운영 시간 + 요일별 시간 + 휴관)
+// openRanges(date)가 날짜 계산을 하는 느린 경로, OperatingCalendar가 기간만큼 미리 돌려서 담아둠
+// 영업 구간은 하루 안의 분 단위 [open, close) 쌍 배열 : {540, 720, 780, 1320} = 09:00~12:00, 13:00~22:00
+// 초 단위가 섞이면 안쪽으로 반올림 (영업 시작은 올림, 종료/휴관 시작은 내림) -> 애매하면 닫힌 것으로 봄
+// 종료 LocalTime.MAX 는 자정까지 (1440) : 24시간 방의 23:59 ~ 자정 직전 예약이 1분 모자라 거절되지 않게
+public record OperatingRules(
+	LocalTime openTime,
+	LocalTime closeTime,
+	Map<DayOfWeek, DayHours> weekdays,
+	List<Closure> closures
+) {
+
+	public static final int MINUTES_PER_DAY = 24 * 60;
+	private static final int[] CLOSED = new int[0];
+
+	public record DayHours(boolean closed, LocalTime openTime, LocalTime closeTime) {
+	}
+
+	public record Closure(long id, LocalDateTime startAt, LocalDateTime endAt) {
+	}
+
+	public OperatingRules {
+		weekdays = weekdays.isEmpty() ? Map.of() : Collections.unmodifiableMap(new EnumMap<>(weekdays));
+		closures = List.copyOf(closures);
+	}
+
+	public static OperatingRules of(StudyRoom room,
+																	Collection<RoomWeekdayHours> weekdayHours,
+																	Collection<RoomClosure> closures) {
+		Map<DayOfWeek, DayHours> weekdays = new EnumMap<>(DayOfWeek.class);
+		for (RoomWeekdayHours hours : weekdayHours) {
+			weekdays.put(hours.getDayOfWeek(), new DayHours(hours.isClosed(), hours.getOpenTime(), hours.getCloseTime()));
+		}
+		List<Closure> list = closures.stream()
+			.map(c -> new Closure(c.getId(), c.getStartAt(), c.getEndAt()))
+			.toList();
+		return new OperatingRules(room.getOpenTime(), room.getCloseTime(), weekdays, list);
+	}
+
+	public OperatingRules withHours(LocalTime openTime, LocalTime closeTime) {
+		return new OperatingRules(openTime, closeTime, weekdays, closures);
+	}
+
+	public OperatingRules withClosure(Closure closure) {
+		List<Closure> list = new ArrayList<>(closures);
+		list.add(closure);
+		return new OperatingRules(openTime, closeTime, weekdays, list);
+	}
+
+	public OperatingRules withoutClosure(long closureId) {
+		List<Closure> list = closures.stream().filter(c -> c.id() != closureId).toList();
+		return new OperatingRules(openTime, closeTime, weekdays, list);
+	}
+
+	// 이미 끝난 휴관은 다시 볼 일이 없으니 컴파일할 때 버림
+	public OperatingRules withoutClosuresEndedBefore(LocalDateTime from) {
+		List<Closure> list = closures.stream().filter(c -> c.endAt().isAfter(from)).toList();
+		return list.size() == closures.size() ? this : new OperatingRules(openTime, closeTime, weekdays, list);
+	}
+
+	public int[] openRanges(LocalDate date) {
+		int open;
+		int close;
+		DayHours day = weekdays.get(date.getDayOfWeek());
+		if (day == null) {
+			open = ceilMinute(openTime);
+			close = closeMinute(closeTime);
+		} else if (day.closed()) {
+			return CLOSED;
+		} else {
+			open = ceilMinute(day.openTime());
+			close = closeMinute(day.closeTime());
+		}
+		if (open >= close) {
+			return CLOSED;
+		}
+
+		int[] ranges = {open, close};
+		LocalDateTime dayStart = date.atStartOfDay();
+		LocalDateTime dayEnd = dayStart.plusDays(1);
+		for (Closure closure : closures) {
+			if (!closure.startAt().isBefore(dayEnd) || !closure.endAt().isAfter(dayStart)) {
+				continue;
+			}
+			int from = closure.startAt().isAfter(dayStart) ? floorMinute(closure.startAt().toLocalTime()) : 0;
+			int to = closure.endAt().isBefore(dayEnd) ? ceilMinute(closure.endAt().toLocalTime()) : MINUTES_PER_DAY;
+			ranges = subtract(ranges, from, to);
+			if (ranges.length == 0) {
+				return CLOSED;
+			}
+		}
+		return ranges;
+	}
+
+	// [from, to) 를 영업 구간에서 빼기, 구간 하나가 최대 둘로 쪼개짐
+	private static int[] subtract(int[] ranges, int from, int to) {
+		int[] result = new int[ranges.length + 2];
+		int size = 0;
+		for (int i = 0; i < ranges.length; i += 2) {
+			int open = ranges[i];
+			int close = ranges[i + 1];
+			if (to <= open || close <= from) {
+				result[size++] = open;
+				result[size++] = close;
+				continue;
+			}
+			if (open < from) {
+				result[size++] = open;
+				result[size++] = from;
+			}
+			if (to < close) {
+				result[size++] = to;
+				result[size++] = close;
+			}
+		}
+		return size == result.length ? result : Arrays.copyOf(result, size);
+	}
+
+	static int floorMinute(LocalTime time) {
+		return time.getHour() * 60 + time.getMinute();
+	}
+
+	static int closeMinute(LocalTime time) {
+		return time.equals(LocalTime.MAX) ? MINUTES_PER_DAY : floorMinute(time);
+	}
+
+	static int ceilMinute(LocalTime time) {
+		int minute = floorMinute(time);
+		return time.getSecond() == 0 && time.getNano() == 0 ? minute : minute + 1;
+	}
+}
@@ -0,0 +1,27 @@
+package me.studyroom.domain.studyRoom.calendar;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomCalendarScheduler {
+
+	private final RoomCalendarService roomCalendarService;
+
+	// 시작할 때 적재는 StartupWarmup, 여기서는 다른 인스턴스에서 바뀐 규칙 반영 + 날짜가 넘어가면 기간 밀기
+	// 실패해도 비어 있는 방은 조회할 때 그 방만 컴파일하고, 다음 주기에 다시 적재
+	@Scheduled(initialDelayString = "${studyroom.calendar.reload-delay-millis:300000}",
+		fixedDelayString = "${studyroom.calendar.reload-delay-millis:300000}")
+	public void reload() {
+		try {
+			int rooms = roomCalendarService.reloadAll();
+			log.debug("Operating calendars compiled: {}", rooms);
+		} catch (RuntimeException e) {
+			log.warn("Operating calendar reload failed", e);
+		}
+	}
+}
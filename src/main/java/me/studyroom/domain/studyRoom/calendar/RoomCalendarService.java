@@ -0,0 +1,272 @@
+package me.studyroom.domain.studyRoom.calendar;
+
+import jakarta.transaction.Transactional;
+import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.studyRoom.StudyRoomRepository;
+import me.studyroom.domain.studyRoom.dto.CalendarResponse;
+import me.studyroom.global.dto.request.CalendarRequest;
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.StudyRoomException;
+import me.studyroom.global.service.CommonService;
+import me.studyroom.global.transaction.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 운영 달력 (요일별 시간 + 휴관) 관리와 조회
+// 요청 경로(예약 검증, 빈 시간 검색)는 메모리의 컴파일된 달력만 봄
+// 관리자가 바꾸면 트랜잭션 안에서 새 달력을 만들고 커밋된 뒤에 교체
+//   운영 시간/요일 변경 : 그 방만 다시 컴파일
+//   휴관 추가/삭제 : 영향 받는 방(전체 휴관이면 모든 방)의 해당 날짜만 다시 계산
+// 다른 인스턴스에서 바뀐 것은 주기적으로 전체를 다시 적재해서 맞춤 (RoomCalendarScheduler)
+@Service
+@Transactional
+public class RoomCalendarService {
+
+	private static final int MAX_QUERY_DAYS = 92;
+
+	private final StudyRoomRepository studyRoomRepository;
+	private final RoomWeekdayHoursRepository roomWeekdayHoursRepository;
+	private final RoomClosureRepository roomClosureRepository;
+	private final OperatingCalendarIndex operatingCalendarIndex;
+	private final CommonService commonService;
+	private final Clock clock;
+	private final int horizonDays;
+
+	public RoomCalendarService(StudyRoomRepository studyRoomRepository,
+														 RoomWeekdayHoursRepository roomWeekdayHoursRepository,
+														 RoomClosureRepository roomClosureRepository,
+														 OperatingCalendarIndex operatingCalendarIndex,
+														 CommonService commonService,
+														 Clock clock,
+														 @Value("${studyroom.calendar.horizon-days:92}") int horizonDays) {
+		this.studyRoomRepository = studyRoomRepository;
+		this.roomWeekdayHoursRepository = roomWeekdayHoursRepository;
+		this.roomClosureRepository = roomClosureRepository;
+		this.operatingCalendarIndex = operatingCalendarIndex;
+		this.commonService = commonService;
+		this.clock = clock;
+		this.horizonDays = horizonDays;
+	}
+
+	// OperatingTimePolicy 에서 호출
+	public void validateOpen(StudyRoom studyRoom, LocalDateTime start, LocalDateTime end) {
+		if (!calendarOf(studyRoom).isOpen(start, end)) {
+			throw new StudyRoomException(ExceptionCode.OUT_OF_OPERATING_TIME);
+		}
+	}
+
+	public boolean isOpen(StudyRoom studyRoom, LocalDateTime start, LocalDateTime end) {
+		return calendarOf(studyRoom).isOpen(start, end);
+	}
+
+	// 방 검색용 : 메모리에 달력이 있으면 방을 읽지 않음
+	public boolean isOpen(Long studyRoomId, LocalDateTime start, LocalDateTime end) {
+		OperatingCalendar calendar = operatingCalendarIndex.get(studyRoomId);
+		if (calendar != null) {
+			return calendar.isOpen(start, end);
+		}
+		return calendarOf(commonService.getStudyRoomById(studyRoomId)).isOpen(start, end);
+	}
+
+	// 빈 시간 검색용, 분 단위 [open, close) 쌍
+	public int[] openRanges(StudyRoom studyRoom, LocalDate date) {
+		return calendarOf(studyRoom).openRanges(date);
+	}
+
+	// 예약 충돌 시 빈 시간 제안용 : isOpen(Long, ..) 처럼 메모리 달력 먼저
+	public int[] openRanges(Long studyRoomId, LocalDate date) {
+		OperatingCalendar calendar = operatingCalendarIndex.get(studyRoomId);
+		if (calendar != null) {
+			return calendar.openRanges(date);
+		}
+		return openRanges(commonService.getStudyRoomById(studyRoomId), date);
+	}
+
+	// 점유율 분모용 : 그날 달력의 운영 분 (요일별 시간, 휴관 반영)
+	public int openMinutes(StudyRoom studyRoom, LocalDate date) {
+		return calendarOf(studyRoom).openMinutes(date);
+	}
+
+	// [from, to] 날짜마다의 운영 분 합
+	public long openMinutes(StudyRoom studyRoom, LocalDate from, LocalDate to) {
+		OperatingCalendar calendar = calendarOf(studyRoom);
+		long minutes = 0;
+		for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+			minutes += calendar.openMinutes(date);
+		}
+		return minutes;
+	}
+
+	public List<CalendarResponse.Day> getCalendar(Long studyRoomId, LocalDate from, LocalDate to) {
+		if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= MAX_QUERY_DAYS) {
+			throw new StudyRoomException(ExceptionCode.INVALID_TIME_RANGE);
+		}
+		OperatingCalendar calendar = calendarOf(commonService.getStudyRoomById(studyRoomId));
+		List<CalendarResponse.Day> days = new ArrayList<>();
+		for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+			int[] ranges = calendar.openRanges(date);
+			List<CalendarResponse.OpenRange> open = new ArrayList<>(ranges.length / 2);
+			for (int i = 0; i < ranges.length; i += 2) {
+				open.add(new CalendarResponse.OpenRange(toTime(ranges[i]), toTime(ranges[i + 1])));
+			}
+			days.add(new CalendarResponse.Day(date, open));
+		}
+		return days;
+	}
+
+	// 요일별 운영 시간은 통째로 교체, 예약 쪽과 같은 방 락을 잡아서 검증 도중 바뀌지 않게 함
+	public void replaceWeekdayHours(Long studyRoomId, CalendarRequest.Weekdays request) {
+		StudyRoom studyRoom = commonService.getStudyRoomForUpdate(studyRoomId);
+
+		Set<DayOfWeek> seen = EnumSet.noneOf(DayOfWeek.class);
+		List<RoomWeekdayHours> hours = new ArrayList<>();
+		for (CalendarRequest.WeekdayHours day : request.days()) {
+			if (!seen.add(day.dayOfWeek())) {
+				throw new StudyRoomException(ExceptionCode.INVALID_OPERATING_TIME);
+			}
+			hours.add(new RoomWeekdayHours(studyRoomId, day.dayOfWeek(), day.closed(), day.openTime(), day.closeTime()));
+		}
+		roomWeekdayHoursRepository.deleteByStudyRoomId(studyRoomId);
+		roomWeekdayHoursRepository.saveAll(hours);
+
+		rebuild(studyRoom, hours);
+	}
+
+	// 기본 운영 시간이 바뀌었을 때 (StudyRoomService.create/update)
+	public void rebuild(StudyRoom studyRoom) {
+		rebuild(studyRoom, roomWeekdayHoursRepository.findByStudyRoomId(studyRoom.getId()));
+	}
+
+	public void forget(Long studyRoomId) {
+		roomWeekdayHoursRepository.deleteByStudyRoomId(studyRoomId);
+		roomClosureRepository.deleteByStudyRoomId(studyRoomId);
+		AfterCommit.run(() -> operatingCalendarIndex.remove(studyRoomId));
+	}
+
+	public CalendarResponse.Closure addClosure(CalendarRequest.Closure request) {
+		if (request.studyRoomId() != null) {
+			commonService.getStudyRoomForUpdate(request.studyRoomId());
+		}
+		RoomClosure closure = roomClosureRepository.save(
+			new RoomClosure(request.studyRoomId(), request.startAt(), request.endAt(), request.reason(), clock));
+
+		OperatingRules.Closure rule = new OperatingRules.Closure(closure.getId(), closure.getStartAt(), closure.getEndAt());
+		patchAfterCommit(closure, calendar -> calendar.rules().withClosure(rule));
+		return toResponse(closure);
+	}
+
+	public void removeClosure(Long closureId) {
+		RoomClosure closure = roomClosureRepository.findById(closureId)
+			.orElseThrow(() -> new StudyRoomException(ExceptionCode.NOT_FOUND_CLOSURE));
+		if (!closure.isGlobal()) {
+			commonService.getStudyRoomForUpdate(closure.getStudyRoomId());
+		}
+		roomClosureRepository.delete(closure);
+
+		patchAfterCommit(closure, calendar -> calendar.rules().withoutClosure(closure.getId()));
+	}
+
+	public List<CalendarResponse.Closure> getClosures(Long studyRoomId) {
+		LocalDateTime now = LocalDateTime.now(clock);
+		List<RoomClosure> closures = new ArrayList<>(roomClosureRepository.findByStudyRoomIdIsNullAndEndAtAfter(now));
+		if (studyRoomId != null) {
+			closures.addAll(roomClosureRepository.findByStudyRoomIdAndEndAtAfter(studyRoomId, now));
+		}
+		return closures.stream()
+			.sorted(Comparator.comparing(RoomClosure::getStartAt))
+			.map(RoomCalendarService::toResponse)
+			.toList();
+	}
+
+	// 전체 다시 적재 : 시작 시, 주기적으로 (날짜가 넘어가면 기간도 같이 밀림)
+	public int reloadAll() {
+		LocalDate today = LocalDate.now(clock);
+		LocalDateTime from = today.atStartOfDay();
+
+		Map<Long, List<RoomWeekdayHours>> weekdays = roomWeekdayHoursRepository.findAll().stream()
+			.collect(Collectors.groupingBy(RoomWeekdayHours::getStudyRoomId));
+		List<RoomClosure> closures = roomClosureRepository.findByEndAtAfter(from);
+		List<RoomClosure> global = closures.stream().filter(RoomClosure::isGlobal).toList();
+		Map<Long, List<RoomClosure>> byRoom = closures.stream()
+			.filter(c -> !c.isGlobal())
+			.collect(Collectors.groupingBy(RoomClosure::getStudyRoomId));
+
+		Map<Long, OperatingCalendar> loaded = new HashMap<>();
+		for (StudyRoom room : studyRoomRepository.findAll()) {
+			List<RoomClosure> roomClosures = new ArrayList<>(global);
+			roomClosures.addAll(byRoom.getOrDefault(room.getId(), List.of()));
+			OperatingRules rules = OperatingRules.of(room, weekdays.getOrDefault(room.getId(), List.of()), roomClosures);
+			loaded.put(room.getId(), OperatingCalendar.compile(rules, today, horizonDays));
+		}
+		AfterCommit.run(() -> operatingCalendarIndex.reload(loaded));
+		return loaded.size();
+	}
+
+	private OperatingCalendar calendarOf(StudyRoom studyRoom) {
+		OperatingCalendar calendar = operatingCalendarIndex.get(studyRoom.getId());
+		if (calendar != null) {
+			return calendar;
+		}
+		// 다른 인스턴스에서 방금 만든 방 등 : 이번만 DB에서 읽어 컴파일
+		OperatingCalendar compiled = OperatingCalendar.compile(
+			loadRules(studyRoom, roomWeekdayHoursRepository.findByStudyRoomId(studyRoom.getId())),
+			LocalDate.now(clock), horizonDays);
+		return operatingCalendarIndex.putIfAbsent(studyRoom.getId(), compiled);
+	}
+
+	private void rebuild(StudyRoom studyRoom, List<RoomWeekdayHours> hours) {
+		OperatingCalendar compiled = OperatingCalendar.compile(loadRules(studyRoom, hours), LocalDate.now(clock), horizonDays);
+		AfterCommit.run(() -> operatingCalendarIndex.put(studyRoom.getId(), compiled));
+	}
+
+	private OperatingRules loadRules(StudyRoom studyRoom, List<RoomWeekdayHours> hours) {
+		LocalDateTime from = LocalDate.now(clock).atStartOfDay();
+		List<RoomClosure> closures = new ArrayList<>(roomClosureRepository.findByStudyRoomIdIsNullAndEndAtAfter(from));
+		closures.addAll(roomClosureRepository.findByStudyRoomIdAndEndAtAfter(studyRoom.getId(), from));
+		return OperatingRules.of(studyRoom, hours, closures);
+	}
+
+	// 휴관이 걸친 날짜만 다시 계산
+	private void patchAfterCommit(RoomClosure closure,
+																Function<OperatingCalendar, OperatingRules> newRules) {
+		LocalDate from = closure.getStartAt().toLocalDate();
+		LocalDate to = closure.getEndAt().minusNanos(1).toLocalDate();
+		AfterCommit.run(() -> {
+			if (closure.isGlobal()) {
+				operatingCalendarIndex.updateAll(calendar -> calendar.recompile(newRules.apply(calendar), from, to));
+			} else {
+				operatingCalendarIndex.update(closure.getStudyRoomId(),
+					calendar -> calendar.recompile(newRules.apply(calendar), from, to));
+			}
+		});
+	}
+
+	// 1440 (자정까지 영업) 은 저장된 값과 같은 LocalTime.MAX 로
+	private static LocalTime toTime(int minute) {
+		if (minute >= OperatingRules.MINUTES_PER_DAY) {
+			return LocalTime.MAX;
+		}
+		return LocalTime.of(minute / 60, minute % 60);
+	}
+
+	private static CalendarResponse.Closure toResponse(RoomClosure closure) {
+		return new CalendarResponse.Closure(
+			closure.getId(), closure.getStudyRoomId(), closure.getStartAt(), closure.getEndAt(), closure.getReason());
+	}
+}
@@ -0,0 +1,60 @@
+package me.studyroom.domain.studyRoom.calendar;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.StudyRoomException;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+// 휴관 일정 [startAt, endAt)
+// studyRoomId 가 null 이면 전체 휴관 (공휴일 등), 있으면 그 방만 (점검 등)
+// 이미 잡힌 예약은 건드리지 않음 (운영 시간 변경과 같은 정책, 필요하면 관리자가 직접 취소)
+@Entity
+@Table(
+	name = "room_closure",
+	indexes = {
+		@Index(name = "idx_room_closure_room_end", columnList = "study_room_id, end_at"),
+		@Index(name = "idx_room_closure_end", columnList = "end_at")
+	}
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RoomClosure {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "study_room_id")
+	private Long studyRoomId;
+
+	@Column(name = "start_at", nullable = false)
+	private LocalDateTime startAt;
+
+	@Column(name = "end_at", nullable = false)
+	private LocalDateTime endAt;
+
+	@Column(nullable = false, length = 100)
+	private String reason;
+
+	@Column(nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	public RoomClosure(Long studyRoomId, LocalDateTime startAt, LocalDateTime endAt, String reason, Clock clock) {
+		if (!startAt.isBefore(endAt)) {
+			throw new StudyRoomException(ExceptionCode.INVALID_TIME_RANGE);
+		}
+		this.studyRoomId = studyRoomId;
+		this.startAt = startAt;
+		this.endAt = endAt;
+		this.reason = reason;
+		this.createdAt = LocalDateTime.now(clock);
+	}
+
+	public boolean isGlobal() {
+		return studyRoomId == null;
+	}
+}
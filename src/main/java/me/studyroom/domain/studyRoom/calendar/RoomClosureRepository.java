@@ -0,0 +1,25 @@
+package me.studyroom.domain.studyRoom.calendar;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RoomClosureRepository extends JpaRepository<RoomClosure, Long> {
+
+	// 방 하나 컴파일용 : 그 방 휴관 + 전체 휴관을 따로 조회 (OR 로 합치면 인덱스를 못 탐)
+	// idx_room_closure_room_end (study_room_id, end_at)
+	List<RoomClosure> findByStudyRoomIdAndEndAtAfter(Long studyRoomId, LocalDateTime from);
+
+	List<RoomClosure> findByStudyRoomIdIsNullAndEndAtAfter(LocalDateTime from);
+
+	// 전체 다시 적재용, idx_room_closure_end
+	List<RoomClosure> findByEndAtAfter(LocalDateTime from);
+
+	@Modifying(flushAutomatically = true)
+	@Query("DELETE FROM RoomClosure c WHERE c.studyRoomId = :studyRoomId")
+	int deleteByStudyRoomId(@Param("studyRoomId") Long studyRoomId);
+}
@@ -0,0 +1,55 @@
+package me.studyroom.domain.studyRoom.calendar;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.StudyRoomException;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+// 요일별 운영 시간 (없는 요일은 StudyRoom의 기본 운영 시간을 따름)
+// closed = true 면 그 요일은 휴무
+@Entity
+@Table(
+	name = "room_weekday_hours",
+	uniqueConstraints = @UniqueConstraint(
+		name = "uk_room_weekday_hours_room_day",
+		columnNames = {"study_room_id", "day_of_week"}
+	)
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RoomWeekdayHours {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "study_room_id", nullable = false)
+	private Long studyRoomId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "day_of_week", nullable = false, length = 10)
+	private DayOfWeek dayOfWeek;
+
+	@Column(nullable = false)
+	private boolean closed;
+
+	private LocalTime openTime;
+
+	private LocalTime closeTime;
+
+	public RoomWeekdayHours(Long studyRoomId, DayOfWeek dayOfWeek, boolean closed, LocalTime openTime, LocalTime closeTime) {
+		// StudyRoom과 같은 규칙 : open < close, 야간 영업 없음
+		if (!closed && (openTime == null || closeTime == null || !openTime.isBefore(closeTime))) {
+			throw new StudyRoomException(ExceptionCode.INVALID_OPERATING_TIME);
+		}
+		this.studyRoomId = studyRoomId;
+		this.dayOfWeek = dayOfWeek;
+		this.closed = closed;
+		this.openTime = closed ? null : openTime;
+		this.closeTime = closed ? null : closeTime;
+	}
+}
@@ -0,0 +1,19 @@
+package me.studyroom.domain.studyRoom.calendar;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface RoomWeekdayHoursRepository extends JpaRepository<RoomWeekdayHours, Long> {
+
+	// uk_room_weekday_hours_room_day 앞부분
+	List<RoomWeekdayHours> findByStudyRoomId(Long studyRoomId);
+
+	// 요일 설정은 통째로 교체
+	@Modifying(flushAutomatically = true)
+	@Query("DELETE FROM RoomWeekdayHours h WHERE h.studyRoomId = :studyRoomId")
+	int deleteByStudyRoomId(@Param("studyRoomId") Long studyRoomId);
+}
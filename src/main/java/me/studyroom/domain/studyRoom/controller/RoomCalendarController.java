@@ -0,0 +1,54 @@
+package me.studyroom.domain.studyRoom.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import me.studyroom.domain.studyRoom.calendar.RoomCalendarService;
+import me.studyroom.domain.studyRoom.dto.CalendarResponse;
+import me.studyroom.global.dto.request.CalendarRequest;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 요일별 운영 시간, 휴관 일정 관리 (관리자)
+@RestController
+@RequestMapping("/admin/calendar")
+@RequiredArgsConstructor
+public class RoomCalendarController {
+	private final RoomCalendarService roomCalendarService;
+
+	// 날짜별 실제 영업 구간 (요일 설정 + 휴관 반영 결과)
+	@GetMapping("/rooms/{studyRoomId}")
+	public List<CalendarResponse.Day> getCalendar(@PathVariable Long studyRoomId,
+																							 @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+																							 @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+		return roomCalendarService.getCalendar(studyRoomId, from, to);
+	}
+
+	@PutMapping("/rooms/{studyRoomId}/weekdays")
+	@ResponseStatus(HttpStatus.NO_CONTENT)
+	public void replaceWeekdayHours(@PathVariable Long studyRoomId,
+																	@Valid @RequestBody CalendarRequest.Weekdays request) {
+		roomCalendarService.replaceWeekdayHours(studyRoomId, request);
+	}
+
+	// studyRoomId 없으면 전체 휴관만, 있으면 전체 + 그 방 휴관 (끝나지 않은 것만)
+	@GetMapping("/closures")
+	public List<CalendarResponse.Closure> getClosures(@RequestParam(required = false) Long studyRoomId) {
+		return roomCalendarService.getClosures(studyRoomId);
+	}
+
+	@PostMapping("/closures")
+	@ResponseStatus(HttpStatus.CREATED)
+	public CalendarResponse.Closure addClosure(@Valid @RequestBody CalendarRequest.Closure request) {
+		return roomCalendarService.addClosure(request);
+	}
+
+	@DeleteMapping("/closures/{closureId}")
+	@ResponseStatus(HttpStatus.NO_CONTENT)
+	public void removeClosure(@PathVariable Long closureId) {
+		roomCalendarService.removeClosure(closureId);
+	}
+}
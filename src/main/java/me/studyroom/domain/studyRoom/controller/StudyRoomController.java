@@ -1,9 +1,61 @@
 package me.studyroom.domain.studyRoom.controller;
 
-import org.springframework.web.bind.annotation.RestController;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import me.studyroom.domain.studyRoom.dto.StudyRoomResponse;
+import me.studyroom.domain.studyRoom.service.StudyRoomBulkService;
+import me.studyroom.domain.studyRoom.service.StudyRoomService;
+import me.studyroom.global.dto.request.StudyRoomRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
 
 // studyRoom과 관련된 생성 수정 삭제는 관리자만 가능하게 만들어야 함
+// -> /admin/** 는 SecurityConfig에서 ADMIN만 접근 가능
 @RestController
+@RequestMapping("/admin/study-rooms")
+@RequiredArgsConstructor
 public class StudyRoomController {
+	private final StudyRoomService studyRoomService;
+	private final StudyRoomBulkService studyRoomBulkService;
+
+	@PostMapping
+	@ResponseStatus(HttpStatus.CREATED)
+	public StudyRoomResponse.Detail create(@Valid @RequestBody StudyRoomRequest.Create createRequest) {
+		return studyRoomService.create(createRequest);
+	}
+
+	@GetMapping
+	public List<StudyRoomResponse.Detail> getStudyRooms() {
+		return studyRoomService.getAll();
+	}
+
+	@GetMapping("/{studyRoomId}")
+	public StudyRoomResponse.Detail getStudyRoom(@PathVariable Long studyRoomId) {
+		return studyRoomService.getDetail(studyRoomId);
+	}
+
+	@PatchMapping("/{studyRoomId}")
+	public StudyRoomResponse.Detail update(@PathVariable Long studyRoomId,
+																				 @Valid @RequestBody StudyRoomRequest.Update updateRequest) {
+		return studyRoomService.update(studyRoomId, updateRequest);
+	}
+
+	@DeleteMapping("/{studyRoomId}")
+	@ResponseStatus(HttpStatus.NO_CONTENT)
+	public void delete(@PathVariable Long studyRoomId) {
+		studyRoomService.delete(studyRoomId);
+	}
+
+	@PostMapping("/bulk/enable")
+	public StudyRoomResponse.BulkResult enable(@Valid @RequestBody StudyRoomRequest.Bulk bulkRequest) {
+		return studyRoomBulkService.enable(bulkRequest.studyRoomIds());
+	}
 
+	// 비활성화 + 앞으로의 예약(결제 대기, 확정) 일괄 취소
+	@PostMapping("/bulk/disable")
+	public StudyRoomResponse.BulkResult disable(@Valid @RequestBody StudyRoomRequest.Bulk bulkRequest) {
+		return studyRoomBulkService.disable(bulkRequest.studyRoomIds());
+	}
 }
@@ -0,0 +1,39 @@
+package me.studyroom.domain.studyRoom.controller;
+
+import lombok.RequiredArgsConstructor;
+import me.studyroom.domain.studyRoom.dto.StudyRoomResponse;
+import me.studyroom.domain.studyRoom.search.RoomSearchService;
+import me.studyroom.global.dto.request.StudyRoomRequest;
+import me.studyroom.security.CustomUserDetails;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 사용자용 방 검색 (관리용 목록은 /admin/study-rooms)
+@RestController
+@RequestMapping("/study-rooms")
+@RequiredArgsConstructor
+public class StudyRoomSearchController {
+	private final RoomSearchService roomSearchService;
+
+	// 예 : ?minCapacity=4&projector=true&startAt=2026-10-20T14:00&endAt=2026-10-20T16:00
+	@GetMapping("/search")
+	public List<StudyRoomResponse.Detail> search(
+		@RequestParam(required = false) String name,
+		@RequestParam(required = false) Integer minCapacity,
+		@RequestParam(required = false) Integer floor,
+		@RequestParam(required = false) Boolean whiteboard,
+		@RequestParam(required = false) Boolean projector,
+		@RequestParam(required = false) Boolean quietZone,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startAt,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endAt,
+		@RequestParam(required = false) Integer limit,
+		@AuthenticationPrincipal CustomUserDetails user) {
+		return roomSearchService.search(
+			new StudyRoomRequest.Search(name, minCapacity, floor, whiteboard, projector, quietZone, startAt, endAt, limit),
+			user.getId());
+	}
+}
@@ -0,0 +1,34 @@
+package me.studyroom.domain.studyRoom.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+public sealed interface CalendarResponse
+	permits CalendarResponse.Day,
+	CalendarResponse.OpenRange,
+	CalendarResponse.Closure {
+
+	// open 이 비어 있으면 그날은 휴무
+	record Day(
+		LocalDate date,
+		List<OpenRange> open
+	) implements CalendarResponse {
+	}
+
+	record OpenRange(
+		LocalTime from,
+		LocalTime to
+	) implements CalendarResponse {
+	}
+
+	record Closure(
+		Long id,
+		Long studyRoomId,
+		LocalDateTime startAt,
+		LocalDateTime endAt,
+		String reason
+	) implements CalendarResponse {
+	}
+}
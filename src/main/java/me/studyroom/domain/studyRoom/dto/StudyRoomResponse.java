@@ -0,0 +1,35 @@
+package me.studyroom.domain.studyRoom.dto;
+
+import java.time.LocalTime;
+import java.util.List;
+
+public sealed interface StudyRoomResponse
+	permits StudyRoomResponse.Detail,
+	StudyRoomResponse.BulkResult {
+
+	record Detail(
+		Long id,
+		String name,
+		boolean available,
+		String description,
+		LocalTime openTime,
+		LocalTime closeTime,
+		int capacity,
+		int floor,
+		boolean whiteboard,
+		boolean projector,
+		boolean quietZone
+	) implements StudyRoomResponse {
+	}
+
+	// changedRooms : 실제로 상태가 바뀐 방 수 (이미 같은 상태였던 방 제외)
+	// canceledReservations : 비활성화로 취소된 앞으로의 예약 수
+	record BulkResult(
+		int requestedRooms,
+		int changedRooms,
+		List<Long> notFoundRoomIds,
+		int canceledReservations,
+		long elapsedMillis
+	) implements StudyRoomResponse {
+	}
+}
@@ -0,0 +1,62 @@
+package me.studyroom.domain.studyRoom.search;
+
+import java.util.Arrays;
+
+// 방 이름 접두어 트라이 (불변)
+// 이름을 정렬한 순서가 곧 방 번호(RoomFacets 의 ordinal)라 같은 접두어를 가진 방은 번호가 연속
+// -> 노드마다 방 목록 대신 번호 구간 [from, to) 두 개만 들고 있음 (방 수 x 이름 길이만큼 비트셋을 만들지 않음)
+final class NameTrie {
+
+	private static final Node EMPTY = new Node(0, 0, new char[0], new Node[0]);
+
+	private final Node root;
+
+	private NameTrie(Node root) {
+		this.root = root;
+	}
+
+	// sortedNames : 소문자로 바꿔 String.compareTo 순서로 정렬된 이름
+	static NameTrie of(String[] sortedNames) {
+		return new NameTrie(sortedNames.length == 0 ? EMPTY : build(sortedNames, 0, sortedNames.length, 0));
+	}
+
+	// 접두어가 같은 방 번호 구간 {from, to}, 없으면 null
+	int[] range(String prefix) {
+		Node node = root;
+		for (int i = 0; i < prefix.length(); i++) {
+			int child = Arrays.binarySearch(node.keys, prefix.charAt(i));
+			if (child < 0) {
+				return null;
+			}
+			node = node.children[child];
+		}
+		return node.from == node.to ? null : new int[]{node.from, node.to};
+	}
+
+	// [from, to) 는 depth 글자까지 같은 이름들, 그 다음 글자로 묶으면 정렬돼 있으니 묶음도 연속
+	// 이름이 depth 글자에서 끝나는 방은 맨 앞에 옴 (짧은 이름이 먼저 정렬됨)
+	private static Node build(String[] names, int from, int to, int depth) {
+		int start = from;
+		while (start < to && names[start].length() == depth) {
+			start++;
+		}
+		char[] keys = new char[to - start];
+		Node[] children = new Node[to - start];
+		int count = 0;
+		for (int i = start; i < to; ) {
+			char key = names[i].charAt(depth);
+			int end = i + 1;
+			while (end < to && names[end].charAt(depth) == key) {
+				end++;
+			}
+			keys[count] = key;
+			children[count] = build(names, i, end, depth + 1);
+			count++;
+			i = end;
+		}
+		return new Node(from, to, Arrays.copyOf(keys, count), Arrays.copyOf(children, count));
+	}
+
+	private record Node(int from, int to, char[] keys, Node[] children) {
+	}
+}
@@ -0,0 +1,137 @@
+package me.studyroom.domain.studyRoom.search;
+
+import me.studyroom.domain.studyRoom.dto.StudyRoomResponse;
+import me.studyroom.global.dto.request.StudyRoomRequest;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 방 속성 인덱스 (불변, 바뀌면 통째로 새로 만듦)
+// 방마다 0부터 빈틈 없는 번호(ordinal)를 주고 속성 값마다 그 값을 가진 방 번호의 비트셋을 둠
+// 조건 여러 개는 비트셋 AND 로 끝 (방 1만 개여도 조건 하나에 long 160개 AND)
+//   인원 : "N명 이상" 이라 값별 비트셋을 큰 값부터 누적(OR)해 둠 -> 이분 탐색 한 번 + AND 한 번
+//   층 : 값별 비트셋
+//   화이트보드, 프로젝터, 조용한 구역 : 있는 방 비트셋 (false 로 찾으면 andNot)
+//   이름 : 번호를 이름 순으로 매겨서 접두어가 같은 방은 번호 구간 하나 (NameTrie)
+// 비활성화된 방은 검색되지 않음
+final class RoomFacets {
+
+	static final RoomFacets EMPTY = of(List.of());
+
+	private final StudyRoomResponse.Detail[] rooms;
+	private final Map<Long, Integer> ordinals = new HashMap<>();
+	private final BitSet available = new BitSet();
+	private final BitSet whiteboard = new BitSet();
+	private final BitSet projector = new BitSet();
+	private final BitSet quietZone = new BitSet();
+	private final Map<Integer, BitSet> floors = new HashMap<>();
+	private final int[] capacities;
+	private final BitSet[] capacityAtLeast;
+	private final NameTrie names;
+
+	private RoomFacets(StudyRoomResponse.Detail[] rooms) {
+		this.rooms = rooms;
+
+		TreeMap<Integer, BitSet> byCapacity = new TreeMap<>();
+		String[] sortedNames = new String[rooms.length];
+		for (int i = 0; i < rooms.length; i++) {
+			StudyRoomResponse.Detail room = rooms[i];
+			available.set(i, room.available());
+			whiteboard.set(i, room.whiteboard());
+			projector.set(i, room.projector());
+			quietZone.set(i, room.quietZone());
+			floors.computeIfAbsent(room.floor(), floor -> new BitSet()).set(i);
+			byCapacity.computeIfAbsent(room.capacity(), capacity -> new BitSet()).set(i);
+			sortedNames[i] = normalize(room.name());
+			ordinals.put(room.id(), i);
+		}
+
+		capacities = byCapacity.keySet().stream().mapToInt(Integer::intValue).toArray();
+		capacityAtLeast = new BitSet[capacities.length];
+		BitSet atLeast = new BitSet();
+		for (int i = capacities.length - 1; i >= 0; i--) {
+			atLeast.or(byCapacity.get(capacities[i]));
+			capacityAtLeast[i] = (BitSet) atLeast.clone();
+		}
+		names = NameTrie.of(sortedNames);
+	}
+
+	static RoomFacets of(List<StudyRoomResponse.Detail> rooms) {
+		StudyRoomResponse.Detail[] sorted = rooms.stream()
+			.sorted(Comparator.comparing((StudyRoomResponse.Detail room) -> normalize(room.name()))
+				.thenComparing(StudyRoomResponse.Detail::id))
+			.toArray(StudyRoomResponse.Detail[]::new);
+		return new RoomFacets(sorted);
+	}
+
+	static String normalize(String name) {
+		return name.strip().toLowerCase(Locale.ROOT);
+	}
+
+	// 조건에 맞는 방 번호, 이름 순 (시간 조건은 보지 않음)
+	BitSet match(StudyRoomRequest.Search search) {
+		BitSet result = (BitSet) available.clone();
+
+		if (search.name() != null && !search.name().isBlank()) {
+			int[] range = names.range(normalize(search.name()));
+			if (range == null) {
+				return new BitSet();
+			}
+			result.clear(0, range[0]);
+			result.clear(range[1], rooms.length);
+		}
+		if (search.minCapacity() != null) {
+			int at = Arrays.binarySearch(capacities, search.minCapacity());
+			int from = at >= 0 ? at : -at - 1;
+			if (from == capacities.length) {
+				return new BitSet();
+			}
+			result.and(capacityAtLeast[from]);
+		}
+		if (search.floor() != null) {
+			BitSet floor = floors.get(search.floor());
+			if (floor == null) {
+				return new BitSet();
+			}
+			result.and(floor);
+		}
+		apply(result, whiteboard, search.whiteboard());
+		apply(result, projector, search.projector());
+		apply(result, quietZone, search.quietZone());
+		return result;
+	}
+
+	// 없는 방이면 -1
+	int ordinalOf(Long studyRoomId) {
+		return ordinals.getOrDefault(studyRoomId, -1);
+	}
+
+	StudyRoomResponse.Detail room(int ordinal) {
+		return rooms[ordinal];
+	}
+
+	List<StudyRoomResponse.Detail> rooms() {
+		return List.of(rooms);
+	}
+
+	int size() {
+		return rooms.length;
+	}
+
+	private static void apply(BitSet result, BitSet facet, Boolean required) {
+		if (required == null) {
+			return;
+		}
+		if (required) {
+			result.and(facet);
+		} else {
+			result.andNot(facet);
+		}
+	}
+}
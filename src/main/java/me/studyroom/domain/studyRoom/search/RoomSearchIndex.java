@@ -0,0 +1,60 @@
+package me.studyroom.domain.studyRoom.search;
+
+import me.studyroom.domain.studyRoom.dto.StudyRoomResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 방 속성 검색 인덱스 (메모리)
+// 읽기는 락 없이 지금의 RoomFacets 를 꺼내 씀, 쓰기(방 생성/수정/삭제, 활성화)는 하나씩 새 RoomFacets 로 교체
+// 방 정보 변경은 관리자 작업이라 드묾 -> 바뀔 때마다 전체를 다시 만들어도 됨 (방 수 만큼, DB 조회 없음)
+@Component
+public class RoomSearchIndex {
+
+	private volatile RoomFacets facets = RoomFacets.EMPTY;
+
+	RoomFacets facets() {
+		return facets;
+	}
+
+	public synchronized void reload(List<StudyRoomResponse.Detail> rooms) {
+		facets = RoomFacets.of(rooms);
+	}
+
+	public synchronized void upsert(StudyRoomResponse.Detail room) {
+		Map<Long, StudyRoomResponse.Detail> rooms = byId();
+		rooms.put(room.id(), room);
+		facets = RoomFacets.of(List.copyOf(rooms.values()));
+	}
+
+	public synchronized void remove(Long studyRoomId) {
+		Map<Long, StudyRoomResponse.Detail> rooms = byId();
+		if (rooms.remove(studyRoomId) != null) {
+			facets = RoomFacets.of(List.copyOf(rooms.values()));
+		}
+	}
+
+	// 일괄 활성/비활성 (StudyRoomBulkService)
+	public synchronized void changeAvailability(Collection<Long> studyRoomIds, boolean available) {
+		Map<Long, StudyRoomResponse.Detail> rooms = byId();
+		for (Long id : studyRoomIds) {
+			rooms.computeIfPresent(id, (key, room) -> new StudyRoomResponse.Detail(
+				room.id(), room.name(), available, room.description(), room.openTime(), room.closeTime(),
+				room.capacity(), room.floor(), room.whiteboard(), room.projector(), room.quietZone()));
+		}
+		facets = RoomFacets.of(List.copyOf(rooms.values()));
+	}
+
+	public int size() {
+		return facets.size();
+	}
+
+	private Map<Long, StudyRoomResponse.Detail> byId() {
+		Map<Long, StudyRoomResponse.Detail> rooms = new HashMap<>();
+		facets.rooms().forEach(room -> rooms.put(room.id(), room));
+		return rooms;
+	}
+}
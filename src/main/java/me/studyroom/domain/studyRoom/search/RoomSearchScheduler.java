@@ -0,0 +1,26 @@
+package me.studyroom.domain.studyRoom.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomSearchScheduler {
+
+	private final RoomSearchService roomSearchService;
+
+	// 시작할 때 적재는 StartupWarmup, 여기서는 다른 인스턴스에서 바뀐 방 반영
+	@Scheduled(initialDelayString = "${studyroom.search.reload-delay-millis:300000}",
+		fixedDelayString = "${studyroom.search.reload-delay-millis:300000}")
+	public void reload() {
+		try {
+			int rooms = roomSearchService.reloadAll();
+			log.debug("Room search index reloaded: {}", rooms);
+		} catch (RuntimeException e) {
+			log.warn("Room search index reload failed", e);
+		}
+	}
+}
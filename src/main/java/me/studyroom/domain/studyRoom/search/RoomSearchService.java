@@ -0,0 +1,163 @@
+package me.studyroom.domain.studyRoom.search;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import me.studyroom.domain.reservation.hold.SlotHoldService;
+import me.studyroom.domain.reservation.schedule.RoomSchedule;
+import me.studyroom.domain.reservation.schedule.RoomScheduleIndex;
+import me.studyroom.domain.reservation.series.SeriesOccupancy;
+import me.studyroom.domain.studyRoom.StudyRoomRepository;
+import me.studyroom.domain.studyRoom.calendar.RoomCalendarService;
+import me.studyroom.domain.studyRoom.dto.StudyRoomResponse;
+import me.studyroom.global.dto.request.StudyRoomRequest;
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.StudyRoomException;
+import me.studyroom.global.transaction.AfterCommit;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+// 방 검색 ("4인 이상 + 프로젝터 + 14~16시 빈 방")
+//   1. 속성 : RoomSearchIndex 비트셋 AND (+ 이름 접두어 구간)
+//   2. 시간 : 남은 방을 이름 순으로 보면서 메모리 인덱스로 거름
+//      운영 달력(OperatingCalendarIndex) -> 확정 구간(RoomScheduleIndex) -> 결제 대기 홀드(SlotHoldIndex)
+//   3. 반복 예약 회차 : 행이 없어서 DB, limit 개씩 모아서 IN 으로 한 번에
+// 메모리 인덱스는 커밋 직후의 변경을 조금 늦게 볼 수 있음 -> 검색 결과는 안내용, 예약할 때 락 잡고 DB로 다시 검사
+@Service
+@RequiredArgsConstructor
+public class RoomSearchService {
+
+	private static final int DEFAULT_LIMIT = 20;
+	private static final int MAX_LIMIT = 100;
+
+	private final RoomSearchIndex roomSearchIndex;
+	private final RoomScheduleIndex roomScheduleIndex;
+	private final RoomCalendarService roomCalendarService;
+	private final SlotHoldService slotHoldService;
+	private final SeriesOccupancy seriesOccupancy;
+	private final StudyRoomRepository studyRoomRepository;
+
+	// 달력이 메모리에 없는 방, 반복 예약 조회가 같은 커넥션을 쓰도록 트랜잭션 하나로
+	@Transactional
+	public List<StudyRoomResponse.Detail> search(StudyRoomRequest.Search search, Long userId) {
+		int limit = search.limit() == null ? DEFAULT_LIMIT : Math.max(1, Math.min(search.limit(), MAX_LIMIT));
+		boolean timed = validateWindow(search.startAt(), search.endAt());
+
+		RoomFacets facets = roomSearchIndex.facets();
+		BitSet matched = facets.match(search);
+
+		List<StudyRoomResponse.Detail> result = new ArrayList<>(limit);
+		List<StudyRoomResponse.Detail> pending = new ArrayList<>(limit);
+		for (int i = matched.nextSetBit(0); i >= 0 && result.size() < limit; i = matched.nextSetBit(i + 1)) {
+			StudyRoomResponse.Detail room = facets.room(i);
+			if (!timed) {
+				result.add(room);
+				continue;
+			}
+			if (isFree(room.id(), search.startAt(), search.endAt(), userId)) {
+				pending.add(room);
+			}
+			if (pending.size() == limit - result.size()) {
+				addWithoutSeries(pending, result, search.startAt(), search.endAt());
+			}
+		}
+		if (!pending.isEmpty()) {
+			addWithoutSeries(pending, result, search.startAt(), search.endAt());
+		}
+		return result;
+	}
+
+	public Optional<StudyRoomResponse.Detail> find(Long studyRoomId) {
+		RoomFacets facets = roomSearchIndex.facets();
+		int ordinal = facets.ordinalOf(studyRoomId);
+		return ordinal < 0 ? Optional.empty() : Optional.of(facets.room(ordinal));
+	}
+
+	// 예약 충돌 시 대신 쓸 만한 방 : 활성 + 인원이 같거나 많고 원래 방에 있는 시설은 다 있는 방, 이름 순 max 개
+	// 원래 방이 인덱스에 없으면(다른 인스턴스에서 방금 만든 방) 비교할 속성이 없으니 빈 목록
+	public List<StudyRoomResponse.Detail> similarRooms(Long studyRoomId, int max) {
+		RoomFacets facets = roomSearchIndex.facets();
+		int ordinal = facets.ordinalOf(studyRoomId);
+		if (ordinal < 0) {
+			return List.of();
+		}
+		StudyRoomResponse.Detail original = facets.room(ordinal);
+		BitSet matched = facets.match(new StudyRoomRequest.Search(
+			null,
+			original.capacity(),
+			null,
+			original.whiteboard() ? true : null,
+			original.projector() ? true : null,
+			original.quietZone() ? true : null,
+			null,
+			null,
+			null));
+		matched.clear(ordinal);
+
+		List<StudyRoomResponse.Detail> rooms = new ArrayList<>(Math.min(max, matched.cardinality()));
+		for (int i = matched.nextSetBit(0); i >= 0 && rooms.size() < max; i = matched.nextSetBit(i + 1)) {
+			rooms.add(facets.room(i));
+		}
+		return rooms;
+	}
+
+	// 시작, 주기적으로 (다른 인스턴스에서 바뀐 방 반영)
+	@Transactional
+	public int reloadAll() {
+		List<StudyRoomResponse.Detail> rooms = studyRoomRepository.findAllDetails();
+		AfterCommit.run(() -> roomSearchIndex.reload(rooms));
+		return rooms.size();
+	}
+
+	// StudyRoomService 생성/수정 : 커밋 뒤에 그 방만 교체
+	public void refresh(StudyRoomResponse.Detail room) {
+		AfterCommit.run(() -> roomSearchIndex.upsert(room));
+	}
+
+	public void forget(Long studyRoomId) {
+		AfterCommit.run(() -> roomSearchIndex.remove(studyRoomId));
+	}
+
+	public void changeAvailability(Collection<Long> studyRoomIds, boolean available) {
+		List<Long> ids = List.copyOf(studyRoomIds);
+		AfterCommit.run(() -> roomSearchIndex.changeAvailability(ids, available));
+	}
+
+	// 시간 조건은 둘 다 주거나 둘 다 빼야 함, 예약과 같이 하루 안
+	private boolean validateWindow(LocalDateTime startAt, LocalDateTime endAt) {
+		if (startAt == null && endAt == null) {
+			return false;
+		}
+		if (startAt == null || endAt == null
+			|| !startAt.isBefore(endAt)
+			|| !startAt.toLocalDate().equals(endAt.toLocalDate())) {
+			throw new StudyRoomException(ExceptionCode.INVALID_TIME_RANGE);
+		}
+		return true;
+	}
+
+	private boolean isFree(Long studyRoomId, LocalDateTime startAt, LocalDateTime endAt, Long userId) {
+		RoomSchedule schedule = roomScheduleIndex.get(studyRoomId);
+		return roomCalendarService.isOpen(studyRoomId, startAt, endAt)
+			&& !schedule.overlaps(RoomSchedule.toEpochSecond(startAt), RoomSchedule.toEpochSecond(endAt))
+			&& !slotHoldService.isHeld(studyRoomId, startAt, endAt, userId);
+	}
+
+	private void addWithoutSeries(List<StudyRoomResponse.Detail> pending,
+																List<StudyRoomResponse.Detail> result,
+																LocalDateTime startAt,
+																LocalDateTime endAt) {
+		Set<Long> occupied = seriesOccupancy.occupiedRooms(
+			pending.stream().map(StudyRoomResponse.Detail::id).toList(), startAt, endAt);
+		pending.stream()
+			.filter(room -> !occupied.contains(room.id()))
+			.forEach(result::add);
+		pending.clear();
+	}
+}
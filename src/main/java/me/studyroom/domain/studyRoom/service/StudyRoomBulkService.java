@@ -0,0 +1,141 @@
+package me.studyroom.domain.studyRoom.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.studyroom.domain.outbox.OutboxEventType;
+import me.studyroom.domain.outbox.service.OutboxService;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.ReservationStatus;
+import me.studyroom.domain.reservation.series.ReservationSeriesService;
+import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.studyRoom.StudyRoomRepository;
+import me.studyroom.domain.studyRoom.dto.StudyRoomResponse;
+import me.studyroom.domain.studyRoom.search.RoomSearchService;
+import me.studyroom.domain.waitlist.service.WaitlistService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 층 폐쇄 같은 일괄 활성/비활성
+// 예약을 엔티티로 하나씩 불러서 canceled() 하지 않고, 배치마다 id 잠금 -> 이벤트 INSERT ... SELECT -> UPDATE 한 번
+// (ReservationExpireScheduler와 같은 방식)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudyRoomBulkService {
+
+	private static final List<String> CANCELABLE_STATUSES = List.of(
+		ReservationStatus.WAIT_PAYMENT.name(),
+		ReservationStatus.CONFIRMED.name()
+	);
+
+	private final StudyRoomRepository studyRoomRepository;
+	private final ReservationRepository reservationRepository;
+	private final OutboxService outboxService;
+	private final WaitlistService waitlistService;
+	private final ReservationSeriesService reservationSeriesService;
+	private final RoomSearchService roomSearchService;
+	private final TransactionTemplate transactionTemplate;
+	private final Clock clock;
+
+	@Value("${studyroom.study-room.bulk-cancel-batch-size:500}")
+	private int batchSize;
+
+	public StudyRoomResponse.BulkResult enable(List<Long> studyRoomIds) {
+		long startedAt = System.currentTimeMillis();
+		RoomChange change = transactionTemplate.execute(status -> changeRooms(studyRoomIds, true));
+
+		return new StudyRoomResponse.BulkResult(
+			studyRoomIds.size(),
+			change.changed(),
+			change.notFound(),
+			0,
+			System.currentTimeMillis() - startedAt
+		);
+	}
+
+	public StudyRoomResponse.BulkResult disable(List<Long> studyRoomIds) {
+		long startedAt = System.currentTimeMillis();
+
+		// 1. 방 먼저 비활성화 후 커밋 -> 이후 들어오는 예약은 ensureAvailable()에서 막힘
+		//    reserve()가 같은 방 락을 잡으니, 지금 진행 중인 예약은 끝난 뒤에 비활성화 됨
+		RoomChange change = transactionTemplate.execute(status -> changeRooms(studyRoomIds, false));
+		List<Long> foundIds = studyRoomIds.stream()
+			.filter(id -> !change.notFound().contains(id))
+			.distinct()
+			.toList();
+
+		// 2. 앞으로의 예약을 배치 단위로 취소 (배치마다 트랜잭션을 나눠 락 범위를 일정하게)
+		LocalDateTime now = LocalDateTime.now(clock);
+		int canceled = 0;
+		int batch;
+		do {
+			batch = foundIds.isEmpty() ? 0 : transactionTemplate.execute(status -> cancelBatch(foundIds, now));
+			canceled += batch;
+		} while (batch == batchSize);
+
+		StudyRoomResponse.BulkResult result = new StudyRoomResponse.BulkResult(
+			studyRoomIds.size(),
+			change.changed(),
+			change.notFound(),
+			canceled,
+			System.currentTimeMillis() - startedAt
+		);
+		log.info("Study rooms disabled: {}", result);
+		return result;
+	}
+
+	private RoomChange changeRooms(List<Long> studyRoomIds, boolean available) {
+		List<StudyRoom> rooms = studyRoomRepository.findAllByIdInForUpdate(studyRoomIds);
+
+		Set<Long> found = new HashSet<>();
+		int changed = 0;
+		for (StudyRoom room : rooms) {
+			found.add(room.getId());
+			// 이미 같은 상태였던 방은 바뀐 수에서 제외
+			if (available ? room.enable() : room.disable()) {
+				changed++;
+			}
+		}
+
+		roomSearchService.changeAvailability(found, available);
+
+		// 비활성화된 방의 대기는 더 기다려도 전환될 일이 없으니 같이 취소 (방 락 안에서)
+		// 반복 예약도 남은 회차가 열릴 일이 없으니 같이 취소
+		if (!available && !found.isEmpty()) {
+			waitlistService.cancelForRooms(List.copyOf(found));
+			reservationSeriesService.cancelForRooms(List.copyOf(found));
+		}
+
+		List<Long> notFound = studyRoomIds.stream()
+			.filter(id -> !found.contains(id))
+			.distinct()
+			.toList();
+		return new RoomChange(changed, notFound);
+	}
+
+	private int cancelBatch(List<Long> studyRoomIds, LocalDateTime now) {
+		List<Long> ids = reservationRepository.findUpcomingIdsByStudyRoomsForUpdate(
+			studyRoomIds,
+			CANCELABLE_STATUSES,
+			now,
+			batchSize
+		);
+		if (ids.isEmpty()) {
+			return 0;
+		}
+
+		// 이벤트 먼저 기록해야 previous_status에 취소 전 상태가 남음 (통계에서 확정 분 차감에 사용)
+		outboxService.appendForReservations(OutboxEventType.CANCELED, ReservationStatus.CANCELED, ids);
+		return reservationRepository.updateStatusByIds(ReservationStatus.CANCELED, ids);
+	}
+
+	private record RoomChange(int changed, List<Long> notFound) {
+	}
+}
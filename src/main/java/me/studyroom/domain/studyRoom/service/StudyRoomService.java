@@ -2,18 +2,39 @@ package me.studyroom.domain.studyRoom.service;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import me.studyroom.domain.reservation.ReservationHistoryRepository;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.series.ReservationSeriesRepository;
 import me.studyroom.domain.studyRoom.StudyRoom;
 import me.studyroom.domain.studyRoom.StudyRoomRepository;
+import me.studyroom.domain.studyRoom.calendar.RoomCalendarService;
+import me.studyroom.domain.studyRoom.dto.StudyRoomResponse;
+import me.studyroom.domain.studyRoom.search.RoomSearchService;
 import me.studyroom.global.dto.request.StudyRoomRequest;
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.StudyRoomException;
+import me.studyroom.global.service.CommonService;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class StudyRoomService {
 	private final StudyRoomRepository studyRoomRepository;
+	private final ReservationRepository reservationRepository;
+	private final ReservationHistoryRepository reservationHistoryRepository;
+	private final ReservationSeriesRepository reservationSeriesRepository;
+	private final CommonService commonService;
+	private final RoomCalendarService roomCalendarService;
+	private final RoomSearchService roomSearchService;
+
+	public StudyRoomResponse.Detail create(StudyRoomRequest.Create request) {
+		if (studyRoomRepository.existsByName(request.name())) {
+			throw new StudyRoomException(ExceptionCode.DUPLICATE_STUDYROOM_NAME);
+		}
 
-	public void create(StudyRoomRequest.Create request) {
 		StudyRoom studyRoom = new StudyRoom(
 			request.name(),
 			request.available(),
@@ -21,13 +42,91 @@ public class StudyRoomService {
 			request.openTime(),
 			request.closeTime()
 		);
+		studyRoom.changeAttributes(
+			request.capacity() != null ? request.capacity() : 1,
+			request.floor() != null ? request.floor() : 1,
+			Boolean.TRUE.equals(request.whiteboard()),
+			Boolean.TRUE.equals(request.projector()),
+			Boolean.TRUE.equals(request.quietZone())
+		);
 		studyRoomRepository.save(studyRoom);
+		roomCalendarService.rebuild(studyRoom);
+		return indexed(getDetail(studyRoom.getId()));
+	}
+
+	public List<StudyRoomResponse.Detail> getAll() {
+		return studyRoomRepository.findAllDetails();
+	}
+
+	public StudyRoomResponse.Detail getDetail(Long studyRoomId) {
+		return studyRoomRepository.findDetailById(studyRoomId)
+			.orElseThrow(() -> new StudyRoomException(ExceptionCode.NOT_FOUND_STUDYROOM));
 	}
 
 	// 여기서 지금 헷갈리는게
 	// update할 때 모든 부분을 업데이트 안할수도 있음 예를 들어 이용 가능 여부만 업데이트하거나, 설명만 업데이트할 수 있는데
 	// dto에서 @NotBlank로 막아버리면 입력을 똑같은 것도 받아야하므로 사용자 경험이 저하될 수 있을거라 생각함
-	// 그렇다면 updateDescription, updateAvailable로 나누어야하나 고민
-	public void update() {
+	// -> null이면 그대로 두는 부분 수정으로 정리, 필드별 행동 메서드는 엔티티에 둠
+	// 예약 쪽과 같은 락을 잡아서 수정 도중 예약이 끼어들지 않게 함
+	public StudyRoomResponse.Detail update(Long studyRoomId, StudyRoomRequest.Update request) {
+		StudyRoom studyRoom = commonService.getStudyRoomForUpdate(studyRoomId);
+
+		if (request.name() != null && !request.name().equals(studyRoom.getName())) {
+			if (studyRoomRepository.existsByName(request.name())) {
+				throw new StudyRoomException(ExceptionCode.DUPLICATE_STUDYROOM_NAME);
+			}
+			studyRoom.rename(request.name());
+		}
+		if (request.description() != null) {
+			studyRoom.describe(request.description());
+		}
+		if (request.openTime() != null || request.closeTime() != null) {
+			studyRoom.changeOperatingHours(
+				request.openTime() != null ? request.openTime() : studyRoom.getOpenTime(),
+				request.closeTime() != null ? request.closeTime() : studyRoom.getCloseTime()
+			);
+			roomCalendarService.rebuild(studyRoom);
+		}
+		if (request.capacity() != null || request.floor() != null
+			|| request.whiteboard() != null || request.projector() != null || request.quietZone() != null) {
+			studyRoom.changeAttributes(
+				request.capacity() != null ? request.capacity() : studyRoom.getCapacity(),
+				request.floor() != null ? request.floor() : studyRoom.getFloor(),
+				request.whiteboard() != null ? request.whiteboard() : studyRoom.isWhiteboard(),
+				request.projector() != null ? request.projector() : studyRoom.isProjector(),
+				request.quietZone() != null ? request.quietZone() : studyRoom.isQuietZone()
+			);
+		}
+		// 단건 비활성화는 예약을 건드리지 않음, 예약까지 정리하려면 일괄 비활성화 사용
+		if (request.available() != null) {
+			if (request.available()) {
+				studyRoom.enable();
+			} else {
+				studyRoom.disable();
+			}
+		}
+
+		studyRoomRepository.flush();
+		return indexed(getDetail(studyRoomId));
+	}
+
+	// 예약 FK가 걸려 있고 이력에서도 방 이름을 찾으니 예약이 한 번이라도 있던 방은 삭제 대신 비활성화
+	public void delete(Long studyRoomId) {
+		StudyRoom studyRoom = commonService.getStudyRoomForUpdate(studyRoomId);
+
+		if (reservationRepository.existsByStudyRoomId(studyRoomId)
+			|| reservationHistoryRepository.existsByStudyRoomId(studyRoomId)
+			|| reservationSeriesRepository.existsByStudyRoomId(studyRoomId)) {
+			throw new StudyRoomException(ExceptionCode.STUDYROOM_IN_USE);
+		}
+		studyRoomRepository.delete(studyRoom);
+		roomCalendarService.forget(studyRoomId);
+		roomSearchService.forget(studyRoomId);
+	}
+
+	// 검색 인덱스는 커밋 뒤에 응답과 같은 값으로 교체
+	private StudyRoomResponse.Detail indexed(StudyRoomResponse.Detail detail) {
+		roomSearchService.refresh(detail);
+		return detail;
 	}
 }
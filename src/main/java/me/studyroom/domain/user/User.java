@@ -7,8 +7,14 @@ import lombok.NoArgsConstructor;
 import me.studyroom.global.exception.ExceptionCode;
 import me.studyroom.global.exception.UserException;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
+
 @Entity
-@Table(name = "users") // 절대 테이블 이름을 user로 쓰지말자 USER는 SQL 표준 예약어, MySQL 예약어, H2 예약어이다
+@Table(
+	name = "users", // 절대 테이블 이름을 user로 쓰지말자 USER는 SQL 표준 예약어, MySQL 예약어, H2 예약어이다
+	indexes = @Index(name = "idx_users_deleted_at", columnList = "deleted_at")
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User {
@@ -28,11 +34,20 @@ public class User {
 	@Column(nullable = false, length = 11, unique = true)
 	private String phoneNumber;
 
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private UserRole role;
+
+	// 탈퇴 시각, 있으면 로그인 불가 (행은 UserPurgeScheduler 가 예약 정리 후 삭제)
+	@Column(name = "deleted_at")
+	private LocalDateTime deletedAt;
+
 	public User(String name, String email, String password, String phoneNumber) {
 		this.name = name;
 		this.email = email;
 		this.password = password;
 		this.phoneNumber = phoneNumber;
+		this.role = UserRole.USER; // 가입은 항상 일반 사용자, 관리자는 DB에서 직접 부여
 	}
 
 	public void validatePassword(String password) {
@@ -41,6 +56,17 @@ public class User {
 		}
 	}
 
+	public void leave(Clock clock) {
+		if (isDeleted()) {
+			throw new UserException(ExceptionCode.NOT_FOUND_USER);
+		}
+		this.deletedAt = LocalDateTime.now(clock);
+	}
+
+	public boolean isDeleted() {
+		return deletedAt != null;
+	}
+
 	public void validateEmail(String email) {
 		if (!email.equals(this.email)) {
 			throw new UserException(ExceptionCode.INVALID_EMAIL);
@@ -1,9 +1,43 @@
 package me.studyroom.domain.user;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 	Optional<User> findByEmail(String email);
+
+	// 엔티티를 영속성 컨텍스트에 올리지 않고 id만 조회 (대량 등록 시 이메일 -> id 변환)
+	@Query("SELECT u.id FROM User u WHERE u.email = :email")
+	Optional<Long> findIdByEmail(@Param("email") String email);
+
+	// 정리 배치 대상 : before 전에 탈퇴한 회원, 오래된 순 (idx_users_deleted_at 범위 스캔)
+	@Query("SELECT u.id FROM User u WHERE u.deletedAt < :before ORDER BY u.deletedAt")
+	List<Long> findDeletedIdsBefore(@Param("before") LocalDateTime before, Limit limit);
+
+	// 아직 방을 막고 있는 (from 이후 시작하는 statuses 예약이 남은) 탈퇴 회원
+	@Query(value = """
+		SELECT u.id
+		FROM users u
+		WHERE u.deleted_at < :before
+		AND EXISTS (
+			SELECT 1 FROM reservation r
+			WHERE r.user_id = u.id
+			AND r.status IN (:statuses)
+			AND r.start_at >= :from
+		)
+		ORDER BY u.deleted_at
+		LIMIT :limit
+		""", nativeQuery = true)
+	List<Long> findDeletedIdsWithUpcoming(
+		@Param("before") LocalDateTime before,
+		@Param("statuses") List<String> statuses,
+		@Param("from") LocalDateTime from,
+		@Param("limit") int limit
+	);
 }
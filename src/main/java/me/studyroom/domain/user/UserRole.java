@@ -0,0 +1,6 @@
+package me.studyroom.domain.user;
+
+public enum UserRole {
+	USER, // 일반 사용자
+	ADMIN // 스터디룸 관리, 데이터 추출 등 관리자 기능
+}
@@ -1,12 +1,15 @@
 package me.studyroom.domain.user.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import me.studyroom.domain.user.User;
 import me.studyroom.domain.user.service.UserService;
 import me.studyroom.global.dto.request.UserRequest;
+import me.studyroom.security.CustomUserDetails;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -23,7 +26,15 @@ public class UserController {
 	@DeleteMapping
 	@ResponseStatus(HttpStatus.NO_CONTENT)
 	public void leave(@Valid @RequestBody UserRequest.Leave request,
-										@AuthenticationPrincipal User user) {
+										@AuthenticationPrincipal CustomUserDetails user,
+										HttpServletRequest httpRequest) {
 		userService.leave(request, user.getId());
+
+		// 지금 세션은 바로 끊음 (다른 기기의 세션은 예약/대기에서 NOT_FOUND_USER)
+		HttpSession session = httpRequest.getSession(false);
+		if (session != null) {
+			session.invalidate();
+		}
+		SecurityContextHolder.clearContext();
 	}
 }
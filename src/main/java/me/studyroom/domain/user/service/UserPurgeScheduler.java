@@ -0,0 +1,198 @@
+package me.studyroom.domain.user.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.studyroom.domain.outbox.OutboxEventType;
+import me.studyroom.domain.outbox.service.OutboxService;
+import me.studyroom.domain.reservation.ReservationHistoryRepository;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.ReservationStatus;
+import me.studyroom.domain.reservation.dto.ReservationExportRow;
+import me.studyroom.domain.reservation.series.ReservationSeries;
+import me.studyroom.domain.reservation.series.ReservationSeriesRepository;
+import me.studyroom.domain.reservation.series.SeriesExclusionRepository;
+import me.studyroom.domain.user.UserRepository;
+import me.studyroom.domain.waitlist.WaitlistEntryRepository;
+import me.studyroom.domain.waitlist.service.WaitlistService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+
+// 탈퇴(soft delete)한 회원 정리
+// 탈퇴 직후 (cancel-delay-millis 주기) : 앞으로의 예약 취소 + 빈 자리에 대기자 전환
+//   새벽까지 두면 그 사이 시작하는 예약은 대기자에게 끝내 넘어가지 못함
+//   StudyRoomBulkService 처럼 id 잠금 -> 이벤트 INSERT ... SELECT -> UPDATE
+// 트래픽 적은 새벽 (purge-cron)
+//   1. 끝났거나 취소/만료된 예약은 user_id 를 비워서 reservation_history 로 옮김 (ReservationArchiveScheduler 와 같은 복사 후 삭제)
+//   2. 이미 옮겨진 이력도 user_id 를 비움
+//   3. 대기, 반복 예약 행을 지우고 마지막에 회원 삭제 (reservation.user_id FK 가 더는 없음)
+//   진행 중인 예약이 남았으면 회원은 다음 실행에서 지움
+// 단계마다 batch-size 씩 트랜잭션을 나눠서 예약 행 락과 undo 로그를 일정하게 유지
+// 결제 행은 정산 기록이라 남김 (FK 없음), 멱등키와 아웃박스 이벤트는 각자의 정리 주기에 지워짐
+// 중간에 실패하면 회원 행이 남아 있으니 다음 실행에서 이어서 진행 (단계마다 남은 것만 다시 찾음)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserPurgeScheduler {
+
+	private static final List<String> BLOCKING_STATUSES = List.of(
+		ReservationStatus.WAIT_PAYMENT.name(),
+		ReservationStatus.CONFIRMED.name()
+	);
+
+	private final UserRepository userRepository;
+	private final ReservationRepository reservationRepository;
+	private final ReservationHistoryRepository reservationHistoryRepository;
+	private final WaitlistEntryRepository waitlistEntryRepository;
+	private final ReservationSeriesRepository reservationSeriesRepository;
+	private final SeriesExclusionRepository seriesExclusionRepository;
+	private final OutboxService outboxService;
+	private final WaitlistService waitlistService;
+	private final TransactionTemplate transactionTemplate;
+	private final Clock clock;
+
+	@Value("${studyroom.user.purge-batch-size:500}")
+	private int batchSize;
+
+	@Value("${studyroom.user.purge-max-users:100}")
+	private int maxUsers;
+
+	@Scheduled(fixedDelayString = "${studyroom.user.cancel-delay-millis:60000}")
+	public void cancelDeparted() {
+		LocalDateTime now = LocalDateTime.now(clock);
+		for (Long userId : userRepository.findDeletedIdsWithUpcoming(now, BLOCKING_STATUSES, now, maxUsers)) {
+			try {
+				cancelUpcoming(userId);
+			} catch (RuntimeException e) {
+				log.warn("Departed user reservation cancel failed: userId={}", userId, e);
+			}
+		}
+	}
+
+	public void cancelUpcoming(Long userId) {
+		LocalDateTime now = LocalDateTime.now(clock);
+		List<ReservationExportRow> freed = new ArrayList<>();
+		int canceled = repeat(() -> transactionTemplate.execute(status -> cancelBatch(userId, now, freed)));
+		promoteWaitlist(freed);
+		if (canceled > 0) {
+			log.info("Departed user reservations canceled: userId={}, canceled={}", userId, canceled);
+		}
+	}
+
+	@Scheduled(cron = "${studyroom.user.purge-cron:0 15 4 * * *}")
+	public void purge() {
+		int purged = 0;
+		for (Long userId : userRepository.findDeletedIdsBefore(LocalDateTime.now(clock), Limit.of(maxUsers))) {
+			try {
+				purge(userId);
+				purged++;
+			} catch (RuntimeException e) {
+				// 한 회원이 실패해도 나머지는 계속
+				log.warn("User purge failed: userId={}", userId, e);
+			}
+		}
+		if (purged > 0) {
+			log.info("Purged deleted users: {}", purged);
+		}
+	}
+
+	public void purge(Long userId) {
+		LocalDateTime now = LocalDateTime.now(clock);
+
+		int archived = repeat(() -> transactionTemplate.execute(status -> archiveBatch(userId, now)));
+		int anonymized = repeat(() -> transactionTemplate.execute(status -> anonymizeBatch(userId)));
+
+		// 진행 중이거나 (취소 주기가 아직 못 돈) 앞으로의 예약이 남음 -> 회원 행은 다음 실행에서
+		if (reservationRepository.existsByUserId(userId)) {
+			log.info("User purge deferred, reservations remain: userId={}, archived={}, anonymized={}", userId, archived, anonymized);
+			return;
+		}
+
+		transactionTemplate.executeWithoutResult(status -> {
+			waitlistEntryRepository.deleteByUserId(userId);
+			List<Long> seriesIds = reservationSeriesRepository.findByUserIdOrderByIdDesc(userId)
+				.stream()
+				.map(ReservationSeries::getId)
+				.toList();
+			if (!seriesIds.isEmpty()) {
+				seriesExclusionRepository.deleteBySeriesIds(seriesIds);
+			}
+			reservationSeriesRepository.deleteByUserId(userId);
+			userRepository.deleteById(userId);
+		});
+		log.info("User purged: userId={}, archived={}, anonymized={}", userId, archived, anonymized);
+	}
+
+	// 배치가 꽉 찼으면 남은 게 있을 수 있으니 한 번 더
+	private int repeat(IntSupplier batch) {
+		int total = 0;
+		int done;
+		do {
+			done = batch.getAsInt();
+			total += done;
+		} while (done == batchSize);
+		return total;
+	}
+
+	private int cancelBatch(Long userId, LocalDateTime now, List<ReservationExportRow> freed) {
+		List<Long> ids = reservationRepository.findUpcomingIdsByUserForUpdate(userId, BLOCKING_STATUSES, now, batchSize);
+		if (ids.isEmpty()) {
+			return 0;
+		}
+
+		// 대기자가 있는 시간대만 모아둠 (ReservationExpireScheduler 와 같음)
+		if (waitlistService.hasAnyWaiters()) {
+			reservationRepository.findRowsByIds(ids)
+				.stream()
+				.filter(row -> waitlistService.hasWaiters(row.studyRoomId(), row.startAt(), row.endAt()))
+				.forEach(freed::add);
+		}
+
+		// 이벤트 먼저 기록해야 previous_status에 취소 전 상태가 남음
+		outboxService.appendForReservations(OutboxEventType.CANCELED, ReservationStatus.CANCELED, ids);
+		return reservationRepository.updateStatusByIds(ReservationStatus.CANCELED, ids);
+	}
+
+	private int archiveBatch(Long userId, LocalDateTime now) {
+		List<Long> ids = reservationRepository.findReleasedIdsByUserForUpdate(userId, BLOCKING_STATUSES, now, batchSize);
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		reservationHistoryRepository.copyFromReservationAnonymized(ids, now);
+		reservationRepository.deleteAllByIdInBatch(ids);
+		return ids.size();
+	}
+
+	private int anonymizeBatch(Long userId) {
+		List<Long> ids = reservationHistoryRepository.findIdsByUserId(userId, Limit.of(batchSize));
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		return reservationHistoryRepository.anonymizeByIds(ids);
+	}
+
+	// 취소 배치는 예약 행 락을 잡고 있으니 커밋한 뒤 방마다 따로 트랜잭션 (방 id 순서로)
+	private void promoteWaitlist(List<ReservationExportRow> freed) {
+		Map<Long, List<ReservationExportRow>> byRoom = freed.stream()
+			.collect(Collectors.groupingBy(ReservationExportRow::studyRoomId, TreeMap::new, Collectors.toList()));
+
+		byRoom.forEach((studyRoomId, rows) -> {
+			try {
+				transactionTemplate.executeWithoutResult(status -> waitlistService.promote(studyRoomId, rows));
+			} catch (RuntimeException e) {
+				log.warn("Waitlist promotion failed: studyRoomId={}", studyRoomId, e);
+			}
+		});
+	}
+}
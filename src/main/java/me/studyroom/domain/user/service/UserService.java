@@ -2,18 +2,25 @@ package me.studyroom.domain.user.service;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import me.studyroom.domain.reservation.series.ReservationSeriesService;
 import me.studyroom.domain.user.User;
 import me.studyroom.domain.user.UserRepository;
+import me.studyroom.domain.waitlist.service.WaitlistService;
 import me.studyroom.global.dto.request.UserRequest;
 import me.studyroom.global.exception.ExceptionCode;
 import me.studyroom.global.exception.UserException;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class UserService {
 	private final UserRepository userRepository;
+	private final WaitlistService waitlistService;
+	private final ReservationSeriesService reservationSeriesService;
+	private final Clock clock;
 
 	public void join(UserRequest.Join request) {
 		User user = new User(
@@ -27,7 +34,11 @@ public class UserService {
 
 	}
 
-	// 일단 이렇게 만들어놓고 나중에 soft delete로 전환
+	// soft delete : 탈퇴 시각만 남기고 로그인은 바로 막힘 (CustomUserDetails.isEnabled)
+	// 예전에는 여기서 회원을 바로 지워서, 예약이 수천 건인 회원이면 FK 검사가 끝날 때까지 요청 트랜잭션이 길어졌음
+	// 앞으로의 예약은 UserPurgeScheduler.cancelDeparted 가 1분 안에 취소 (빈 자리는 대기자에게)
+	// 지난 예약 익명화와 회원 행 삭제는 UserPurgeScheduler 가 새벽에 배치 단위로
+	// 대기, 반복 예약은 사용자당 몇 개뿐이고 두면 탈퇴 회원 앞으로 자리가 잡히니 여기서 바로 취소
 	public void leave(UserRequest.Leave request, Long userId) {
 		User user = userRepository.findById(userId)
 			.orElseThrow(() -> new UserException(ExceptionCode.NOT_FOUND_USER));
@@ -35,6 +46,8 @@ public class UserService {
 		user.validateEmail(request.email());
 		user.validatePassword(request.password());
 
-		userRepository.delete(user);
+		user.leave(clock);
+		waitlistService.cancelForUser(userId);
+		reservationSeriesService.cancelForUser(userId);
 	}
 }
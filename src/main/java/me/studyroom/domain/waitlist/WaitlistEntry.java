@@ -0,0 +1,81 @@
+package me.studyroom.domain.waitlist;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.ReservationException;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+// 이미 확정된 예약과 겹쳐서 예약하지 못한 (방, 시작, 종료) 대기
+// 상태 변경(등록/취소/전환)은 모두 방 락을 잡은 트랜잭션에서만 일어남
+@Entity
+@Table(
+	name = "waitlist_entry",
+	indexes = {
+		@Index(name = "idx_waitlist_room_status_start", columnList = "study_room_id, status, start_at"),
+		@Index(name = "idx_waitlist_user_status", columnList = "user_id, status")
+	}
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WaitlistEntry {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	@Column(name = "study_room_id", nullable = false)
+	private Long studyRoomId;
+
+	@Column(name = "start_at", nullable = false)
+	private LocalDateTime startAt;
+
+	@Column(name = "end_at", nullable = false)
+	private LocalDateTime endAt;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private WaitlistStatus status;
+
+	// 전환된 예약 id (PROMOTED 일 때만)
+	private Long reservationId;
+
+	@Column(nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	public WaitlistEntry(Long userId, Long studyRoomId, LocalDateTime startAt, LocalDateTime endAt, Clock clock) {
+		this.userId = userId;
+		this.studyRoomId = studyRoomId;
+		this.startAt = startAt;
+		this.endAt = endAt;
+		this.status = WaitlistStatus.WAITING;
+		this.createdAt = LocalDateTime.now(clock);
+	}
+
+	public boolean isWaiting() {
+		return status == WaitlistStatus.WAITING;
+	}
+
+	public void promote(Long reservationId) {
+		ensureWaiting();
+		this.status = WaitlistStatus.PROMOTED;
+		this.reservationId = reservationId;
+	}
+
+	public void cancel() {
+		ensureWaiting();
+		this.status = WaitlistStatus.CANCELED;
+	}
+
+	private void ensureWaiting() {
+		if (status != WaitlistStatus.WAITING) {
+			throw new ReservationException(ExceptionCode.INVALID_STATUS);
+		}
+	}
+}
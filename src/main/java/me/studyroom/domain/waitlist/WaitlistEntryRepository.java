@@ -0,0 +1,55 @@
+package me.studyroom.domain.waitlist;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+
+	// 시작 시 메모리 인덱스 적재용
+	List<WaitlistEntry> findByStatus(WaitlistStatus status);
+
+	List<WaitlistEntry> findByUserIdOrderByIdDesc(Long userId);
+
+	Optional<WaitlistEntry> findByIdAndUserId(Long id, Long userId);
+
+	long countByUserIdAndStatus(Long userId, WaitlistStatus status);
+
+	boolean existsByUserIdAndStudyRoomIdAndStartAtAndEndAtAndStatus(
+		Long userId,
+		Long studyRoomId,
+		LocalDateTime startAt,
+		LocalDateTime endAt,
+		WaitlistStatus status
+	);
+
+	// 자리가 안 난 채로 시작 시간이 지난 대기 정리
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("""
+		UPDATE WaitlistEntry w
+		SET w.status = me.studyroom.domain.waitlist.WaitlistStatus.EXPIRED
+		WHERE w.status = me.studyroom.domain.waitlist.WaitlistStatus.WAITING
+		AND w.startAt <= :now
+		""")
+	int expireStartedBefore(@Param("now") LocalDateTime now);
+
+	// 스터디룸 일괄 비활성화 시 대기도 같이 취소
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("""
+		UPDATE WaitlistEntry w
+		SET w.status = me.studyroom.domain.waitlist.WaitlistStatus.CANCELED
+		WHERE w.status = me.studyroom.domain.waitlist.WaitlistStatus.WAITING
+		AND w.studyRoomId IN :studyRoomIds
+		""")
+	int cancelWaitingByStudyRoomIds(@Param("studyRoomIds") List<Long> studyRoomIds);
+
+	// 탈퇴 회원 정리 배치 (대기는 탈퇴할 때 이미 취소됨), 사용자당 몇 개뿐이라 한 번에
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("DELETE FROM WaitlistEntry w WHERE w.userId = :userId")
+	int deleteByUserId(@Param("userId") Long userId);
+}
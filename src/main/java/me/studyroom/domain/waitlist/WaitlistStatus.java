@@ -0,0 +1,8 @@
+package me.studyroom.domain.waitlist;
+
+public enum WaitlistStatus {
+	WAITING, // 자리 나기를 기다리는 중
+	PROMOTED, // 자리가 나서 예약(WAIT_PAYMENT)으로 전환됨
+	CANCELED, // 사용자 취소
+	EXPIRED // 자리가 안 난 채로 시작 시간이 지남
+}
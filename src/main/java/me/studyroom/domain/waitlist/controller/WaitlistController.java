@@ -0,0 +1,41 @@
+package me.studyroom.domain.waitlist.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import me.studyroom.domain.waitlist.dto.WaitlistResponse;
+import me.studyroom.domain.waitlist.service.WaitlistService;
+import me.studyroom.global.dto.request.WaitlistRequest;
+import me.studyroom.security.CustomUserDetails;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/waitlist")
+@RequiredArgsConstructor
+public class WaitlistController {
+
+	private final WaitlistService waitlistService;
+
+	// 예약이 SCHEDULE_CONFLICT로 실패한 시간대에 대기 등록, 자리가 나면 예약(WAIT_PAYMENT)으로 바뀜
+	@PostMapping
+	@ResponseStatus(HttpStatus.CREATED)
+	public WaitlistResponse.Entry join(@Valid @RequestBody WaitlistRequest.Create createRequest,
+																		 @AuthenticationPrincipal CustomUserDetails user) {
+		return waitlistService.join(createRequest, user.getId());
+	}
+
+	@GetMapping
+	public List<WaitlistResponse.Entry> getMine(@AuthenticationPrincipal CustomUserDetails user) {
+		return waitlistService.getMine(user.getId());
+	}
+
+	@DeleteMapping("/{waitlistId}")
+	@ResponseStatus(HttpStatus.NO_CONTENT)
+	public void leave(@PathVariable Long waitlistId,
+										@AuthenticationPrincipal CustomUserDetails user) {
+		waitlistService.leave(waitlistId, user.getId());
+	}
+}
@@ -0,0 +1,21 @@
+package me.studyroom.domain.waitlist.dto;
+
+import me.studyroom.domain.waitlist.WaitlistStatus;
+
+import java.time.LocalDateTime;
+
+public sealed interface WaitlistResponse
+	permits WaitlistResponse.Entry {
+
+	// reservationId : 전환된 예약 (PROMOTED 일 때만, 이 예약을 결제 확정하면 됨)
+	record Entry(
+		Long waitlistId,
+		Long studyRoomId,
+		LocalDateTime startAt,
+		LocalDateTime endAt,
+		WaitlistStatus status,
+		Long reservationId,
+		LocalDateTime createdAt
+	) implements WaitlistResponse {
+	}
+}
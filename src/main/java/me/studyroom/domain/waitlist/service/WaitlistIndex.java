@@ -0,0 +1,123 @@
+package me.studyroom.domain.waitlist.service;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+// 방별 대기 목록 메모리 인덱스 (시작 시간 순 정렬)
+// 예약이 취소/만료될 때마다 DB를 뒤지지 않고 "이 방, 이 시간대에 기다리는 사람이 있나"를 바로 확인하는 용도
+// 후보만 좁혀주는 역할이고 최종 판단(상태, 겹침)은 항상 방 락을 잡은 트랜잭션에서 DB로 다시 함
+// -> 인덱스가 잠깐 어긋나도(다른 인스턴스 등록 등) 잘못 전환되는 일은 없고, 주기적으로 다시 적재해서 맞춤
+@Component
+public class WaitlistIndex {
+
+	private static final Comparator<Waiter> BY_START = Comparator
+		.comparing(Waiter::startAt)
+		.thenComparingLong(Waiter::entryId);
+
+	private volatile Map<Long, RoomWaiters> rooms = new ConcurrentHashMap<>();
+
+	public void add(Long studyRoomId, Waiter waiter) {
+		rooms.compute(studyRoomId, (id, room) -> {
+			RoomWaiters target = room != null ? room : new RoomWaiters();
+			target.add(waiter);
+			return target;
+		});
+	}
+
+	public void remove(Long studyRoomId, Waiter waiter) {
+		// 비면 방 자체를 지움 (compute 안에서 해야 동시에 들어온 add를 잃지 않음)
+		rooms.computeIfPresent(studyRoomId, (id, room) -> {
+			room.waiters.remove(waiter);
+			return room.waiters.isEmpty() ? null : room;
+		});
+	}
+
+	public void removeRooms(Collection<Long> studyRoomIds) {
+		studyRoomIds.forEach(rooms::remove);
+	}
+
+	// 시작 시간이 지난 대기 제거
+	public void removeStartedBefore(LocalDateTime now) {
+		for (Long studyRoomId : rooms.keySet()) {
+			rooms.computeIfPresent(studyRoomId, (id, room) -> {
+				room.waiters.headSet(probe(now, Long.MAX_VALUE), true).clear();
+				return room.waiters.isEmpty() ? null : room;
+			});
+		}
+	}
+
+	public boolean hasOverlapping(Long studyRoomId, LocalDateTime from, LocalDateTime to) {
+		RoomWaiters room = rooms.get(studyRoomId);
+		return room != null && room.overlapping(from, to).findAny().isPresent();
+	}
+
+	// [from, to)와 겹치는 대기 id를 등록 순서(id 오름차순)로
+	public List<Long> findOverlapping(Long studyRoomId, LocalDateTime from, LocalDateTime to) {
+		RoomWaiters room = rooms.get(studyRoomId);
+		if (room == null) {
+			return List.of();
+		}
+		return room.overlapping(from, to)
+			.map(Waiter::entryId)
+			.sorted()
+			.toList();
+	}
+
+	// DB 기준으로 통째로 교체
+	public void reload(Map<Long, List<Waiter>> waitersByRoom) {
+		Map<Long, RoomWaiters> loaded = new ConcurrentHashMap<>();
+		waitersByRoom.forEach((studyRoomId, waiters) -> {
+			RoomWaiters room = new RoomWaiters();
+			waiters.forEach(room::add);
+			loaded.put(studyRoomId, room);
+		});
+		this.rooms = loaded;
+	}
+
+	public boolean isEmpty() {
+		return rooms.isEmpty();
+	}
+
+	public int size() {
+		return rooms.values().stream().mapToInt(room -> room.waiters.size()).sum();
+	}
+
+	private static Waiter probe(LocalDateTime startAt, long entryId) {
+		return new Waiter(entryId, startAt, startAt);
+	}
+
+	public record Waiter(long entryId, LocalDateTime startAt, LocalDateTime endAt) {
+	}
+
+	private static final class RoomWaiters {
+		private final NavigableSet<Waiter> waiters = new ConcurrentSkipListSet<>(BY_START);
+
+		// 이 방에서 가장 긴 대기 시간대, 겹침 검색 시작점을 정하는 데 씀 (줄어들지는 않음, 넉넉하게 보는 쪽이라 괜찮음)
+		private volatile Duration longest = Duration.ZERO;
+
+		private void add(Waiter waiter) {
+			waiters.add(waiter);
+			Duration duration = Duration.between(waiter.startAt(), waiter.endAt());
+			if (duration.compareTo(longest) > 0) {
+				longest = duration;
+			}
+		}
+
+		// 시작 시간이 [from - longest, to) 인 것만 훑고 종료 시간으로 거름
+		private Stream<Waiter> overlapping(LocalDateTime from, LocalDateTime to) {
+			return waiters.subSet(probe(from.minus(longest), Long.MIN_VALUE), true, probe(to, Long.MIN_VALUE), false)
+				.stream()
+				.filter(w -> w.endAt().isAfter(from));
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package me.studyroom.domain.waitlist.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitlistScheduler {
+
+	private final WaitlistService waitlistService;
+
+	// 시작할 때 적재는 StartupWarmup, 다른 인스턴스에서 등록/취소된 것은 주기적으로 반영
+	@Scheduled(initialDelayString = "${studyroom.waitlist.reload-delay-millis:300000}",
+		fixedDelayString = "${studyroom.waitlist.reload-delay-millis:300000}")
+	public void reloadIndex() {
+		int size = waitlistService.reloadIndex();
+		log.debug("Waitlist index reloaded: {}", size);
+	}
+
+	@Scheduled(cron = "${studyroom.waitlist.expire-cron:0 */5 * * * *}")
+	public void expireStarted() {
+		int expired = waitlistService.expireStarted();
+		if (expired > 0) {
+			log.info("Expired waitlist entries: {}", expired);
+		}
+	}
+}
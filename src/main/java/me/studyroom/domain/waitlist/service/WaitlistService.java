@@ -0,0 +1,254 @@
+package me.studyroom.domain.waitlist.service;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.studyroom.domain.outbox.OutboxEventType;
+import me.studyroom.domain.outbox.service.OutboxService;
+import me.studyroom.domain.reservation.Reservation;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.ReservationStatus;
+import me.studyroom.domain.reservation.dto.ReservationExportRow;
+import me.studyroom.domain.reservation.hold.SlotHoldService;
+import me.studyroom.domain.reservation.policy.PolicyPhase;
+import me.studyroom.domain.reservation.policy.ReservationPolicy;
+import me.studyroom.domain.reservation.series.SeriesOccupancy;
+import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.user.User;
+import me.studyroom.domain.waitlist.WaitlistEntry;
+import me.studyroom.domain.waitlist.WaitlistEntryRepository;
+import me.studyroom.domain.waitlist.WaitlistStatus;
+import me.studyroom.domain.waitlist.dto.WaitlistResponse;
+import me.studyroom.global.dto.request.WaitlistRequest;
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.ReservationException;
+import me.studyroom.global.service.CommonService;
+import me.studyroom.global.transaction.AfterCommit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 대기 등록/취소와 빈 시간대가 생겼을 때 대기자 전환
+// SCHEDULE_CONFLICT 난 사용자가 재시도를 반복하는 대신 대기를 걸어두면, 자리가 나는 순간 예약(WAIT_PAYMENT)으로 바꿔줌
+// 대기 상태 변경은 전부 방 락 안에서 -> 예약 생성/확정과 순서가 꼬이지 않음
+// 메모리 인덱스는 커밋 후에만 반영
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class WaitlistService {
+
+	// 이 상태의 예약과 겹치면 아직 자리가 안 난 것
+	private static final List<ReservationStatus> HOLDING_STATUSES = List.of(
+		ReservationStatus.WAIT_PAYMENT,
+		ReservationStatus.CONFIRMED
+	);
+
+	private final WaitlistEntryRepository waitlistEntryRepository;
+	private final ReservationRepository reservationRepository;
+	private final CommonService commonService;
+	private final OutboxService outboxService;
+	private final WaitlistIndex waitlistIndex;
+	private final SlotHoldService slotHoldService;
+	private final SeriesOccupancy seriesOccupancy;
+	private final Clock clock;
+	private final List<ReservationPolicy> policies;
+
+	@Value("${studyroom.waitlist.max-entries-per-user:5}")
+	private int maxEntriesPerUser;
+
+	public WaitlistResponse.Entry join(WaitlistRequest.Create request, Long userId) {
+		LocalDateTime now = LocalDateTime.now(clock);
+		if (!request.startAt().isBefore(request.endAt()) || !request.startAt().isAfter(now)) {
+			throw new ReservationException(ExceptionCode.INVALID_TIME_RANGE);
+		}
+
+		User user = commonService.getUserById(userId);
+		StudyRoom studyRoom = commonService.getStudyRoomForUpdate(request.studyRoomId());
+		studyRoom.ensureAvailable();
+
+		// 예약이랑 같은 기준으로 검증 (전환될 때 다시 검증하지 않음)
+		policies.stream()
+			.filter(p -> p.phase() == PolicyPhase.RESERVE)
+			.forEach(p -> p.validate(request.startAt(), request.endAt(), studyRoom, user, null));
+
+		// 확정 예약이나 결제 대기(홀드), 반복 예약 회차와 안 겹치면 그냥 예약하면 됨
+		// 홀드가 결제 없이 풀리면 만료 스케줄러가, 회차가 빠지면 반복 예약 쪽에서 전환해 줌
+		boolean conflict = reservationRepository.existsBlockingReservation(
+			studyRoom,
+			request.startAt(),
+			request.endAt(),
+			slotHoldService.holdCutoff()
+		) || seriesOccupancy.occupied(studyRoom.getId(), request.startAt(), request.endAt());
+		if (!conflict) {
+			throw new ReservationException(ExceptionCode.WAITLIST_NOT_NEEDED);
+		}
+
+		if (waitlistEntryRepository.existsByUserIdAndStudyRoomIdAndStartAtAndEndAtAndStatus(
+			userId, studyRoom.getId(), request.startAt(), request.endAt(), WaitlistStatus.WAITING)) {
+			throw new ReservationException(ExceptionCode.DUPLICATE_WAITLIST);
+		}
+		if (waitlistEntryRepository.countByUserIdAndStatus(userId, WaitlistStatus.WAITING) >= maxEntriesPerUser) {
+			throw new ReservationException(ExceptionCode.WAITLIST_LIMIT_EXCEEDED);
+		}
+
+		WaitlistEntry entry = waitlistEntryRepository.save(
+			new WaitlistEntry(userId, studyRoom.getId(), request.startAt(), request.endAt(), clock)
+		);
+		AfterCommit.run(() -> waitlistIndex.add(entry.getStudyRoomId(), toWaiter(entry)));
+		return toResponse(entry);
+	}
+
+	public List<WaitlistResponse.Entry> getMine(Long userId) {
+		return waitlistEntryRepository.findByUserIdOrderByIdDesc(userId)
+			.stream()
+			.map(this::toResponse)
+			.toList();
+	}
+
+	public void leave(Long waitlistId, Long userId) {
+		WaitlistEntry entry = waitlistEntryRepository.findByIdAndUserId(waitlistId, userId)
+			.orElseThrow(() -> new ReservationException(ExceptionCode.NOT_FOUND_WAITLIST));
+
+		// 전환과 동시에 일어나면 둘 중 하나만 되도록 방 락
+		commonService.getStudyRoomForUpdate(entry.getStudyRoomId());
+		entry.cancel();
+		AfterCommit.run(() -> waitlistIndex.remove(entry.getStudyRoomId(), toWaiter(entry)));
+	}
+
+	// 락 잡기 전에 대기자가 있는지만 메모리에서 확인 (없으면 방 락을 잡을 필요가 없음)
+	public boolean hasWaiters(Long studyRoomId, LocalDateTime from, LocalDateTime to) {
+		return waitlistIndex.hasOverlapping(studyRoomId, from, to);
+	}
+
+	public boolean hasAnyWaiters() {
+		return !waitlistIndex.isEmpty();
+	}
+
+	// [freedStart, freedEnd)가 비었을 때 겹치는 대기자를 등록 순서대로 전환
+	// 호출하는 쪽 트랜잭션에서 studyRoom 락을 잡은 상태여야 함
+	// 비는 구간이 길면 서로 안 겹치는 대기자 여러 명이 전환될 수 있음
+	public int promote(StudyRoom studyRoom, LocalDateTime freedStart, LocalDateTime freedEnd) {
+		List<Long> candidateIds = waitlistIndex.findOverlapping(studyRoom.getId(), freedStart, freedEnd);
+		if (candidateIds.isEmpty()) {
+			return 0;
+		}
+
+		LocalDateTime now = LocalDateTime.now(clock);
+		List<WaitlistEntry> candidates = waitlistEntryRepository.findAllById(candidateIds)
+			.stream()
+			.filter(WaitlistEntry::isWaiting)
+			.filter(e -> e.getStartAt().isAfter(now))
+			.sorted(Comparator.comparing(WaitlistEntry::getId))
+			.toList();
+
+		int promoted = 0;
+		for (WaitlistEntry entry : candidates) {
+			// 앞에서 전환한 예약도 JPQL 실행 전에 flush 되므로 같이 걸러짐
+			boolean occupied = reservationRepository.existsOverlappingInStatuses(
+				studyRoom,
+				HOLDING_STATUSES,
+				entry.getStartAt(),
+				entry.getEndAt()
+			) || seriesOccupancy.occupied(studyRoom.getId(), entry.getStartAt(), entry.getEndAt());
+			if (occupied) {
+				continue;
+			}
+
+			Reservation reservation = new Reservation(
+				commonService.getUserById(entry.getUserId()),
+				studyRoom,
+				entry.getStartAt(),
+				entry.getEndAt(),
+				clock
+			);
+			reservationRepository.save(reservation);
+			slotHoldService.hold(reservation);
+			outboxService.append(OutboxEventType.RESERVED, reservation, null);
+
+			entry.promote(reservation.getId());
+			AfterCommit.run(() -> waitlistIndex.remove(entry.getStudyRoomId(), toWaiter(entry)));
+			promoted++;
+		}
+
+		if (promoted > 0) {
+			log.info("Waitlist promoted: studyRoomId={}, count={}", studyRoom.getId(), promoted);
+		}
+		return promoted;
+	}
+
+	// 만료 스케줄러용, 방 락을 여기서 잡음
+	public int promote(Long studyRoomId, List<ReservationExportRow> freed) {
+		StudyRoom studyRoom = commonService.getStudyRoomForUpdate(studyRoomId);
+		int promoted = 0;
+		for (ReservationExportRow row : freed) {
+			promoted += promote(studyRoom, row.startAt(), row.endAt());
+		}
+		return promoted;
+	}
+
+	// 스터디룸 일괄 비활성화 트랜잭션 안에서 호출 (방 락을 이미 잡은 상태)
+	public int cancelForRooms(List<Long> studyRoomIds) {
+		int canceled = waitlistEntryRepository.cancelWaitingByStudyRoomIds(studyRoomIds);
+		AfterCommit.run(() -> waitlistIndex.removeRooms(studyRoomIds));
+		return canceled;
+	}
+
+	// 회원 탈퇴 : 남은 대기 취소 (사용자당 max-entries-per-user 개 이하)
+	// leave 처럼 방 락을 잡고 취소해서 동시에 전환되지 않게 함, 방 id 순서로
+	public int cancelForUser(Long userId) {
+		List<WaitlistEntry> waiting = waitlistEntryRepository.findByUserIdOrderByIdDesc(userId)
+			.stream()
+			.filter(WaitlistEntry::isWaiting)
+			.sorted(Comparator.comparing(WaitlistEntry::getStudyRoomId))
+			.toList();
+		for (WaitlistEntry entry : waiting) {
+			commonService.getStudyRoomForUpdate(entry.getStudyRoomId());
+			entry.cancel();
+			AfterCommit.run(() -> waitlistIndex.remove(entry.getStudyRoomId(), toWaiter(entry)));
+		}
+		return waiting.size();
+	}
+
+	// 시작 시간이 지난 대기 정리
+	public int expireStarted() {
+		LocalDateTime now = LocalDateTime.now(clock);
+		int expired = waitlistEntryRepository.expireStartedBefore(now);
+		AfterCommit.run(() -> waitlistIndex.removeStartedBefore(now));
+		return expired;
+	}
+
+	// DB의 WAITING 전체로 인덱스 다시 적재
+	public int reloadIndex() {
+		Map<Long, List<WaitlistIndex.Waiter>> waitersByRoom = waitlistEntryRepository.findByStatus(WaitlistStatus.WAITING)
+			.stream()
+			.collect(Collectors.groupingBy(
+				WaitlistEntry::getStudyRoomId,
+				Collectors.mapping(this::toWaiter, Collectors.toList())
+			));
+		waitlistIndex.reload(waitersByRoom);
+		return waitlistIndex.size();
+	}
+
+	private WaitlistIndex.Waiter toWaiter(WaitlistEntry entry) {
+		return new WaitlistIndex.Waiter(entry.getId(), entry.getStartAt(), entry.getEndAt());
+	}
+
+	private WaitlistResponse.Entry toResponse(WaitlistEntry entry) {
+		return new WaitlistResponse.Entry(
+			entry.getId(),
+			entry.getStudyRoomId(),
+			entry.getStartAt(),
+			entry.getEndAt(),
+			entry.getStatus(),
+			entry.getReservationId(),
+			entry.getCreatedAt()
+		);
+	}
+}
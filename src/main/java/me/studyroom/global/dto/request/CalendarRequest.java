@@ -0,0 +1,51 @@
+package me.studyroom.global.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+public sealed interface CalendarRequest
+	permits CalendarRequest.WeekdayHours,
+	CalendarRequest.Weekdays,
+	CalendarRequest.Closure {
+
+	// closed = true 면 open/close 는 무시
+	record WeekdayHours(
+		@NotNull(message = "요일 입력은 필수입니다")
+		DayOfWeek dayOfWeek,
+		boolean closed,
+		LocalTime openTime,
+		LocalTime closeTime
+	) implements CalendarRequest {
+	}
+
+	// 목록에 없는 요일은 기본 운영 시간으로 돌아감 (빈 목록 = 요일별 설정 전부 삭제)
+	record Weekdays(
+		@NotNull(message = "요일 목록은 필수입니다")
+		@Size(max = 7, message = "요일은 최대 7개입니다")
+		List<@Valid @NotNull WeekdayHours> days
+	) implements CalendarRequest {
+	}
+
+	// studyRoomId 가 없으면 전체 휴관 (공휴일 등)
+	record Closure(
+		Long studyRoomId,
+
+		@NotNull(message = "시작 시간 입력은 필수입니다")
+		LocalDateTime startAt,
+
+		@NotNull(message = "종료 시간 입력은 필수입니다")
+		LocalDateTime endAt,
+
+		@NotBlank(message = "휴관 사유는 필수입니다")
+		@Size(max = 100, message = "휴관 사유는 100자 이하입니다")
+		String reason
+	) implements CalendarRequest {
+	}
+}
@@ -0,0 +1,45 @@
+package me.studyroom.global.dto.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import me.studyroom.domain.reservation.series.SeriesFrequency;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public sealed interface ReservationSeriesRequest
+	permits ReservationSeriesRequest.Create {
+
+	// startAt, endAt 은 첫 회차, count 와 until 중 하나만
+	// skipConflicts = true 면 휴관이거나 이미 잡힌 회차는 빼고 만듦 (false 면 하나라도 있으면 실패)
+	record Create(
+		@NotNull(message = "스터디룸 선택은 필수입니다")
+		Long studyRoomId,
+
+		@NotNull(message = "시작 시간 선택은 필수입니다")
+		LocalDateTime startAt,
+
+		@NotNull(message = "종료 시간 선택은 필수입니다")
+		LocalDateTime endAt,
+
+		@NotNull(message = "반복 주기 선택은 필수입니다")
+		SeriesFrequency frequency,
+
+		@Min(value = 1, message = "반복 간격은 1 이상입니다")
+		Integer interval,
+
+		@Min(value = 1, message = "반복 횟수는 1 이상입니다")
+		Integer count,
+
+		LocalDate until,
+
+		@Size(max = 100, message = "제외 날짜는 최대 100개입니다")
+		List<@NotNull LocalDate> excludedDates,
+
+		boolean skipConflicts
+
+	) implements ReservationSeriesRequest {
+	}
+}
@@ -1,12 +1,20 @@
 package me.studyroom.global.dto.request;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.List;
 
-public sealed interface StudyRoomRequest permits StudyRoomRequest.Create {
+public sealed interface StudyRoomRequest
+	permits StudyRoomRequest.Create,
+	StudyRoomRequest.Update,
+	StudyRoomRequest.Bulk,
+	StudyRoomRequest.Search {
 
 	record Create(
 		@NotBlank (message = "스터디룸 이름 입력은 필수 입니다")
@@ -18,6 +26,52 @@ public sealed interface StudyRoomRequest permits StudyRoomRequest.Create {
 		@NotNull (message = "영업시작 시간입력은 필수 입니다")
 		LocalTime openTime,
 		@NotNull (message = "영업종료 시간입력은 필수 입니다")
-		LocalTime closeTime
+		LocalTime closeTime,
+		// 속성은 선택, 없으면 1인실 1층 시설 없음
+		@Min(value = 1, message = "인원은 1명 이상입니다")
+		Integer capacity,
+		Integer floor,
+		Boolean whiteboard,
+		Boolean projector,
+		Boolean quietZone
+	) implements StudyRoomRequest {}
+
+	// 부분 수정 : null인 필드는 그대로 둠
+	// 서비스 update() 고민했던 부분 -> @NotBlank 대신 null 허용 + 빈 문자열만 막음
+	record Update(
+		@Size(min = 1, max = 50, message = "스터디룸 이름은 1~50자 입니다")
+		String name,
+		Boolean available,
+		@Size(min = 1, max = 100, message = "설명은 1~100자 입니다")
+		String description,
+		LocalTime openTime,
+		LocalTime closeTime,
+		@Min(value = 1, message = "인원은 1명 이상입니다")
+		Integer capacity,
+		Integer floor,
+		Boolean whiteboard,
+		Boolean projector,
+		Boolean quietZone
+	) implements StudyRoomRequest {}
+
+	// 층 단위 일괄 활성/비활성
+	record Bulk(
+		@NotEmpty(message = "스터디룸 id 목록은 필수 입니다")
+		@Size(max = 1000, message = "한 번에 최대 1000개까지 가능합니다")
+		List<@NotNull Long> studyRoomIds
+	) implements StudyRoomRequest {}
+
+	// 방 검색 : null 인 조건은 보지 않음, 시설은 true 면 있는 방만 / false 면 없는 방만
+	// startAt, endAt 을 주면 그 시간에 비어 있는 방만 (운영 중 + 확정 예약/결제 대기/반복 예약 회차와 안 겹침)
+	record Search(
+		String name,
+		Integer minCapacity,
+		Integer floor,
+		Boolean whiteboard,
+		Boolean projector,
+		Boolean quietZone,
+		LocalDateTime startAt,
+		LocalDateTime endAt,
+		Integer limit
 	) implements StudyRoomRequest {}
 }
@@ -0,0 +1,22 @@
+package me.studyroom.global.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDateTime;
+
+public sealed interface WaitlistRequest
+	permits WaitlistRequest.Create {
+
+	record Create(
+		@NotNull(message = "스터디룸 선택은 필수입니다")
+		Long studyRoomId,
+
+		@NotNull(message = "시작 시간 선택은 필수입니다")
+		LocalDateTime startAt,
+
+		@NotNull(message = "종료 시간 선택은 필수입니다")
+		LocalDateTime endAt
+
+	) implements WaitlistRequest {
+	}
+}
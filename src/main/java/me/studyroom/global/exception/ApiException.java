@@ -2,12 +2,15 @@ package me.studyroom.global.exception;
 
 import lombok.Getter;
 
+// 예상한 비즈니스 결과(SCHEDULE_CONFLICT 등)라서 스택 트레이스를 만들지 않음
+// 핸들러는 코드만 남기고 트레이스를 출력하지 않으니, 슬롯이 풀리는 순간 수천 건씩 던져질 때 fillInStackTrace 비용만 듦
+// 던진 위치가 궁금하면 ExceptionCode로 찾으면 됨 (코드마다 던지는 곳이 몇 군데 안 됨)
 @Getter
 public class ApiException extends RuntimeException {
 	private final ExceptionCode exceptionCode;
 
 	public ApiException(ExceptionCode exceptionCode, String message) {
-		super(message);
+		super(message, null, false, false);
 		this.exceptionCode = exceptionCode;
 	}
 
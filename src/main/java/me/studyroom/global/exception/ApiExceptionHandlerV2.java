@@ -3,29 +3,73 @@ package me.studyroom.global.exception;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.time.Duration;
 import java.util.List;
 
 @RestControllerAdvice
 @Slf4j
 public class ApiExceptionHandlerV2 {
+	private final BusinessLogSampler businessLogSampler;
+
+	// @Import로 이 클래스만 가져가는 MockMvc 테스트에서도 그대로 뜨도록 샘플러는 여기서 만듦
+	public ApiExceptionHandlerV2(@Value("${studyroom.error-log.max-per-period:5}") int maxPerPeriod,
+															 @Value("${studyroom.error-log.period:1s}") Duration period) {
+		this.businessLogSampler = new BusinessLogSampler(maxPerPeriod, period);
+	}
+
 	// 비즈니스 예외
+	// 예상한 결과라 몰릴 때 가장 많이 지나가는 경로 -> 로그는 샘플링, 본문은 미리 만든 JSON에 시간/경로만 끼움
 	@ExceptionHandler(ApiException.class)
-	public ResponseEntity<ErrorResponse> handleApiException(ApiException e, HttpServletRequest request) {
+	public ResponseEntity<byte[]> handleApiException(ApiException e, HttpServletRequest request) {
 		ExceptionCode code = e.getExceptionCode();
 
-		log.warn("Business Exception 발생 : {} ", code.name());
+		long suppressed = businessLogSampler.tryAcquire(code);
+		if (suppressed >= 0) {
+			log.warn("Business Exception 발생 : {} (생략 {}건)", code.name(), suppressed);
+		}
+
+		return ResponseEntity
+			.status(code.getStatus())
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(ErrorBodies.render(code, request.getRequestURI()));
+	}
 
-		ErrorResponse response = ErrorResponse.of(code, request.getRequestURI());
+	// 예약 시간 충돌 + 가까운 빈 시간, 로그는 다른 비즈니스 예외처럼 샘플링
+	@ExceptionHandler(ScheduleConflictException.class)
+	public ResponseEntity<byte[]> handleScheduleConflictException(ScheduleConflictException e,
+																																HttpServletRequest request) {
+		ExceptionCode code = e.getExceptionCode();
+
+		long suppressed = businessLogSampler.tryAcquire(code);
+		if (suppressed >= 0) {
+			log.warn("Business Exception 발생 : {} (대안 {}건, 생략 {}건)", code.name(), e.getAlternatives().size(), suppressed);
+		}
+
+		return ResponseEntity
+			.status(code.getStatus())
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(ErrorBodies.render(e, request.getRequestURI()));
+	}
+
+	// 요청 횟수 제한 초과, 초당 수천 건이 될 수 있어서 warn 로그는 남기지 않음
+	@ExceptionHandler(RateLimitException.class)
+	public ResponseEntity<byte[]> handleRateLimitException(RateLimitException e, HttpServletRequest request) {
+		ExceptionCode code = e.getExceptionCode();
 
 		return ResponseEntity
 			.status(code.getStatus())
-			.body(response);
+			.contentType(MediaType.APPLICATION_JSON)
+			.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+			.body(ErrorBodies.render(code, request.getRequestURI()));
 	}
 
 	// @Valid 검증 실패
@@ -0,0 +1,39 @@
+package me.studyroom.global.exception;
+
+import me.studyroom.global.ratelimit.TokenBucket;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 비즈니스 예외 warn 로그 샘플링
+// 몰릴 때 SCHEDULE_CONFLICT가 초당 수천 건이면 로그 자체가 병목이 됨
+// 코드별로 구간당 N건까지만 남기고(TokenBucket), 나머지는 개수만 세서 다음 로그에 같이 남김
+public class BusinessLogSampler {
+
+	private final Map<ExceptionCode, Slot> slots = new EnumMap<>(ExceptionCode.class);
+
+	public BusinessLogSampler(int maxPerPeriod, Duration period) {
+		long now = System.nanoTime();
+		for (ExceptionCode code : ExceptionCode.values()) {
+			slots.put(code, new Slot(new TokenBucket(maxPerPeriod, period, now)));
+		}
+	}
+
+	// -1 : 이번 건은 남기지 않음, 0 이상 : 남겨야 함 (값은 그동안 생략된 건수)
+	public long tryAcquire(ExceptionCode code) {
+		Slot slot = slots.get(code);
+		if (slot.bucket().tryAcquire(System.nanoTime()) > 0) {
+			slot.suppressed().incrementAndGet();
+			return -1;
+		}
+		return slot.suppressed().getAndSet(0);
+	}
+
+	private record Slot(TokenBucket bucket, AtomicLong suppressed) {
+		private Slot(TokenBucket bucket) {
+			this(bucket, new AtomicLong());
+		}
+	}
+}
@@ -0,0 +1,156 @@
+package me.studyroom.global.exception;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// ExceptionCode별 에러 응답 JSON을 미리 만들어 둠 (ErrorResponse.of + 직렬화와 같은 모양)
+// {"code":..,"message":..,"status":..,"timestamp":"<여기>","path":"<여기>","fieldErrors":[]}
+// 요청마다 timestamp, path만 끼워 넣어서 byte[] 하나로 만듦 -> 빌더, 레코드, Jackson을 거치지 않음
+public final class ErrorBodies {
+
+	private static final Map<ExceptionCode, Template> TEMPLATES = new EnumMap<>(ExceptionCode.class);
+	private static final byte[] PATH_PREFIX = utf8("\",\"path\":\"");
+
+	static {
+		for (ExceptionCode code : ExceptionCode.values()) {
+			TEMPLATES.put(code, new Template(
+				utf8("{\"code\":\"" + code.name()
+					+ "\",\"message\":\"" + escape(code.getMessage())
+					+ "\",\"status\":" + code.getStatus().value()
+					+ ",\"timestamp\":\""),
+				utf8("\",\"fieldErrors\":[]}")
+			));
+		}
+	}
+
+	// 몰릴 때는 같은 밀리초에 여러 건이 나가니 포맷한 시간을 한 칸 캐시 (DateTimeFormatter가 이 경로에서 제일 많이 할당함)
+	private static volatile FormattedTime lastTime = new FormattedTime(Long.MIN_VALUE, new byte[0]);
+
+	private ErrorBodies() {
+	}
+
+	// 현재 시각(밀리초 단위)으로
+	public static byte[] render(ExceptionCode code, String path) {
+		long nowMillis = System.currentTimeMillis();
+		FormattedTime time = lastTime;
+		if (time.epochMillis() != nowMillis) {
+			LocalDateTime now = LocalDateTime.ofInstant(Instant.ofEpochMilli(nowMillis), ZoneId.systemDefault());
+			time = new FormattedTime(nowMillis, format(now));
+			lastTime = time;
+		}
+		return render(code, path, time.bytes());
+	}
+
+	public static byte[] render(ExceptionCode code, String path, LocalDateTime timestamp) {
+		return render(code, path, format(timestamp));
+	}
+
+	// SCHEDULE_CONFLICT + 가까운 빈 시간 : 같은 본문 끝에 ,"alternatives":[...] 만 덧붙임
+	public static byte[] render(ScheduleConflictException e, String path) {
+		return withAlternatives(render(e.getExceptionCode(), path), e.getAlternatives());
+	}
+
+	public static byte[] render(ScheduleConflictException e, String path, LocalDateTime timestamp) {
+		return withAlternatives(render(e.getExceptionCode(), path, timestamp), e.getAlternatives());
+	}
+
+	private static byte[] render(ExceptionCode code, String path, byte[] time) {
+		Template template = TEMPLATES.get(code);
+		byte[] escapedPath = utf8(escape(path));
+
+		byte[] body = new byte[template.head().length + time.length + PATH_PREFIX.length + escapedPath.length
+			+ template.tail().length];
+		int offset = 0;
+		offset = append(body, offset, template.head());
+		offset = append(body, offset, time);
+		offset = append(body, offset, PATH_PREFIX);
+		offset = append(body, offset, escapedPath);
+		append(body, offset, template.tail());
+		return body;
+	}
+
+	// 기본 본문의 마지막 '}' 를 떼고 배열을 붙임 (대안은 몇 개뿐이라 StringBuilder 로 충분)
+	private static byte[] withAlternatives(byte[] base, List<ScheduleConflictException.Alternative> alternatives) {
+		StringBuilder sb = new StringBuilder(",\"alternatives\":[");
+		for (int i = 0; i < alternatives.size(); i++) {
+			ScheduleConflictException.Alternative alternative = alternatives.get(i);
+			if (i > 0) {
+				sb.append(',');
+			}
+			sb.append("{\"studyRoomId\":").append(alternative.studyRoomId())
+				.append(",\"studyRoomName\":\"").append(escape(alternative.studyRoomName()))
+				.append("\",\"startAt\":\"").append(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(alternative.startAt()))
+				.append("\",\"endAt\":\"").append(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(alternative.endAt()))
+				.append("\"}");
+		}
+		byte[] tail = utf8(sb.append("]}").toString());
+
+		byte[] body = new byte[base.length - 1 + tail.length];
+		System.arraycopy(base, 0, body, 0, base.length - 1);
+		append(body, base.length - 1, tail);
+		return body;
+	}
+
+	private static byte[] format(LocalDateTime timestamp) {
+		return utf8(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(timestamp));
+	}
+
+	private static int append(byte[] target, int offset, byte[] source) {
+		System.arraycopy(source, 0, target, offset, source.length);
+		return offset + source.length;
+	}
+
+	// JSON 문자열 이스케이프, 대부분의 경로는 바꿀 게 없으니 그대로 반환
+	static String escape(String value) {
+		if (value == null) {
+			return "";
+		}
+		int i = 0;
+		while (i < value.length() && !needsEscape(value.charAt(i))) {
+			i++;
+		}
+		if (i == value.length()) {
+			return value;
+		}
+
+		StringBuilder sb = new StringBuilder(value.length() + 16).append(value, 0, i);
+		for (; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"' -> sb.append("\\\"");
+				case '\\' -> sb.append("\\\\");
+				case '\n' -> sb.append("\\n");
+				case '\r' -> sb.append("\\r");
+				case '\t' -> sb.append("\\t");
+				default -> {
+					if (c < 0x20) {
+						sb.append(String.format("\\u%04x", (int) c));
+					} else {
+						sb.append(c);
+					}
+				}
+			}
+		}
+		return sb.toString();
+	}
+
+	private static boolean needsEscape(char c) {
+		return c == '"' || c == '\\' || c < 0x20;
+	}
+
+	private static byte[] utf8(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	private record Template(byte[] head, byte[] tail) {
+	}
+
+	private record FormattedTime(long epochMillis, byte[] bytes) {
+	}
+}
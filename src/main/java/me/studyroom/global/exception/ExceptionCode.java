@@ -14,24 +14,50 @@ public enum ExceptionCode {
 	INVALID_EMAIL(HttpStatus.BAD_REQUEST, "이메일이 일치하지 않습니다"),
 	OUT_OF_OPERATING_TIME(HttpStatus.BAD_REQUEST, "운영 시간이 아닙니다"),
 	INVALID_OPERATING_TIME(HttpStatus.BAD_REQUEST, "운영 시간 입력이 바르지 않습니다"),
+	INVALID_ROOM_ATTRIBUTE(HttpStatus.BAD_REQUEST, "스터디룸 속성 입력이 바르지 않습니다"),
 	TOO_SHORT_RESERVATION(HttpStatus.BAD_REQUEST, "예약 시간이 너무 짧습니다"),
 	INVALID_STATUS(HttpStatus.BAD_REQUEST, "존재하지 않는 상태입니다"),
 	ALREADY_EXPIRED(HttpStatus.BAD_REQUEST, "이미 만료된 예약입니다"),
 	CANNOT_UPDATE_STATUS(HttpStatus.BAD_REQUEST, "상태를 변경할 수 없습니다"),
 	ALREADY_CANCELED(HttpStatus.BAD_REQUEST, "이미 취소된 예약 입니다"),
+	INVALID_IDEMPOTENCY_KEY(HttpStatus.BAD_REQUEST, "Idempotency-Key는 1~100자 입니다"),
+	INVALID_RECURRENCE(HttpStatus.BAD_REQUEST, "반복 규칙이 바르지 않습니다"),
+	TOO_MANY_OCCURRENCES(HttpStatus.BAD_REQUEST, "반복 횟수가 너무 많습니다"),
 
 
 	// 404
 	NOT_FOUND_STUDYROOM(HttpStatus.NOT_FOUND, "존재하지 않는 스터디룸입니다"),
 	NOT_FOUND_USER(HttpStatus.NOT_FOUND, "존재하지 않는 아이디입니다"),
 	NOT_FOUND_RESERVATION(HttpStatus.NOT_FOUND, "존재하지 않는 예약입니다"),
+	NOT_FOUND_WAITLIST(HttpStatus.NOT_FOUND, "존재하지 않는 대기입니다"),
+	NOT_FOUND_CLOSURE(HttpStatus.NOT_FOUND, "존재하지 않는 휴관 일정입니다"),
+	NOT_FOUND_PAYMENT(HttpStatus.NOT_FOUND, "존재하지 않는 결제입니다"),
+	NOT_FOUND_SERIES(HttpStatus.NOT_FOUND, "존재하지 않는 반복 예약입니다"),
+	NOT_FOUND_OCCURRENCE(HttpStatus.NOT_FOUND, "반복 예약에 없는 날짜입니다"),
 
 	//405 메서드를 수행하기 위한 해당 자원이 이용 불가일 때
 	STUDYROOM_NOT_AVAILABLE(HttpStatus.METHOD_NOT_ALLOWED, "현재 이용할 수 없는 스터디룸입니다"),
 
 	// 409 conflict 요청은 유효하지만, 현재 상태에서 수행할 수 없음
 	SCHEDULE_CONFLICT(HttpStatus.CONFLICT, "이미 예약되어 있는 시간대 입니다"),
-	PAYMENT_TIMEOUT(HttpStatus.CONFLICT, "결제 시간이 만료되었습니다");
+	PAYMENT_TIMEOUT(HttpStatus.CONFLICT, "결제 시간이 만료되었습니다"),
+	DUPLICATE_STUDYROOM_NAME(HttpStatus.CONFLICT, "이미 존재하는 스터디룸 이름입니다"),
+	STUDYROOM_IN_USE(HttpStatus.CONFLICT, "예약 기록이 있는 스터디룸은 삭제할 수 없습니다. 비활성화를 사용해주세요"),
+	IDEMPOTENCY_KEY_IN_PROGRESS(HttpStatus.CONFLICT, "같은 Idempotency-Key 요청이 아직 처리 중입니다"),
+	WAITLIST_NOT_NEEDED(HttpStatus.CONFLICT, "바로 예약할 수 있는 시간대 입니다"),
+	DUPLICATE_WAITLIST(HttpStatus.CONFLICT, "이미 같은 시간대에 대기 중입니다"),
+	WAITLIST_LIMIT_EXCEEDED(HttpStatus.CONFLICT, "더 이상 대기를 등록할 수 없습니다"),
+	SERIES_LIMIT_EXCEEDED(HttpStatus.CONFLICT, "더 이상 반복 예약을 만들 수 없습니다"),
+
+	// 422 같은 키로 내용이 다른 요청
+	IDEMPOTENCY_KEY_REUSED(HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다"),
+
+	// 429 요청 횟수 제한 초과
+	TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요"),
+
+	// 503 특정 스터디룸에 요청이 몰려 잠시 받을 수 없음
+	ROOM_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 몰려 있는 스터디룸입니다. 잠시 후 다시 시도해주세요"),
+	PAYMENT_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "결제 요청이 몰려 있습니다. 잠시 후 다시 시도해주세요");
 
 	private final HttpStatus status;
 	private final String message;
@@ -0,0 +1,11 @@
+package me.studyroom.global.exception;
+
+public class IdempotencyException extends ApiException {
+	public IdempotencyException(ExceptionCode code, String message) {
+		super(code, message);
+	}
+
+	public IdempotencyException(ExceptionCode code) {
+		super(code);
+	}
+}
@@ -0,0 +1,13 @@
+package me.studyroom.global.exception;
+
+import lombok.Getter;
+
+@Getter
+public class RateLimitException extends ApiException {
+	private final long retryAfterSeconds;
+
+	public RateLimitException(ExceptionCode code, long retryAfterSeconds) {
+		super(code);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+}
@@ -0,0 +1,26 @@
+package me.studyroom.global.exception;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 예약 SCHEDULE_CONFLICT + 바로 예약할 수 있는 가까운 빈 시간 (같은 길이, 같은 방 / 비슷한 다른 방)
+// 본문은 보통 에러 응답에 "alternatives" 만 덧붙임 (ErrorBodies.render)
+@Getter
+public class ScheduleConflictException extends ReservationException {
+	private final List<Alternative> alternatives;
+
+	public ScheduleConflictException(List<Alternative> alternatives) {
+		super(ExceptionCode.SCHEDULE_CONFLICT);
+		this.alternatives = List.copyOf(alternatives);
+	}
+
+	public record Alternative(
+		Long studyRoomId,
+		String studyRoomName,
+		LocalDateTime startAt,
+		LocalDateTime endAt
+	) {
+	}
+}
@@ -0,0 +1,53 @@
+package me.studyroom.global.idempotency;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+// 재시도된 요청에 같은 응답을 돌려주기 위해 처리 결과를 저장
+// 키는 사용자 단위 (다른 사용자가 같은 키를 써도 섞이지 않음)
+@Entity
+@Table(
+	name = "idempotency_key",
+	uniqueConstraints = @UniqueConstraint(
+		name = "uk_idempotency_key_user_key",
+		columnNames = {"user_id", "idempotency_key"}
+	),
+	indexes = @Index(name = "idx_idempotency_key_created_at", columnList = "created_at")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyKey {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	@Column(name = "idempotency_key", nullable = false, length = 100)
+	private String idempotencyKey;
+
+	// 같은 키로 다른 요청을 보내는 경우를 잡기 위한 값 (operation + 요청 본문의 SHA-256)
+	@Column(nullable = false, length = 64)
+	private String requestHash;
+
+	// 응답 본문 JSON, 본문이 없는 응답이면 null
+	@Column(length = 4000)
+	private String responseBody;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	public IdempotencyKey(Long userId, String idempotencyKey, String requestHash, String responseBody, Clock clock) {
+		this.userId = userId;
+		this.idempotencyKey = idempotencyKey;
+		this.requestHash = requestHash;
+		this.responseBody = responseBody;
+		this.createdAt = LocalDateTime.now(clock);
+	}
+}
@@ -0,0 +1,18 @@
+package me.studyroom.global.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, Long> {
+
+	Optional<IdempotencyKey> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+	@Modifying
+	@Query("DELETE FROM IdempotencyKey k WHERE k.createdAt < :before")
+	int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
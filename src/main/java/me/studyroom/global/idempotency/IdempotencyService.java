@@ -0,0 +1,276 @@
+package me.studyroom.global.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.IdempotencyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Idempotency-Key 처리
+// 1. 메모리 LRU -> 2. 처리 중인 같은 키가 있으면 그 결과를 기다림 -> 3. DB(idempotency_key) -> 4. 실제 실행
+// 1~3 에서 끝나는 재시도는 around(방 게이트, 낙관적 락 재시도)를 거치지 않음 -> 게이트 자리 없이 바로 응답
+// 실행과 키 저장은 같은 트랜잭션 (예약은 됐는데 키가 안 남는 경우 없음)
+// 여러 인스턴스가 동시에 같은 키를 처리하면 unique 제약에서 한쪽이 롤백되고 먼저 커밋된 응답을 돌려줌
+// 실패한 요청은 저장하지 않음 -> 같은 키로 재시도하면 다시 실행
+@Slf4j
+@Service
+public class IdempotencyService {
+
+	// 응답 DTO가 record + LocalDateTime이라 JavaTimeModule 필요
+	private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+		.addModule(new JavaTimeModule())
+		.build();
+
+	private static final int MAX_KEY_LENGTH = 100;
+
+	private final IdempotencyKeyRepository idempotencyKeyRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Clock clock;
+	private final Map<String, StoredResponse> cache;
+	private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+	@Value("${studyroom.idempotency.retention-hours:24}")
+	private long retentionHours;
+
+	@Value("${studyroom.idempotency.wait-millis:10000}")
+	private long waitMillis;
+
+	public IdempotencyService(IdempotencyKeyRepository idempotencyKeyRepository,
+														TransactionTemplate transactionTemplate,
+														Clock clock,
+														@Value("${studyroom.idempotency.cache-size:10000}") int cacheSize) {
+		this.idempotencyKeyRepository = idempotencyKeyRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.clock = clock;
+		this.cache = new LinkedHashMap<>(cacheSize, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	// operation : 같은 키를 다른 API에 재사용하는 경우를 구분 (예: "reserve", "confirm:3")
+	public <T> T execute(Long userId,
+											 String idempotencyKey,
+											 String operation,
+											 Object request,
+											 Class<T> responseType,
+											 Supplier<T> action) {
+		return execute(userId, idempotencyKey, operation, request, responseType, Supplier::get, action);
+	}
+
+	// around : 처음 실행할 때만 (트랜잭션 + 키 저장)을 감싸서 실행, 안에서 여러 번 불러도 됨 (재시도)
+	public <T> T execute(Long userId,
+											 String idempotencyKey,
+											 String operation,
+											 Object request,
+											 Class<T> responseType,
+											 Function<Supplier<T>, T> around,
+											 Supplier<T> action) {
+		validateKey(idempotencyKey);
+		String cacheKey = userId + ":" + idempotencyKey;
+		String requestHash = hash(operation, request);
+
+		StoredResponse cached = getCached(cacheKey);
+		if (cached != null) {
+			return replay(cached, requestHash, responseType);
+		}
+
+		CompletableFuture<StoredResponse> mine = new CompletableFuture<>();
+		CompletableFuture<StoredResponse> running = inFlight.putIfAbsent(cacheKey, mine);
+		if (running != null) {
+			// 같은 키 요청이 이미 처리 중 -> 다시 실행하지 않고 결과를 기다림
+			return replay(await(running), requestHash, responseType);
+		}
+
+		try {
+			StoredResponse stored = findStored(userId, idempotencyKey);
+			if (stored != null) {
+				mine.complete(stored);
+				return replay(stored, requestHash, responseType);
+			}
+			// 기다리는 요청에는 캐시가 아니라 방금 저장한 응답을 넘김 (그 사이 LRU 에서 밀려날 수 있음)
+			AtomicReference<StoredResponse> executed = new AtomicReference<>();
+			T result = around.apply(() -> {
+				Executed<T> run = executeAndStore(userId, idempotencyKey, requestHash, responseType, action);
+				executed.set(run.stored());
+				return run.response();
+			});
+			mine.complete(executed.get());
+			return result;
+		} catch (RuntimeException e) {
+			mine.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(cacheKey, mine);
+		}
+	}
+
+	// 보관 기간이 지난 행은 지우고 새 요청으로 처리 (purge 스케줄 전이라도 unique 제약에 걸리지 않게)
+	private StoredResponse findStored(Long userId, String idempotencyKey) {
+		IdempotencyKey key = idempotencyKeyRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+			.orElse(null);
+		if (key == null) {
+			return null;
+		}
+		StoredResponse stored = StoredResponse.from(key);
+		if (isExpired(stored)) {
+			transactionTemplate.executeWithoutResult(status -> idempotencyKeyRepository.deleteById(key.getId()));
+			return null;
+		}
+		putCached(userId + ":" + idempotencyKey, stored);
+		return stored;
+	}
+
+	private <T> Executed<T> executeAndStore(Long userId,
+																					String idempotencyKey,
+																					String requestHash,
+																					Class<T> responseType,
+																					Supplier<T> action) {
+		String cacheKey = userId + ":" + idempotencyKey;
+		try {
+			// ReservationService의 트랜잭션이 여기에 참여함 -> 예약과 키가 같이 커밋/롤백
+			Executed<T> executed = transactionTemplate.execute(status -> {
+				T response = action.get();
+				IdempotencyKey key = new IdempotencyKey(userId, idempotencyKey, requestHash, toJson(response), clock);
+				idempotencyKeyRepository.saveAndFlush(key);
+				return new Executed<>(response, StoredResponse.from(key));
+			});
+			// 커밋된 뒤에만 캐시에 올림
+			putCached(cacheKey, executed.stored());
+			return executed;
+		} catch (DataIntegrityViolationException e) {
+			// 다른 인스턴스가 같은 키를 먼저 커밋함 -> 내 실행은 롤백됐으니 그쪽 응답을 돌려줌
+			IdempotencyKey winner = idempotencyKeyRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+				.orElseThrow(() -> e);
+			StoredResponse stored = StoredResponse.from(winner);
+			putCached(cacheKey, stored);
+			return new Executed<>(replay(stored, requestHash, responseType), stored);
+		}
+	}
+
+	private <T> T replay(StoredResponse stored, String requestHash, Class<T> responseType) {
+		if (!stored.requestHash().equals(requestHash)) {
+			throw new IdempotencyException(ExceptionCode.IDEMPOTENCY_KEY_REUSED);
+		}
+		if (stored.responseBody() == null) {
+			return null;
+		}
+		try {
+			return OBJECT_MAPPER.readValue(stored.responseBody(), responseType);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("저장된 응답을 읽을 수 없습니다", e);
+		}
+	}
+
+	private StoredResponse await(CompletableFuture<StoredResponse> running) {
+		try {
+			return running.get(waitMillis, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			throw new IdempotencyException(ExceptionCode.IDEMPOTENCY_KEY_IN_PROGRESS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IdempotencyException(ExceptionCode.IDEMPOTENCY_KEY_IN_PROGRESS);
+		} catch (ExecutionException e) {
+			// 먼저 온 요청이 실패했으면 같은 예외로 응답 (같은 요청의 재시도이므로)
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	// 보관 기간이 지난 키 정리 (이후 같은 키는 새 요청으로 처리)
+	@Scheduled(cron = "${studyroom.idempotency.purge-cron:0 30 * * * *}")
+	public void purgeExpired() {
+		LocalDateTime before = LocalDateTime.now(clock).minusHours(retentionHours);
+		Integer deleted = transactionTemplate.execute(status -> idempotencyKeyRepository.deleteCreatedBefore(before));
+		if (deleted != null && deleted > 0) {
+			log.info("Purged idempotency keys: {}", deleted);
+		}
+	}
+
+	private StoredResponse getCached(String cacheKey) {
+		StoredResponse stored;
+		synchronized (cache) {
+			stored = cache.get(cacheKey);
+		}
+		if (stored == null || isExpired(stored)) {
+			return null;
+		}
+		return stored;
+	}
+
+	private void putCached(String cacheKey, StoredResponse stored) {
+		synchronized (cache) {
+			cache.put(cacheKey, stored);
+		}
+	}
+
+	private boolean isExpired(StoredResponse stored) {
+		return stored.createdAt().isBefore(LocalDateTime.now(clock).minusHours(retentionHours));
+	}
+
+	private static void validateKey(String idempotencyKey) {
+		if (idempotencyKey == null || idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+			throw new IdempotencyException(ExceptionCode.INVALID_IDEMPOTENCY_KEY);
+		}
+	}
+
+	private static String hash(String operation, Object request) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(operation.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			digest.update(OBJECT_MAPPER.writeValueAsBytes(request));
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException | JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String toJson(Object response) {
+		if (response == null) {
+			return null;
+		}
+		try {
+			return OBJECT_MAPPER.writeValueAsString(response);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private record Executed<T>(T response, StoredResponse stored) {
+	}
+
+	private record StoredResponse(String requestHash, String responseBody, LocalDateTime createdAt) {
+		static StoredResponse from(IdempotencyKey key) {
+			return new StoredResponse(key.getRequestHash(), key.getResponseBody(), key.getCreatedAt());
+		}
+	}
+}
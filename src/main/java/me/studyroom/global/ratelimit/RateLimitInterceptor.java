@@ -0,0 +1,68 @@
+package me.studyroom.global.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.RateLimitException;
+import me.studyroom.security.CustomUserDetails;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 예약 같은 엔드포인트에 몇몇 스크립트 사용자가 몰려서 방 row 락을 독점하는 걸 막음
+// 시큐리티 필터 뒤에서 실행되니 인증 사용자 id를 쓸 수 있음
+// 컨트롤러 진입 전에 예외를 던지므로 ApiExceptionHandlerV2가 429로 응답
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+	private final RateLimiter rateLimiter;
+	private final Map<String, RateLimitProperties.Rule> rules = new HashMap<>(); // "POST /reservations" -> 규칙
+
+	public RateLimitInterceptor(RateLimiter rateLimiter, RateLimitProperties properties) {
+		this.rateLimiter = rateLimiter;
+		for (RateLimitProperties.Rule rule : properties.rules()) {
+			rules.put(rule.method().toUpperCase() + " " + rule.path(), rule);
+		}
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (!(handler instanceof HandlerMethod)) {
+			return true;
+		}
+		// 매핑 패턴으로 찾음 -> 요청마다 경로 패턴 매칭을 다시 하지 않음
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		RateLimitProperties.Rule rule = rules.get(request.getMethod() + " " + pattern);
+		if (rule == null) {
+			return true;
+		}
+
+		Long userId = currentUserId();
+		if (userId != null) {
+			check(rule.name() + ":u:" + userId, rule.userCapacity(), rule);
+		}
+		check(rule.name() + ":ip:" + request.getRemoteAddr(), rule.ipCapacity(), rule);
+		return true;
+	}
+
+	private void check(String key, int capacity, RateLimitProperties.Rule rule) {
+		long waitNanos = rateLimiter.tryAcquire(key, capacity, rule.refillPeriod());
+		if (waitNanos > 0) {
+			long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999));
+			throw new RateLimitException(ExceptionCode.TOO_MANY_REQUESTS, retryAfterSeconds);
+		}
+	}
+
+	private static Long currentUserId() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails user) {
+			return user.getId();
+		}
+		return null;
+	}
+}
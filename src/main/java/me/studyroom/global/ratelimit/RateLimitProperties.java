@@ -0,0 +1,34 @@
+package me.studyroom.global.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+// 엔드포인트별 제한 (application.properties의 studyroom.rate-limit.rules[n])
+// path는 컨트롤러 매핑 패턴 그대로 (예: /reservations/{id}/confirm)
+@ConfigurationProperties(prefix = "studyroom.rate-limit")
+public record RateLimitProperties(
+	boolean enabled,
+	int maxKeys,
+	List<Rule> rules
+) {
+	public RateLimitProperties {
+		if (maxKeys <= 0) {
+			maxKeys = 100_000;
+		}
+		rules = rules == null ? List.of() : List.copyOf(rules);
+	}
+
+	// 사용자 단위와 IP 단위를 따로 셈
+	// IP는 회사/학교처럼 여러 명이 같은 공인 IP를 쓰는 경우가 있어서 보통 사용자보다 넉넉하게 둠
+	public record Rule(
+		String name,
+		String method,
+		String path,
+		int userCapacity,
+		int ipCapacity,
+		Duration refillPeriod
+	) {
+	}
+}
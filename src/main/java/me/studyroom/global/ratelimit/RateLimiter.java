@@ -0,0 +1,59 @@
+package me.studyroom.global.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 키(규칙 + 사용자/IP)별 버킷 보관
+// 크기 제한 : 가득 찬 버킷(= 한동안 요청이 없던 키)은 지워도 결과가 같으니 주기적으로, 그리고 한도에 닿으면 바로 정리
+@Slf4j
+public class RateLimiter {
+
+	private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+	private final int maxKeys;
+
+	public RateLimiter(int maxKeys) {
+		this.maxKeys = maxKeys;
+	}
+
+	public long tryAcquire(String key, int capacity, Duration refillPeriod) {
+		long now = System.nanoTime();
+		TokenBucket bucket = buckets.get(key);
+		if (bucket == null) {
+			if (buckets.size() >= maxKeys) {
+				evict(now);
+			}
+			bucket = buckets.computeIfAbsent(key, ignored -> new TokenBucket(capacity, refillPeriod, now));
+		}
+		return bucket.tryAcquire(now);
+	}
+
+	@Scheduled(fixedDelayString = "${studyroom.rate-limit.evict-delay-millis:30000}")
+	public void evictFull() {
+		long now = System.nanoTime();
+		buckets.values().removeIf(bucket -> bucket.isFull(now));
+	}
+
+	// 한도에 닿았을 때 : 가득 찬 버킷부터 지우고, 그래도 넘치면 임의로 1/10을 지움 (해당 키는 제한이 초기화됨)
+	private void evict(long now) {
+		buckets.values().removeIf(bucket -> bucket.isFull(now));
+		if (buckets.size() < maxKeys) {
+			return;
+		}
+		int toRemove = Math.max(1, maxKeys / 10);
+		Iterator<TokenBucket> iterator = buckets.values().iterator();
+		while (iterator.hasNext() && toRemove-- > 0) {
+			iterator.next();
+			iterator.remove();
+		}
+		log.warn("Rate limit buckets reached max keys ({}), evicted active buckets", maxKeys);
+	}
+
+	int size() {
+		return buckets.size();
+	}
+}
@@ -0,0 +1,47 @@
+package me.studyroom.global.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 락 없는 토큰 버킷 (GCRA 방식)
+// 남은 토큰 수와 마지막 충전 시각을 따로 들고 있으면 둘을 같이 바꿔야 해서 락이 필요함
+// 대신 "다음 요청이 버킷을 비우지 않고 들어올 수 있는 이론상 시각(TAT)" 하나만 AtomicLong으로 들고 CAS로 갱신
+// 요청 1건 = 간격(interval)만큼 TAT를 뒤로 미룸, TAT가 now + 용량 * 간격을 넘으면 거절
+public final class TokenBucket {
+
+	private final long intervalNanos; // 토큰 하나가 다시 차는 데 걸리는 시간
+	private final long capacityNanos; // 용량 * 간격 (버스트 허용 폭)
+	private final AtomicLong theoreticalArrivalNanos;
+
+	// refillPeriod 동안 capacity개가 다시 참 (비어 있다가 가득 찰 때까지 걸리는 시간)
+	public TokenBucket(int capacity, Duration refillPeriod, long nowNanos) {
+		if (capacity <= 0 || refillPeriod.isZero() || refillPeriod.isNegative()) {
+			throw new IllegalArgumentException("capacity, refillPeriod는 0보다 커야 합니다");
+		}
+		this.intervalNanos = Math.max(1, refillPeriod.toNanos() / capacity);
+		this.capacityNanos = intervalNanos * capacity;
+		this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+	}
+
+	// 0이면 통과, 0보다 크면 그만큼(ns) 기다린 뒤 다시 시도해야 함
+	public long tryAcquire(long nowNanos) {
+		while (true) {
+			long tat = theoreticalArrivalNanos.get();
+			long base = tat - nowNanos > 0 ? tat : nowNanos; // 오래 쉬었으면 now부터 (가득 찬 상태)
+			long nextTat = base + intervalNanos;
+			long waitNanos = nextTat - capacityNanos - nowNanos;
+			if (waitNanos > 0) {
+				return waitNanos;
+			}
+			if (theoreticalArrivalNanos.compareAndSet(tat, nextTat)) {
+				return 0;
+			}
+			// 다른 스레드가 먼저 갱신함 -> 새 값으로 다시 계산
+		}
+	}
+
+	// 버킷이 가득 찬 상태 = 지워도 다시 만들었을 때와 동작이 같음 (정리 대상)
+	public boolean isFull(long nowNanos) {
+		return theoreticalArrivalNanos.get() - nowNanos <= 0;
+	}
+}
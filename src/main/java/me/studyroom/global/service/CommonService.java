@@ -2,6 +2,8 @@ package me.studyroom.global.service;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import me.studyroom.domain.reservation.lock.RoomContentionTracker;
+import me.studyroom.domain.reservation.lock.RoomLockMode;
 import me.studyroom.domain.studyRoom.StudyRoom;
 import me.studyroom.domain.studyRoom.StudyRoomRepository;
 import me.studyroom.domain.user.User;
@@ -11,19 +13,27 @@ import me.studyroom.global.exception.StudyRoomException;
 import me.studyroom.global.exception.UserException;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class CommonService {
 	private final UserRepository userRepository;
 	private final StudyRoomRepository studyRoomRepository;
+	private final RoomContentionTracker roomContentionTracker;
 
 	// 엔티티 가져오기 전략 캡슐화
 	// 락 정책 공통 서비스에 위임
 
 	// User 관련
+	// 탈퇴한 회원은 없는 회원과 같이 봄 (탈퇴 전에 로그인해 둔 다른 세션으로 예약/대기를 만들지 못하게)
 	public User getUserById(Long userId) {
 		return userRepository.findById(userId)
+			.filter(user -> !user.isDeleted())
 			.orElseThrow(() -> new UserException(ExceptionCode.NOT_FOUND_USER));
 	}
 
@@ -34,10 +44,26 @@ public class CommonService {
 			.orElseThrow(() -> new StudyRoomException(ExceptionCode.NOT_FOUND_STUDYROOM));
 	}
 
+	// 여러 방 이름을 한 번에 조회 (id만 들고 있는 이력/통계 데이터 변환용)
+	public Map<Long, String> getStudyRoomNames(Collection<Long> studyRoomIds) {
+		return studyRoomRepository.findAllById(studyRoomIds)
+			.stream()
+			.collect(Collectors.toMap(StudyRoom::getId, StudyRoom::getName));
+	}
+
 	// studyRoom 락 걸고 조회
 	public StudyRoom getStudyRoomForUpdate(Long studyRoomId) {
 		return studyRoomRepository.findByIdForUpdate(studyRoomId)
 			.orElseThrow(() -> new StudyRoomException(ExceptionCode.NOT_FOUND_STUDYROOM));
 	}
 
+	// 예약/수정/결제 확정용, 방의 경합 정도에 따라 낙관적/비관적 락을 고름
+	// 낙관적이면 커밋 때 충돌할 수 있으니 ReservationFacade에서 재시도함
+	public StudyRoom getStudyRoomForBooking(Long studyRoomId) {
+		Optional<StudyRoom> studyRoom = roomContentionTracker.modeOf(studyRoomId) == RoomLockMode.PESSIMISTIC
+			? studyRoomRepository.findByIdForUpdate(studyRoomId)
+			: studyRoomRepository.findByIdForOptimisticUpdate(studyRoomId);
+		return studyRoom.orElseThrow(() -> new StudyRoomException(ExceptionCode.NOT_FOUND_STUDYROOM));
+	}
+
 }
@@ -0,0 +1,123 @@
+package me.studyroom.global.sql;
+
+import java.util.Locale;
+
+// 한 요청(또는 테스트 구간) 동안 실행된 SQL 집계
+// 스레드 단위라 같은 스레드에서 실행된 것만 셈 (StreamingResponseBody 같은 비동기 처리분은 안 잡힘)
+// start/stop은 중첩 가능 (안쪽 구간이 끝나면 바깥 구간으로 돌아감, 바깥에도 같이 셈)
+public final class SqlStats {
+
+	private static final ThreadLocal<SqlStats> CURRENT = new ThreadLocal<>();
+
+	private final SqlStats parent;
+	private int statements;
+	private int selects;
+	private int inserts;
+	private int updates;
+	private int deletes;
+	private long rows;
+	private long nanos;
+
+	private SqlStats(SqlStats parent) {
+		this.parent = parent;
+	}
+
+	public static SqlStats start() {
+		SqlStats stats = new SqlStats(CURRENT.get());
+		CURRENT.set(stats);
+		return stats;
+	}
+
+	public static SqlStats stop() {
+		SqlStats stats = CURRENT.get();
+		if (stats == null) {
+			return new SqlStats(null);
+		}
+		if (stats.parent == null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(stats.parent);
+		}
+		return stats;
+	}
+
+	static void recordStatement(String sql, long elapsedNanos) {
+		for (SqlStats stats = CURRENT.get(); stats != null; stats = stats.parent) {
+			stats.statements++;
+			stats.nanos += elapsedNanos;
+			switch (typeOf(sql)) {
+				case "select", "with" -> stats.selects++;
+				case "insert", "merge" -> stats.inserts++;
+				case "update" -> stats.updates++;
+				case "delete" -> stats.deletes++;
+				default -> {
+				}
+			}
+		}
+	}
+
+	static void recordRows(long count) {
+		for (SqlStats stats = CURRENT.get(); stats != null; stats = stats.parent) {
+			stats.rows += count;
+		}
+	}
+
+	// 첫 키워드 (앞 공백, /* 주석 */ 건너뜀)
+	static String typeOf(String sql) {
+		if (sql == null) {
+			return "";
+		}
+		int i = 0;
+		int length = sql.length();
+		while (i < length) {
+			char c = sql.charAt(i);
+			if (Character.isWhitespace(c) || c == '(') {
+				i++;
+			} else if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+				int end = sql.indexOf("*/", i + 2);
+				i = end < 0 ? length : end + 2;
+			} else {
+				break;
+			}
+		}
+		int start = i;
+		while (i < length && Character.isLetter(sql.charAt(i))) {
+			i++;
+		}
+		return sql.substring(start, i).toLowerCase(Locale.ROOT);
+	}
+
+	public int getStatements() {
+		return statements;
+	}
+
+	public int getSelects() {
+		return selects;
+	}
+
+	public int getInserts() {
+		return inserts;
+	}
+
+	public int getUpdates() {
+		return updates;
+	}
+
+	public int getDeletes() {
+		return deletes;
+	}
+
+	public long getRows() {
+		return rows;
+	}
+
+	public long getElapsedMillis() {
+		return nanos / 1_000_000;
+	}
+
+	@Override
+	public String toString() {
+		return "statements=" + statements + " (select=" + selects + ", insert=" + inserts + ", update=" + updates
+			+ ", delete=" + deletes + "), rows=" + rows + ", elapsedMillis=" + getElapsedMillis();
+	}
+}
@@ -0,0 +1,144 @@
+package me.studyroom.global.sql;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// JDBC 단계에서 SQL 실행 횟수, 행 수, 시간을 잼 (show-sql은 실행 여부만 보이고 행 수/시간은 안 보임)
+// Connection -> Statement -> ResultSet 을 JDK 프록시로 감쌈
+// 실행 시간은 execute* 호출 구간만 (ResultSet을 읽는 시간은 빠짐)
+// 느린 쿼리는 요청 집계와 상관없이 항상 로그
+@Slf4j
+public class SqlStatsDataSource extends DelegatingDataSource {
+
+	private static final int MAX_LOGGED_SQL_LENGTH = 1000;
+
+	private final long slowQueryNanos;
+
+	public SqlStatsDataSource(DataSource target, long slowQueryMillis) {
+		super(target);
+		this.slowQueryNanos = slowQueryMillis * 1_000_000;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return wrapConnection(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return wrapConnection(super.getConnection(username, password));
+	}
+
+	private Connection wrapConnection(Connection connection) {
+		return proxy(Connection.class, connection, (proxy, method, args) -> {
+			Object result = invoke(connection, method, args);
+			return switch (method.getName()) {
+				case "createStatement" -> wrapStatement(Statement.class, (Statement) result, null);
+				case "prepareStatement" -> wrapStatement(PreparedStatement.class, (Statement) result, (String) args[0]);
+				case "prepareCall" -> wrapStatement(CallableStatement.class, (Statement) result, (String) args[0]);
+				default -> result;
+			};
+		});
+	}
+
+	// preparedSql : PreparedStatement면 만들 때 받은 SQL, Statement면 null (execute 인자로 옴)
+	private <T extends Statement> T wrapStatement(Class<T> type, Statement statement, String preparedSql) {
+		return proxy(type, statement, (proxy, method, args) -> {
+			String name = method.getName();
+			if (!name.startsWith("execute")) {
+				Object result = invoke(statement, method, args);
+				return "getResultSet".equals(name) && result != null ? wrapResultSet((ResultSet) result) : result;
+			}
+
+			String sql = preparedSql != null ? preparedSql : (args != null && args.length > 0 ? (String) args[0] : null);
+			long startedAt = System.nanoTime();
+			Object result = invoke(statement, method, args);
+			long elapsed = System.nanoTime() - startedAt;
+
+			SqlStats.recordStatement(sql, elapsed);
+			if (elapsed >= slowQueryNanos) {
+				log.warn("Slow query {}ms : {}", elapsed / 1_000_000, oneLine(sql));
+			}
+
+			if (result instanceof ResultSet resultSet) {
+				return wrapResultSet(resultSet);
+			}
+			recordUpdateCount(result);
+			return result;
+		});
+	}
+
+	private ResultSet wrapResultSet(ResultSet resultSet) {
+		return proxy(ResultSet.class, resultSet, (proxy, method, args) -> {
+			Object result = invoke(resultSet, method, args);
+			if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+				SqlStats.recordRows(1);
+			}
+			return result;
+		});
+	}
+
+	// executeUpdate(int/long), executeBatch(int[]/long[]) 결과는 변경된 행 수
+	private static void recordUpdateCount(Object result) {
+		long rows = 0;
+		if (result instanceof Integer count) {
+			rows = Math.max(0, count);
+		} else if (result instanceof Long count) {
+			rows = Math.max(0, count);
+		} else if (result instanceof int[] counts) {
+			for (int count : counts) {
+				rows += Math.max(0, count);
+			}
+		} else if (result instanceof long[] counts) {
+			for (long count : counts) {
+				rows += Math.max(0, count);
+			}
+		}
+		if (rows > 0) {
+			SqlStats.recordRows(rows);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, Object target, InvocationHandler handler) {
+		return (T) Proxy.newProxyInstance(
+			SqlStatsDataSource.class.getClassLoader(),
+			new Class<?>[]{type},
+			(proxy, method, args) -> switch (method.getName()) {
+				// 프록시끼리 비교할 때 대상 객체로 넘기면 자기 자신과도 다르다고 나옴
+				case "equals" -> proxy == args[0];
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "unwrap" -> ((Class<?>) args[0]).isInstance(proxy) ? proxy : invoke(target, method, args);
+				default -> handler.invoke(proxy, method, args);
+			}
+		);
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	private static String oneLine(String sql) {
+		if (sql == null) {
+			return "";
+		}
+		String line = sql.replaceAll("\\s+", " ").trim();
+		return line.length() > MAX_LOGGED_SQL_LENGTH ? line.substring(0, MAX_LOGGED_SQL_LENGTH) + "..." : line;
+	}
+}
@@ -0,0 +1,30 @@
+package me.studyroom.global.sql;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+// 자동 구성된 DataSource(Hikari)를 SqlStatsDataSource로 감쌈
+// 운영에서는 studyroom.sql-stats.enabled=false 로 끄면 프록시 없이 그대로 나감
+@Component
+@ConditionalOnProperty(name = "studyroom.sql-stats.enabled", havingValue = "true")
+public class SqlStatsDataSourcePostProcessor implements BeanPostProcessor {
+
+	private final Environment environment;
+
+	public SqlStatsDataSourcePostProcessor(Environment environment) {
+		this.environment = environment;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (bean instanceof DataSource dataSource && !(bean instanceof SqlStatsDataSource)) {
+			long slowQueryMillis = environment.getProperty("studyroom.sql-stats.slow-query-millis", Long.class, 200L);
+			return new SqlStatsDataSource(dataSource, slowQueryMillis);
+		}
+		return bean;
+	}
+}
@@ -0,0 +1,110 @@
+package me.studyroom.global.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+// 요청마다 실행된 SQL 수/행 수/시간을 응답 헤더로 (개발/스테이징용, 운영에서는 headers=false)
+// 헤더는 본문을 쓰기 전에만 넣을 수 있어서 응답이 커밋되기 직전(첫 출력) 시점의 값을 넣음
+// 보안 필터(인증 시 사용자 조회)까지 포함하려고 가장 바깥에서 실행
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+	public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+	public static final String ROWS_HEADER = "X-Sql-Rows";
+	public static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+	private final boolean enabled;
+
+	public SqlStatsFilter(@Value("${studyroom.sql-stats.headers:false}") boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !enabled;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request,
+																	HttpServletResponse response,
+																	FilterChain filterChain) throws ServletException, IOException {
+		SqlStats stats = SqlStats.start();
+		StatsHeaderResponse wrapped = new StatsHeaderResponse(response, stats);
+		try {
+			filterChain.doFilter(request, wrapped);
+		} finally {
+			SqlStats.stop();
+			// 본문이 없는 응답(204 등)은 여기서
+			wrapped.writeHeaders();
+		}
+	}
+
+	private static final class StatsHeaderResponse extends HttpServletResponseWrapper {
+		private final SqlStats stats;
+		private boolean written;
+
+		private StatsHeaderResponse(HttpServletResponse response, SqlStats stats) {
+			super(response);
+			this.stats = stats;
+		}
+
+		private void writeHeaders() {
+			if (written || isCommitted()) {
+				return;
+			}
+			written = true;
+			setHeader(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+			setHeader(ROWS_HEADER, String.valueOf(stats.getRows()));
+			setHeader(TIME_HEADER, String.valueOf(stats.getElapsedMillis()));
+		}
+
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+			writeHeaders();
+			return super.getOutputStream();
+		}
+
+		@Override
+		public PrintWriter getWriter() throws IOException {
+			writeHeaders();
+			return super.getWriter();
+		}
+
+		@Override
+		public void flushBuffer() throws IOException {
+			writeHeaders();
+			super.flushBuffer();
+		}
+
+		@Override
+		public void sendError(int sc) throws IOException {
+			writeHeaders();
+			super.sendError(sc);
+		}
+
+		@Override
+		public void sendError(int sc, String msg) throws IOException {
+			writeHeaders();
+			super.sendError(sc, msg);
+		}
+
+		@Override
+		public void sendRedirect(String location) throws IOException {
+			writeHeaders();
+			super.sendRedirect(location);
+		}
+	}
+}
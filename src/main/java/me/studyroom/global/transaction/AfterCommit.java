@@ -0,0 +1,25 @@
+package me.studyroom.global.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 메모리 상태(캐시, 인덱스)는 DB가 커밋된 뒤에만 바꿔야 롤백됐을 때 어긋나지 않음
+// 트랜잭션 밖에서 호출하면 바로 실행
+public final class AfterCommit {
+
+	private AfterCommit() {
+	}
+
+	public static void run(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
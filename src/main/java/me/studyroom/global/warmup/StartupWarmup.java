@@ -0,0 +1,232 @@
+package me.studyroom.global.warmup;
+
+import lombok.extern.slf4j.Slf4j;
+import me.studyroom.domain.reservation.hold.SlotHoldService;
+import me.studyroom.domain.reservation.schedule.RoomScheduleService;
+import me.studyroom.domain.reservation.service.ReservationService;
+import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.studyRoom.StudyRoomRepository;
+import me.studyroom.domain.studyRoom.calendar.OperatingCalendarIndex;
+import me.studyroom.domain.studyRoom.calendar.RoomCalendarService;
+import me.studyroom.domain.studyRoom.search.RoomSearchService;
+import me.studyroom.domain.user.User;
+import me.studyroom.domain.user.UserRepository;
+import me.studyroom.domain.waitlist.service.WaitlistService;
+import me.studyroom.global.dto.request.ReservationRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 기동 직후 워밍업 : 배포 뒤 첫 트래픽이 빈 캐시/풀, 차가운 JIT, Hibernate 첫 쿼리 준비를 같이 맞지 않게
+//   1. 커넥션 풀 채우기 (connections 개를 한 번에 빌렸다 돌려줌)
+//   2. 메모리 인덱스 병렬 적재 : 운영 달력(전체 방), 확정 구간(가까운 확정 예약), 결제 대기 홀드, 대기, 방 검색
+//   3. 예약/조회 경로를 가짜 사용자/방으로 iterations 번 실행하고 롤백 (DB, 메모리 인덱스 어디에도 남지 않음)
+// ApplicationReadyEvent 리스너가 끝나야 readiness 가 ACCEPTING_TRAFFIC 으로 바뀜 (/actuator/health/readiness)
+// -> 여기서 동기로 기다리는 동안은 로드밸런서가 트래픽을 보내지 않음
+// 예산(budget-millis)을 넘기면 기다리지 않고 ready, 남은 적재는 뒤에서 계속 (인덱스가 비어 있어도 최종 판단은 DB라 느릴 뿐 틀리지 않음)
+// 각 단계는 실패해도 앱은 뜸, 인덱스는 각 스케줄러 주기마다 다시 적재
+@Slf4j
+@Component
+public class StartupWarmup {
+
+	private static final String SYNTHETIC_EMAIL = "warmup@studyroom.invalid";
+	private static final String SYNTHETIC_PHONE = "00000000000";
+
+	private final DataSource dataSource;
+	private final RoomCalendarService roomCalendarService;
+	private final RoomScheduleService roomScheduleService;
+	private final SlotHoldService slotHoldService;
+	private final WaitlistService waitlistService;
+	private final RoomSearchService roomSearchService;
+	private final ReservationService reservationService;
+	private final UserRepository userRepository;
+	private final StudyRoomRepository studyRoomRepository;
+	private final OperatingCalendarIndex operatingCalendarIndex;
+	private final TransactionTemplate transactionTemplate;
+	private final Clock clock;
+	private final boolean enabled;
+	private final int connections;
+	private final int iterations;
+	private final Duration budget;
+
+	public record Result(int iterations, boolean withinBudget, long elapsedMillis) {
+	}
+
+	public StartupWarmup(DataSource dataSource,
+											 RoomCalendarService roomCalendarService,
+											 RoomScheduleService roomScheduleService,
+											 SlotHoldService slotHoldService,
+											 WaitlistService waitlistService,
+											 RoomSearchService roomSearchService,
+											 ReservationService reservationService,
+											 UserRepository userRepository,
+											 StudyRoomRepository studyRoomRepository,
+											 OperatingCalendarIndex operatingCalendarIndex,
+											 PlatformTransactionManager transactionManager,
+											 Clock clock,
+											 @Value("${studyroom.warmup.enabled:true}") boolean enabled,
+											 @Value("${studyroom.warmup.connections:${spring.datasource.hikari.maximum-pool-size:10}}") int connections,
+											 @Value("${studyroom.warmup.iterations:50}") int iterations,
+											 @Value("${studyroom.warmup.budget-millis:20000}") long budgetMillis) {
+		this.dataSource = dataSource;
+		this.roomCalendarService = roomCalendarService;
+		this.roomScheduleService = roomScheduleService;
+		this.slotHoldService = slotHoldService;
+		this.waitlistService = waitlistService;
+		this.roomSearchService = roomSearchService;
+		this.reservationService = reservationService;
+		this.userRepository = userRepository;
+		this.studyRoomRepository = studyRoomRepository;
+		this.operatingCalendarIndex = operatingCalendarIndex;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.clock = clock;
+		this.enabled = enabled;
+		this.connections = connections;
+		this.iterations = iterations;
+		this.budget = Duration.ofMillis(budgetMillis);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onReady() {
+		Result result = run();
+		if (result.withinBudget()) {
+			log.info("Startup warm-up finished: iterations={}, {}ms", result.iterations(), result.elapsedMillis());
+		} else {
+			log.warn("Startup warm-up exceeded its budget ({}), accepting traffic anyway: iterations={}, {}ms",
+				budget, result.iterations(), result.elapsedMillis());
+		}
+	}
+
+	public Result run() {
+		long startedAt = System.nanoTime();
+		long deadline = startedAt + budget.toNanos();
+
+		// 풀을 먼저 채움 (적재 작업과 같이 하면 서로 커넥션을 기다림)
+		if (enabled) {
+			fillPool();
+		}
+
+		boolean loaded = loadIndexes(deadline);
+		int done = enabled && loaded ? exerciseReservePath(deadline) : 0;
+
+		long elapsed = System.nanoTime() - startedAt;
+		return new Result(done, loaded && elapsed <= budget.toNanos(), Duration.ofNanos(elapsed).toMillis());
+	}
+
+	private void fillPool() {
+		List<Connection> borrowed = new ArrayList<>(connections);
+		try {
+			for (int i = 0; i < connections; i++) {
+				Connection connection = dataSource.getConnection();
+				borrowed.add(connection);
+				connection.isValid(1);
+			}
+		} catch (SQLException | RuntimeException e) {
+			log.warn("Connection pool warm-up stopped after {} connections", borrowed.size(), e);
+		} finally {
+			for (Connection connection : borrowed) {
+				try {
+					connection.close();
+				} catch (SQLException e) {
+					log.debug("Connection close failed during warm-up", e);
+				}
+			}
+		}
+	}
+
+	// 서로 다른 테이블을 읽으니 병렬로, 각각 실패해도 나머지는 진행
+	// warm-up 이 꺼져 있어도 인덱스 적재는 함 (예전 스케줄러의 시작 적재를 여기로 모음)
+	private boolean loadIndexes(long deadline) {
+		Map<String, Runnable> loads = Map.of(
+			"operating calendar", roomCalendarService::reloadAll,
+			"room schedule", roomScheduleService::warmStart,
+			"slot hold", slotHoldService::reloadIndex,
+			"waitlist", waitlistService::reloadIndex,
+			"room search", roomSearchService::reloadAll
+		);
+		AtomicInteger sequence = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(loads.size(), runnable -> {
+			Thread thread = new Thread(runnable, "warmup-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			CompletableFuture<?>[] futures = loads.entrySet().stream()
+				.map(load -> CompletableFuture.runAsync(() -> {
+					try {
+						load.getValue().run();
+					} catch (RuntimeException e) {
+						log.warn("Startup load failed: {}", load.getKey(), e);
+					}
+				}, executor))
+				.toArray(CompletableFuture[]::new);
+			CompletableFuture.allOf(futures).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+			return true;
+		} catch (TimeoutException e) {
+			return false;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} catch (ExecutionException e) {
+			log.warn("Startup load failed", e);
+			return true;
+		} finally {
+			// 끝나지 않은 적재는 끊지 않고 끝나면 스레드도 정리됨
+			executor.shutdown();
+		}
+	}
+
+	// 실제 방은 건드리지 않음 (락, 통계, 홀드 모두 가짜 방에만), 커밋하지 않으니 AfterCommit 도 돌지 않음
+	private int exerciseReservePath(long deadline) {
+		int done = 0;
+		for (int i = 0; i < iterations && System.nanoTime() < deadline; i++) {
+			try {
+				transactionTemplate.executeWithoutResult(status -> {
+					status.setRollbackOnly();
+					syntheticReserve();
+				});
+				done++;
+			} catch (RuntimeException e) {
+				log.warn("Startup reserve warm-up stopped after {} iterations", done, e);
+				break;
+			}
+		}
+		return done;
+	}
+
+	private void syntheticReserve() {
+		User user = userRepository.save(new User("warmup", SYNTHETIC_EMAIL, "warmup", SYNTHETIC_PHONE));
+		StudyRoom room = studyRoomRepository.save(new StudyRoom("warmup", true, "warmup", LocalTime.MIN, LocalTime.MAX));
+		LocalDateTime start = LocalDateTime.now(clock).truncatedTo(ChronoUnit.HOURS).plusDays(1);
+		try {
+			reservationService.reserve(new ReservationRequest.Create(room.getId(), start, start.plusHours(2)), user.getId());
+			reservationService.reservationConfirm(user.getId());
+			reservationService.reservationHistory(user.getId(), false, 10);
+		} finally {
+			// 달력은 조회할 때 바로 채워 넣으니(커밋과 무관) 따로 지움
+			operatingCalendarIndex.remove(room.getId());
+		}
+	}
+}
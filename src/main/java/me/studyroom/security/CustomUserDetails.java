@@ -1,6 +1,7 @@
 package me.studyroom.security;
 
 import me.studyroom.domain.user.User;
+import me.studyroom.domain.user.UserRole;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,11 +16,15 @@ public class CustomUserDetails implements UserDetails {
 	private final Long id;
 	private final String email;
 	private final String password;
+	private final UserRole role;
+	private final boolean enabled;
 
 	public CustomUserDetails(User user) {
 		this.id = user.getId();
 		this.email = user.getEmail();
 		this.password = user.getPassword();
+		this.role = user.getRole();
+		this.enabled = !user.isDeleted();
 	}
 
 	public Long getId() {
@@ -38,8 +43,8 @@ public class CustomUserDetails implements UserDetails {
 
 	@Override
 	public Collection<? extends GrantedAuthority> getAuthorities() {
-		// 아직 권한 개념 만들지 않음 기본 USER  하나만
-		return List.of(new SimpleGrantedAuthority("ROLE_USER"));
+		// hasRole("ADMIN")은 ROLE_ 접두사를 붙여서 비교함
+		return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
 	}
 
 	@Override
@@ -59,6 +64,6 @@ public class CustomUserDetails implements UserDetails {
 
 	@Override
 	public boolean isEnabled() {
-		return true;
+		return enabled;
 	}
 }
@@ -20,6 +20,8 @@ public class CustomUserDetailsService implements UserDetailsService {
 	@Override
 	@NonNull // 이거랑 매개 변수에 붙어있는 것 없어도 됨 그냥 상위 인터페이스 메서드에 null 관련 어노테이션이 있는데
 	// 내가 오버라이드한 메서드에는 없기 때문에 노란줄이 떴을 뿐
+	// 탈퇴한 회원(soft delete)도 행은 정리 배치 전까지 남아 있음 -> isEnabled=false 로 돌려줘서
+	// 인증 단계에서 DisabledException 으로 로그인 거절
 	public UserDetails loadUserByUsername(@NonNull String username) {
 		User user = userRepository.findByEmail(username)
 			.orElseThrow(() -> new UserException(ExceptionCode.NOT_FOUND_USER));
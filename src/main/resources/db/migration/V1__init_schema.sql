@@ -0,0 +1,123 @@
+-- 지금까지 ddl-auto=create 로 만들던 스키마 (엔티티 기준)
+-- MySQL / H2(MODE=MySQL) 둘 다 실행되는 문법만 사용
+
+create table users (
+	id           bigint       not null auto_increment,
+	name         varchar(30)  not null,
+	email        varchar(50)  not null,
+	password     varchar(100) not null,
+	phone_number varchar(11)  not null,
+	role         varchar(20)  not null,
+	primary key (id),
+	constraint uk_users_email unique (email),
+	constraint uk_users_phone_number unique (phone_number)
+);
+
+create table study_room (
+	id          bigint       not null auto_increment,
+	name        varchar(50)  not null,
+	available   boolean      not null,
+	description varchar(100) not null,
+	open_time   time(6)      not null,
+	close_time  time(6)      not null,
+	version     bigint       not null,
+	primary key (id),
+	constraint uk_study_room_name unique (name)
+);
+
+create table reservation (
+	id            bigint      not null auto_increment,
+	user_id       bigint      not null,
+	study_room_id bigint      not null,
+	created_at    datetime(6) not null,
+	start_at      datetime(6) not null,
+	end_at        datetime(6) not null,
+	status        varchar(20) not null,
+	primary key (id),
+	constraint fk_reservation_user foreign key (user_id) references users (id),
+	constraint fk_reservation_study_room foreign key (study_room_id) references study_room (id)
+);
+
+create index idx_reservation_room_status_time on reservation (study_room_id, status, start_at, end_at);
+
+-- 콜드 테이블, 탈퇴 회원은 user_id 가 비어 있을 수 있음
+create table reservation_history (
+	id            bigint      not null,
+	user_id       bigint,
+	study_room_id bigint      not null,
+	created_at    datetime(6) not null,
+	start_at      datetime(6) not null,
+	end_at        datetime(6) not null,
+	status        varchar(20) not null,
+	archived_at   datetime(6) not null,
+	primary key (id)
+);
+
+create index idx_reservation_history_user_start on reservation_history (user_id, start_at);
+create index idx_reservation_history_room_start on reservation_history (study_room_id, start_at);
+
+create table outbox_event (
+	id                     bigint      not null auto_increment,
+	event_type             varchar(30) not null,
+	reservation_id         bigint      not null,
+	study_room_id          bigint      not null,
+	user_id                bigint      not null,
+	start_at               datetime(6) not null,
+	end_at                 datetime(6) not null,
+	status                 varchar(20) not null,
+	previous_status        varchar(20),
+	previous_study_room_id bigint,
+	previous_start_at      datetime(6),
+	previous_end_at        datetime(6),
+	created_at             datetime(6) not null,
+	primary key (id)
+);
+
+create table outbox_cursor (
+	name          varchar(50) not null,
+	last_event_id bigint      not null,
+	updated_at    datetime(6) not null,
+	primary key (name)
+);
+
+create table room_daily_stat (
+	id               bigint       not null auto_increment,
+	study_room_id    bigint       not null,
+	stat_date        date         not null,
+	reserved_count   integer      not null,
+	confirmed_count  integer      not null,
+	canceled_count   integer      not null,
+	expired_count    integer      not null,
+	booked_minutes   bigint       not null,
+	hourly_minutes   varchar(200) not null,
+	primary key (id),
+	constraint uk_room_daily_stat_room_date unique (study_room_id, stat_date)
+);
+
+create table idempotency_key (
+	id              bigint        not null auto_increment,
+	user_id         bigint        not null,
+	idempotency_key varchar(100)  not null,
+	request_hash    varchar(64)   not null,
+	response_body   varchar(4000),
+	created_at      datetime(6)   not null,
+	primary key (id),
+	constraint uk_idempotency_key_user_key unique (user_id, idempotency_key)
+);
+
+create index idx_idempotency_key_created_at on idempotency_key (created_at);
+
+create table waitlist_entry (
+	id             bigint      not null auto_increment,
+	user_id        bigint      not null,
+	study_room_id  bigint      not null,
+	start_at       datetime(6) not null,
+	end_at         datetime(6) not null,
+	status         varchar(20) not null,
+	reservation_id bigint,
+	created_at     datetime(6) not null,
+	primary key (id)
+);
+
+create index idx_waitlist_room_status_start on waitlist_entry (study_room_id, status, start_at);
+create index idx_waitlist_user_status on waitlist_entry (user_id, status);
@@ -0,0 +1,27 @@
+-- 리포지토리 쿼리마다 인덱스를 타도록 보강 (RepositoryQueryPlanTest 에서 EXPLAIN 으로 확인)
+-- InnoDB / H2 보조 인덱스는 PK(id)를 같이 들고 있어서 id만 읽는 쿼리는 인덱스만으로 끝남
+
+-- findByUserIdAndStatus (확정 예약 목록)
+create index idx_reservation_user_status on reservation (user_id, status);
+
+-- findByUserIdOrderByStartAtDesc (이력 조회, 정렬까지 인덱스 순서로)
+create index idx_reservation_user_start on reservation (user_id, start_at);
+
+-- findExpirableIdsForUpdate (결제 대기 만료), findTerminalIdsForUpdate (아카이빙)
+-- status 동등 + created_at 범위, id만 읽음
+create index idx_reservation_status_created on reservation (status, created_at);
+
+-- findPastIdsForUpdate (아카이빙, 종료 시간 기준)
+create index idx_reservation_end on reservation (end_at);
+
+-- streamForExport (월별 추출)
+create index idx_reservation_start on reservation (start_at);
+
+-- reservation_history.streamForExport / streamForColumnarArchive
+create index idx_reservation_history_start on reservation_history (start_at);
+
+-- 대기 목록 적재(findByStatus), 시작 지난 대기 만료(expireStartedBefore)
+create index idx_waitlist_status_start on waitlist_entry (status, start_at);
+
+-- findMinLastEventId (가장 뒤처진 소비자)
+create index idx_outbox_cursor_last_event on outbox_cursor (last_event_id);
@@ -0,0 +1,26 @@
+-- 요일별 운영 시간, 휴관 일정 (OperatingCalendar 컴파일 재료)
+
+create table room_weekday_hours (
+	id            bigint      not null auto_increment,
+	study_room_id bigint      not null,
+	day_of_week   varchar(10) not null,
+	closed        boolean     not null,
+	open_time     time(6),
+	close_time    time(6),
+	primary key (id),
+	constraint uk_room_weekday_hours_room_day unique (study_room_id, day_of_week)
+);
+
+-- study_room_id 가 null 이면 전체 휴관
+create table room_closure (
+	id            bigint       not null auto_increment,
+	study_room_id bigint,
+	start_at      datetime(6)  not null,
+	end_at        datetime(6)  not null,
+	reason        varchar(100) not null,
+	created_at    datetime(6)  not null,
+	primary key (id)
+);
+
+create index idx_room_closure_room_end on room_closure (study_room_id, end_at);
+create index idx_room_closure_end on room_closure (end_at);
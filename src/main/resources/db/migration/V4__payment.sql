@@ -0,0 +1,22 @@
+-- 결제 사가 (승인 -> 예약 확정 -> 매입, 실패 시 승인 취소)
+-- 예약 하나에 결제 행 하나, 실패 후 다시 시도하면 같은 행의 attempt 를 올려서 재사용
+
+create table payment (
+	id               bigint      not null auto_increment,
+	reservation_id   bigint      not null,
+	user_id          bigint      not null,
+	study_room_id    bigint      not null,
+	amount           bigint      not null,
+	status           varchar(20) not null,
+	attempt          integer     not null,
+	authorization_id varchar(64),
+	failure_code     varchar(40),
+	created_at       datetime(6) not null,
+	updated_at       datetime(6) not null,
+	version          bigint      not null,
+	primary key (id),
+	constraint uk_payment_reservation unique (reservation_id)
+);
+
+-- 복구 스케줄러 : 멈춘 사가 (PENDING, AUTHORIZED, CONFIRMED) 를 오래된 순으로
+create index idx_payment_status_updated on payment (status, updated_at);
@@ -0,0 +1,33 @@
+-- 반복 예약 (매주 화요일 19~21시 등), 회차는 행으로 만들지 않고 조회할 때 계산
+-- occurrence_count : until 로 만들어도 생성 때 횟수로 바꿔 둠, last_end_at : 마지막 회차 종료 (기간 겹침 조회용)
+-- waitlist_entry 처럼 FK 없이 id 만 가짐
+
+create table reservation_series (
+	id               bigint      not null auto_increment,
+	user_id          bigint      not null,
+	study_room_id    bigint      not null,
+	frequency        varchar(10) not null,
+	repeat_interval  integer     not null,
+	first_start_at   datetime(6) not null,
+	duration_minutes integer     not null,
+	occurrence_count integer     not null,
+	until_date       date,
+	last_end_at      datetime(6) not null,
+	status           varchar(20) not null,
+	created_at       datetime(6) not null,
+	canceled_at      datetime(6),
+	primary key (id)
+);
+
+-- 예약/대기/시리즈 생성 때 방 하나의 진행 중 시리즈 중 아직 안 끝난 것
+create index idx_reservation_series_room_status_end on reservation_series (study_room_id, status, last_end_at);
+create index idx_reservation_series_user_status on reservation_series (user_id, status);
+
+-- 빠지는 회차 (RRULE 의 EXDATE)
+create table reservation_series_exclusion (
+	id               bigint      not null auto_increment,
+	series_id        bigint      not null,
+	occurrence_date  date        not null,
+	primary key (id),
+	constraint uk_series_exclusion_series_date unique (series_id, occurrence_date)
+);
@@ -0,0 +1,9 @@
+-- 스터디룸 속성 (인원, 층, 화이트보드, 프로젝터, 조용한 구역)
+-- 검색은 메모리의 속성 인덱스(RoomSearchIndex)로 하니 DB 인덱스는 추가하지 않음
+-- 기존 방은 1인실, 1층, 시설 없음으로 채움 (관리자가 수정)
+
+alter table study_room add column capacity int not null default 1;
+alter table study_room add column floor int not null default 1;
+alter table study_room add column whiteboard boolean not null default false;
+alter table study_room add column projector boolean not null default false;
+alter table study_room add column quiet_zone boolean not null default false;
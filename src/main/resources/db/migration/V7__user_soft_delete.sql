@@ -0,0 +1,6 @@
+-- 회원 탈퇴는 soft delete : deleted_at 을 채우고 로그인만 바로 막음
+-- 예약 익명화와 행 삭제는 새벽 배치(UserPurgeScheduler)가 배치 단위로, 배치는 탈퇴 시각 순으로 회원을 찾음
+
+alter table users add column deleted_at datetime(6);
+
+create index idx_users_deleted_at on users (deleted_at);
@@ -0,0 +1,15 @@
+-- 자체 커서를 가진 소비자가 반영한 이벤트 id (소비자 x 이벤트 한 줄)
+-- IDENTITY id 는 발급 순서와 커밋 순서가 달라서 "커서 이하면 이미 반영" 으로는 늦게 커밋된 이벤트를 버림
+-- -> 이벤트마다 반영 여부를 남기고, 유니크 키 중복이면 이미 반영된 재전달로 봄
+
+create table outbox_processed_event (
+	id           bigint      not null auto_increment,
+	consumer     varchar(50) not null,
+	event_id     bigint      not null,
+	processed_at datetime(6) not null,
+	primary key (id),
+	constraint uk_outbox_processed_event_consumer_event unique (consumer, event_id)
+);
+
+-- deleteProcessed (outbox_event 보관 기간 삭제와 같이 지움)
+create index idx_outbox_processed_event_event on outbox_processed_event (event_id, processed_at);
@@ -0,0 +1,150 @@
+package me.studyroom;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// 프로세스 시작 -> 첫 POST /reservations 가 201 을 받을 때까지 걸린 시간 (./gradlew -PfastStartup startupBenchmark)
+// default : java -jar 빌드된 fat jar
+// fast    : 풀린 jar + AppCDS 아카이브 (+ -PfastStartup 이면 Spring AOT)
+// 데이터는 임시 디렉터리의 Flyway repeatable 마이그레이션으로 넣음 (AOT 여부와 상관없이 실행 시점 설정이라 동작)
+// 회원가입 API 가 인증 뒤에 있어서 API로는 시드를 못 만듦
+@Tag("startup-benchmark")
+public class StartupBenchmark {
+
+	private static final String EMAIL = "bench@studyroom.me";
+	private static final String PASSWORD = "bench-password";
+	private static final Duration BOOT_TIMEOUT = Duration.ofMinutes(2);
+
+	@Test
+	void 첫_예약까지_걸리는_시간() throws Exception {
+		String java = System.getProperty("startup.java");
+		String bootJar = System.getProperty("startup.boot-jar");
+		String fastDir = System.getProperty("startup.fast-dir");
+		assumeTrue(java != null && bootJar != null && fastDir != null, "startupBenchmark 태스크로 실행해야 함");
+		boolean aot = Boolean.parseBoolean(System.getProperty("startup.aot", "false"));
+		int runs = Integer.parseInt(System.getProperty("startup.runs", "3"));
+
+		Path seedDir = writeSeed();
+		File fastJar = new File(fastDir, new File(bootJar).getName());
+
+		List<Long> defaults = new ArrayList<>();
+		List<Long> fasts = new ArrayList<>();
+		for (int i = 0; i < runs; i++) {
+			// 번갈아 실행해서 디스크 캐시 등 순서 영향을 줄임
+			defaults.add(timeToFirstReservation(List.of(java, "-jar", bootJar), new File(bootJar).getParentFile(), seedDir));
+
+			List<String> fast = new ArrayList<>(List.of(java, "-XX:SharedArchiveFile=application.jsa"));
+			if (aot) {
+				fast.add("-Dspring.aot.enabled=true");
+			}
+			fast.addAll(List.of("-jar", fastJar.getName()));
+			fasts.add(timeToFirstReservation(fast, new File(fastDir), seedDir));
+		}
+
+		long defaultMedian = median(defaults);
+		long fastMedian = median(fasts);
+		System.out.printf("time to first POST /reservations : default=%dms %s, fast(cds%s)=%dms %s (%.2fx)%n",
+			defaultMedian, defaults, aot ? "+aot" : "", fastMedian, fasts, (double) defaultMedian / fastMedian);
+		assertThat(fastMedian).isLessThan(defaultMedian);
+	}
+
+	private long timeToFirstReservation(List<String> command, File workingDir, Path seedDir) throws Exception {
+		int port = freePort();
+		List<String> args = new ArrayList<>(command);
+		args.add("--server.port=" + port);
+		args.add("--spring.jpa.show-sql=false");
+		args.add("--spring.flyway.locations=classpath:db/migration,filesystem:" + seedDir.toAbsolutePath());
+
+		long started = System.nanoTime();
+		Process process = new ProcessBuilder(args)
+			.directory(workingDir)
+			.redirectErrorStream(true)
+			.redirectOutput(ProcessBuilder.Redirect.DISCARD)
+			.start();
+		try {
+			long deadline = started + BOOT_TIMEOUT.toNanos();
+			while (System.nanoTime() < deadline) {
+				assertThat(process.isAlive()).as("애플리케이션이 기동 중 종료됨").isTrue();
+				if (tryReserve(port)) {
+					return (System.nanoTime() - started) / 1_000_000;
+				}
+				Thread.sleep(10);
+			}
+			throw new IllegalStateException("기동 시간 초과 : " + command);
+		} finally {
+			process.destroy();
+			process.waitFor();
+		}
+	}
+
+	// 로그인(폼) -> 세션 쿠키로 예약 1건
+	private boolean tryReserve(int port) throws InterruptedException {
+		HttpClient client = HttpClient.newBuilder()
+			.cookieHandler(new CookieManager())
+			.connectTimeout(Duration.ofSeconds(1))
+			.build();
+		String base = "http://localhost:" + port;
+		LocalDate tomorrow = LocalDate.now().plusDays(1);
+		try {
+			client.send(HttpRequest.newBuilder(URI.create(base + "/login"))
+				.header("Content-Type", "application/x-www-form-urlencoded")
+				.POST(HttpRequest.BodyPublishers.ofString("username=" + EMAIL + "&password=" + PASSWORD))
+				.build(), HttpResponse.BodyHandlers.discarding());
+
+			HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create(base + "/reservations"))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString("""
+					{"studyRoomId":1,"startAt":"%sT10:00:00","endAt":"%sT11:00:00"}
+					""".formatted(tomorrow, tomorrow)))
+				.build(), HttpResponse.BodyHandlers.discarding());
+			return response.statusCode() == 201;
+		} catch (IOException e) {
+			// 아직 포트가 안 열림
+			return false;
+		}
+	}
+
+	// R__ : 버전 마이그레이션이 모두 끝난 뒤 실행
+	private static Path writeSeed() throws IOException {
+		String hash = new BCryptPasswordEncoder().encode(PASSWORD);
+		Path seedDir = Files.createTempDirectory("startup-seed");
+		Path seed = seedDir.resolve("R__startup_seed.sql");
+		Files.writeString(seed, String.join("\n",
+			"insert into users (name, email, password, phone_number, role) values ('bench', '" + EMAIL + "', '" + hash + "', '01000000000', 'USER');",
+			"insert into study_room (name, available, description, open_time, close_time, version) values ('bench-room', true, 'bench', '09:00:00', '22:00:00', 0);",
+			""));
+		seedDir.toFile().deleteOnExit();
+		seed.toFile().deleteOnExit();
+		return seedDir;
+	}
+
+	private static int freePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+
+	private static long median(List<Long> values) {
+		List<Long> sorted = values.stream().sorted().toList();
+		return sorted.get(sorted.size() / 2);
+	}
+}
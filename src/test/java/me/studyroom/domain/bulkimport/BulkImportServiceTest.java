@@ -0,0 +1,237 @@
+package me.studyroom.domain.bulkimport;
+
+import me.studyroom.domain.bulkimport.dto.ImportFormat;
+import me.studyroom.domain.bulkimport.dto.ImportReport;
+import me.studyroom.domain.bulkimport.service.BulkImportService;
+import me.studyroom.domain.outbox.OutboxCursorRepository;
+import me.studyroom.domain.outbox.OutboxEventRepository;
+import me.studyroom.domain.outbox.OutboxProcessedEventRepository;
+import me.studyroom.domain.reservation.Reservation;
+import me.studyroom.domain.reservation.ReservationHistoryRepository;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.stats.RoomDailyStatRepository;
+import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.studyRoom.StudyRoomRepository;
+import me.studyroom.domain.user.User;
+import me.studyroom.domain.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+@SpringBootTest
+public class BulkImportServiceTest {
+
+	@Autowired
+	private BulkImportService bulkImportService;
+
+	@Autowired
+	private StudyRoomRepository studyRoomRepository;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private ReservationHistoryRepository reservationHistoryRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private RoomDailyStatRepository roomDailyStatRepository;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private OutboxCursorRepository outboxCursorRepository;
+
+	@Autowired
+	private OutboxProcessedEventRepository outboxProcessedEventRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockitoBean
+	private Clock clock;
+
+	@BeforeEach
+	void setUp() {
+		roomDailyStatRepository.deleteAll();
+		outboxCursorRepository.deleteAll();
+		outboxProcessedEventRepository.deleteAll();
+		outboxEventRepository.deleteAll();
+		reservationHistoryRepository.deleteAll();
+		reservationRepository.deleteAll();
+		studyRoomRepository.deleteAll();
+		userRepository.deleteAll();
+
+		Mockito.when(clock.instant()).thenReturn(Instant.parse("2026-10-01T00:00:00Z"));
+		Mockito.when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+	}
+
+	@Test
+	void 스터디룸_일괄_등록시_잘못된_운영시간은_거절() {
+		// given
+		String csv = """
+			name,available,description,open_time,close_time
+			A룸,true,"4인실, 화이트보드",09:00,22:00
+			B룸,false,6인실,22:00,09:00
+			C룸,,8인실,10:00,20:00
+			""";
+
+		// when
+		ImportReport report = bulkImportService.importRooms(source(csv), ImportFormat.CSV, false);
+
+		// then
+		assertThat(report.importedRows()).isEqualTo(2);
+		assertThat(report.rejectedRows()).isEqualTo(1);
+		assertThat(report.errors()).extracting(ImportReport.RowError::row).containsExactly(2L);
+		assertThat(studyRoomRepository.findAll())
+			.extracting(StudyRoom::getName, StudyRoom::getDescription)
+			.containsExactlyInAnyOrder(
+				tuple("A룸", "4인실, 화이트보드"),
+				tuple("C룸", "8인실")
+			);
+	}
+
+	@Test
+	void 파일_안에서_겹치는_확정_예약은_둘다_거절() {
+		// given
+		studyRoomRepository.save(new StudyRoom("A룸", true, "테스트룸", LocalTime.MIN, LocalTime.MAX));
+		userRepository.save(new User("user1", "u1@test.com", "1234", "01011112222"));
+
+		String ndjson = """
+			{"studyRoomName":"A룸","userEmail":"u1@test.com","startAt":"2026-09-01T10:00","endAt":"2026-09-01T12:00","status":"CONFIRMED"}
+			{"studyRoomName":"A룸","userEmail":"u1@test.com","startAt":"2026-09-01T11:00","endAt":"2026-09-01T13:00","status":"CONFIRMED"}
+			{"studyRoomName":"A룸","userEmail":"u1@test.com","startAt":"2026-09-01T11:00","endAt":"2026-09-01T13:00","status":"CANCELED"}
+			{"studyRoomName":"A룸","userEmail":"u1@test.com","startAt":"2026-09-01T13:00","endAt":"2026-09-01T14:00","status":"CONFIRMED"}
+			{"studyRoomName":"없는룸","userEmail":"u1@test.com","startAt":"2026-09-01T13:00","endAt":"2026-09-01T14:00","status":"CONFIRMED"}
+			""";
+
+		// when
+		ImportReport report = bulkImportService.importReservations(source(ndjson), ImportFormat.NDJSON, false);
+
+		// then
+		assertThat(report.totalRows()).isEqualTo(5);
+		assertThat(report.importedRows()).isEqualTo(2);
+		assertThat(report.rejectedRows()).isEqualTo(3);
+		assertThat(reservationRepository.findAll())
+			.extracting(Reservation::getStartAt, Reservation::getEndAt)
+			.containsExactlyInAnyOrder(
+				tuple(LocalDateTime.of(2026, 9, 1, 11, 0), LocalDateTime.of(2026, 9, 1, 13, 0)),
+				tuple(LocalDateTime.of(2026, 9, 1, 13, 0), LocalDateTime.of(2026, 9, 1, 14, 0))
+			);
+	}
+
+	@Test
+	void 이미_등록된_예약과_겹치거나_같은_예약은_거절() {
+		// given : 한 번 올린 파일 + 아카이빙된 확정 예약
+		StudyRoom room = studyRoomRepository.save(new StudyRoom("A룸", true, "테스트룸", LocalTime.MIN, LocalTime.MAX));
+		userRepository.save(new User("user1", "u1@test.com", "1234", "01011112222"));
+
+		String csv = """
+			study_room_name,user_email,start_at,end_at,status
+			A룸,u1@test.com,2026-09-01T10:00,2026-09-01T12:00,CONFIRMED
+			A룸,u1@test.com,2026-09-01T13:00,2026-09-01T14:00,CANCELED
+			""";
+		bulkImportService.importReservations(source(csv), ImportFormat.CSV, false);
+
+		LocalDateTime archivedStart = LocalDateTime.of(2026, 9, 2, 10, 0);
+		jdbcTemplate.update("""
+			INSERT INTO reservation_history (id, user_id, study_room_id, created_at, start_at, end_at, status, archived_at)
+			VALUES (?, NULL, ?, ?, ?, ?, 'CONFIRMED', ?)
+			""", 900_001L, room.getId(), archivedStart.minusDays(1), archivedStart, archivedStart.plusHours(2), archivedStart.plusDays(7));
+
+		String again = csv + """
+			A룸,u1@test.com,2026-09-02T11:00,2026-09-02T12:00,CONFIRMED
+			A룸,u1@test.com,2026-09-03T10:00,2026-09-03T12:00,CONFIRMED
+			""";
+
+		// when
+		ImportReport report = bulkImportService.importReservations(source(again), ImportFormat.CSV, false);
+
+		// then : 재등록한 두 행과 이력과 겹치는 행은 거절, 새 행만 들어감
+		assertThat(report.importedRows()).isEqualTo(1);
+		assertThat(report.rejectedRows()).isEqualTo(3);
+		assertThat(report.errors())
+			.extracting(ImportReport.RowError::row, ImportReport.RowError::message)
+			.containsExactlyInAnyOrder(
+				tuple(1L, "이미 등록된 확정 예약과 시간이 겹칩니다"),
+				tuple(2L, "이미 등록된 예약입니다"),
+				tuple(3L, "이미 등록된 확정 예약과 시간이 겹칩니다")
+			);
+		assertThat(reservationRepository.findAll())
+			.extracting(Reservation::getStartAt)
+			.containsExactlyInAnyOrder(
+				LocalDateTime.of(2026, 9, 1, 10, 0),
+				LocalDateTime.of(2026, 9, 1, 13, 0),
+				LocalDateTime.of(2026, 9, 3, 10, 0)
+			);
+	}
+
+	@Test
+	void 끝나지_않은_예약은_거절() {
+		// given : 지금은 2026-10-01T00:00 (시스템 기본 시간대)
+		studyRoomRepository.save(new StudyRoom("A룸", true, "테스트룸", LocalTime.MIN, LocalTime.MAX));
+		userRepository.save(new User("user1", "u1@test.com", "1234", "01011112222"));
+		LocalDateTime now = LocalDateTime.now(clock);
+
+		String csv = """
+			study_room_name,user_email,start_at,end_at,status
+			A룸,u1@test.com,%s,%s,CONFIRMED
+			A룸,u1@test.com,%s,%s,CONFIRMED
+			""".formatted(
+			now.minusHours(3), now.minusHours(1),
+			now.plusDays(1), now.plusDays(1).plusHours(2));
+
+		// when
+		ImportReport report = bulkImportService.importReservations(source(csv), ImportFormat.CSV, false);
+
+		// then
+		assertThat(report.importedRows()).isEqualTo(1);
+		assertThat(report.errors()).extracting(ImportReport.RowError::row).containsExactly(2L);
+		assertThat(reservationRepository.findAll())
+			.extracting(Reservation::getStartAt)
+			.containsExactly(now.minusHours(3));
+	}
+
+	@Test
+	void 드라이런은_검증만_하고_저장하지_않음() {
+		// given
+		studyRoomRepository.save(new StudyRoom("A룸", true, "테스트룸", LocalTime.MIN, LocalTime.MAX));
+		userRepository.save(new User("user1", "u1@test.com", "1234", "01011112222"));
+
+		String csv = """
+			study_room_name,user_email,start_at,end_at,status
+			A룸,u1@test.com,2026-09-01T10:00,2026-09-01T12:00,CONFIRMED
+			A룸,u1@test.com,2026-09-01T10:00,2026-09-01T12:00,WAIT_PAYMENT
+			""";
+
+		// when
+		ImportReport report = bulkImportService.importReservations(source(csv), ImportFormat.CSV, true);
+
+		// then
+		assertThat(report.dryRun()).isTrue();
+		assertThat(report.rejectedRows()).isEqualTo(1);
+		assertThat(reservationRepository.count()).isZero();
+	}
+
+	private static ByteArrayResource source(String content) {
+		return new ByteArrayResource(content.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,278 @@
+package me.studyroom.domain.outbox;
+
+import me.studyroom.domain.outbox.listener.OutboxEventListener;
+import me.studyroom.domain.outbox.service.OutboxDispatcher;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.ReservationStatus;
+import me.studyroom.domain.reservation.service.ReservationService;
+import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.studyRoom.StudyRoomRepository;
+import me.studyroom.domain.user.User;
+import me.studyroom.domain.user.UserRepository;
+import me.studyroom.global.dto.request.ReservationRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+// 이벤트가 커밋된 뒤에 디스패처가 읽어야 하므로 @Transactional 사용 안 함
+// Clock이 고정이라 settle 대기 시간은 0으로 둠, 백그라운드 디스패치는 시작할 때 한 번만 돌게 주기를 길게
+@SpringBootTest(properties = {
+	"studyroom.outbox.settle-millis=0",
+	"studyroom.outbox.poll-delay-millis=3600000",
+	"studyroom.outbox.max-attempts=2"
+})
+public class OutboxDispatcherTest {
+
+	@TestConfiguration
+	static class TestConfig {
+		@Bean
+		RecordingListener recordingListener() {
+			return new RecordingListener();
+		}
+
+		@Bean
+		FailingListener failingListener() {
+			return new FailingListener();
+		}
+	}
+
+	static class RecordingListener implements OutboxEventListener {
+		private final List<OutboxEvent> events = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void handle(OutboxEvent event) {
+			events.add(event);
+		}
+	}
+
+	// failing 에 넣은 이벤트 id 는 실패, 나머지는 handled 에 기록
+	static class FailingListener implements OutboxEventListener {
+		private final Set<Long> failing = ConcurrentHashMap.newKeySet();
+		private final List<Long> handled = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void handle(OutboxEvent event) {
+			if (failing.contains(event.getId())) {
+				throw new IllegalStateException("테스트용 전달 실패");
+			}
+			handled.add(event.getId());
+		}
+	}
+
+	@Autowired
+	private ReservationService reservationService;
+
+	@Autowired
+	private OutboxDispatcher outboxDispatcher;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private StudyRoomRepository studyRoomRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private OutboxCursorRepository outboxCursorRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private RecordingListener recordingListener;
+
+	@Autowired
+	private FailingListener failingListener;
+
+	@MockitoBean
+	private Clock clock;
+
+	private Long studyRoomId;
+	private Long userId;
+	private LocalDateTime BASE_TIME;
+
+	@BeforeEach
+	void setUp() {
+		recordingListener.events.clear();
+		failingListener.failing.clear();
+		failingListener.handled.clear();
+		outboxEventRepository.deleteAll();
+		reservationRepository.deleteAll();
+		studyRoomRepository.deleteAll();
+		userRepository.deleteAll();
+
+		Mockito.when(clock.instant()).thenReturn(Instant.parse("2026-10-01T00:00:00Z"));
+		Mockito.when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+
+		BASE_TIME = LocalDateTime.now(clock);
+
+		StudyRoom studyRoom = new StudyRoom("A룸", true, "테스트룸", LocalTime.MIN, LocalTime.MAX);
+		studyRoomRepository.save(studyRoom);
+		studyRoomId = studyRoom.getId();
+
+		User user = new User("user1", "u1@test.com", "1234", "01011112222");
+		userRepository.save(user);
+		userId = user.getId();
+	}
+
+	@Test
+	void 예약_상태_변경시_같은_트랜잭션에서_이벤트_기록() {
+		// given
+		ReservationRequest.Create request = new ReservationRequest.Create(
+			studyRoomId,
+			BASE_TIME.plusHours(1),
+			BASE_TIME.plusHours(2)
+		);
+
+		// when
+		reservationService.reserve(request, userId);
+		Long reservationId = reservationRepository.findAll().get(0).getId();
+		reservationService.cancel(reservationId, new ReservationRequest.Delete("1234"), userId);
+
+		// then
+		assertThat(outboxEventRepository.findAll())
+			.extracting(OutboxEvent::getReservationId, OutboxEvent::getEventType, OutboxEvent::getPreviousStatus)
+			.containsExactly(
+				tuple(reservationId, OutboxEventType.RESERVED, null),
+				tuple(reservationId, OutboxEventType.CANCELED, ReservationStatus.WAIT_PAYMENT)
+			);
+	}
+
+	@Test
+	void 디스패처가_리스너에게_이벤트_전달() {
+		// given
+		ReservationRequest.Create request = new ReservationRequest.Create(
+			studyRoomId,
+			BASE_TIME.plusHours(1),
+			BASE_TIME.plusHours(2)
+		);
+		reservationService.reserve(request, userId);
+		Long reservationId = reservationRepository.findAll().get(0).getId();
+
+		// when
+		outboxDispatcher.dispatch();
+
+		// then
+		// 백그라운드 스케줄러가 먼저 가져갔을 수도 있으니 포함 여부만 확인 (at-least-once)
+		assertThat(recordingListener.events)
+			.extracting(OutboxEvent::getReservationId)
+			.contains(reservationId);
+	}
+
+	@Test
+	void 전달한_마지막_이벤트까지_커서를_옮김() {
+		// given
+		List<Long> eventIds = reserveAll(1, 3);
+
+		// when
+		outboxDispatcher.dispatch();
+
+		// then
+		assertThat(dispatcherCursor()).isEqualTo(eventIds.get(1));
+		assertThat(failingListener.handled).containsExactlyElementsOf(eventIds);
+	}
+
+	@Test
+	void 리스너가_실패하면_커서를_멈추고_다음_주기에_다시_전달() {
+		// given
+		List<Long> eventIds = reserveAll(1, 3);
+		failingListener.failing.add(eventIds.get(1));
+
+		// when
+		outboxDispatcher.dispatch();
+
+		// then
+		assertThat(dispatcherCursor()).isEqualTo(eventIds.get(0));
+
+		// when : 원인이 사라진 뒤
+		failingListener.failing.clear();
+		outboxDispatcher.dispatch();
+
+		// then
+		assertThat(dispatcherCursor()).isEqualTo(eventIds.get(1));
+		assertThat(failingListener.handled).containsExactlyElementsOf(eventIds);
+	}
+
+	@Test
+	void 계속_실패하는_이벤트는_시도_횟수를_넘기면_건너뜀() {
+		// given : max-attempts=2
+		List<Long> eventIds = reserveAll(1, 3);
+		failingListener.failing.add(eventIds.get(0));
+
+		// when
+		outboxDispatcher.dispatch();
+		assertThat(dispatcherCursor()).isLessThan(eventIds.get(0));
+		outboxDispatcher.dispatch();
+
+		// then : 막힌 이벤트 뒤의 이벤트는 전달됨
+		assertThat(dispatcherCursor()).isEqualTo(eventIds.get(1));
+		assertThat(failingListener.handled).containsExactly(eventIds.get(1));
+	}
+
+	@Test
+	void 커서보다_작은_id가_늦게_커밋되어도_전달() {
+		// given : 가운데 이벤트가 아직 커밋되지 않은 상태 (행을 잠시 빼둠)
+		List<Long> eventIds = reserveAll(1, 3, 5);
+		OutboxEvent late = outboxEventRepository.findById(eventIds.get(1)).orElseThrow();
+		outboxEventRepository.deleteById(late.getId());
+
+		outboxDispatcher.dispatch();
+		assertThat(dispatcherCursor()).isEqualTo(eventIds.get(2));
+
+		// when : 커서가 지나간 뒤에 커밋됨
+		jdbcTemplate.update("""
+				INSERT INTO outbox_event (id, event_type, reservation_id, study_room_id, user_id, start_at, end_at, status, created_at)
+				VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+				""",
+			late.getId(), late.getEventType().name(), late.getReservationId(), late.getStudyRoomId(), late.getUserId(),
+			late.getStartAt(), late.getEndAt(), late.getStatus().name(), late.getCreatedAt());
+		outboxDispatcher.dispatch();
+
+		// then
+		assertThat(failingListener.handled).containsExactly(eventIds.get(0), eventIds.get(2), eventIds.get(1));
+		assertThat(dispatcherCursor()).isEqualTo(eventIds.get(2));
+	}
+
+	// 시작 시각(hoursLater)마다 2시간짜리 예약, 생긴 이벤트 id 를 순서대로
+	private List<Long> reserveAll(int... hoursLater) {
+		for (int hours : hoursLater) {
+			reservationService.reserve(new ReservationRequest.Create(
+				studyRoomId,
+				BASE_TIME.plusHours(hours),
+				BASE_TIME.plusHours(hours + 2)
+			), userId);
+		}
+		return outboxEventRepository.findAll().stream()
+			.map(OutboxEvent::getId)
+			.sorted()
+			.toList();
+	}
+
+	private Long dispatcherCursor() {
+		return outboxCursorRepository.findById("outbox-dispatcher").orElseThrow().getLastEventId();
+	}
+}
@@ -0,0 +1,48 @@
+package me.studyroom.domain.outbox.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OutboxGapsTest {
+
+	@Test
+	void 건너뛴_id를_기록하고_전달하면_지움() {
+		// given
+		OutboxGaps gaps = new OutboxGaps(60_000, 100);
+
+		// when : 1 다음에 4를 봄
+		gaps.record(1, 4, 0);
+		gaps.remove(3);
+
+		// then
+		assertThat(gaps.pending(1_000)).containsExactly(2L);
+	}
+
+	@Test
+	void window가_지난_id는_버림() {
+		// given
+		OutboxGaps gaps = new OutboxGaps(60_000, 100);
+		gaps.record(0, 2, 0);
+		gaps.record(2, 4, 30_000);
+
+		// when, then
+		assertThat(gaps.pending(60_000)).containsExactly(1L, 3L);
+		assertThat(gaps.pending(60_001)).containsExactly(3L);
+		assertThat(gaps.pending(90_001)).isEmpty();
+	}
+
+	@Test
+	void 크게_건너뛰면_가까운_id만_maxSize개() {
+		// given
+		OutboxGaps gaps = new OutboxGaps(60_000, 3);
+
+		// when
+		gaps.record(0, 1_000, 0);
+		gaps.record(1_000, 1_002, 0);
+
+		// then
+		assertThat(gaps.pending(0)).containsExactly(998L, 999L, 1_001L);
+		assertThat(gaps.size()).isEqualTo(3);
+	}
+}
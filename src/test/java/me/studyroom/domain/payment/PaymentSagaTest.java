@@ -0,0 +1,315 @@
+package me.studyroom.domain.payment;
+
+import me.studyroom.domain.outbox.OutboxEvent;
+import me.studyroom.domain.outbox.OutboxEventRepository;
+import me.studyroom.domain.outbox.OutboxEventType;
+import me.studyroom.domain.payment.dto.PaymentResponse;
+import me.studyroom.domain.payment.gateway.PaymentGateway;
+import me.studyroom.domain.payment.gateway.PaymentGatewayException;
+import me.studyroom.domain.payment.listener.PaymentRefundListener;
+import me.studyroom.domain.payment.service.PaymentRecoveryScheduler;
+import me.studyroom.domain.payment.service.PaymentSaga;
+import me.studyroom.domain.reservation.Reservation;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.ReservationStatus;
+import me.studyroom.domain.reservation.service.ReservationService;
+import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.studyRoom.StudyRoomRepository;
+import me.studyroom.domain.user.User;
+import me.studyroom.domain.user.UserRepository;
+import me.studyroom.global.dto.request.ReservationRequest;
+import me.studyroom.global.exception.ExceptionCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// worker-threads=0 : 사가를 요청 스레드에서 바로 실행 (그래도 트랜잭션 밖)
+@SpringBootTest(properties = "studyroom.payment.worker-threads=0")
+public class PaymentSagaTest {
+
+	@Autowired
+	private PaymentSaga paymentSaga;
+
+	@Autowired
+	private PaymentRecoveryScheduler paymentRecoveryScheduler;
+
+	@Autowired
+	private PaymentRefundListener paymentRefundListener;
+
+	@Autowired
+	private PaymentRepository paymentRepository;
+
+	@Autowired
+	private ReservationService reservationService;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private StudyRoomRepository studyRoomRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@MockitoBean
+	private PaymentGateway paymentGateway;
+
+	@MockitoBean
+	private Clock clock;
+
+	private Long roomId;
+	private Long userId;
+	private LocalDateTime BASE_TIME;
+
+	@BeforeEach
+	void setUp() {
+		paymentRepository.deleteAll();
+		outboxEventRepository.deleteAll();
+		reservationRepository.deleteAll();
+		studyRoomRepository.deleteAll();
+		userRepository.deleteAll();
+
+		setNow(Instant.parse("2026-10-01T00:00:00Z"));
+		BASE_TIME = LocalDateTime.now(clock);
+
+		roomId = studyRoomRepository.save(new StudyRoom("A룸", true, "테스트룸", LocalTime.MIN, LocalTime.MAX)).getId();
+		userId = userRepository.save(new User("user", "user@test.com", "1234", "01011112222")).getId();
+	}
+
+	@Test
+	void 승인_확정_매입까지_끝나고_게이트웨이는_트랜잭션_밖에서_호출() {
+		// given
+		Long reservationId = reserve(userId, 2, 4);
+		AtomicBoolean calledInTransaction = new AtomicBoolean();
+		given(paymentGateway.authorize(anyString(), anyLong())).willAnswer(invocation -> {
+			calledInTransaction.set(TransactionSynchronizationManager.isActualTransactionActive());
+			return PaymentGateway.Authorization.approved("auth-1");
+		});
+
+		// when
+		PaymentResponse.Status started = paymentSaga.start(reservationId, userId);
+
+		// then
+		assertThat(calledInTransaction).isFalse();
+		Payment payment = paymentRepository.findById(started.paymentId()).orElseThrow();
+		assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CAPTURED);
+		assertThat(payment.getAmount()).isEqualTo(10_000);
+		assertThat(payment.getAuthorizationId()).isEqualTo("auth-1");
+		assertThat(statusOf(reservationId)).isEqualTo(ReservationStatus.CONFIRMED);
+		verify(paymentGateway).capture(payment.gatewayKey());
+	}
+
+	@Test
+	void 승인이_거절되면_예약은_결제대기_그대로() {
+		// given
+		Long reservationId = reserve(userId, 2, 4);
+		given(paymentGateway.authorize(anyString(), anyLong()))
+			.willReturn(PaymentGateway.Authorization.declined("LIMIT"));
+
+		// when
+		PaymentResponse.Status started = paymentSaga.start(reservationId, userId);
+
+		// then
+		Payment payment = paymentRepository.findById(started.paymentId()).orElseThrow();
+		assertThat(payment.getStatus()).isEqualTo(PaymentStatus.FAILED);
+		assertThat(payment.getFailureCode()).isEqualTo(PaymentSaga.DECLINED);
+		assertThat(statusOf(reservationId)).isEqualTo(ReservationStatus.WAIT_PAYMENT);
+		verify(paymentGateway, never()).capture(anyString());
+	}
+
+	@Test
+	void 승인_타임아웃이면_승인을_취소하고_실패_다시_시작하면_새_키로_진행() {
+		// given
+		Long reservationId = reserve(userId, 2, 4);
+		given(paymentGateway.authorize(anyString(), anyLong()))
+			.willThrow(new PaymentGatewayException("gateway timeout"))
+			.willReturn(PaymentGateway.Authorization.approved("auth-2"));
+
+		// when
+		PaymentResponse.Status first = paymentSaga.start(reservationId, userId);
+		Payment failed = paymentRepository.findById(first.paymentId()).orElseThrow();
+		PaymentResponse.Status second = paymentSaga.start(reservationId, userId);
+
+		// then
+		assertThat(failed.getStatus()).isEqualTo(PaymentStatus.FAILED);
+		assertThat(failed.getFailureCode()).isEqualTo(PaymentSaga.GATEWAY_ERROR);
+		verify(paymentGateway).voidAuthorization(failed.gatewayKey());
+
+		Payment retried = paymentRepository.findById(second.paymentId()).orElseThrow();
+		assertThat(retried.getId()).isEqualTo(failed.getId());
+		assertThat(retried.getAttempt()).isEqualTo(2);
+		assertThat(retried.getStatus()).isEqualTo(PaymentStatus.CAPTURED);
+		assertThat(statusOf(reservationId)).isEqualTo(ReservationStatus.CONFIRMED);
+	}
+
+	@Test
+	void 승인_중에_결제_시간이_지나면_승인_취소로_보상() {
+		// given : 게이트웨이 응답이 오는 사이 결제 창(10분)이 닫힘 -> 홀드도 풀림
+		Long mine = reserve(userId, 2, 4);
+		given(paymentGateway.authorize(anyString(), anyLong())).willAnswer(invocation -> {
+			setNow(Instant.parse("2026-10-01T00:10:00Z"));
+			return PaymentGateway.Authorization.approved("auth-3");
+		});
+
+		// when
+		PaymentResponse.Status started = paymentSaga.start(mine, userId);
+
+		// then
+		Payment payment = paymentRepository.findById(started.paymentId()).orElseThrow();
+		assertThat(payment.getStatus()).isEqualTo(PaymentStatus.VOIDED);
+		assertThat(payment.getFailureCode()).isEqualTo(ExceptionCode.PAYMENT_TIMEOUT.name());
+		assertThat(statusOf(mine)).isEqualTo(ReservationStatus.WAIT_PAYMENT);
+		verify(paymentGateway).voidAuthorization(payment.gatewayKey());
+		verify(paymentGateway, never()).capture(anyString());
+	}
+
+	@Test
+	void 진행_중이거나_끝난_결제는_다시_시작하지_않음() {
+		// given
+		Long reservationId = reserve(userId, 2, 4);
+		given(paymentGateway.authorize(anyString(), anyLong()))
+			.willReturn(PaymentGateway.Authorization.approved("auth-4"));
+		PaymentResponse.Status first = paymentSaga.start(reservationId, userId);
+
+		// when
+		PaymentResponse.Status again = paymentSaga.start(reservationId, userId);
+
+		// then
+		assertThat(again.paymentId()).isEqualTo(first.paymentId());
+		assertThat(again.status()).isEqualTo(PaymentStatus.CAPTURED);
+		verify(paymentGateway, times(1)).authorize(anyString(), anyLong());
+	}
+
+	@Test
+	void 매입이_실패하면_확정_상태로_남고_복구_스케줄러가_다시_매입() {
+		// given
+		Long reservationId = reserve(userId, 2, 4);
+		given(paymentGateway.authorize(anyString(), anyLong()))
+			.willReturn(PaymentGateway.Authorization.approved("auth-5"));
+		willThrow(new PaymentGatewayException("gateway error"))
+			.willDoNothing()
+			.given(paymentGateway).capture(anyString());
+		PaymentResponse.Status started = paymentSaga.start(reservationId, userId);
+		assertThat(paymentRepository.findById(started.paymentId()).orElseThrow().getStatus())
+			.isEqualTo(PaymentStatus.CONFIRMED);
+
+		// when
+		setNow(Instant.parse("2026-10-01T00:02:00Z"));
+		paymentRecoveryScheduler.recover();
+
+		// then
+		assertThat(paymentRepository.findById(started.paymentId()).orElseThrow().getStatus())
+			.isEqualTo(PaymentStatus.CAPTURED);
+		assertThat(statusOf(reservationId)).isEqualTo(ReservationStatus.CONFIRMED);
+		verify(paymentGateway, times(2)).capture(anyString());
+	}
+
+	@Test
+	void 결제가_끝난_예약을_취소하면_환불() {
+		// given
+		Long reservationId = reserve(userId, 2, 4);
+		given(paymentGateway.authorize(anyString(), anyLong()))
+			.willReturn(PaymentGateway.Authorization.approved("auth-6"));
+		PaymentResponse.Status started = paymentSaga.start(reservationId, userId);
+
+		// when : 취소 -> CANCELED 이벤트 전달
+		reservationService.cancel(reservationId, new ReservationRequest.Delete("1234"), userId);
+		paymentRefundListener.handle(canceledEvent(reservationId));
+
+		// then
+		Payment payment = paymentRepository.findById(started.paymentId()).orElseThrow();
+		assertThat(payment.getStatus()).isEqualTo(PaymentStatus.REFUNDED);
+		verify(paymentGateway).refund(payment.gatewayKey());
+	}
+
+	@Test
+	void 환불이_실패하면_복구_스케줄러가_다시_환불_이벤트가_다시_와도_한번만() {
+		// given
+		Long reservationId = reserve(userId, 2, 4);
+		given(paymentGateway.authorize(anyString(), anyLong()))
+			.willReturn(PaymentGateway.Authorization.approved("auth-7"));
+		willThrow(new PaymentGatewayException("gateway error"))
+			.willDoNothing()
+			.given(paymentGateway).refund(anyString());
+		PaymentResponse.Status started = paymentSaga.start(reservationId, userId);
+		reservationService.cancel(reservationId, new ReservationRequest.Delete("1234"), userId);
+		paymentRefundListener.handle(canceledEvent(reservationId));
+		assertThat(paymentRepository.findById(started.paymentId()).orElseThrow().getStatus())
+			.isEqualTo(PaymentStatus.REFUND_PENDING);
+
+		// when
+		setNow(Instant.parse("2026-10-01T00:02:00Z"));
+		paymentRecoveryScheduler.recover();
+		paymentRefundListener.handle(canceledEvent(reservationId));
+
+		// then
+		assertThat(paymentRepository.findById(started.paymentId()).orElseThrow().getStatus())
+			.isEqualTo(PaymentStatus.REFUNDED);
+		verify(paymentGateway, times(2)).refund(anyString());
+	}
+
+	@Test
+	void 결제_전에_취소한_예약은_환불하지_않음() {
+		// given
+		Long reservationId = reserve(userId, 2, 4);
+
+		// when
+		reservationService.cancel(reservationId, new ReservationRequest.Delete("1234"), userId);
+		paymentRefundListener.handle(canceledEvent(reservationId));
+
+		// then
+		verify(paymentGateway, never()).refund(anyString());
+	}
+
+	private OutboxEvent canceledEvent(Long reservationId) {
+		return outboxEventRepository.findAll().stream()
+			.filter(e -> e.getEventType() == OutboxEventType.CANCELED && e.getReservationId().equals(reservationId))
+			.findFirst()
+			.orElseThrow();
+	}
+
+	private Long reserve(Long ownerId, int startHours, int endHours) {
+		reservationService.reserve(new ReservationRequest.Create(
+			roomId,
+			BASE_TIME.plusHours(startHours),
+			BASE_TIME.plusHours(endHours)
+		), ownerId);
+		return reservationRepository.findAll().stream()
+			.filter(r -> r.getStartAt().equals(BASE_TIME.plusHours(startHours)))
+			.map(Reservation::getId)
+			.findFirst()
+			.orElseThrow();
+	}
+
+	private ReservationStatus statusOf(Long reservationId) {
+		return reservationRepository.findById(reservationId).orElseThrow().getStatus();
+	}
+
+	private void setNow(Instant instant) {
+		Mockito.when(clock.instant()).thenReturn(instant);
+		Mockito.when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+	}
+}
@@ -0,0 +1,96 @@
+package me.studyroom.domain.payment.gateway;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 스프링 없이 가짜 게이트웨이 동작만 검증 (지연 0, 시드 고정)
+public class FakePaymentGatewayTest {
+
+	@Test
+	void 같은_키로_다시_승인하면_같은_결과() {
+		// given
+		FakePaymentGateway gateway = gateway(0.0, 0.0, 0.0);
+
+		// when
+		PaymentGateway.Authorization first = gateway.authorize("pay-1-1", 10_000);
+		PaymentGateway.Authorization second = gateway.authorize("pay-1-1", 10_000);
+
+		// then
+		assertThat(first.approved()).isTrue();
+		assertThat(second).isEqualTo(first);
+		assertThat(gateway.authorize("pay-1-2", 10_000).authorizationId()).isNotEqualTo(first.authorizationId());
+	}
+
+	@Test
+	void 거절률이_1이면_항상_거절() {
+		// given
+		FakePaymentGateway gateway = gateway(1.0, 0.0, 0.0);
+
+		// when
+		PaymentGateway.Authorization authorization = gateway.authorize("pay-1-1", 10_000);
+
+		// then
+		assertThat(authorization.approved()).isFalse();
+		assertThat(gateway.isAuthorized("pay-1-1")).isFalse();
+	}
+
+	@Test
+	void 타임아웃은_승인이_남아서_취소가_필요() {
+		// given
+		FakePaymentGateway gateway = new FakePaymentGateway(
+			new FakePaymentGateway.Settings(0, 0, 0.0, 0.0, 1.0, 10), new Random(1));
+
+		// when & then
+		assertThatThrownBy(() -> gateway.authorize("pay-1-1", 10_000))
+			.isInstanceOf(PaymentGatewayException.class);
+		assertThat(gateway.isAuthorized("pay-1-1")).isTrue();
+	}
+
+	@Test
+	void 승인_취소는_여러_번_보내도_성공하고_매입된_건은_취소_불가() {
+		// given
+		FakePaymentGateway gateway = gateway(0.0, 0.0, 0.0);
+		gateway.authorize("pay-1-1", 10_000);
+		gateway.authorize("pay-2-1", 10_000);
+
+		// when
+		gateway.voidAuthorization("pay-1-1");
+		gateway.voidAuthorization("pay-1-1");
+		gateway.voidAuthorization("pay-9-1");
+		gateway.capture("pay-2-1");
+
+		// then
+		assertThat(gateway.isAuthorized("pay-1-1")).isFalse();
+		assertThat(gateway.isCaptured("pay-2-1")).isTrue();
+		assertThatThrownBy(() -> gateway.voidAuthorization("pay-2-1")).isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> gateway.capture("pay-1-1")).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void 지연은_중앙값과_p99를_따른다() {
+		// given
+		FakePaymentGateway gateway = new FakePaymentGateway(
+			new FakePaymentGateway.Settings(80, 600, 0.0, 0.0, 0.0, 3_000), new Random(42));
+
+		// when
+		long[] samples = new long[20_000];
+		for (int i = 0; i < samples.length; i++) {
+			samples[i] = gateway.sampleLatencyMillis();
+		}
+		Arrays.sort(samples);
+
+		// then
+		assertThat(samples[samples.length / 2]).isBetween(72L, 88L);
+		assertThat(samples[samples.length * 99 / 100]).isBetween(500L, 720L);
+	}
+
+	private static FakePaymentGateway gateway(double declineRate, double errorRate, double timeoutRate) {
+		return new FakePaymentGateway(
+			new FakePaymentGateway.Settings(0, 0, declineRate, errorRate, timeoutRate, 1_000), new Random(7));
+	}
+}
@@ -0,0 +1,125 @@
+package me.studyroom.domain.reservation;
+
+import me.studyroom.domain.reservation.service.ReservationArchiveScheduler;
+import me.studyroom.domain.reservation.service.ReservationService;
+import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.studyRoom.StudyRoomRepository;
+import me.studyroom.domain.user.User;
+import me.studyroom.domain.user.UserRepository;
+import me.studyroom.global.dto.request.ReservationRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+// 배치마다 TransactionTemplate으로 커밋하므로 @Transactional 사용 안 함
+@SpringBootTest
+public class ReservationArchiveSchedulerTest {
+
+	@Autowired
+	private ReservationArchiveScheduler reservationArchiveScheduler;
+
+	@Autowired
+	private ReservationService reservationService;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private ReservationHistoryRepository reservationHistoryRepository;
+
+	@Autowired
+	private StudyRoomRepository studyRoomRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@MockitoBean
+	private Clock clock;
+
+	private static final Instant BASE_INSTANT = Instant.parse("2026-10-01T00:00:00Z");
+
+	private Long studyRoomId;
+	private Long userId;
+	private LocalDateTime BASE_TIME;
+
+	@BeforeEach
+	void setUp() {
+		reservationHistoryRepository.deleteAll();
+		reservationRepository.deleteAll();
+		studyRoomRepository.deleteAll();
+		userRepository.deleteAll();
+
+		Mockito.when(clock.instant()).thenReturn(BASE_INSTANT);
+		Mockito.when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+
+		BASE_TIME = LocalDateTime.now(clock);
+
+		StudyRoom studyRoom = new StudyRoom("A룸", true, "테스트룸", LocalTime.MIN, LocalTime.MAX);
+		studyRoomRepository.save(studyRoom);
+		studyRoomId = studyRoom.getId();
+
+		User user = new User("user1", "u1@test.com", "1234", "01011112222");
+		userRepository.save(user);
+		userId = user.getId();
+	}
+
+	@Test
+	void 보관기간_지난_예약만_이력_테이블로_이동() {
+		// given
+		reservationService.reserve(new ReservationRequest.Create(
+			studyRoomId, BASE_TIME.plusHours(1), BASE_TIME.plusHours(2)), userId);
+		reservationService.reserve(new ReservationRequest.Create(
+			studyRoomId, BASE_TIME.plusDays(30), BASE_TIME.plusDays(30).plusHours(1)), userId);
+
+		// 보관 기간(7일) + 1일이 지난 시점
+		Mockito.when(clock.instant()).thenReturn(BASE_INSTANT.plusSeconds(8 * 24 * 3600));
+
+		// when
+		reservationArchiveScheduler.archive();
+
+		// then
+		assertThat(reservationRepository.findAll())
+			.extracting(Reservation::getStartAt)
+			.containsExactly(BASE_TIME.plusDays(30));
+
+		assertThat(reservationHistoryRepository.findAll())
+			.extracting(ReservationHistory::getStartAt, ReservationHistory::getUserId)
+			.containsExactly(tuple(BASE_TIME.plusHours(1), userId));
+	}
+
+	@Test
+	void 이력_조회시_두_테이블을_시작시간_역순으로_합침() {
+		// given
+		reservationService.reserve(new ReservationRequest.Create(
+			studyRoomId, BASE_TIME.plusHours(1), BASE_TIME.plusHours(2)), userId);
+		reservationService.reserve(new ReservationRequest.Create(
+			studyRoomId, BASE_TIME.plusDays(30), BASE_TIME.plusDays(30).plusHours(1)), userId);
+
+		Mockito.when(clock.instant()).thenReturn(BASE_INSTANT.plusSeconds(8 * 24 * 3600));
+		reservationArchiveScheduler.archive();
+
+		// when
+		var history = reservationService.reservationHistory(userId, true, 10);
+
+		// then
+		assertThat(history)
+			.extracting(h -> h.startAt(), h -> h.archived())
+			.containsExactly(
+				tuple(BASE_TIME.plusDays(30), false),
+				tuple(BASE_TIME.plusHours(1), true)
+			);
+		assertThat(reservationService.reservationHistory(userId, false, 10)).hasSize(1);
+	}
+}
@@ -0,0 +1,155 @@
+package me.studyroom.domain.reservation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.studyroom.domain.reservation.dto.ExportFormat;
+import me.studyroom.domain.reservation.service.ReservationExportService;
+import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.studyRoom.StudyRoomRepository;
+import me.studyroom.domain.user.User;
+import me.studyroom.domain.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+// 스트림은 서비스가 직접 여는 읽기 전용 트랜잭션 안에서 읽으므로 @Transactional 사용 안 함
+@SpringBootTest
+public class ReservationExportServiceTest {
+
+	private static final LocalDate FROM = LocalDate.of(2026, 10, 2);
+	private static final LocalDate TO = LocalDate.of(2026, 10, 5);
+
+	@Autowired
+	private ReservationExportService reservationExportService;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private ReservationHistoryRepository reservationHistoryRepository;
+
+	@Autowired
+	private StudyRoomRepository studyRoomRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockitoBean
+	private Clock clock;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private StudyRoom studyRoom;
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		reservationHistoryRepository.deleteAll();
+		reservationRepository.deleteAll();
+		studyRoomRepository.deleteAll();
+		userRepository.deleteAll();
+
+		Mockito.when(clock.instant()).thenReturn(Instant.parse("2026-10-01T00:00:00Z"));
+		Mockito.when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+
+		studyRoom = studyRoomRepository.save(new StudyRoom("A룸", true, "테스트룸", LocalTime.MIN, LocalTime.MAX));
+		user = userRepository.save(new User("user1", "u1@test.com", "1234", "01011112222"));
+	}
+
+	@Test
+	void 기간_안의_예약만_id_순서로_이력은_뒤에_붙여서_CSV로() throws IOException {
+		// given : 저장 순서가 시작 시간 순서와 다름
+		Long later = save(LocalDateTime.of(2026, 10, 3, 10, 0));
+		Long earlier = save(LocalDateTime.of(2026, 10, 2, 0, 0));
+		save(LocalDateTime.of(2026, 10, 1, 23, 0)); // from 이전
+		save(LocalDateTime.of(2026, 10, 5, 0, 0)); // to 는 포함하지 않음
+		archive(900_002L, LocalDateTime.of(2026, 10, 4, 12, 0));
+		archive(900_001L, LocalDateTime.of(2026, 10, 2, 12, 0));
+		archive(900_003L, LocalDateTime.of(2026, 9, 30, 12, 0)); // from 이전
+
+		// when
+		List<String> lines = new String(export(ExportFormat.CSV, false), StandardCharsets.UTF_8).lines().toList();
+
+		// then
+		assertThat(lines.get(0)).isEqualTo("reservation_id,study_room_id,user_id,status,start_at,end_at,created_at,archived");
+		assertThat(lines.subList(1, lines.size()))
+			.extracting(line -> line.split(",", -1))
+			.extracting(columns -> columns[0], columns -> columns[2], columns -> columns[4], columns -> columns[7])
+			.containsExactly(
+				tuple(String.valueOf(later), String.valueOf(user.getId()), "2026-10-03T10:00", "false"),
+				tuple(String.valueOf(earlier), String.valueOf(user.getId()), "2026-10-02T00:00", "false"),
+				tuple("900001", "", "2026-10-02T12:00", "true"),
+				tuple("900002", "", "2026-10-04T12:00", "true")
+			);
+	}
+
+	@Test
+	void NDJSON_gzip도_같은_행() throws IOException {
+		// given
+		Long reservationId = save(LocalDateTime.of(2026, 10, 3, 10, 0));
+		archive(900_001L, LocalDateTime.of(2026, 10, 2, 12, 0));
+
+		// when
+		byte[] body;
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(export(ExportFormat.NDJSON, true)))) {
+			body = in.readAllBytes();
+		}
+
+		// then
+		List<JsonNode> rows = new ArrayList<>();
+		for (String line : new String(body, StandardCharsets.UTF_8).lines().toList()) {
+			rows.add(objectMapper.readTree(line));
+		}
+		assertThat(rows)
+			.extracting(row -> row.get("reservationId").asLong(), row -> row.get("userId").isNull(), row -> row.get("archived").asBoolean())
+			.containsExactly(
+				tuple(reservationId, false, false),
+				tuple(900_001L, true, true)
+			);
+		assertThat(rows.get(0).get("status").asText()).isEqualTo(ReservationStatus.WAIT_PAYMENT.name());
+		assertThat(rows.get(0).get("startAt").asText()).isEqualTo("2026-10-03T10:00");
+		assertThat(rows.get(0).get("endAt").asText()).isEqualTo("2026-10-03T12:00");
+	}
+
+	private byte[] export(ExportFormat format, boolean gzip) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		reservationExportService.export(FROM, TO, format, gzip).writeTo(out);
+		return out.toByteArray();
+	}
+
+	private Long save(LocalDateTime startAt) {
+		return reservationRepository.save(new Reservation(user, studyRoom, startAt, startAt.plusHours(2), clock)).getId();
+	}
+
+	// 익명화된 이력 (user_id 없음)
+	private void archive(Long id, LocalDateTime startAt) {
+		jdbcTemplate.update("""
+			INSERT INTO reservation_history (id, user_id, study_room_id, created_at, start_at, end_at, status, archived_at)
+			VALUES (?, NULL, ?, ?, ?, ?, 'CANCELED', ?)
+			""", id, studyRoom.getId(), startAt.minusDays(1), startAt, startAt.plusHours(2), startAt.plusDays(7));
+	}
+}
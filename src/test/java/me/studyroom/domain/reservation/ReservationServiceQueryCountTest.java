@@ -0,0 +1,144 @@
+package me.studyroom.domain.reservation;
+
+import me.studyroom.domain.outbox.OutboxEventRepository;
+import me.studyroom.domain.reservation.dto.ReservationResponse;
+import me.studyroom.domain.reservation.service.ReservationService;
+import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.studyRoom.StudyRoomRepository;
+import me.studyroom.domain.studyRoom.calendar.RoomCalendarService;
+import me.studyroom.domain.user.User;
+import me.studyroom.domain.user.UserRepository;
+import me.studyroom.domain.waitlist.WaitlistEntryRepository;
+import me.studyroom.global.dto.request.ReservationRequest;
+import me.studyroom.global.sql.SqlCount;
+import me.studyroom.global.sql.SqlStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// ReservationService 메서드별 SQL 수 회귀 테스트
+// 연관 엔티티를 건드리는 변환(mapToRead 등)이 지연 로딩으로 바뀌면 SELECT 수가 늘어서 바로 깨짐
+// 커밋 시점 SQL까지 세야 하니 @Transactional 사용 안 함
+@SpringBootTest
+public class ReservationServiceQueryCountTest {
+
+	@Autowired
+	private ReservationService reservationService;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private WaitlistEntryRepository waitlistEntryRepository;
+
+	@Autowired
+	private StudyRoomRepository studyRoomRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private RoomCalendarService roomCalendarService;
+
+	@MockitoBean
+	private Clock clock;
+
+	private Long roomAId;
+	private Long roomBId;
+	private Long userId;
+	private LocalDateTime BASE_TIME;
+
+	@BeforeEach
+	void setUp() {
+		waitlistEntryRepository.deleteAll();
+		outboxEventRepository.deleteAll();
+		reservationRepository.deleteAll();
+		studyRoomRepository.deleteAll();
+		userRepository.deleteAll();
+
+		Mockito.when(clock.instant()).thenReturn(Instant.parse("2026-10-01T00:00:00Z"));
+		Mockito.when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+		BASE_TIME = LocalDateTime.now(clock);
+
+		roomAId = studyRoomRepository.save(new StudyRoom("A룸", true, "테스트룸", LocalTime.MIN, LocalTime.MAX)).getId();
+		roomBId = studyRoomRepository.save(new StudyRoom("B룸", true, "테스트룸", LocalTime.MIN, LocalTime.MAX)).getId();
+		userId = userRepository.save(new User("user1", "u1@test.com", "1234", "01011112222")).getId();
+		// 운영 달력은 시작할 때/주기적으로 미리 컴파일됨 -> 측정에 처음 한 번 컴파일하는 SELECT가 섞이지 않게
+		roomCalendarService.reloadAll();
+	}
+
+	@Test
+	void 예약_확인은_예약_수와_상관없이_SELECT_한_번() {
+		// given : 방 두 개에 걸친 확정 예약 3건
+		reserveAndConfirm(roomAId, 1);
+		reserveAndConfirm(roomAId, 3);
+		reserveAndConfirm(roomBId, 1);
+
+		// when
+		List<ReservationResponse.Read> reads = SqlCount.assertSelects(1, () -> reservationService.reservationConfirm(userId));
+
+		// then
+		assertThat(reads)
+			.extracting(ReservationResponse.Read::reservationRoomName)
+			.containsExactlyInAnyOrder("A룸", "A룸", "B룸");
+	}
+
+	@Test
+	void 지난_예약_조회는_SELECT_한_번() {
+		// given
+		reserve(roomAId, 1);
+		reserve(roomBId, 3);
+
+		// when
+		List<ReservationResponse.History> histories =
+			SqlCount.assertSelects(1, () -> reservationService.reservationHistory(userId, false, 100));
+
+		// then
+		assertThat(histories).hasSize(2);
+	}
+
+	@Test
+	void 예약_생성_SQL_수() {
+		// when
+		SqlStats stats = SqlCount.measure(() -> reserve(roomAId, 1));
+
+		// then
+		// SELECT : 사용자, 방, 겹침 확인 / INSERT : 예약, outbox 이벤트 / UPDATE : 방 version 증가 (낙관적 락)
+		assertThat(stats.getSelects()).as(stats.toString()).isEqualTo(3);
+		assertThat(stats.getInserts()).as(stats.toString()).isEqualTo(2);
+		assertThat(stats.getUpdates()).as(stats.toString()).isEqualTo(1);
+	}
+
+	private void reserve(Long studyRoomId, int hoursLater) {
+		reservationService.reserve(new ReservationRequest.Create(
+			studyRoomId,
+			BASE_TIME.plusHours(hoursLater),
+			BASE_TIME.plusHours(hoursLater + 1)
+		), userId);
+	}
+
+	private void reserveAndConfirm(Long studyRoomId, int hoursLater) {
+		reserve(studyRoomId, hoursLater);
+		Long reservationId = reservationRepository.findAll().stream()
+			.filter(r -> r.getStatus() == ReservationStatus.WAIT_PAYMENT)
+			.findFirst()
+			.orElseThrow()
+			.getId();
+		reservationService.confirmPayment(reservationId, userId);
+	}
+}
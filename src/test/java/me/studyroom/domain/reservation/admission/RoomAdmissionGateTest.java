@@ -0,0 +1,182 @@
+package me.studyroom.domain.reservation.admission;
+
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.ReservationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+
+public class RoomAdmissionGateTest {
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void 동시_실행과_대기열이_차면_바로_거절() throws Exception {
+		// given : 동시 1개, 대기 1개
+		RoomAdmissionGate gate = new RoomAdmissionGate(1, 1, 5_000, 100);
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch running = new CountDownLatch(1);
+
+		Future<?> first = executor.submit(() -> gate.run(1L, () -> {
+			running.countDown();
+			await(release);
+		}));
+		running.await(5, TimeUnit.SECONDS);
+		Future<?> queued = executor.submit(() -> gate.run(1L, () -> {
+		}));
+		waitUntil(() -> gate.stats().get(0).waiting() == 1);
+
+		// when, then
+		assertThatThrownBy(() -> gate.run(1L, () -> {
+		}))
+			.isInstanceOf(ReservationException.class)
+			.extracting("exceptionCode")
+			.isEqualTo(ExceptionCode.ROOM_BUSY);
+
+		// 다른 방은 영향 없음
+		assertThat(gate.execute(2L, () -> "ok")).isEqualTo("ok");
+
+		release.countDown();
+		first.get(5, TimeUnit.SECONDS);
+		queued.get(5, TimeUnit.SECONDS);
+
+		RoomGateStats stats = gate.stats().stream()
+			.filter(stat -> stat.studyRoomId().equals(1L))
+			.findFirst()
+			.orElseThrow();
+		assertThat(stats.admitted()).isEqualTo(2);
+		assertThat(stats.rejected()).isEqualTo(1);
+		assertThat(stats.inFlight()).isZero();
+	}
+
+	@Test
+	void 대기_시간이_지나면_시간초과로_거절() throws Exception {
+		// given
+		RoomAdmissionGate gate = new RoomAdmissionGate(1, 10, 50, 100);
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch running = new CountDownLatch(1);
+		Future<?> first = executor.submit(() -> gate.run(1L, () -> {
+			running.countDown();
+			await(release);
+		}));
+		running.await(5, TimeUnit.SECONDS);
+
+		// when, then
+		assertThatThrownBy(() -> gate.run(1L, () -> {
+		})).isInstanceOf(ReservationException.class);
+		assertThat(gate.stats().get(0).timedOut()).isEqualTo(1);
+
+		release.countDown();
+		first.get(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void 실행중_예외가_나도_자리는_반납() {
+		// given
+		RoomAdmissionGate gate = new RoomAdmissionGate(1, 0, 0, 100);
+
+		// when
+		List<Throwable> errors = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			try {
+				gate.run(1L, () -> {
+					throw new IllegalStateException("fail");
+				});
+			} catch (IllegalStateException e) {
+				errors.add(e);
+			}
+		}
+
+		// then
+		assertThat(errors).hasSize(3);
+		assertThat(gate.stats().get(0).inFlight()).isZero();
+	}
+
+	@Test
+	void 사용_중인_게이트는_정리하지_않음() throws Exception {
+		// given : max-rooms 0 -> 정리할 때마다 전부 대상
+		RoomAdmissionGate gate = new RoomAdmissionGate(1, 1, 5_000, 0);
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch running = new CountDownLatch(1);
+		Future<?> first = executor.submit(() -> gate.run(1L, () -> {
+			running.countDown();
+			await(release);
+		}));
+		running.await(5, TimeUnit.SECONDS);
+		gate.run(2L, () -> {
+		});
+
+		// when
+		gate.evictIdle();
+
+		// then : 1번 방 게이트가 남아 있어서 다음 요청은 대기열로
+		assertThat(gate.stats()).extracting(RoomGateStats::studyRoomId).containsExactly(1L);
+		Future<?> queued = executor.submit(() -> gate.run(1L, () -> {
+		}));
+		waitUntil(() -> gate.stats().get(0).waiting() == 1);
+		assertThat(gate.stats().get(0).waiting()).isEqualTo(1);
+
+		release.countDown();
+		first.get(5, TimeUnit.SECONDS);
+		queued.get(5, TimeUnit.SECONDS);
+		gate.evictIdle();
+		assertThat(gate.stats()).isEmpty();
+	}
+
+	@Test
+	void 정리된_게이트를_꺼내면_새_게이트로_다시() {
+		// given : 정리 스케줄러가 retire 만 하고 아직 맵에서 지우기 전
+		RoomAdmissionGate gate = new RoomAdmissionGate(1, 0, 0, 100);
+		gate.run(1L, () -> {
+		});
+		gate.run(1L, () -> {
+		});
+		Map<?, ?> gates = (Map<?, ?>) ReflectionTestUtils.getField(gate, "gates");
+		AtomicInteger users = (AtomicInteger) ReflectionTestUtils.getField(gates.get(1L), "users");
+		users.set(-1);
+
+		// when
+		gate.run(1L, () -> {
+		});
+
+		// then : 정리된 게이트에 들어가지 않고 새 게이트에서 처음부터
+		assertThat(gate.stats())
+			.extracting(RoomGateStats::studyRoomId, RoomGateStats::admitted)
+			.containsExactly(tuple(1L, 1L));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5_000;
+		while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(5);
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package me.studyroom.domain.reservation.archive;
+
+import me.studyroom.domain.reservation.ReservationStatus;
+import me.studyroom.domain.reservation.dto.ReservationExportRow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 스프링 컨텍스트 없이 인코딩/디코딩만 검증
+public class ColumnarArchiveFileTest {
+
+	@TempDir
+	Path tempDir;
+
+	private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 9, 1, 9, 0);
+
+	record DecodedRow(long roomId, long userId, long startMinute, int duration, ReservationStatus status) {
+	}
+
+	@Test
+	void 작성한_행을_그대로_읽어옴() throws Exception {
+		// given
+		List<ReservationExportRow> rows = List.of(
+			row(1L, 10L, BASE_TIME, 60, ReservationStatus.CONFIRMED),
+			row(1L, 3L, BASE_TIME.plusHours(2), 120, ReservationStatus.CANCELED),
+			row(2L, null, BASE_TIME.plusDays(3), 90, ReservationStatus.EXPIRED), // 익명화된 유저
+			row(7L, 10_000L, BASE_TIME.minusDays(1), 60, ReservationStatus.CONFIRMED) // 역방향 delta
+		);
+
+		ColumnarArchiveWriter writer = new ColumnarArchiveWriter(4);
+		rows.forEach(writer::append);
+
+		Path path = tempDir.resolve("reservations-2026-09.col");
+
+		// when
+		writer.writeTo(path, YearMonth.of(2026, 9));
+		ColumnarArchiveFile file = ColumnarArchiveFile.open(path);
+
+		List<DecodedRow> decoded = new ArrayList<>();
+		file.scan((roomId, userId, startMinute, duration, status) ->
+			decoded.add(new DecodedRow(roomId, userId, startMinute, duration, status)));
+
+		// then
+		assertThat(file.yearMonth()).isEqualTo(YearMonth.of(2026, 9));
+		assertThat(file.rowCount()).isEqualTo(4);
+		assertThat(decoded).containsExactly(
+			new DecodedRow(1, 10, ColumnarArchiveWriter.toEpochMinute(BASE_TIME), 60, ReservationStatus.CONFIRMED),
+			new DecodedRow(1, 3, ColumnarArchiveWriter.toEpochMinute(BASE_TIME.plusHours(2)), 120, ReservationStatus.CANCELED),
+			new DecodedRow(2, 0, ColumnarArchiveWriter.toEpochMinute(BASE_TIME.plusDays(3)), 90, ReservationStatus.EXPIRED),
+			new DecodedRow(7, 10_000, ColumnarArchiveWriter.toEpochMinute(BASE_TIME.minusDays(1)), 60, ReservationStatus.CONFIRMED)
+		);
+	}
+
+	@Test
+	void 정렬된_입력은_행당_수바이트로_압축됨() throws Exception {
+		// given
+		ColumnarArchiveWriter writer = new ColumnarArchiveWriter(10_000);
+		for (int i = 0; i < 10_000; i++) {
+			writer.append(row(1L + i / 1_000, 1L + i % 50, BASE_TIME.plusHours(i % 1_000), 60, ReservationStatus.CONFIRMED));
+		}
+		Path path = tempDir.resolve("reservations-2026-09.col");
+
+		// when
+		writer.writeTo(path, YearMonth.of(2026, 9));
+
+		// then
+		// room 1 + user 1~2 + start 1~3 + duration 1 + status 1
+		assertThat(Files.size(path)).isLessThan(10_000L * 9);
+	}
+
+	private ReservationExportRow row(Long roomId, Long userId, LocalDateTime startAt, int minutes, ReservationStatus status) {
+		return new ReservationExportRow(0L, roomId, userId, status, startAt, startAt.plusMinutes(minutes), startAt);
+	}
+}
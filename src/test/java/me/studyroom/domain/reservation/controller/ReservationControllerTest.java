@@ -3,7 +3,12 @@ package me.studyroom.domain.reservation.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import me.studyroom.config.SecurityConfig;
+import me.studyroom.domain.payment.PaymentStatus;
+import me.studyroom.domain.payment.dto.PaymentResponse;
+import me.studyroom.domain.payment.service.PaymentSaga;
+import me.studyroom.domain.payment.service.PaymentService;
 import me.studyroom.domain.reservation.dto.ReservationResponse;
+import me.studyroom.domain.reservation.service.ReservationFacade;
 import me.studyroom.domain.reservation.service.ReservationService;
 import me.studyroom.domain.user.User;
 import me.studyroom.global.dto.request.ReservationRequest;
@@ -83,6 +88,17 @@ public class ReservationControllerTest {
 	@MockitoBean
 	private CustomUserDetailsService customUserDetailsService;
 
+	// 예약, 수정, 결제 확정은 방 게이트를 거치는 facade로 들어감
+	@MockitoBean
+	private ReservationFacade reservationFacade;
+
+	// 결제 확정은 비동기 사가로 시작만 하고 202
+	@MockitoBean
+	private PaymentSaga paymentSaga;
+
+	@MockitoBean
+	private PaymentService paymentService;
+
 	// 테스트 유틸 메서드
 	private CustomUserDetails mockUser() {
 		User user = new User(
@@ -135,8 +151,8 @@ public class ReservationControllerTest {
 		);
 
 		doThrow(new ReservationException(ExceptionCode.SCHEDULE_CONFLICT))
-			.when(reservationService)
-			.reserve(any(), ArgumentMatchers.nullable(Long.class));
+			.when(reservationFacade)
+			.reserve(any(), ArgumentMatchers.nullable(String.class), ArgumentMatchers.nullable(Long.class));
 
 		// when, then
 		mockMvc.perform(post("/reservations")
@@ -166,7 +182,7 @@ public class ReservationControllerTest {
 		);
 
 		// 이 부분이 stub
-		given(reservationService.reserve(any(), ArgumentMatchers.nullable(Long.class)))
+		given(reservationFacade.reserve(any(), ArgumentMatchers.nullable(String.class), ArgumentMatchers.nullable(Long.class)))
 			.willReturn(response);
 
 		// when, then
@@ -181,6 +197,27 @@ public class ReservationControllerTest {
 			.andExpect(jsonPath("$.endAt").exists());
 	}
 
+	@Test
+	void 결제_확정은_사가를_시작하고_202_반환() throws Exception {
+		// given
+		PaymentResponse.Status response = new PaymentResponse.Status(
+			10L,
+			5L,
+			PaymentStatus.PENDING,
+			10_000,
+			null,
+			LocalDateTime.of(2026, 1, 10, 9, 0)
+		);
+		given(paymentSaga.start(5L, 1L)).willReturn(response);
+
+		// when, then
+		mockMvc.perform(post("/reservations/5/confirm")
+				.with(securityContext(mockSecurityContext())))
+			.andExpect(status().isAccepted())
+			.andExpect(jsonPath("$.paymentId").value(10))
+			.andExpect(jsonPath("$.status").value("PENDING"));
+	}
+
 	@Test
 	void 예약_요청값_누락시_400_반환() throws Exception {
 		/*
@@ -0,0 +1,208 @@
+package me.studyroom.domain.reservation.hold;
+
+import me.studyroom.domain.outbox.OutboxEventRepository;
+import me.studyroom.domain.reservation.Reservation;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.ReservationStatus;
+import me.studyroom.domain.reservation.service.ReservationFacade;
+import me.studyroom.domain.reservation.service.ReservationService;
+import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.studyRoom.StudyRoomRepository;
+import me.studyroom.domain.user.User;
+import me.studyroom.domain.user.UserRepository;
+import me.studyroom.domain.waitlist.WaitlistEntryRepository;
+import me.studyroom.domain.waitlist.WaitlistStatus;
+import me.studyroom.domain.waitlist.dto.WaitlistResponse;
+import me.studyroom.domain.waitlist.service.WaitlistService;
+import me.studyroom.global.dto.request.ReservationRequest;
+import me.studyroom.global.dto.request.WaitlistRequest;
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.ReservationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 인덱스는 커밋 후에 반영되므로 @Transactional 사용 안 함
+@SpringBootTest
+public class SlotHoldServiceTest {
+
+	@Autowired
+	private SlotHoldService slotHoldService;
+
+	@Autowired
+	private SlotHoldIndex slotHoldIndex;
+
+	@Autowired
+	private ReservationFacade reservationFacade;
+
+	@Autowired
+	private ReservationService reservationService;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private WaitlistService waitlistService;
+
+	@Autowired
+	private WaitlistEntryRepository waitlistEntryRepository;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private StudyRoomRepository studyRoomRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@MockitoBean
+	private Clock clock;
+
+	private Long roomId;
+	private Long ownerId;
+	private Long otherId;
+	private LocalDateTime BASE_TIME;
+
+	@BeforeEach
+	void setUp() {
+		waitlistEntryRepository.deleteAll();
+		outboxEventRepository.deleteAll();
+		reservationRepository.deleteAll();
+		studyRoomRepository.deleteAll();
+		userRepository.deleteAll();
+
+		setNow(Instant.parse("2026-10-01T00:00:00Z"));
+		BASE_TIME = LocalDateTime.now(clock);
+		slotHoldService.reloadIndex();
+		waitlistService.reloadIndex();
+
+		roomId = studyRoomRepository.save(new StudyRoom("A룸", true, "테스트룸", LocalTime.MIN, LocalTime.MAX)).getId();
+		ownerId = userRepository.save(new User("owner", "owner@test.com", "1234", "01011112222")).getId();
+		otherId = userRepository.save(new User("other", "other@test.com", "1234", "01022223333")).getId();
+	}
+
+	@Test
+	void 결제_대기_중인_시간대는_다른_사람이_예약_불가() {
+		// given
+		Long heldId = reserve(ownerId, 2, 4);
+
+		// when & then
+		// 메모리 인덱스에서 게이트 전에 거절
+		assertThatThrownBy(() -> reservationFacade.reserve(create(3, 5), null, otherId))
+			.isInstanceOf(ReservationException.class)
+			.extracting("exceptionCode")
+			.isEqualTo(ExceptionCode.SCHEDULE_CONFLICT);
+
+		// 인덱스가 비어 있어도(다른 인스턴스) DB에서 거절
+		slotHoldIndex.reload(List.of());
+		assertThatThrownBy(() -> reservationService.reserve(create(3, 5), otherId))
+			.isInstanceOf(ReservationException.class)
+			.extracting("exceptionCode")
+			.isEqualTo(ExceptionCode.SCHEDULE_CONFLICT);
+
+		assertThat(reservationRepository.findAll())
+			.extracting(Reservation::getId)
+			.containsExactly(heldId);
+	}
+
+	@Test
+	void 결제_창이_닫히는_순간_홀드가_풀림() {
+		// given
+		reserve(ownerId, 2, 4);
+
+		// when : 9분 59초까지는 홀드, 10분 정각부터 풀림
+		setNow(Instant.parse("2026-10-01T00:09:59Z"));
+		assertThatThrownBy(() -> reservationFacade.reserve(create(2, 4), null, otherId))
+			.isInstanceOf(ReservationException.class);
+
+		setNow(Instant.parse("2026-10-01T00:10:00Z"));
+		reservationFacade.reserve(create(2, 4), null, otherId);
+
+		// then
+		assertThat(reservationRepository.findAll())
+			.filteredOn(r -> r.getUser().getId().equals(otherId))
+			.extracting(Reservation::getStatus)
+			.containsExactly(ReservationStatus.WAIT_PAYMENT);
+	}
+
+	@Test
+	void 결제_대기를_취소하면_홀드가_바로_풀림() {
+		// given
+		Long heldId = reserve(ownerId, 2, 4);
+
+		// when
+		reservationService.cancel(heldId, new ReservationRequest.Delete("1234"), ownerId);
+		reservationFacade.reserve(create(2, 4), null, otherId);
+
+		// then
+		assertThat(slotHoldIndex.size()).isEqualTo(1);
+		assertThat(reservationRepository.findAll())
+			.filteredOn(r -> r.getUser().getId().equals(otherId))
+			.hasSize(1);
+	}
+
+	@Test
+	void 결제를_확정하면_홀드_대신_확정_예약으로_막음() {
+		// given
+		Long heldId = reserve(ownerId, 2, 4);
+
+		// when
+		reservationService.confirmPayment(heldId, ownerId);
+
+		// then
+		assertThat(slotHoldIndex.size()).isZero();
+		assertThatThrownBy(() -> reservationFacade.reserve(create(3, 5), null, otherId))
+			.isInstanceOf(ReservationException.class)
+			.extracting("exceptionCode")
+			.isEqualTo(ExceptionCode.SCHEDULE_CONFLICT);
+	}
+
+	@Test
+	void 홀드된_시간대에는_대기_등록_가능() {
+		// given
+		reserve(ownerId, 2, 4);
+
+		// when
+		WaitlistResponse.Entry entry = waitlistService.join(new WaitlistRequest.Create(
+			roomId,
+			BASE_TIME.plusHours(2),
+			BASE_TIME.plusHours(4)
+		), otherId);
+
+		// then
+		assertThat(waitlistEntryRepository.findById(entry.waitlistId()).orElseThrow().getStatus())
+			.isEqualTo(WaitlistStatus.WAITING);
+	}
+
+	private Long reserve(Long userId, int startHours, int endHours) {
+		reservationService.reserve(create(startHours, endHours), userId);
+		return reservationRepository.findAll().stream()
+			.filter(r -> r.getUser().getId().equals(userId))
+			.map(Reservation::getId)
+			.findFirst()
+			.orElseThrow();
+	}
+
+	private ReservationRequest.Create create(int startHours, int endHours) {
+		return new ReservationRequest.Create(roomId, BASE_TIME.plusHours(startHours), BASE_TIME.plusHours(endHours));
+	}
+
+	private void setNow(Instant instant) {
+		Mockito.when(clock.instant()).thenReturn(instant);
+		Mockito.when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+	}
+}
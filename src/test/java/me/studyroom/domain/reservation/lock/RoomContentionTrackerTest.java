@@ -0,0 +1,110 @@
+package me.studyroom.domain.reservation.lock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RoomContentionTrackerTest {
+
+	private static final Instant BASE = Instant.parse("2026-10-01T00:00:00Z");
+
+	private final Clock clock = Mockito.mock(Clock.class);
+	private RoomContentionTracker tracker;
+
+	@BeforeEach
+	void setUp() {
+		Mockito.when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+		setNow(0);
+		// 구간 10초, 최소 4건, 충돌 50% 이상이면 전환, cooldown 60초
+		tracker = new RoomContentionTracker(clock, 10_000, 4, 0.5, 60_000, 100);
+	}
+
+	@Test
+	void 기록이_없는_방은_낙관적() {
+		assertThat(tracker.modeOf(1L)).isEqualTo(RoomLockMode.OPTIMISTIC);
+	}
+
+	@Test
+	void 충돌_비율이_기준을_넘으면_비관적으로_전환() {
+		// when
+		tracker.recordSuccess(1L);
+		tracker.recordConflict(1L);
+		tracker.recordConflict(1L);
+		tracker.recordSuccess(1L);
+
+		// then
+		assertThat(tracker.modeOf(1L)).isEqualTo(RoomLockMode.PESSIMISTIC);
+		assertThat(tracker.modeOf(2L)).isEqualTo(RoomLockMode.OPTIMISTIC);
+
+		RoomLockStats stats = tracker.stats().get(0);
+		assertThat(stats.history()).singleElement()
+			.satisfies(s -> {
+				assertThat(s.to()).isEqualTo(RoomLockMode.PESSIMISTIC);
+				assertThat(s.attempts()).isEqualTo(4);
+				assertThat(s.conflicts()).isEqualTo(2);
+			});
+	}
+
+	@Test
+	void 표본이_적으면_충돌해도_전환하지_않음() {
+		// when
+		tracker.recordConflict(1L);
+		tracker.recordConflict(1L);
+		tracker.recordConflict(1L);
+
+		// then
+		assertThat(tracker.modeOf(1L)).isEqualTo(RoomLockMode.OPTIMISTIC);
+	}
+
+	@Test
+	void 비관적_상태로_cooldown이_지나고_한산하면_낙관적으로_복귀() {
+		// given
+		for (int i = 0; i < 4; i++) {
+			tracker.recordConflict(1L);
+		}
+
+		// when : cooldown 전에는 한산해도 유지
+		setNow(30_000);
+		tracker.evictIdle();
+		assertThat(tracker.modeOf(1L)).isEqualTo(RoomLockMode.PESSIMISTIC);
+
+		// when : cooldown 이후
+		setNow(70_000);
+		tracker.evictIdle();
+
+		// then
+		assertThat(tracker.modeOf(1L)).isEqualTo(RoomLockMode.OPTIMISTIC);
+		assertThat(tracker.stats().get(0).history())
+			.extracting(RoomLockStats.ModeSwitch::to)
+			.containsExactly(RoomLockMode.PESSIMISTIC, RoomLockMode.OPTIMISTIC);
+	}
+
+	@Test
+	void 비관적_상태에서_계속_몰리면_유지() {
+		// given
+		for (int i = 0; i < 4; i++) {
+			tracker.recordConflict(1L);
+		}
+
+		// when : cooldown은 지났지만 직전 구간에 요청이 많음
+		setNow(55_000);
+		for (int i = 0; i < 5; i++) {
+			tracker.recordSuccess(1L);
+		}
+		setNow(65_000);
+		tracker.recordSuccess(1L);
+
+		// then
+		assertThat(tracker.modeOf(1L)).isEqualTo(RoomLockMode.PESSIMISTIC);
+	}
+
+	private void setNow(long millis) {
+		Mockito.when(clock.instant()).thenReturn(BASE.plusMillis(millis));
+	}
+}
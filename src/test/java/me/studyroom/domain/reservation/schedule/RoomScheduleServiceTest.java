@@ -0,0 +1,204 @@
+package me.studyroom.domain.reservation.schedule;
+
+import me.studyroom.domain.outbox.OutboxEvent;
+import me.studyroom.domain.outbox.OutboxEventRepository;
+import me.studyroom.domain.outbox.OutboxEventType;
+import me.studyroom.domain.payment.PaymentRepository;
+import me.studyroom.domain.reservation.Reservation;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.service.ReservationService;
+import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.studyRoom.StudyRoomRepository;
+import me.studyroom.domain.user.User;
+import me.studyroom.domain.user.UserRepository;
+import me.studyroom.global.dto.request.ReservationRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 인덱스는 outbox 이벤트를 따라가므로 @Transactional 사용 안 함
+@SpringBootTest(properties = "studyroom.schedule.dir=build/schedule-test")
+public class RoomScheduleServiceTest {
+
+	private static final String DIRECTORY = "build/schedule-test";
+
+	@Autowired
+	private RoomScheduleService roomScheduleService;
+
+	@Autowired
+	private RoomScheduleIndex roomScheduleIndex;
+
+	@Autowired
+	private ReservationService reservationService;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private PaymentRepository paymentRepository;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private StudyRoomRepository studyRoomRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockitoBean
+	private Clock clock;
+
+	private Long roomId;
+	private Long userId;
+	private LocalDateTime BASE_TIME;
+
+	@BeforeEach
+	void setUp() {
+		paymentRepository.deleteAll();
+		outboxEventRepository.deleteAll();
+		reservationRepository.deleteAll();
+		studyRoomRepository.deleteAll();
+		userRepository.deleteAll();
+
+		setNow(Instant.parse("2026-10-01T00:00:00Z"));
+		BASE_TIME = LocalDateTime.now(clock);
+		roomScheduleService.warmStart();
+
+		roomId = studyRoomRepository.save(new StudyRoom("A룸", true, "테스트룸", LocalTime.MIN, LocalTime.MAX)).getId();
+		userId = userRepository.save(new User("user", "user@test.com", "1234", "01011112222")).getId();
+	}
+
+	@Test
+	void 확정과_취소_이벤트를_따라가며_반영() {
+		// given
+		Long reservationId = reserveAndConfirm(2, 4);
+
+		// when : settle-millis 가 지난 이벤트만 읽음
+		setNow(Instant.parse("2026-10-01T00:00:05Z"));
+		roomScheduleService.sync();
+
+		// then
+		RoomSchedule schedule = roomScheduleIndex.get(roomId);
+		assertThat(schedule.size()).isEqualTo(1);
+		assertThat(schedule.reservationIdAt(0)).isEqualTo(reservationId);
+		assertThat(schedule.startAt(0)).isEqualTo(RoomSchedule.toEpochSecond(BASE_TIME.plusHours(2)));
+
+		// when
+		reservationService.cancel(reservationId, new ReservationRequest.Delete("1234"), userId);
+		setNow(Instant.parse("2026-10-01T00:00:10Z"));
+		roomScheduleService.sync();
+
+		// then
+		assertThat(roomScheduleIndex.get(roomId).size()).isZero();
+	}
+
+	@Test
+	void 스냅샷과_저널로_다시_띄우면_같은_상태() throws Exception {
+		// given : 하나는 스냅샷에, 하나는 저널에만 있음
+		Long inSnapshot = reserveAndConfirm(2, 4);
+		setNow(Instant.parse("2026-10-01T00:00:05Z"));
+		roomScheduleService.sync();
+		roomScheduleService.snapshot();
+
+		Long inJournal = reserveAndConfirm(6, 8);
+		setNow(Instant.parse("2026-10-01T00:00:10Z"));
+		roomScheduleService.sync();
+
+		ScheduleStore.Snapshot snapshot = new ScheduleStore(Path.of(DIRECTORY)).readSnapshot().orElseThrow();
+		List<ScheduleChange> journal = new ArrayList<>();
+		new ScheduleStore(Path.of(DIRECTORY)).replayJournal(snapshot.eventId(), journal::add);
+		assertThat(snapshot.schedules().get(roomId).size()).isEqualTo(1);
+		assertThat(journal).extracting(ScheduleChange::reservationId).contains(inJournal);
+
+		// when : 새 인스턴스처럼 빈 인덱스로 시작
+		RoomScheduleIndex restartedIndex = new RoomScheduleIndex();
+		RoomScheduleService restarted = new RoomScheduleService(
+			reservationRepository, outboxEventRepository, restartedIndex, transactionManager, clock,
+			DIRECTORY, 1000, 1000, 24, 60_000, 1000);
+		restarted.warmStart();
+
+		// then
+		RoomSchedule schedule = restartedIndex.get(roomId);
+		assertThat(schedule.size()).isEqualTo(2);
+		assertThat(schedule.reservationIdAt(0)).isEqualTo(inSnapshot);
+		assertThat(schedule.reservationIdAt(1)).isEqualTo(inJournal);
+		assertThat(restartedIndex.appliedEventId()).isEqualTo(roomScheduleIndex.appliedEventId());
+	}
+
+	@Test
+	void 워터마크보다_작은_id가_늦게_커밋되어도_반영() throws Exception {
+		// given : 앞 예약의 확정 이벤트가 아직 커밋되지 않은 상태 (행을 잠시 빼둠)
+		Long earlier = reserveAndConfirm(2, 4);
+		OutboxEvent late = outboxEventRepository.findAll().stream()
+			.filter(event -> event.getReservationId().equals(earlier) && event.getEventType() == OutboxEventType.CONFIRMED)
+			.findFirst()
+			.orElseThrow();
+		outboxEventRepository.deleteById(late.getId());
+		Long later = reserveAndConfirm(6, 8);
+
+		setNow(Instant.parse("2026-10-01T00:00:05Z"));
+		roomScheduleService.sync();
+		assertThat(roomScheduleIndex.get(roomId).size()).isEqualTo(1);
+
+		// when : 워터마크가 지나간 뒤에 커밋됨
+		jdbcTemplate.update("""
+				INSERT INTO outbox_event (id, event_type, reservation_id, study_room_id, user_id, start_at, end_at, status, created_at)
+				VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+				""",
+			late.getId(), late.getEventType().name(), late.getReservationId(), late.getStudyRoomId(), late.getUserId(),
+			late.getStartAt(), late.getEndAt(), late.getStatus().name(), late.getCreatedAt());
+		setNow(Instant.parse("2026-10-01T00:00:10Z"));
+		roomScheduleService.sync();
+
+		// then : 인덱스와 스냅샷 모두에 들어감 (저널은 워터마크 이후만 재생하므로)
+		RoomSchedule schedule = roomScheduleIndex.get(roomId);
+		assertThat(schedule.size()).isEqualTo(2);
+		assertThat(schedule.reservationIdAt(0)).isEqualTo(earlier);
+		assertThat(schedule.reservationIdAt(1)).isEqualTo(later);
+		ScheduleStore.Snapshot snapshot = new ScheduleStore(Path.of(DIRECTORY)).readSnapshot().orElseThrow();
+		assertThat(snapshot.schedules().get(roomId).size()).isEqualTo(2);
+	}
+
+	private Long reserveAndConfirm(int startHours, int endHours) {
+		reservationService.reserve(new ReservationRequest.Create(
+			roomId,
+			BASE_TIME.plusHours(startHours),
+			BASE_TIME.plusHours(endHours)
+		), userId);
+		Long reservationId = reservationRepository.findAll().stream()
+			.filter(r -> r.getStartAt().equals(BASE_TIME.plusHours(startHours)))
+			.map(Reservation::getId)
+			.findFirst()
+			.orElseThrow();
+		reservationService.confirmPayment(reservationId, userId);
+		return reservationId;
+	}
+
+	private void setNow(Instant instant) {
+		Mockito.when(clock.instant()).thenReturn(instant);
+		Mockito.when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+	}
+}
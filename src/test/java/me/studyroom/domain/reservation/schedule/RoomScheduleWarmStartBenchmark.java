@@ -0,0 +1,70 @@
+package me.studyroom.domain.reservation.schedule;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 방 10만 개 확정 구간을 스냅샷 + 저널에서 다시 띄우는 시간 (./gradlew benchmark)
+// 방마다 앞으로 2주 동안 하루 2건 정도 확정 예약이 있다고 가정
+@Tag("benchmark")
+public class RoomScheduleWarmStartBenchmark {
+
+	private static final int ROOMS = 100_000;
+	private static final int INTERVALS_PER_ROOM = 28;
+	private static final int JOURNAL_RECORDS = 50_000;
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void 방_10만개_웜_스타트() throws Exception {
+		// given
+		Map<Long, RoomSchedule> schedules = new HashMap<>(ROOMS * 2);
+		long reservationId = 1;
+		for (long roomId = 1; roomId <= ROOMS; roomId++) {
+			RoomSchedule.Builder builder = new RoomSchedule.Builder();
+			for (int i = 0; i < INTERVALS_PER_ROOM; i++) {
+				long start = i * 43_200L;
+				builder.add(reservationId++, start, start + 7_200);
+			}
+			schedules.put(roomId, builder.build());
+		}
+		ScheduleStore store = new ScheduleStore(tempDir);
+		store.writeSnapshot(new ScheduleStore.Snapshot(1L, 0L, schedules));
+
+		List<ScheduleChange> changes = new ArrayList<>(JOURNAL_RECORDS);
+		for (int i = 0; i < JOURNAL_RECORDS; i++) {
+			changes.add(new ScheduleChange(2L + i, ScheduleChange.Op.ADD, 1L + i % ROOMS, reservationId++, 2_000_000L, 2_003_600L));
+		}
+		store.append(changes);
+		store.close();
+
+		// when
+		long started = System.nanoTime();
+		ScheduleStore reopened = new ScheduleStore(tempDir);
+		ScheduleStore.Snapshot snapshot = reopened.readSnapshot().orElseThrow();
+		List<ScheduleChange> journal = new ArrayList<>();
+		long lastEventId = reopened.replayJournal(snapshot.eventId(), journal::add);
+		RoomScheduleIndex index = new RoomScheduleIndex();
+		index.reload(snapshot.schedules(), snapshot.eventId());
+		index.apply(journal, lastEventId);
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+		// then
+		System.out.printf("warm start: rooms=%d, intervals=%d, journal=%d, snapshot=%d MB, %d ms%n",
+			index.roomCount(), index.intervalCount(), journal.size(),
+			Files.size(tempDir.resolve("schedule.snapshot")) >> 20, elapsed.toMillis());
+		assertThat(index.intervalCount()).isEqualTo((long) ROOMS * INTERVALS_PER_ROOM + JOURNAL_RECORDS);
+		assertThat(elapsed).isLessThan(Duration.ofSeconds(1));
+	}
+}
@@ -0,0 +1,126 @@
+package me.studyroom.domain.reservation.schedule;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 스프링 컨텍스트 없이 파일 형식만 검증
+public class ScheduleStoreTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void 스냅샷을_그대로_읽어옴() throws Exception {
+		// given
+		RoomSchedule room1 = new RoomSchedule.Builder()
+			.add(12L, 7_200, 10_800)
+			.add(11L, 0, 3_600)
+			.build();
+		RoomSchedule room2 = RoomSchedule.EMPTY.with(20L, 100, 200);
+		ScheduleStore store = new ScheduleStore(tempDir);
+
+		// when
+		store.writeSnapshot(new ScheduleStore.Snapshot(42L, 1_000L, Map.of(1L, room1, 2L, room2)));
+		ScheduleStore.Snapshot read = new ScheduleStore(tempDir).readSnapshot().orElseThrow();
+
+		// then
+		assertThat(read.eventId()).isEqualTo(42L);
+		assertThat(read.writtenAtMillis()).isEqualTo(1_000L);
+		RoomSchedule restored = read.schedules().get(1L);
+		assertThat(restored.size()).isEqualTo(2);
+		assertThat(restored.reservationIdAt(0)).isEqualTo(11L);
+		assertThat(restored.startAt(1)).isEqualTo(7_200);
+		assertThat(restored.endAt(1)).isEqualTo(10_800);
+		assertThat(read.schedules().get(2L).reservationIdAt(0)).isEqualTo(20L);
+	}
+
+	@Test
+	void 저널은_스냅샷_이후_레코드만_넘기고_스냅샷을_쓰면_비워짐() throws Exception {
+		// given
+		ScheduleStore store = new ScheduleStore(tempDir);
+		store.append(List.of(
+			new ScheduleChange(5L, ScheduleChange.Op.ADD, 1L, 100L, 0, 60),
+			new ScheduleChange(6L, ScheduleChange.Op.REMOVE, 1L, 99L, 0, 0)));
+		store.append(List.of(new ScheduleChange(7L, ScheduleChange.Op.ADD, 2L, 101L, 60, 120)));
+
+		// when
+		List<ScheduleChange> replayed = new ArrayList<>();
+		long last = store.replayJournal(5L, replayed::add);
+
+		// then
+		assertThat(last).isEqualTo(7L);
+		assertThat(replayed).extracting(ScheduleChange::eventId).containsExactly(6L, 7L);
+		assertThat(replayed.get(0).op()).isEqualTo(ScheduleChange.Op.REMOVE);
+		assertThat(replayed.get(1).end()).isEqualTo(120);
+
+		store.writeSnapshot(new ScheduleStore.Snapshot(7L, 0L, Map.of()));
+		List<ScheduleChange> afterSnapshot = new ArrayList<>();
+		assertThat(store.replayJournal(7L, afterSnapshot::add)).isEqualTo(7L);
+		assertThat(afterSnapshot).isEmpty();
+	}
+
+	@Test
+	void 쓰다가_잘린_저널_레코드는_버림() throws Exception {
+		// given
+		ScheduleStore store = new ScheduleStore(tempDir);
+		store.append(List.of(
+			new ScheduleChange(1L, ScheduleChange.Op.ADD, 1L, 10L, 0, 60),
+			new ScheduleChange(2L, ScheduleChange.Op.ADD, 1L, 11L, 60, 120)));
+		store.close();
+		Path journal = tempDir.resolve("schedule.journal");
+		try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.WRITE)) {
+			channel.truncate(ScheduleStore.JOURNAL_RECORD_BYTES + 10);
+		}
+
+		// when
+		List<ScheduleChange> replayed = new ArrayList<>();
+		long last = new ScheduleStore(tempDir).replayJournal(0L, replayed::add);
+
+		// then
+		assertThat(last).isEqualTo(1L);
+		assertThat(replayed).hasSize(1);
+		assertThat(Files.size(journal)).isEqualTo(ScheduleStore.JOURNAL_RECORD_BYTES);
+	}
+
+	@Test
+	void 깨진_스냅샷은_없는_것으로_봄() throws Exception {
+		// given
+		ScheduleStore store = new ScheduleStore(tempDir);
+		store.writeSnapshot(new ScheduleStore.Snapshot(3L, 0L, Map.of(1L, RoomSchedule.EMPTY.with(1L, 0, 60))));
+		Path snapshot = tempDir.resolve("schedule.snapshot");
+		byte[] bytes = Files.readAllBytes(snapshot);
+		bytes[bytes.length - 1] ^= 0x7F;
+		Files.write(snapshot, bytes);
+
+		// when & then
+		assertThat(store.readSnapshot()).isEmpty();
+	}
+
+	@Test
+	void 같은_예약을_다시_넣으면_교체되고_겹침은_이분_탐색() {
+		// given
+		RoomSchedule schedule = RoomSchedule.EMPTY
+			.with(1L, 0, 60)
+			.with(2L, 120, 180)
+			.with(1L, 60, 90); // 이벤트 재전달, 시간 변경
+
+		// when & then
+		assertThat(schedule.size()).isEqualTo(2);
+		assertThat(schedule.startAt(0)).isEqualTo(60);
+		assertThat(schedule.overlaps(0, 60)).isFalse();
+		assertThat(schedule.overlaps(80, 100)).isTrue();
+		assertThat(schedule.overlaps(90, 120)).isFalse();
+		assertThat(schedule.overlaps(179, 300)).isTrue();
+		assertThat(schedule.withoutEndedBefore(90).size()).isEqualTo(1);
+	}
+}
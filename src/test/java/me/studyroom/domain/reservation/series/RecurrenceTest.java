@@ -0,0 +1,85 @@
+package me.studyroom.domain.reservation.series;
+
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.ReservationException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RecurrenceTest {
+
+	private static final LocalDateTime FIRST = LocalDateTime.of(2026, 10, 5, 10, 0);
+
+	@Test
+	void 마지막_날짜로_주면_회차_수로_바뀜() {
+		// when : 2주마다, 10/5 ~ 11/30 -> 10/5, 10/19, 11/2, 11/16, 11/30
+		Recurrence recurrence = Recurrence.of(SeriesFrequency.WEEKLY, 2, FIRST, FIRST.plusHours(2),
+			null, LocalDate.of(2026, 11, 30));
+
+		// then
+		assertThat(recurrence.occurrences()).isEqualTo(5);
+		assertThat(recurrence.lastEnd()).isEqualTo(LocalDateTime.of(2026, 11, 30, 12, 0));
+		assertThat(recurrence.indexOf(LocalDate.of(2026, 11, 2))).isEqualTo(2);
+		assertThat(recurrence.indexOf(LocalDate.of(2026, 10, 12))).isEqualTo(-1);
+		assertThat(recurrence.indexOf(LocalDate.of(2026, 12, 14))).isEqualTo(-1);
+	}
+
+	@Test
+	void 구간_안의_회차만_계산하고_제외_날짜는_뺌() {
+		// given : 1년치 매일 반복
+		Recurrence recurrence = Recurrence.of(SeriesFrequency.DAILY, 1, FIRST, FIRST.plusHours(2), 365, null);
+
+		// when : 반년 뒤 4/1 11시 ~ 4/3 11시, 가운데 날은 제외 (양 끝에 걸친 회차도 포함)
+		LocalDateTime from = LocalDateTime.of(2027, 4, 1, 11, 0);
+		List<Recurrence.Occurrence> occurrences = recurrence.between(
+			from, from.plusDays(2), Set.of(LocalDate.of(2027, 4, 2)));
+
+		// then
+		assertThat(occurrences)
+			.extracting(Recurrence.Occurrence::date)
+			.containsExactly(LocalDate.of(2027, 4, 1), LocalDate.of(2027, 4, 3));
+		assertThat(occurrences.get(0).startAt()).isEqualTo(LocalDateTime.of(2027, 4, 1, 10, 0));
+	}
+
+	@Test
+	void 이미_잡힌_구간과_겹치는_회차_날짜만_찾음() {
+		// given : 10/5 ~ 10/9 매일 10-12시
+		Recurrence recurrence = Recurrence.of(SeriesFrequency.DAILY, 1, FIRST, FIRST.plusHours(2), 5, null);
+		List<Recurrence.Occurrence> candidates = recurrence.between(FIRST, recurrence.lastEnd(), Set.of());
+		List<Recurrence.Occurrence> busy = List.of(
+			busy(LocalDateTime.of(2026, 10, 5, 12, 0), 1),  // 끝나자마자 시작 -> 안 겹침
+			busy(LocalDateTime.of(2026, 10, 6, 9, 0), 2),   // 11시까지 -> 겹침
+			busy(LocalDateTime.of(2026, 10, 6, 11, 30), 1), // 같은 날 또 겹침 -> 한 번만
+			busy(LocalDateTime.of(2026, 10, 8, 8, 0), 2)    // 10시에 끝남 -> 안 겹침
+		);
+
+		// when
+		List<LocalDate> conflicts = Recurrence.conflicts(candidates, busy);
+
+		// then
+		assertThat(conflicts).containsExactly(LocalDate.of(2026, 10, 6));
+	}
+
+	@Test
+	void 하루를_넘기거나_횟수와_날짜를_둘다_주면_실패() {
+		// when & then
+		assertThatThrownBy(() -> Recurrence.of(SeriesFrequency.DAILY, 1, FIRST, FIRST.plusHours(20), 3, null))
+			.isInstanceOf(ReservationException.class)
+			.extracting("exceptionCode")
+			.isEqualTo(ExceptionCode.INVALID_TIME_RANGE);
+		assertThatThrownBy(() -> Recurrence.of(SeriesFrequency.DAILY, 1, FIRST, FIRST.plusHours(2), 3, LocalDate.of(2026, 10, 9)))
+			.isInstanceOf(ReservationException.class)
+			.extracting("exceptionCode")
+			.isEqualTo(ExceptionCode.INVALID_RECURRENCE);
+	}
+
+	private Recurrence.Occurrence busy(LocalDateTime start, int hours) {
+		return new Recurrence.Occurrence(start.toLocalDate(), start, start.plusHours(hours));
+	}
+}
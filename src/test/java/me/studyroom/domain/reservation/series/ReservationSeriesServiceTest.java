@@ -0,0 +1,212 @@
+package me.studyroom.domain.reservation.series;
+
+import me.studyroom.domain.outbox.OutboxEventRepository;
+import me.studyroom.domain.reservation.Reservation;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.ReservationStatus;
+import me.studyroom.domain.reservation.dto.ReservationSeriesResponse;
+import me.studyroom.domain.reservation.service.ReservationService;
+import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.studyRoom.StudyRoomRepository;
+import me.studyroom.domain.user.User;
+import me.studyroom.domain.user.UserRepository;
+import me.studyroom.domain.waitlist.WaitlistEntry;
+import me.studyroom.domain.waitlist.WaitlistEntryRepository;
+import me.studyroom.domain.waitlist.WaitlistStatus;
+import me.studyroom.domain.waitlist.dto.WaitlistResponse;
+import me.studyroom.domain.waitlist.service.WaitlistService;
+import me.studyroom.global.dto.request.ReservationRequest;
+import me.studyroom.global.dto.request.ReservationSeriesRequest;
+import me.studyroom.global.dto.request.WaitlistRequest;
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.ReservationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 대기 인덱스가 커밋 후에 반영되므로 @Transactional 사용 안 함
+@SpringBootTest
+public class ReservationSeriesServiceTest {
+
+	@Autowired
+	private ReservationSeriesService reservationSeriesService;
+
+	@Autowired
+	private ReservationSeriesRepository reservationSeriesRepository;
+
+	@Autowired
+	private SeriesExclusionRepository seriesExclusionRepository;
+
+	@Autowired
+	private ReservationService reservationService;
+
+	@Autowired
+	private WaitlistService waitlistService;
+
+	@Autowired
+	private WaitlistEntryRepository waitlistEntryRepository;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private StudyRoomRepository studyRoomRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@MockitoBean
+	private Clock clock;
+
+	private Long roomId;
+	private Long ownerId;
+	private Long otherId;
+	private LocalDateTime FIRST;
+
+	@BeforeEach
+	void setUp() {
+		seriesExclusionRepository.deleteAll();
+		reservationSeriesRepository.deleteAll();
+		waitlistEntryRepository.deleteAll();
+		outboxEventRepository.deleteAll();
+		reservationRepository.deleteAll();
+		studyRoomRepository.deleteAll();
+		userRepository.deleteAll();
+		waitlistService.reloadIndex();
+
+		setNow(Instant.parse("2026-10-01T00:00:00Z"));
+		// 첫 회차 : 내일 10-12시
+		FIRST = LocalDateTime.now(clock).toLocalDate().plusDays(1).atTime(10, 0);
+
+		roomId = studyRoomRepository.save(new StudyRoom("A룸", true, "테스트룸", LocalTime.MIN, LocalTime.MAX)).getId();
+		ownerId = userRepository.save(new User("owner", "owner@test.com", "1234", "01011112222")).getId();
+		otherId = userRepository.save(new User("other", "other@test.com", "1234", "01022223333")).getId();
+	}
+
+	@Test
+	void 반복_예약_회차는_다른_사용자의_예약을_막음() {
+		// given : 매일 3회
+		createDaily(3, false);
+
+		// when & then : 둘째 날 회차와 겹치면 실패, 회차가 끝난 뒤는 예약 가능
+		assertThatThrownBy(() -> reserve(otherId, FIRST.plusDays(1).plusMinutes(30), FIRST.plusDays(1).plusMinutes(90)))
+			.isInstanceOf(ReservationException.class)
+			.extracting("exceptionCode")
+			.isEqualTo(ExceptionCode.SCHEDULE_CONFLICT);
+		reserve(otherId, FIRST.plusDays(1).plusHours(2), FIRST.plusDays(1).plusHours(3));
+		assertThat(reservationRepository.count()).isEqualTo(1);
+	}
+
+	@Test
+	void 겹치는_예약이_있으면_생성_실패_skipConflicts면_그_날만_빼고_생성() {
+		// given : 다른 사용자가 둘째 날 10-11시 결제 대기 (홀드 유효)
+		reserve(otherId, FIRST.plusDays(1), FIRST.plusDays(1).plusHours(1));
+
+		// when & then
+		assertThatThrownBy(() -> createDaily(3, false))
+			.isInstanceOf(ReservationException.class)
+			.extracting("exceptionCode")
+			.isEqualTo(ExceptionCode.SCHEDULE_CONFLICT);
+		assertThat(reservationSeriesRepository.count()).isZero();
+
+		ReservationSeriesResponse.Series series = createDaily(3, true);
+		assertThat(series.excludedDates()).containsExactly(FIRST.plusDays(1).toLocalDate());
+
+		List<ReservationSeriesResponse.Occurrence> occurrences = reservationSeriesService.getOccurrences(
+			series.id(), ownerId, FIRST.toLocalDate(), FIRST.plusDays(2).toLocalDate());
+		assertThat(occurrences)
+			.extracting(ReservationSeriesResponse.Occurrence::date)
+			.containsExactly(FIRST.toLocalDate(), FIRST.plusDays(2).toLocalDate());
+	}
+
+	@Test
+	void 회차_하나를_취소하면_그_시간대_대기자가_결제대기로_전환() {
+		// given
+		ReservationSeriesResponse.Series series = createDaily(3, false);
+		WaitlistResponse.Entry entry = waitlistService.join(new WaitlistRequest.Create(
+			roomId, FIRST.plusDays(1), FIRST.plusDays(1).plusHours(2)
+		), otherId);
+
+		// when
+		reservationSeriesService.excludeOccurrence(series.id(), FIRST.plusDays(1).toLocalDate(), ownerId);
+
+		// then
+		WaitlistEntry promoted = waitlistEntryRepository.findById(entry.waitlistId()).orElseThrow();
+		assertThat(promoted.getStatus()).isEqualTo(WaitlistStatus.PROMOTED);
+		Reservation reservation = reservationRepository.findById(promoted.getReservationId()).orElseThrow();
+		assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.WAIT_PAYMENT);
+		assertThat(reservationSeriesService.getOccurrences(
+			series.id(), ownerId, FIRST.toLocalDate(), FIRST.plusDays(2).toLocalDate())).hasSize(2);
+	}
+
+	@Test
+	void 시리즈를_취소하면_남은_회차_시간대에_예약_가능() {
+		// given
+		ReservationSeriesResponse.Series series = createDaily(3, false);
+
+		// when
+		reservationSeriesService.cancel(series.id(), ownerId);
+
+		// then
+		reserve(otherId, FIRST.plusDays(2), FIRST.plusDays(2).plusHours(2));
+		assertThat(reservationSeriesRepository.findById(series.id()).orElseThrow().getStatus())
+			.isEqualTo(SeriesStatus.CANCELED);
+	}
+
+	@Test
+	void 진행_중인_시리즈가_한도면_새로_만들_수_없고_취소하면_가능() {
+		// given : 한도(5)만큼 한 주씩 떨어진 1회짜리 시리즈
+		List<ReservationSeriesResponse.Series> created = new ArrayList<>();
+		for (int week = 0; week < 5; week++) {
+			created.add(createWeekly(FIRST.plusWeeks(week)));
+		}
+
+		// when & then
+		assertThatThrownBy(() -> createWeekly(FIRST.plusWeeks(5)))
+			.isInstanceOf(ReservationException.class)
+			.extracting("exceptionCode")
+			.isEqualTo(ExceptionCode.SERIES_LIMIT_EXCEEDED);
+
+		reservationSeriesService.cancel(created.get(0).id(), ownerId);
+		createWeekly(FIRST.plusWeeks(5));
+		assertThat(reservationSeriesRepository.count()).isEqualTo(6);
+	}
+
+	private ReservationSeriesResponse.Series createWeekly(LocalDateTime startAt) {
+		return reservationSeriesService.create(new ReservationSeriesRequest.Create(
+			roomId, startAt, startAt.plusHours(2), SeriesFrequency.WEEKLY, 1, 1, null, null, false
+		), ownerId);
+	}
+
+	private ReservationSeriesResponse.Series createDaily(int count, boolean skipConflicts) {
+		return reservationSeriesService.create(new ReservationSeriesRequest.Create(
+			roomId, FIRST, FIRST.plusHours(2), SeriesFrequency.DAILY, 1, count, null, null, skipConflicts
+		), ownerId);
+	}
+
+	private void reserve(Long userId, LocalDateTime startAt, LocalDateTime endAt) {
+		reservationService.reserve(new ReservationRequest.Create(roomId, startAt, endAt), userId);
+	}
+
+	private void setNow(Instant instant) {
+		Mockito.when(clock.instant()).thenReturn(instant);
+		Mockito.when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+	}
+}
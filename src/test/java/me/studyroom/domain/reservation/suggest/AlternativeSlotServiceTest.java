@@ -0,0 +1,167 @@
+package me.studyroom.domain.reservation.suggest;
+
+import me.studyroom.domain.outbox.OutboxEventRepository;
+import me.studyroom.domain.payment.PaymentRepository;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.schedule.RoomScheduleService;
+import me.studyroom.domain.reservation.series.ReservationSeriesRepository;
+import me.studyroom.domain.reservation.series.SeriesExclusionRepository;
+import me.studyroom.domain.reservation.service.ReservationFacade;
+import me.studyroom.domain.reservation.service.ReservationService;
+import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.studyRoom.StudyRoomRepository;
+import me.studyroom.domain.studyRoom.search.RoomSearchService;
+import me.studyroom.domain.user.User;
+import me.studyroom.domain.user.UserRepository;
+import me.studyroom.domain.waitlist.WaitlistEntryRepository;
+import me.studyroom.global.dto.request.ReservationRequest;
+import me.studyroom.global.exception.ScheduleConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 인덱스는 커밋 후에 반영되므로 @Transactional 사용 안 함
+@SpringBootTest(properties = {
+	"studyroom.schedule.dir=build/suggest-test",
+	"studyroom.suggest.count=2"
+})
+public class AlternativeSlotServiceTest {
+
+	@Autowired
+	private ReservationFacade reservationFacade;
+
+	@Autowired
+	private ReservationService reservationService;
+
+	@Autowired
+	private RoomScheduleService roomScheduleService;
+
+	@Autowired
+	private RoomSearchService roomSearchService;
+
+	@Autowired
+	private ReservationSeriesRepository reservationSeriesRepository;
+
+	@Autowired
+	private SeriesExclusionRepository seriesExclusionRepository;
+
+	@Autowired
+	private WaitlistEntryRepository waitlistEntryRepository;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private PaymentRepository paymentRepository;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private StudyRoomRepository studyRoomRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@MockitoBean
+	private Clock clock;
+
+	private Long roomId;
+	private Long similarRoomId;
+	private Long ownerId;
+	private Long userId;
+	private LocalDateTime TOMORROW;
+
+	@BeforeEach
+	void setUp() {
+		seriesExclusionRepository.deleteAll();
+		reservationSeriesRepository.deleteAll();
+		waitlistEntryRepository.deleteAll();
+		paymentRepository.deleteAll();
+		outboxEventRepository.deleteAll();
+		reservationRepository.deleteAll();
+		studyRoomRepository.deleteAll();
+		userRepository.deleteAll();
+
+		setNow(Instant.parse("2026-10-01T00:00:00Z"));
+		TOMORROW = LocalDateTime.now(clock).toLocalDate().plusDays(1).atStartOfDay();
+		roomScheduleService.warmStart();
+
+		roomId = saveRoom("A룸", 4, true);
+		similarRoomId = saveRoom("A2룸", 6, true);
+		// 프로젝터가 없으니 대안 방이 아님
+		saveRoom("B룸", 8, false);
+		roomSearchService.reloadAll();
+
+		ownerId = userRepository.save(new User("owner", "owner@test.com", "1234", "01011112222")).getId();
+		userId = userRepository.save(new User("user", "user@test.com", "1234", "01022223333")).getId();
+	}
+
+	@Test
+	void 결제_대기와_겹치면_가까운_빈_시간을_같이_돌려줌() {
+		// given : A룸 14-16시 결제 대기 (홀드)
+		reservationService.reserve(new ReservationRequest.Create(
+			roomId, TOMORROW.plusHours(14), TOMORROW.plusHours(16)), ownerId);
+
+		// when & then
+		assertThatThrownBy(() -> reserve(14, 16))
+			.isInstanceOfSatisfying(ScheduleConflictException.class, e -> assertThat(e.getAlternatives()).containsExactly(
+				alternative(roomId, "A룸", 12, 14),
+				alternative(roomId, "A룸", 16, 18),
+				alternative(similarRoomId, "A2룸", 14, 16)
+			));
+	}
+
+	@Test
+	void 확정_예약과_겹쳐도_같은_방_앞뒤와_비슷한_방을_제안() {
+		// given : A룸 13-15시 확정 -> 확정 구간 인덱스에 반영
+		reservationService.reserve(new ReservationRequest.Create(
+			roomId, TOMORROW.plusHours(13), TOMORROW.plusHours(15)), ownerId);
+		Long reservationId = reservationRepository.findAll().get(0).getId();
+		reservationService.confirmPayment(reservationId, ownerId);
+		setNow(Instant.parse("2026-10-01T00:00:05Z"));
+		roomScheduleService.sync();
+
+		// when & then : 14-16시 요청 -> 15-17시 (1시간 차이), 11-13시 (3시간 차이)
+		assertThatThrownBy(() -> reserve(14, 16))
+			.isInstanceOfSatisfying(ScheduleConflictException.class, e -> assertThat(e.getAlternatives()).containsExactly(
+				alternative(roomId, "A룸", 15, 17),
+				alternative(roomId, "A룸", 11, 13),
+				alternative(similarRoomId, "A2룸", 14, 16)
+			));
+	}
+
+	private void reserve(int startHour, int endHour) {
+		reservationFacade.reserve(new ReservationRequest.Create(
+			roomId, TOMORROW.plusHours(startHour), TOMORROW.plusHours(endHour)), null, userId);
+	}
+
+	private ScheduleConflictException.Alternative alternative(Long studyRoomId, String name, int startHour, int endHour) {
+		return new ScheduleConflictException.Alternative(
+			studyRoomId, name, TOMORROW.plusHours(startHour), TOMORROW.plusHours(endHour));
+	}
+
+	private Long saveRoom(String name, int capacity, boolean projector) {
+		StudyRoom room = new StudyRoom(name, true, "테스트룸", LocalTime.MIN, LocalTime.MAX);
+		room.changeAttributes(capacity, 1, false, projector, false);
+		return studyRoomRepository.save(room).getId();
+	}
+
+	private void setNow(Instant instant) {
+		Mockito.when(clock.instant()).thenReturn(instant);
+		Mockito.when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+	}
+}
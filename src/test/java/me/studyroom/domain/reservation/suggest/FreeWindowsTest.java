@@ -0,0 +1,59 @@
+package me.studyroom.domain.reservation.suggest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FreeWindowsTest {
+
+	private static final int[] ALL_DAY = {0, 1440};
+
+	@Test
+	void 빈_구간마다_요청_시작에_가장_가까운_시작_하나씩() {
+		// given : 14-16시 잡힘, 14시부터 2시간 요청
+		List<int[]> busy = List.<int[]>of(new int[]{840, 960});
+
+		// when
+		List<Integer> starts = FreeWindows.nearestStarts(ALL_DAY, busy, 120, 840, 0);
+
+		// then : 12시 (앞 구간의 마지막), 16시 (뒤 구간의 처음)
+		assertThat(starts).containsExactly(720, 960);
+	}
+
+	@Test
+	void 겹치거나_순서가_뒤섞인_busy_도_합쳐서_봄() {
+		// given : 10-12, 11-13, 15-16 (순서 섞임)
+		List<int[]> busy = List.of(new int[]{900, 960}, new int[]{660, 780}, new int[]{600, 720});
+
+		// when
+		List<Integer> starts = FreeWindows.nearestStarts(ALL_DAY, busy, 120, 660, 0);
+
+		// then : 0-10시 구간 -> 8시, 13-15시 구간 -> 13시, 16시 이후 -> 16시
+		assertThat(starts).containsExactly(480, 780, 960);
+	}
+
+	@Test
+	void 짧은_빈_구간과_영업_시간_밖은_건너뜀() {
+		// given : 9-12, 13-18시 영업, 13-17시 잡힘
+		int[] open = {540, 720, 780, 1080};
+		List<int[]> busy = List.<int[]>of(new int[]{780, 1020});
+
+		// when
+		List<Integer> starts = FreeWindows.nearestStarts(open, busy, 120, 840, 0);
+
+		// then : 17-18시는 1시간뿐, 9-12시 구간에서 14시에 가장 가까운 건 10시
+		assertThat(starts).containsExactly(600);
+	}
+
+	@Test
+	void 지금_이전과_자정_종료는_제외() {
+		// when : 지금 20시, 3시간 요청
+		List<Integer> starts = FreeWindows.nearestStarts(ALL_DAY, List.of(), 180, 600, 1200);
+
+		// then : 20-23시까지는 되지만 21-24시는 날짜가 넘어가서 안 됨
+		assertThat(starts).containsExactly(1200);
+		assertThat(FreeWindows.nearestStarts(ALL_DAY, List.of(), 240, 600, 1200)).isEmpty();
+	}
+}
@@ -0,0 +1,223 @@
+package me.studyroom.domain.stats;
+
+import me.studyroom.domain.outbox.OutboxCursorRepository;
+import me.studyroom.domain.outbox.OutboxEvent;
+import me.studyroom.domain.outbox.OutboxEventRepository;
+import me.studyroom.domain.outbox.OutboxProcessedEventRepository;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.service.ReservationService;
+import me.studyroom.domain.stats.dto.RoomStatsResponse;
+import me.studyroom.domain.stats.service.RoomStatsService;
+import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.studyRoom.StudyRoomRepository;
+import me.studyroom.domain.studyRoom.calendar.RoomCalendarService;
+import me.studyroom.domain.studyRoom.calendar.RoomWeekdayHoursRepository;
+import me.studyroom.domain.user.User;
+import me.studyroom.domain.user.UserRepository;
+import me.studyroom.global.dto.request.CalendarRequest;
+import me.studyroom.global.dto.request.ReservationRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 백그라운드 디스패처와 겹치지 않게 settle 대기 시간을 길게 두고 직접 apply 호출
+@SpringBootTest(properties = "studyroom.outbox.settle-millis=3600000")
+public class RoomStatsServiceTest {
+
+	@Autowired
+	private RoomStatsService roomStatsService;
+
+	@Autowired
+	private ReservationService reservationService;
+
+	@Autowired
+	private RoomDailyStatRepository roomDailyStatRepository;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private OutboxCursorRepository outboxCursorRepository;
+
+	@Autowired
+	private OutboxProcessedEventRepository outboxProcessedEventRepository;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private StudyRoomRepository studyRoomRepository;
+
+	@Autowired
+	private RoomWeekdayHoursRepository roomWeekdayHoursRepository;
+
+	@Autowired
+	private RoomCalendarService roomCalendarService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@MockitoBean
+	private Clock clock;
+
+	private Long studyRoomId;
+	private Long userId;
+	private LocalDateTime BASE_TIME;
+
+	@BeforeEach
+	void setUp() {
+		roomDailyStatRepository.deleteAll();
+		outboxCursorRepository.deleteAll();
+		outboxProcessedEventRepository.deleteAll();
+		outboxEventRepository.deleteAll();
+		reservationRepository.deleteAll();
+		roomWeekdayHoursRepository.deleteAll();
+		studyRoomRepository.deleteAll();
+		userRepository.deleteAll();
+
+		Mockito.when(clock.instant()).thenReturn(Instant.parse("2026-10-01T00:00:00Z"));
+		Mockito.when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+
+		BASE_TIME = LocalDateTime.now(clock).truncatedTo(ChronoUnit.HOURS);
+
+		StudyRoom studyRoom = new StudyRoom("A룸", true, "테스트룸", LocalTime.MIN, LocalTime.MAX);
+		studyRoomRepository.save(studyRoom);
+		studyRoomId = studyRoom.getId();
+
+		User user = new User("user1", "u1@test.com", "1234", "01011112222");
+		userRepository.save(user);
+		userId = user.getId();
+	}
+
+	@Test
+	void 이벤트를_반영하면_일별_집계가_갱신됨() {
+		// given
+		reserveAndConfirm();
+
+		// when
+		outboxEventRepository.findAll().forEach(roomStatsService::apply);
+
+		// then
+		RoomDailyStat stat = statOfBaseDay();
+		assertThat(stat.getReservedCount()).isEqualTo(1);
+		assertThat(stat.getConfirmedCount()).isEqualTo(1);
+		assertThat(stat.getBookedMinutes()).isEqualTo(120);
+		assertThat(stat.getHourlyMinutesArray()[BASE_TIME.plusHours(1).getHour()]).isEqualTo(60);
+	}
+
+	@Test
+	void 같은_이벤트가_다시_전달돼도_한번만_반영() {
+		// given
+		reserveAndConfirm();
+		List<OutboxEvent> events = outboxEventRepository.findAll();
+
+		// when
+		events.forEach(roomStatsService::apply);
+		events.forEach(roomStatsService::apply);
+
+		// then
+		RoomDailyStat stat = statOfBaseDay();
+		assertThat(stat.getReservedCount()).isEqualTo(1);
+		assertThat(stat.getConfirmedCount()).isEqualTo(1);
+		assertThat(stat.getBookedMinutes()).isEqualTo(120);
+	}
+
+	@Test
+	void 늦게_커밋된_작은_id_이벤트도_반영() {
+		// given : RESERVED(N) 가 CONFIRMED(N+1) 보다 늦게 커밋돼서 나중에 전달된 상황
+		reserveAndConfirm();
+		List<OutboxEvent> events = outboxEventRepository.findAll(Sort.by("id"));
+
+		// when
+		roomStatsService.apply(events.get(1));
+		roomStatsService.apply(events.get(0));
+
+		// then
+		RoomDailyStat stat = statOfBaseDay();
+		assertThat(stat.getReservedCount()).isEqualTo(1);
+		assertThat(stat.getConfirmedCount()).isEqualTo(1);
+		assertThat(stat.getBookedMinutes()).isEqualTo(120);
+	}
+
+	@Test
+	void 확정_예약_취소시_점유시간_차감() {
+		// given
+		Long reservationId = reserveAndConfirm();
+		reservationService.cancel(reservationId, new ReservationRequest.Delete("1234"), userId);
+
+		// when
+		outboxEventRepository.findAll().forEach(roomStatsService::apply);
+
+		// then
+		RoomDailyStat stat = statOfBaseDay();
+		assertThat(stat.getCanceledCount()).isEqualTo(1);
+		assertThat(stat.getConfirmedCount()).isZero();
+		assertThat(stat.getBookedMinutes()).isZero();
+	}
+
+	@Test
+	void 점유율은_그날_운영_달력_기준() {
+		// given : 이 요일만 0시 ~ 12시 운영 (기본 운영 시간은 하루 전체)
+		LocalDate date = BASE_TIME.plusHours(1).toLocalDate();
+		roomCalendarService.replaceWeekdayHours(studyRoomId, new CalendarRequest.Weekdays(List.of(
+			new CalendarRequest.WeekdayHours(date.getDayOfWeek(), false, LocalTime.MIDNIGHT, LocalTime.NOON))));
+		reserveAndConfirm();
+		outboxEventRepository.findAll().forEach(roomStatsService::apply);
+
+		// when
+		RoomStatsResponse.Summary summary = roomStatsService.stats(studyRoomId, date, date);
+
+		// then : 120분 / 720분
+		assertThat(summary.daily().get(0).occupancy()).isEqualTo(120.0 / 720);
+		assertThat(summary.weekly().get(0).occupancy()).isEqualTo(120.0 / 720);
+	}
+
+	@Test
+	void 재계산_결과가_증분_반영과_같음() {
+		// given
+		reserveAndConfirm();
+		outboxEventRepository.findAll().forEach(roomStatsService::apply);
+		LocalDate date = BASE_TIME.plusHours(1).toLocalDate();
+		RoomStatsResponse.Summary incremental = roomStatsService.stats(studyRoomId, date, date);
+
+		// when
+		RoomStatsResponse.Rebuild result = roomStatsService.rebuild();
+
+		// then : 커서는 스캔과 같은 스냅샷의 마지막 이벤트
+		assertThat(result.lastEventId()).isEqualTo(outboxEventRepository.findMaxId());
+		RoomStatsResponse.Summary rebuilt = roomStatsService.stats(studyRoomId, date, date);
+		assertThat(rebuilt.daily()).isEqualTo(incremental.daily());
+		assertThat(rebuilt.heatmap()).isDeepEqualTo(incremental.heatmap());
+	}
+
+	private Long reserveAndConfirm() {
+		reservationService.reserve(new ReservationRequest.Create(
+			studyRoomId,
+			BASE_TIME.plusHours(1),
+			BASE_TIME.plusHours(3)
+		), userId);
+		Long reservationId = reservationRepository.findAll().get(0).getId();
+		reservationService.confirmPayment(reservationId, userId);
+		return reservationId;
+	}
+
+	private RoomDailyStat statOfBaseDay() {
+		LocalDate date = BASE_TIME.plusHours(1).toLocalDate();
+		return roomDailyStatRepository.findByStudyRoomIdAndStatDate(studyRoomId, date).orElseThrow();
+	}
+}
@@ -0,0 +1,141 @@
+package me.studyroom.domain.studyRoom;
+
+import me.studyroom.domain.outbox.OutboxEvent;
+import me.studyroom.domain.outbox.OutboxEventRepository;
+import me.studyroom.domain.outbox.OutboxEventType;
+import me.studyroom.domain.reservation.Reservation;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.ReservationStatus;
+import me.studyroom.domain.reservation.service.ReservationService;
+import me.studyroom.domain.studyRoom.dto.StudyRoomResponse;
+import me.studyroom.domain.studyRoom.service.StudyRoomBulkService;
+import me.studyroom.domain.user.User;
+import me.studyroom.domain.user.UserRepository;
+import me.studyroom.global.dto.request.ReservationRequest;
+import me.studyroom.global.exception.StudyRoomException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+
+// 배치마다 트랜잭션을 나눠 커밋하므로 @Transactional 사용 안 함
+@SpringBootTest
+public class StudyRoomBulkServiceTest {
+
+	@Autowired
+	private StudyRoomBulkService studyRoomBulkService;
+
+	@Autowired
+	private ReservationService reservationService;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private StudyRoomRepository studyRoomRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@MockitoBean
+	private Clock clock;
+
+	private Long roomAId;
+	private Long roomBId;
+	private Long userId;
+	private LocalDateTime BASE_TIME;
+
+	@BeforeEach
+	void setUp() {
+		outboxEventRepository.deleteAll();
+		reservationRepository.deleteAll();
+		studyRoomRepository.deleteAll();
+		userRepository.deleteAll();
+
+		Mockito.when(clock.instant()).thenReturn(Instant.parse("2026-10-01T00:00:00Z"));
+		Mockito.when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+
+		BASE_TIME = LocalDateTime.now(clock);
+
+		StudyRoom roomA = studyRoomRepository.save(new StudyRoom("A룸", true, "테스트룸", LocalTime.MIN, LocalTime.MAX));
+		StudyRoom roomB = studyRoomRepository.save(new StudyRoom("B룸", true, "테스트룸", LocalTime.MIN, LocalTime.MAX));
+		roomAId = roomA.getId();
+		roomBId = roomB.getId();
+
+		User user = userRepository.save(new User("user1", "u1@test.com", "1234", "01011112222"));
+		userId = user.getId();
+	}
+
+	@Test
+	void 일괄_비활성화시_해당_방의_앞으로의_예약만_취소() {
+		// given
+		reserve(roomAId, 1);
+		reserve(roomAId, 3);
+		reserve(roomBId, 1);
+		Long confirmedId = reservationRepository.findAll().get(0).getId();
+		reservationService.confirmPayment(confirmedId, userId);
+		outboxEventRepository.deleteAll();
+
+		// when
+		StudyRoomResponse.BulkResult result = studyRoomBulkService.disable(List.of(roomAId, 999_999L));
+
+		// then
+		assertThat(result.changedRooms()).isEqualTo(1);
+		assertThat(result.notFoundRoomIds()).containsExactly(999_999L);
+		assertThat(result.canceledReservations()).isEqualTo(2);
+
+		assertThat(reservationRepository.findAll())
+			.extracting(reservation -> reservation.getStudyRoom().getId(), Reservation::getStatus)
+			.containsExactlyInAnyOrder(
+				tuple(roomAId, ReservationStatus.CANCELED),
+				tuple(roomAId, ReservationStatus.CANCELED),
+				tuple(roomBId, ReservationStatus.WAIT_PAYMENT)
+			);
+
+		// 확정이었던 예약은 previous_status로 남아야 통계에서 차감 가능
+		assertThat(outboxEventRepository.findAll())
+			.extracting(OutboxEvent::getEventType, OutboxEvent::getPreviousStatus)
+			.containsExactlyInAnyOrder(
+				tuple(OutboxEventType.CANCELED, ReservationStatus.CONFIRMED),
+				tuple(OutboxEventType.CANCELED, ReservationStatus.WAIT_PAYMENT)
+			);
+
+		assertThatThrownBy(() -> reserve(roomAId, 5))
+			.isInstanceOf(StudyRoomException.class);
+	}
+
+	@Test
+	void 이미_같은_상태인_방은_변경_수에서_제외() {
+		// when
+		StudyRoomResponse.BulkResult result = studyRoomBulkService.enable(List.of(roomAId, roomBId));
+
+		// then
+		assertThat(result.requestedRooms()).isEqualTo(2);
+		assertThat(result.changedRooms()).isZero();
+		assertThat(result.canceledReservations()).isZero();
+	}
+
+	private void reserve(Long studyRoomId, int hoursLater) {
+		reservationService.reserve(new ReservationRequest.Create(
+			studyRoomId,
+			BASE_TIME.plusHours(hoursLater),
+			BASE_TIME.plusHours(hoursLater + 1)
+		), userId);
+	}
+}
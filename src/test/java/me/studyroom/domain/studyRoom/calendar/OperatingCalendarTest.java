@@ -0,0 +1,150 @@
+package me.studyroom.domain.studyRoom.calendar;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 스프링 없이 컴파일 결과만 검증
+public class OperatingCalendarTest {
+
+	// 2026-10-05 : 월요일
+	private static final LocalDate MONDAY = LocalDate.of(2026, 10, 5);
+	private static final LocalTime OPEN = LocalTime.of(9, 0);
+	private static final LocalTime CLOSE = LocalTime.of(22, 0);
+
+	@Test
+	void 요일_설정이_없으면_기본_운영_시간() {
+		// given
+		OperatingCalendar calendar = OperatingCalendar.compile(rules(Map.of(), List.of()), MONDAY, 14);
+
+		// when & then
+		assertThat(calendar.isOpen(at(MONDAY, 9, 0), at(MONDAY, 22, 0))).isTrue();
+		assertThat(calendar.isOpen(at(MONDAY, 8, 59), at(MONDAY, 10, 0))).isFalse();
+		assertThat(calendar.isOpen(at(MONDAY, 21, 0), at(MONDAY, 22, 1))).isFalse();
+		assertThat(calendar.openMinutes(MONDAY)).isEqualTo(13 * 60);
+	}
+
+	@Test
+	void 요일별_운영_시간과_휴무() {
+		// given : 토요일 10~18시, 일요일 휴무
+		Map<DayOfWeek, OperatingRules.DayHours> weekdays = Map.of(
+			DayOfWeek.SATURDAY, new OperatingRules.DayHours(false, LocalTime.of(10, 0), LocalTime.of(18, 0)),
+			DayOfWeek.SUNDAY, new OperatingRules.DayHours(true, null, null)
+		);
+		OperatingCalendar calendar = OperatingCalendar.compile(rules(weekdays, List.of()), MONDAY, 14);
+		LocalDate saturday = MONDAY.plusDays(5);
+		LocalDate sunday = MONDAY.plusDays(6);
+
+		// when & then
+		assertThat(calendar.isOpen(at(saturday, 10, 0), at(saturday, 18, 0))).isTrue();
+		assertThat(calendar.isOpen(at(saturday, 9, 0), at(saturday, 10, 0))).isFalse();
+		assertThat(calendar.isOpen(at(sunday, 12, 0), at(sunday, 13, 0))).isFalse();
+		assertThat(calendar.openRanges(sunday)).isEmpty();
+		assertThat(calendar.isOpen(at(MONDAY, 9, 0), at(MONDAY, 10, 0))).isTrue();
+	}
+
+	@Test
+	void 점검_휴관은_영업_구간을_쪼갠다() {
+		// given : 월요일 12~14시 점검
+		OperatingRules.Closure maintenance = new OperatingRules.Closure(1L, at(MONDAY, 12, 0), at(MONDAY, 14, 0));
+		OperatingCalendar calendar = OperatingCalendar.compile(rules(Map.of(), List.of(maintenance)), MONDAY, 14);
+
+		// when & then
+		assertThat(calendar.openRanges(MONDAY)).containsExactly(9 * 60, 12 * 60, 14 * 60, 22 * 60);
+		assertThat(calendar.isOpen(at(MONDAY, 10, 0), at(MONDAY, 12, 0))).isTrue();
+		assertThat(calendar.isOpen(at(MONDAY, 11, 0), at(MONDAY, 13, 0))).isFalse();
+		assertThat(calendar.isOpen(at(MONDAY, 14, 0), at(MONDAY, 15, 0))).isTrue();
+	}
+
+	@Test
+	void 여러_날에_걸친_휴관() {
+		// given : 화요일 20시 ~ 목요일 10시
+		OperatingRules.Closure closure = new OperatingRules.Closure(
+			1L, at(MONDAY.plusDays(1), 20, 0), at(MONDAY.plusDays(3), 10, 0));
+		OperatingCalendar calendar = OperatingCalendar.compile(rules(Map.of(), List.of(closure)), MONDAY, 14);
+
+		// when & then
+		assertThat(calendar.openRanges(MONDAY.plusDays(1))).containsExactly(9 * 60, 20 * 60);
+		assertThat(calendar.openRanges(MONDAY.plusDays(2))).isEmpty();
+		assertThat(calendar.openRanges(MONDAY.plusDays(3))).containsExactly(10 * 60, 22 * 60);
+	}
+
+	@Test
+	void 휴관_추가는_해당_날짜만_다시_계산() {
+		// given
+		OperatingCalendar before = OperatingCalendar.compile(rules(Map.of(), List.of()), MONDAY, 14);
+		OperatingRules.Closure holiday = new OperatingRules.Closure(
+			7L, MONDAY.plusDays(2).atStartOfDay(), MONDAY.plusDays(3).atStartOfDay());
+
+		// when
+		OperatingCalendar after = before.recompile(
+			before.rules().withClosure(holiday), MONDAY.plusDays(2), MONDAY.plusDays(2));
+
+		// then
+		assertThat(after.openRanges(MONDAY.plusDays(2))).isEmpty();
+		assertThat(after.openRanges(MONDAY.plusDays(1))).containsExactly(9 * 60, 22 * 60);
+		assertThat(after.openRanges(MONDAY.plusDays(3))).containsExactly(9 * 60, 22 * 60);
+
+		// 다시 지우면 원래대로
+		OperatingCalendar restored = after.recompile(
+			after.rules().withoutClosure(7L), MONDAY.plusDays(2), MONDAY.plusDays(2));
+		assertThat(restored.openRanges(MONDAY.plusDays(2))).containsExactly(9 * 60, 22 * 60);
+	}
+
+	@Test
+	void 기간_밖은_규칙으로_바로_계산() {
+		// given : 7일만 컴파일, 일요일 휴무
+		Map<DayOfWeek, OperatingRules.DayHours> weekdays = Map.of(
+			DayOfWeek.SUNDAY, new OperatingRules.DayHours(true, null, null));
+		OperatingCalendar calendar = OperatingCalendar.compile(rules(weekdays, List.of()), MONDAY, 7);
+		LocalDate farSunday = MONDAY.plusDays(62);
+		LocalDate pastMonday = MONDAY.minusDays(7);
+
+		// when & then
+		assertThat(calendar.isOpen(at(farSunday, 10, 0), at(farSunday, 11, 0))).isFalse();
+		assertThat(calendar.isOpen(at(pastMonday, 10, 0), at(pastMonday, 11, 0))).isTrue();
+	}
+
+	@Test
+	void 날짜를_넘기는_요청은_거절() {
+		// given
+		OperatingCalendar calendar = OperatingCalendar.compile(
+			new OperatingRules(LocalTime.MIN, LocalTime.MAX, Map.of(), List.of()), MONDAY, 14);
+
+		// when & then
+		assertThat(calendar.isOpen(at(MONDAY, 23, 0), at(MONDAY.plusDays(1), 1, 0))).isFalse();
+	}
+
+	@Test
+	void 종료가_LocalTime_MAX면_자정_직전까지_예약_가능() {
+		// given : 24시간 방, 토요일만 10시 ~ 자정
+		Map<DayOfWeek, OperatingRules.DayHours> weekdays = Map.of(
+			DayOfWeek.SATURDAY, new OperatingRules.DayHours(false, LocalTime.of(10, 0), LocalTime.MAX));
+		OperatingCalendar calendar = OperatingCalendar.compile(
+			new OperatingRules(LocalTime.MIN, LocalTime.MAX, weekdays, List.of()), MONDAY, 14);
+		LocalDate saturday = MONDAY.plusDays(5);
+
+		// when & then
+		assertThat(calendar.openRanges(MONDAY)).containsExactly(0, OperatingRules.MINUTES_PER_DAY);
+		assertThat(calendar.openRanges(saturday)).containsExactly(10 * 60, OperatingRules.MINUTES_PER_DAY);
+		assertThat(calendar.isOpen(at(MONDAY, 23, 0), MONDAY.atTime(LocalTime.MAX))).isTrue();
+		assertThat(calendar.isOpen(at(saturday, 23, 30), saturday.atTime(LocalTime.MAX))).isTrue();
+		assertThat(calendar.openMinutes(MONDAY)).isEqualTo(24 * 60);
+	}
+
+	private static OperatingRules rules(Map<DayOfWeek, OperatingRules.DayHours> weekdays,
+																			List<OperatingRules.Closure> closures) {
+		return new OperatingRules(OPEN, CLOSE, weekdays, closures);
+	}
+
+	private static LocalDateTime at(LocalDate date, int hour, int minute) {
+		return date.atTime(hour, minute);
+	}
+}
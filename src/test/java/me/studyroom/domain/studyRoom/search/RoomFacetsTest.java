@@ -0,0 +1,72 @@
+package me.studyroom.domain.studyRoom.search;
+
+import me.studyroom.domain.studyRoom.dto.StudyRoomResponse;
+import me.studyroom.global.dto.request.StudyRoomRequest;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RoomFacetsTest {
+
+	private final RoomFacets facets = RoomFacets.of(List.of(
+		room(1L, "B룸", true, 2, 1, false, false, true),
+		room(2L, "A룸", true, 4, 3, false, true, false),
+		room(3L, "A2룸", true, 6, 3, true, true, false),
+		room(4L, "A3룸", false, 8, 3, true, true, false),
+		room(5L, "Ab룸", true, 4, 2, true, false, true)
+	));
+
+	@Test
+	void 조건은_비트셋_AND_로_좁히고_결과는_이름_순() {
+		// when
+		List<Long> rooms = ids(search(null, 4, null, null, true, null));
+
+		// then : 비활성화된 A3룸 제외
+		assertThat(rooms).containsExactly(3L, 2L);
+	}
+
+	@Test
+	void 인원은_이상_조건이고_없는_값도_그_위를_찾음() {
+		// when & then
+		assertThat(ids(search(null, 5, null, null, null, null))).containsExactly(3L);
+		assertThat(ids(search(null, 3, null, null, null, null))).containsExactly(3L, 5L, 2L);
+		assertThat(ids(search(null, 9, null, null, null, null))).isEmpty();
+	}
+
+	@Test
+	void 이름은_대소문자_없이_접두어로_찾음() {
+		// when & then
+		assertThat(ids(search("a", null, null, null, null, null))).containsExactly(3L, 5L, 2L);
+		assertThat(ids(search("AB", null, null, null, null, null))).containsExactly(5L);
+		assertThat(ids(search("a룸", null, null, null, null, null))).containsExactly(2L);
+		assertThat(ids(search("C", null, null, null, null, null))).isEmpty();
+	}
+
+	@Test
+	void 시설을_false_로_주면_없는_방만_층은_값이_같은_방만() {
+		// when & then
+		assertThat(ids(search(null, null, 3, false, null, null))).containsExactly(2L);
+		assertThat(ids(search(null, null, 7, null, null, null))).isEmpty();
+		assertThat(ids(search(null, null, null, null, null, true))).containsExactly(5L, 1L);
+	}
+
+	private BitSet search(String name, Integer minCapacity, Integer floor,
+												Boolean whiteboard, Boolean projector, Boolean quietZone) {
+		return facets.match(new StudyRoomRequest.Search(
+			name, minCapacity, floor, whiteboard, projector, quietZone, null, null, null));
+	}
+
+	private List<Long> ids(BitSet matched) {
+		return matched.stream().mapToObj(i -> facets.room(i).id()).toList();
+	}
+
+	private static StudyRoomResponse.Detail room(Long id, String name, boolean available, int capacity, int floor,
+																							 boolean whiteboard, boolean projector, boolean quietZone) {
+		return new StudyRoomResponse.Detail(id, name, available, "설명", LocalTime.MIN, LocalTime.MAX,
+			capacity, floor, whiteboard, projector, quietZone);
+	}
+}
@@ -0,0 +1,186 @@
+package me.studyroom.domain.studyRoom.search;
+
+import me.studyroom.domain.outbox.OutboxEventRepository;
+import me.studyroom.domain.payment.PaymentRepository;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.schedule.RoomScheduleService;
+import me.studyroom.domain.reservation.series.ReservationSeriesRepository;
+import me.studyroom.domain.reservation.series.ReservationSeriesService;
+import me.studyroom.domain.reservation.series.SeriesExclusionRepository;
+import me.studyroom.domain.reservation.series.SeriesFrequency;
+import me.studyroom.domain.reservation.service.ReservationService;
+import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.studyRoom.StudyRoomRepository;
+import me.studyroom.domain.studyRoom.dto.StudyRoomResponse;
+import me.studyroom.domain.user.User;
+import me.studyroom.domain.user.UserRepository;
+import me.studyroom.domain.waitlist.WaitlistEntryRepository;
+import me.studyroom.global.dto.request.ReservationRequest;
+import me.studyroom.global.dto.request.ReservationSeriesRequest;
+import me.studyroom.global.dto.request.StudyRoomRequest;
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.StudyRoomException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 인덱스는 커밋 후에 반영되므로 @Transactional 사용 안 함
+@SpringBootTest(properties = "studyroom.schedule.dir=build/search-test")
+public class RoomSearchServiceTest {
+
+	@Autowired
+	private RoomSearchService roomSearchService;
+
+	@Autowired
+	private RoomScheduleService roomScheduleService;
+
+	@Autowired
+	private ReservationService reservationService;
+
+	@Autowired
+	private ReservationSeriesService reservationSeriesService;
+
+	@Autowired
+	private ReservationSeriesRepository reservationSeriesRepository;
+
+	@Autowired
+	private SeriesExclusionRepository seriesExclusionRepository;
+
+	@Autowired
+	private WaitlistEntryRepository waitlistEntryRepository;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private PaymentRepository paymentRepository;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private StudyRoomRepository studyRoomRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@MockitoBean
+	private Clock clock;
+
+	private Long projectorRoomId;
+	private Long largeRoomId;
+	private Long ownerId;
+	private Long searcherId;
+	private LocalDateTime TOMORROW;
+
+	@BeforeEach
+	void setUp() {
+		seriesExclusionRepository.deleteAll();
+		reservationSeriesRepository.deleteAll();
+		waitlistEntryRepository.deleteAll();
+		paymentRepository.deleteAll();
+		outboxEventRepository.deleteAll();
+		reservationRepository.deleteAll();
+		studyRoomRepository.deleteAll();
+		userRepository.deleteAll();
+
+		setNow(Instant.parse("2026-10-01T00:00:00Z"));
+		TOMORROW = LocalDateTime.now(clock).toLocalDate().plusDays(1).atStartOfDay();
+		roomScheduleService.warmStart();
+
+		projectorRoomId = saveRoom("A룸", true, 4, false, true);
+		largeRoomId = saveRoom("A2룸", true, 6, true, true);
+		saveRoom("A3룸", false, 8, true, true);
+		saveRoom("B룸", true, 2, false, false);
+		roomSearchService.reloadAll();
+
+		ownerId = userRepository.save(new User("owner", "owner@test.com", "1234", "01011112222")).getId();
+		searcherId = userRepository.save(new User("searcher", "searcher@test.com", "1234", "01022223333")).getId();
+	}
+
+	@Test
+	void 속성_조건만_주면_활성화된_방을_이름_순으로() {
+		// when
+		List<StudyRoomResponse.Detail> rooms = search(4, true, null, null);
+
+		// then : 비활성화된 A3룸, 2인실 B룸 제외
+		assertThat(rooms).extracting(StudyRoomResponse.Detail::id).containsExactly(largeRoomId, projectorRoomId);
+	}
+
+	@Test
+	void 결제_대기_확정_반복_예약과_겹치는_방은_빠짐() {
+		// given
+		// A룸 14-16시 결제 대기 (홀드)
+		reserve(projectorRoomId, 14, 16);
+		// A2룸 17-18시 확정 -> 확정 구간 인덱스에 반영
+		Long confirmedId = reserve(largeRoomId, 17, 18);
+		reservationService.confirmPayment(confirmedId, ownerId);
+		setNow(Instant.parse("2026-10-01T00:00:05Z"));
+		roomScheduleService.sync();
+		// A룸 매일 20-21시 반복 예약
+		reservationSeriesService.create(new ReservationSeriesRequest.Create(
+			projectorRoomId, TOMORROW.plusHours(20), TOMORROW.plusHours(21),
+			SeriesFrequency.DAILY, 1, 3, null, null, false
+		), ownerId);
+
+		// when & then
+		assertThat(search(4, true, 14, 16)).extracting(StudyRoomResponse.Detail::id).containsExactly(largeRoomId);
+		assertThat(search(4, true, 17, 18)).extracting(StudyRoomResponse.Detail::id).containsExactly(projectorRoomId);
+		assertThat(search(4, true, 20, 21)).extracting(StudyRoomResponse.Detail::id).containsExactly(largeRoomId);
+		assertThat(search(4, true, 11, 12)).extracting(StudyRoomResponse.Detail::id)
+			.containsExactly(largeRoomId, projectorRoomId);
+	}
+
+	@Test
+	void 시간_조건은_둘_다_주고_하루_안이어야_함() {
+		// when & then
+		assertThatThrownBy(() -> roomSearchService.search(new StudyRoomRequest.Search(
+			null, null, null, null, null, null, TOMORROW.plusHours(14), null, null), searcherId))
+			.isInstanceOf(StudyRoomException.class)
+			.extracting("exceptionCode")
+			.isEqualTo(ExceptionCode.INVALID_TIME_RANGE);
+	}
+
+	private List<StudyRoomResponse.Detail> search(Integer minCapacity, Boolean projector, Integer startHour, Integer endHour) {
+		return roomSearchService.search(new StudyRoomRequest.Search(
+			null, minCapacity, null, null, projector, null,
+			startHour == null ? null : TOMORROW.plusHours(startHour),
+			endHour == null ? null : TOMORROW.plusHours(endHour),
+			null
+		), searcherId);
+	}
+
+	private Long reserve(Long roomId, int startHour, int endHour) {
+		reservationService.reserve(new ReservationRequest.Create(
+			roomId, TOMORROW.plusHours(startHour), TOMORROW.plusHours(endHour)), ownerId);
+		return reservationRepository.findAll().stream()
+			.filter(reservation -> reservation.getStudyRoom().getId().equals(roomId))
+			.findFirst()
+			.orElseThrow()
+			.getId();
+	}
+
+	private Long saveRoom(String name, boolean available, int capacity, boolean whiteboard, boolean projector) {
+		StudyRoom room = new StudyRoom(name, available, "테스트룸", LocalTime.MIN, LocalTime.MAX);
+		room.changeAttributes(capacity, 1, whiteboard, projector, false);
+		return studyRoomRepository.save(room).getId();
+	}
+
+	private void setNow(Instant instant) {
+		Mockito.when(clock.instant()).thenReturn(instant);
+		Mockito.when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+	}
+}
@@ -0,0 +1,168 @@
+package me.studyroom.domain.user;
+
+import me.studyroom.domain.outbox.OutboxEventRepository;
+import me.studyroom.domain.payment.PaymentRepository;
+import me.studyroom.domain.reservation.Reservation;
+import me.studyroom.domain.reservation.ReservationHistory;
+import me.studyroom.domain.reservation.ReservationHistoryRepository;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.ReservationStatus;
+import me.studyroom.domain.reservation.service.ReservationService;
+import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.studyRoom.StudyRoomRepository;
+import me.studyroom.domain.user.service.UserPurgeScheduler;
+import me.studyroom.domain.user.service.UserService;
+import me.studyroom.global.dto.request.ReservationRequest;
+import me.studyroom.global.dto.request.UserRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+// 단계마다 TransactionTemplate으로 커밋하므로 @Transactional 사용 안 함
+@SpringBootTest
+public class UserPurgeSchedulerTest {
+
+	@Autowired
+	private UserPurgeScheduler userPurgeScheduler;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private ReservationService reservationService;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private ReservationHistoryRepository reservationHistoryRepository;
+
+	@Autowired
+	private PaymentRepository paymentRepository;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private StudyRoomRepository studyRoomRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@MockitoBean
+	private Clock clock;
+
+	private static final Instant BASE_INSTANT = Instant.parse("2026-10-01T00:00:00Z");
+
+	private Long studyRoomId;
+	private Long userId;
+	private Long otherUserId;
+	private LocalDateTime BASE_TIME;
+
+	@BeforeEach
+	void setUp() {
+		reservationHistoryRepository.deleteAll();
+		paymentRepository.deleteAll();
+		outboxEventRepository.deleteAll();
+		reservationRepository.deleteAll();
+		studyRoomRepository.deleteAll();
+		userRepository.deleteAll();
+
+		Mockito.when(clock.instant()).thenReturn(BASE_INSTANT);
+		Mockito.when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+
+		BASE_TIME = LocalDateTime.now(clock);
+
+		StudyRoom studyRoom = new StudyRoom("A룸", true, "테스트룸", LocalTime.MIN, LocalTime.MAX);
+		studyRoomRepository.save(studyRoom);
+		studyRoomId = studyRoom.getId();
+
+		userId = userRepository.save(new User("user1", "u1@test.com", "1234", "01011112222")).getId();
+		otherUserId = userRepository.save(new User("user2", "u2@test.com", "1234", "01033334444")).getId();
+	}
+
+	@Test
+	void 탈퇴하면_앞으로의_예약은_바로_취소되고_새벽에_익명_이력으로_옮긴_뒤_회원을_삭제() {
+		// given
+		reservationService.reserve(new ReservationRequest.Create(
+			studyRoomId, BASE_TIME.plusHours(1), BASE_TIME.plusHours(2)), userId);
+		reservationService.reserve(new ReservationRequest.Create(
+			studyRoomId, BASE_TIME.plusDays(30), BASE_TIME.plusDays(30).plusHours(1)), userId);
+		reservationService.reserve(new ReservationRequest.Create(
+			studyRoomId, BASE_TIME.plusDays(31), BASE_TIME.plusDays(31).plusHours(1)), otherUserId);
+
+		userService.leave(new UserRequest.Leave("u1@test.com", "1234"), userId);
+
+		// when : 탈퇴 직후 취소 주기
+		userPurgeScheduler.cancelDeparted();
+
+		// then
+		assertThat(reservationRepository.findAll())
+			.extracting(reservation -> reservation.getUser().getId(), Reservation::getStatus)
+			.containsExactlyInAnyOrder(
+				tuple(userId, ReservationStatus.CANCELED),
+				tuple(userId, ReservationStatus.CANCELED),
+				tuple(otherUserId, ReservationStatus.WAIT_PAYMENT)
+			);
+
+		// when : 이틀 뒤 새벽
+		Mockito.when(clock.instant()).thenReturn(BASE_INSTANT.plusSeconds(2 * 24 * 3600));
+		userPurgeScheduler.purge();
+
+		// then : 취소된 예약은 user_id 없이 이력에 남음
+		assertThat(userRepository.findById(userId)).isEmpty();
+		assertThat(reservationHistoryRepository.findAll())
+			.extracting(ReservationHistory::getStartAt, ReservationHistory::getUserId, ReservationHistory::getStatus)
+			.containsExactlyInAnyOrder(
+				tuple(BASE_TIME.plusHours(1), null, ReservationStatus.CANCELED),
+				tuple(BASE_TIME.plusDays(30), null, ReservationStatus.CANCELED)
+			);
+
+		// 다른 회원은 그대로
+		assertThat(userRepository.findById(otherUserId)).isPresent();
+		assertThat(reservationRepository.findAll())
+			.extracting(reservation -> reservation.getUser().getId())
+			.containsExactly(otherUserId);
+	}
+
+	@Test
+	void 진행_중인_예약은_옮기지_않고_회원은_다음_실행에서_삭제() {
+		// given
+		reservationService.reserve(new ReservationRequest.Create(
+			studyRoomId, BASE_TIME.plusHours(1), BASE_TIME.plusHours(2)), userId);
+		userService.leave(new UserRequest.Leave("u1@test.com", "1234"), userId);
+
+		// when : 예약 시간 중간 (시작한 예약은 취소 대상이 아님)
+		Mockito.when(clock.instant()).thenReturn(BASE_INSTANT.plusSeconds(90 * 60));
+		userPurgeScheduler.cancelDeparted();
+		userPurgeScheduler.purge();
+
+		// then : 남은 시간이 비어 보이지 않게 예약 테이블에 그대로
+		assertThat(userRepository.findById(userId)).isPresent();
+		assertThat(reservationRepository.count()).isEqualTo(1);
+		assertThat(reservationHistoryRepository.count()).isZero();
+
+		// when : 끝난 뒤 다음 실행
+		Mockito.when(clock.instant()).thenReturn(BASE_INSTANT.plusSeconds(24 * 3600));
+		userPurgeScheduler.purge();
+
+		// then
+		assertThat(userRepository.findById(userId)).isEmpty();
+		assertThat(reservationRepository.count()).isZero();
+		assertThat(reservationHistoryRepository.findAll())
+			.extracting(ReservationHistory::getUserId)
+			.containsExactly((Long) null);
+	}
+}
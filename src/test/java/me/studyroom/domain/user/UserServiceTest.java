@@ -5,6 +5,7 @@ import me.studyroom.domain.user.service.UserService;
 import me.studyroom.global.dto.request.UserRequest;
 import me.studyroom.global.exception.ExceptionCode;
 import me.studyroom.global.exception.UserException;
+import me.studyroom.security.CustomUserDetailsService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -21,6 +22,9 @@ public class UserServiceTest {
 	@Autowired
 	private UserRepository userRepository;
 
+	@Autowired
+	private CustomUserDetailsService customUserDetailsService;
+
 	@Test
 	void 유저_가입_성공() {
 		// given
@@ -62,8 +66,11 @@ public class UserServiceTest {
 		// when
 		userService.leave(leaveRequest, userId);
 
-		// then
-		assertThat(userRepository.findAll().size()).isEqualTo(0);
+		// then : 바로 지우지 않고 탈퇴 표시만 (정리는 UserPurgeScheduler), 로그인은 바로 막힘
+		assertThat(userRepository.findById(userId)).get()
+			.extracting(User::isDeleted)
+			.isEqualTo(true);
+		assertThat(customUserDetailsService.loadUserByUsername("test@naver.com").isEnabled()).isFalse();
 	}
 
 	@Test
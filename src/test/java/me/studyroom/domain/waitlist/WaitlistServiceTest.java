@@ -0,0 +1,185 @@
+package me.studyroom.domain.waitlist;
+
+import me.studyroom.domain.outbox.OutboxEventRepository;
+import me.studyroom.domain.reservation.Reservation;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.ReservationStatus;
+import me.studyroom.domain.reservation.service.ReservationExpireScheduler;
+import me.studyroom.domain.reservation.service.ReservationService;
+import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.studyRoom.StudyRoomRepository;
+import me.studyroom.domain.user.User;
+import me.studyroom.domain.user.UserRepository;
+import me.studyroom.domain.waitlist.dto.WaitlistResponse;
+import me.studyroom.domain.waitlist.service.WaitlistService;
+import me.studyroom.global.dto.request.ReservationRequest;
+import me.studyroom.global.dto.request.WaitlistRequest;
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.ReservationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 인덱스는 커밋 후에 반영되므로 @Transactional 사용 안 함
+@SpringBootTest
+public class WaitlistServiceTest {
+
+	@Autowired
+	private WaitlistService waitlistService;
+
+	@Autowired
+	private WaitlistEntryRepository waitlistEntryRepository;
+
+	@Autowired
+	private ReservationService reservationService;
+
+	@Autowired
+	private ReservationExpireScheduler reservationExpireScheduler;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private StudyRoomRepository studyRoomRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@MockitoBean
+	private Clock clock;
+
+	private Long roomId;
+	private Long ownerId;
+	private Long waiter1Id;
+	private Long waiter2Id;
+	private LocalDateTime BASE_TIME;
+
+	@BeforeEach
+	void setUp() {
+		waitlistEntryRepository.deleteAll();
+		outboxEventRepository.deleteAll();
+		reservationRepository.deleteAll();
+		studyRoomRepository.deleteAll();
+		userRepository.deleteAll();
+		waitlistService.reloadIndex();
+
+		setNow(Instant.parse("2026-10-01T00:00:00Z"));
+		BASE_TIME = LocalDateTime.now(clock);
+
+		roomId = studyRoomRepository.save(new StudyRoom("A룸", true, "테스트룸", LocalTime.MIN, LocalTime.MAX)).getId();
+		ownerId = userRepository.save(new User("owner", "owner@test.com", "1234", "01011112222")).getId();
+		waiter1Id = userRepository.save(new User("waiter1", "w1@test.com", "1234", "01022223333")).getId();
+		waiter2Id = userRepository.save(new User("waiter2", "w2@test.com", "1234", "01033334444")).getId();
+	}
+
+	@Test
+	void 확정_예약이_취소되면_먼저_등록한_대기자가_결제대기로_전환() {
+		// given
+		Long confirmedId = reserveAndConfirm(ownerId, 2, 4);
+		WaitlistResponse.Entry first = join(waiter1Id, 2, 3);
+		WaitlistResponse.Entry second = join(waiter2Id, 2, 4);
+
+		// when
+		reservationService.cancel(confirmedId, new ReservationRequest.Delete("1234"), ownerId);
+
+		// then
+		// 2-3시가 먼저 전환되고, 2-4시는 전환된 예약과 겹치므로 계속 대기
+		WaitlistEntry promoted = waitlistEntryRepository.findById(first.waitlistId()).orElseThrow();
+		assertThat(promoted.getStatus()).isEqualTo(WaitlistStatus.PROMOTED);
+		assertThat(waitlistEntryRepository.findById(second.waitlistId()).orElseThrow().getStatus())
+			.isEqualTo(WaitlistStatus.WAITING);
+
+		Reservation reservation = reservationRepository.findById(promoted.getReservationId()).orElseThrow();
+		assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.WAIT_PAYMENT);
+		assertThat(reservation.getStartAt()).isEqualTo(BASE_TIME.plusHours(2));
+		assertThat(reservation.getEndAt()).isEqualTo(BASE_TIME.plusHours(3));
+	}
+
+	@Test
+	void 전환된_예약이_결제_시간을_넘기면_다음_대기자에게_전환() {
+		// given
+		Long confirmedId = reserveAndConfirm(ownerId, 2, 4);
+		WaitlistResponse.Entry first = join(waiter1Id, 2, 4);
+		WaitlistResponse.Entry second = join(waiter2Id, 2, 4);
+		reservationService.cancel(confirmedId, new ReservationRequest.Delete("1234"), ownerId);
+
+		// when
+		setNow(Instant.parse("2026-10-01T00:11:00Z"));
+		reservationExpireScheduler.expiredWaitPayments();
+
+		// then
+		assertThat(waitlistEntryRepository.findById(first.waitlistId()).orElseThrow().getStatus())
+			.isEqualTo(WaitlistStatus.PROMOTED);
+
+		WaitlistEntry next = waitlistEntryRepository.findById(second.waitlistId()).orElseThrow();
+		assertThat(next.getStatus()).isEqualTo(WaitlistStatus.PROMOTED);
+		Reservation reservation = reservationRepository.findById(next.getReservationId()).orElseThrow();
+		assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.WAIT_PAYMENT);
+	}
+
+	@Test
+	void 겹치는_확정_예약이_없으면_대기_등록_불가() {
+		// when & then
+		assertThatThrownBy(() -> join(waiter1Id, 2, 3))
+			.isInstanceOf(ReservationException.class)
+			.extracting("exceptionCode")
+			.isEqualTo(ExceptionCode.WAITLIST_NOT_NEEDED);
+	}
+
+	@Test
+	void 대기를_취소하면_자리가_나도_전환되지_않음() {
+		// given
+		Long confirmedId = reserveAndConfirm(ownerId, 2, 4);
+		WaitlistResponse.Entry entry = join(waiter1Id, 2, 3);
+
+		// when
+		waitlistService.leave(entry.waitlistId(), waiter1Id);
+		reservationService.cancel(confirmedId, new ReservationRequest.Delete("1234"), ownerId);
+
+		// then
+		assertThat(waitlistEntryRepository.findById(entry.waitlistId()).orElseThrow().getStatus())
+			.isEqualTo(WaitlistStatus.CANCELED);
+		assertThat(reservationRepository.findAll())
+			.extracting(Reservation::getStatus)
+			.containsExactly(ReservationStatus.CANCELED);
+	}
+
+	private Long reserveAndConfirm(Long userId, int startHours, int endHours) {
+		reservationService.reserve(new ReservationRequest.Create(
+			roomId,
+			BASE_TIME.plusHours(startHours),
+			BASE_TIME.plusHours(endHours)
+		), userId);
+		Long reservationId = reservationRepository.findAll().get(0).getId();
+		reservationService.confirmPayment(reservationId, userId);
+		return reservationId;
+	}
+
+	private WaitlistResponse.Entry join(Long userId, int startHours, int endHours) {
+		return waitlistService.join(new WaitlistRequest.Create(
+			roomId,
+			BASE_TIME.plusHours(startHours),
+			BASE_TIME.plusHours(endHours)
+		), userId);
+	}
+
+	private void setNow(Instant instant) {
+		Mockito.when(clock.instant()).thenReturn(instant);
+		Mockito.when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+	}
+}
@@ -0,0 +1,87 @@
+package me.studyroom.global.exception;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ErrorBodiesTest {
+
+	private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+		.addModule(new JavaTimeModule())
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+		.build();
+
+	@Test
+	void 모든_코드의_본문이_ErrorResponse_직렬화_결과와_같음() throws Exception {
+		LocalDateTime timestamp = LocalDateTime.of(2026, 10, 1, 9, 30, 0, 123_000_000);
+
+		for (ExceptionCode code : ExceptionCode.values()) {
+			// given
+			ErrorResponse expected = ErrorResponse.builder()
+				.code(code.name())
+				.message(code.getMessage())
+				.status(code.getStatus().value())
+				.timestamp(timestamp)
+				.path("/reservations")
+				.fieldErrors(List.of())
+				.build();
+
+			// when
+			byte[] body = ErrorBodies.render(code, "/reservations", timestamp);
+
+			// then
+			JsonNode actual = OBJECT_MAPPER.readTree(body);
+			assertThat(actual).isEqualTo(OBJECT_MAPPER.valueToTree(expected));
+		}
+	}
+
+	@Test
+	void 경로의_특수문자는_이스케이프() throws Exception {
+		// when
+		byte[] body = ErrorBodies.render(ExceptionCode.SCHEDULE_CONFLICT, "/a\"b\\c\n", LocalDateTime.of(2026, 10, 1, 0, 0));
+
+		// then
+		assertThat(OBJECT_MAPPER.readTree(body).get("path").asText()).isEqualTo("/a\"b\\c\n");
+	}
+
+	@Test
+	void 시간_충돌_본문에는_가까운_빈_시간이_붙음() throws Exception {
+		// given
+		LocalDateTime start = LocalDateTime.of(2026, 10, 2, 16, 0);
+		ScheduleConflictException e = new ScheduleConflictException(List.of(
+			new ScheduleConflictException.Alternative(1L, "A\"룸", start, start.plusHours(2)),
+			new ScheduleConflictException.Alternative(2L, "B룸", start.minusHours(2), start)
+		));
+
+		// when
+		JsonNode actual = OBJECT_MAPPER.readTree(ErrorBodies.render(e, "/reservations", LocalDateTime.of(2026, 10, 1, 0, 0)));
+
+		// then
+		assertThat(actual.get("code").asText()).isEqualTo("SCHEDULE_CONFLICT");
+		assertThat(actual.get("fieldErrors").isEmpty()).isTrue();
+		JsonNode alternatives = actual.get("alternatives");
+		assertThat(alternatives).hasSize(2);
+		assertThat(alternatives.get(0).get("studyRoomName").asText()).isEqualTo("A\"룸");
+		assertThat(alternatives.get(0).get("startAt").asText()).isEqualTo("2026-10-02T16:00:00");
+		assertThat(alternatives.get(1).get("studyRoomId").asLong()).isEqualTo(2L);
+		assertThat(alternatives.get(1).get("endAt").asText()).isEqualTo("2026-10-02T16:00:00");
+	}
+
+	@Test
+	void 비즈니스_예외는_스택_트레이스를_만들지_않음() {
+		// when
+		ReservationException e = new ReservationException(ExceptionCode.SCHEDULE_CONFLICT);
+
+		// then
+		assertThat(e.getStackTrace()).isEmpty();
+		assertThat(e.getMessage()).isEqualTo(ExceptionCode.SCHEDULE_CONFLICT.getMessage());
+	}
+}
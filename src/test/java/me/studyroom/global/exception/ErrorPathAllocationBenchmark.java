@@ -0,0 +1,96 @@
+package me.studyroom.global.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 거절된 요청 1건이 에러 응답을 만들 때까지 할당하는 바이트 수 비교 (./gradlew benchmark)
+// 이전 : 스택 트레이스가 있는 예외 + ErrorResponse 빌더 + Jackson 직렬화
+// 현재 : 스택 없는 예외 + 미리 만든 본문에 시간/경로만 끼움
+// 컨트롤러 몇 단계 아래에서 던지는 상황을 흉내내려고 호출 깊이를 둠 (실제로는 스프링 프레임이 훨씬 많음)
+@Tag("benchmark")
+public class ErrorPathAllocationBenchmark {
+
+	private static final int WARMUP = 50_000;
+	private static final int ITERATIONS = 200_000;
+	private static final int CALL_DEPTH = 40;
+	private static final String PATH = "/reservations";
+
+	private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+		.addModule(new JavaTimeModule())
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+		.build();
+
+	@Test
+	void 거절_요청당_할당량() {
+		long before = measure(() -> {
+			RuntimeException e = throwAt(CALL_DEPTH, () -> new StackfulException(ExceptionCode.SCHEDULE_CONFLICT));
+			ErrorResponse response = ErrorResponse.of(((StackfulException) e).code, PATH);
+			try {
+				return OBJECT_MAPPER.writeValueAsBytes(response);
+			} catch (Exception ex) {
+				throw new IllegalStateException(ex);
+			}
+		});
+
+		long after = measure(() -> {
+			RuntimeException e = throwAt(CALL_DEPTH, () -> new ReservationException(ExceptionCode.SCHEDULE_CONFLICT));
+			return ErrorBodies.render(((ApiException) e).getExceptionCode(), PATH);
+		});
+
+		System.out.printf("rejected request allocation: before=%d B/op, after=%d B/op (%.1fx)%n",
+			before, after, (double) before / after);
+		assertThat(after).isLessThan(before);
+	}
+
+	private static long measure(Supplier<byte[]> op) {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long sink = 0;
+		for (int i = 0; i < WARMUP; i++) {
+			sink += op.get().length;
+		}
+		long tid = Thread.currentThread().getId();
+		long start = threads.getThreadAllocatedBytes(tid);
+		for (int i = 0; i < ITERATIONS; i++) {
+			sink += op.get().length;
+		}
+		long allocated = threads.getThreadAllocatedBytes(tid) - start;
+		assertThat(sink).isPositive();
+		return allocated / ITERATIONS;
+	}
+
+	// depth 만큼 내려가서 예외를 만들고 던진 뒤 잡아서 돌려줌
+	private static RuntimeException throwAt(int depth, Supplier<RuntimeException> factory) {
+		try {
+			descend(depth, factory);
+		} catch (RuntimeException e) {
+			return e;
+		}
+		throw new IllegalStateException();
+	}
+
+	private static void descend(int depth, Supplier<RuntimeException> factory) {
+		if (depth == 0) {
+			throw factory.get();
+		}
+		descend(depth - 1, factory);
+	}
+
+	// 변경 전 ApiException과 같은 방식 (스택 트레이스 있음)
+	private static final class StackfulException extends RuntimeException {
+		private final ExceptionCode code;
+
+		private StackfulException(ExceptionCode code) {
+			super(code.getMessage());
+			this.code = code;
+		}
+	}
+}
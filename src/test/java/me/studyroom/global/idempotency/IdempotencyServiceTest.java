@@ -0,0 +1,243 @@
+package me.studyroom.global.idempotency;
+
+import me.studyroom.domain.outbox.OutboxEventRepository;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.dto.ReservationResponse;
+import me.studyroom.domain.reservation.service.ReservationService;
+import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.studyRoom.StudyRoomRepository;
+import me.studyroom.domain.user.User;
+import me.studyroom.domain.user.UserRepository;
+import me.studyroom.global.dto.request.ReservationRequest;
+import me.studyroom.global.exception.ExceptionCode;
+import me.studyroom.global.exception.IdempotencyException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 동시 요청 결과를 DB에서 확인하므로 @Transactional 사용 안 함
+@SpringBootTest
+public class IdempotencyServiceTest {
+
+	@Autowired
+	private IdempotencyService idempotencyService;
+
+	@Autowired
+	private IdempotencyKeyRepository idempotencyKeyRepository;
+
+	@Autowired
+	private ReservationService reservationService;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private StudyRoomRepository studyRoomRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@MockitoBean
+	private Clock clock;
+
+	private Long studyRoomId;
+	private Long userId;
+	private LocalDateTime BASE_TIME;
+
+	@BeforeEach
+	void setUp() {
+		idempotencyKeyRepository.deleteAll();
+		outboxEventRepository.deleteAll();
+		reservationRepository.deleteAll();
+		studyRoomRepository.deleteAll();
+		userRepository.deleteAll();
+
+		Mockito.when(clock.instant()).thenReturn(Instant.parse("2026-10-01T00:00:00Z"));
+		Mockito.when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+
+		BASE_TIME = LocalDateTime.now(clock);
+
+		StudyRoom studyRoom = studyRoomRepository.save(new StudyRoom("A룸", true, "테스트룸", LocalTime.MIN, LocalTime.MAX));
+		studyRoomId = studyRoom.getId();
+
+		User user = userRepository.save(new User("user1", "u1@test.com", "1234", "01011112222"));
+		userId = user.getId();
+	}
+
+	@Test
+	void 같은_키로_재시도하면_저장된_응답을_반환하고_다시_실행하지_않음() {
+		// given
+		ReservationRequest.Create request = createRequest(1);
+		AtomicInteger executions = new AtomicInteger();
+
+		// when
+		ReservationResponse.Create first = reserve("key-1", request, executions);
+		ReservationResponse.Create retry = reserve("key-1", request, executions);
+
+		// then
+		assertThat(retry).isEqualTo(first);
+		assertThat(executions).hasValue(1);
+		assertThat(reservationRepository.count()).isEqualTo(1);
+	}
+
+	@Test
+	void 저장된_응답을_돌려줄_때는_around를_거치지_않음() {
+		// given : around 는 방 게이트 + 재시도 자리
+		ReservationRequest.Create request = createRequest(1);
+		AtomicInteger arounds = new AtomicInteger();
+		Function<Supplier<ReservationResponse.Create>, ReservationResponse.Create> around = execution -> {
+			arounds.incrementAndGet();
+			return execution.get();
+		};
+
+		// when
+		ReservationResponse.Create first = idempotencyService.execute(userId, "key-1", "reserve", request,
+			ReservationResponse.Create.class, around, () -> reservationService.reserve(request, userId));
+		ReservationResponse.Create retry = idempotencyService.execute(userId, "key-1", "reserve", request,
+			ReservationResponse.Create.class, around, () -> reservationService.reserve(request, userId));
+
+		// then
+		assertThat(retry).isEqualTo(first);
+		assertThat(arounds).hasValue(1);
+	}
+
+	@Test
+	void 같은_키로_다른_요청을_보내면_예외() {
+		// given
+		AtomicInteger executions = new AtomicInteger();
+		reserve("key-1", createRequest(1), executions);
+
+		// when, then
+		assertThatThrownBy(() -> reserve("key-1", createRequest(3), executions))
+			.isInstanceOf(IdempotencyException.class)
+			.extracting("exceptionCode")
+			.isEqualTo(ExceptionCode.IDEMPOTENCY_KEY_REUSED);
+		assertThat(executions).hasValue(1);
+	}
+
+	@Test
+	void 동시에_들어온_같은_키_요청은_한번만_실행() throws InterruptedException {
+		// given
+		int threadCount = 8;
+		ReservationRequest.Create request = createRequest(1);
+		AtomicInteger executions = new AtomicInteger();
+		List<ReservationResponse.Create> responses = new CopyOnWriteArrayList<>();
+
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(threadCount);
+
+		// when
+		for (int i = 0; i < threadCount; i++) {
+			executor.submit(() -> {
+				try {
+					start.await();
+					responses.add(reserve("key-1", request, executions));
+				} catch (Exception ignored) {
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		start.countDown();
+		done.await(10, TimeUnit.SECONDS);
+		executor.shutdown();
+
+		// then
+		assertThat(executions).hasValue(1);
+		assertThat(reservationRepository.count()).isEqualTo(1);
+		assertThat(responses).hasSize(threadCount);
+		assertThat(responses).containsOnly(responses.get(0));
+	}
+
+	@Test
+	void 기다리던_요청은_캐시에서_밀려나도_먼저_실행한_응답을_받음() throws Exception {
+		// given : 처음 요청이 실행 중일 때 같은 키 요청이 기다리고, 완료 직후 LRU 에서 밀려남
+		ReservationRequest.Create request = createRequest(1);
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Function<Supplier<ReservationResponse.Create>, ReservationResponse.Create> evictAfter = execution -> {
+			ReservationResponse.Create response = execution.get();
+			Map<?, ?> cache = (Map<?, ?>) ReflectionTestUtils.getField(idempotencyService, "cache");
+			synchronized (cache) {
+				cache.clear();
+			}
+			return response;
+		};
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		// when
+		Future<ReservationResponse.Create> first = executor.submit(() -> idempotencyService.execute(
+			userId, "key-1", "reserve", request, ReservationResponse.Create.class, evictAfter, () -> {
+				entered.countDown();
+				await(release);
+				return reservationService.reserve(request, userId);
+			}));
+		entered.await(5, TimeUnit.SECONDS);
+		Future<ReservationResponse.Create> waiter = executor.submit(() -> reserve("key-1", request, new AtomicInteger()));
+		Thread.sleep(200); // 두번째 요청이 처리 중인 키를 보고 기다리기 시작할 시간
+		release.countDown();
+
+		// then
+		assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo(first.get(5, TimeUnit.SECONDS));
+		assertThat(reservationRepository.count()).isEqualTo(1);
+		executor.shutdown();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private ReservationResponse.Create reserve(String key, ReservationRequest.Create request, AtomicInteger executions) {
+		return idempotencyService.execute(
+			userId,
+			key,
+			"reserve",
+			request,
+			ReservationResponse.Create.class,
+			() -> {
+				executions.incrementAndGet();
+				return reservationService.reserve(request, userId);
+			}
+		);
+	}
+
+	private ReservationRequest.Create createRequest(int hoursLater) {
+		return new ReservationRequest.Create(
+			studyRoomId,
+			BASE_TIME.plusHours(hoursLater),
+			BASE_TIME.plusHours(hoursLater + 2)
+		);
+	}
+}
@@ -0,0 +1,100 @@
+package me.studyroom.global.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 시간을 직접 넘겨서 검증 (nanoTime에 의존하지 않음)
+public class TokenBucketTest {
+
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	@Test
+	void 용량만큼은_연속으로_통과하고_그_다음은_거절() {
+		// given
+		TokenBucket bucket = new TokenBucket(5, Duration.ofSeconds(5), 0);
+
+		// when, then
+		for (int i = 0; i < 5; i++) {
+			assertThat(bucket.tryAcquire(0)).isZero();
+		}
+		assertThat(bucket.tryAcquire(0)).isEqualTo(SECOND);
+	}
+
+	@Test
+	void 시간이_지나면_간격만큼_다시_참() {
+		// given
+		TokenBucket bucket = new TokenBucket(5, Duration.ofSeconds(5), 0);
+		for (int i = 0; i < 5; i++) {
+			bucket.tryAcquire(0);
+		}
+
+		// when, then
+		assertThat(bucket.tryAcquire(SECOND / 2)).isEqualTo(SECOND / 2);
+		assertThat(bucket.tryAcquire(SECOND)).isZero();
+		assertThat(bucket.tryAcquire(SECOND)).isPositive();
+	}
+
+	@Test
+	void 오래_쉬어도_용량_이상은_쌓이지_않음() {
+		// given
+		TokenBucket bucket = new TokenBucket(3, Duration.ofSeconds(3), 0);
+
+		// when
+		long now = 3_600 * SECOND;
+		int passed = 0;
+		for (int i = 0; i < 10; i++) {
+			if (bucket.tryAcquire(now) == 0) {
+				passed++;
+			}
+		}
+
+		// then
+		assertThat(passed).isEqualTo(3);
+		assertThat(bucket.isFull(now)).isFalse();
+		assertThat(bucket.isFull(now + 3 * SECOND)).isTrue();
+	}
+
+	@Test
+	void 동시에_요청해도_용량을_넘겨_통과시키지_않음() throws InterruptedException {
+		// given
+		int capacity = 100;
+		TokenBucket bucket = new TokenBucket(capacity, Duration.ofHours(1), 0);
+		int threadCount = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(threadCount);
+		AtomicInteger passed = new AtomicInteger();
+
+		// when
+		for (int i = 0; i < threadCount; i++) {
+			executor.submit(() -> {
+				try {
+					start.await();
+					for (int j = 0; j < 1_000; j++) {
+						if (bucket.tryAcquire(0) == 0) {
+							passed.incrementAndGet();
+						}
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		start.countDown();
+		done.await(10, TimeUnit.SECONDS);
+		executor.shutdown();
+
+		// then
+		assertThat(passed).hasValue(capacity);
+	}
+}
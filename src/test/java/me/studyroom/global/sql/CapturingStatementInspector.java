@@ -0,0 +1,33 @@
+package me.studyroom.global.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Hibernate가 실행하려는 SQL을 그대로 모음 (EXPLAIN 검사용)
+// 스케줄러 스레드 SQL이 섞이지 않게 start()를 부른 스레드만 기록
+// spring.jpa.properties.hibernate.session_factory.statement_inspector 로 등록
+public class CapturingStatementInspector implements StatementInspector {
+
+	private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+	@Override
+	public String inspect(String sql) {
+		List<String> captured = CAPTURED.get();
+		if (captured != null) {
+			captured.add(sql);
+		}
+		return sql;
+	}
+
+	static void start() {
+		CAPTURED.set(new ArrayList<>());
+	}
+
+	static List<String> stop() {
+		List<String> captured = CAPTURED.get();
+		CAPTURED.remove();
+		return captured == null ? List.of() : captured;
+	}
+}
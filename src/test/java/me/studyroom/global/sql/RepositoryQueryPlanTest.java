@@ -0,0 +1,348 @@
+package me.studyroom.global.sql;
+
+import me.studyroom.domain.outbox.OutboxCursorRepository;
+import me.studyroom.domain.outbox.OutboxEventRepository;
+import me.studyroom.domain.outbox.OutboxProcessedEventRepository;
+import me.studyroom.domain.payment.PaymentRepository;
+import me.studyroom.domain.payment.PaymentStatus;
+import me.studyroom.domain.reservation.ReservationHistoryRepository;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.ReservationStatus;
+import me.studyroom.domain.reservation.series.ReservationSeriesRepository;
+import me.studyroom.domain.reservation.series.SeriesExclusionRepository;
+import me.studyroom.domain.reservation.series.SeriesStatus;
+import me.studyroom.domain.stats.RoomDailyStatRepository;
+import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.studyRoom.StudyRoomRepository;
+import me.studyroom.domain.studyRoom.calendar.RoomClosureRepository;
+import me.studyroom.domain.studyRoom.calendar.RoomWeekdayHoursRepository;
+import me.studyroom.domain.user.User;
+import me.studyroom.domain.user.UserRepository;
+import me.studyroom.domain.waitlist.WaitlistEntryRepository;
+import me.studyroom.domain.waitlist.WaitlistStatus;
+import me.studyroom.global.idempotency.IdempotencyKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 리포지토리 쿼리마다 Hibernate가 만든 SQL을 그대로 잡아서 H2(MODE=MySQL) EXPLAIN으로 실행 계획 확인
+// 인덱스 조건 없이 테이블/인덱스를 처음부터 끝까지 읽으면 실패
+//   /* PUBLIC.RESERVATION.tableScan */  -> 전체 스캔
+//   /* PUBLIC.PRIMARY_KEY_8 */          -> 조건 없는 인덱스 전체 스캔
+//   /* PUBLIC.IDX_...: USER_ID = ?1 */  -> 통과
+// 전체 목록이 목적인 쿼리(StudyRoomRepository.findAllDetails)는 검사하지 않음
+// 쿼리는 롤백되는 트랜잭션에서 실행 (변경 쿼리도 데이터가 남지 않게)
+@SpringBootTest(properties =
+	"spring.jpa.properties.hibernate.session_factory.statement_inspector=me.studyroom.global.sql.CapturingStatementInspector")
+public class RepositoryQueryPlanTest {
+
+	private static final Pattern FULL_SCAN = Pattern.compile("/\\*\\s*\"?PUBLIC\"?\\.[^:*]*\\*/");
+	private static final LocalDateTime FROM = LocalDateTime.of(2026, 1, 1, 0, 0);
+	private static final LocalDateTime TO = LocalDateTime.of(2026, 2, 1, 0, 0);
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private ReservationHistoryRepository reservationHistoryRepository;
+
+	@Autowired
+	private StudyRoomRepository studyRoomRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private WaitlistEntryRepository waitlistEntryRepository;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private OutboxCursorRepository outboxCursorRepository;
+
+	@Autowired
+	private OutboxProcessedEventRepository outboxProcessedEventRepository;
+
+	@Autowired
+	private RoomDailyStatRepository roomDailyStatRepository;
+
+	@Autowired
+	private IdempotencyKeyRepository idempotencyKeyRepository;
+
+	@Autowired
+	private RoomWeekdayHoursRepository roomWeekdayHoursRepository;
+
+	@Autowired
+	private RoomClosureRepository roomClosureRepository;
+
+	@Autowired
+	private PaymentRepository paymentRepository;
+
+	@Autowired
+	private ReservationSeriesRepository reservationSeriesRepository;
+
+	@Autowired
+	private SeriesExclusionRepository seriesExclusionRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private DataSource dataSource;
+
+	private StudyRoom room;
+	private Long userId;
+
+	@BeforeEach
+	void setUp() {
+		waitlistEntryRepository.deleteAll();
+		outboxEventRepository.deleteAll();
+		reservationRepository.deleteAll();
+		studyRoomRepository.deleteAll();
+		userRepository.deleteAll();
+
+		room = studyRoomRepository.save(
+			new StudyRoom("A룸", true, "설명", LocalTime.of(9, 0), LocalTime.of(22, 0)));
+		userId = userRepository.save(new User("user", "plan@test.com", "1234", "01012345678")).getId();
+	}
+
+	@Test
+	void 예약_쿼리는_인덱스를_탄다() {
+		List<String> statuses = List.of(ReservationStatus.WAIT_PAYMENT.name(), ReservationStatus.CONFIRMED.name());
+
+		assertIndexed("existsBlockingReservation", () ->
+			reservationRepository.existsBlockingReservation(room, FROM, TO, FROM));
+		assertIndexed("existsBlockingReservationExceptSelf", () ->
+			reservationRepository.existsBlockingReservationExceptSelf(room, FROM, TO, FROM, 1L));
+		assertIndexed("findBlockingRows", () ->
+			reservationRepository.findBlockingRows(room, FROM, TO, FROM));
+		assertIndexed("findImportRows", () -> reservationRepository.findImportRows(room.getId(), FROM, TO));
+		assertIndexed("findActiveHoldRows", () -> reservationRepository.findActiveHoldRows(FROM));
+		assertIndexed("streamConfirmedEndingAfter", () -> {
+			try (Stream<?> rows = reservationRepository.streamConfirmedEndingAfter(FROM)) {
+				rows.count();
+			}
+		});
+		assertIndexed("findMaxId", () -> reservationRepository.findMaxId());
+		assertIndexed("existsReservedOverlappingReservationExceptSelf", () ->
+			reservationRepository.existsReservedOverlappingReservationExceptSelf(room, ReservationStatus.CONFIRMED, FROM, TO, 1L));
+		assertIndexed("existsOverlappingInStatuses", () ->
+			reservationRepository.existsOverlappingInStatuses(
+				room, List.of(ReservationStatus.WAIT_PAYMENT, ReservationStatus.CONFIRMED), FROM, TO));
+		assertIndexed("findRowsByIds", () -> reservationRepository.findRowsByIds(List.of(1L, 2L)));
+		assertIndexed("findByUserIdAndStatus", () ->
+			reservationRepository.findByUserIdAndStatus(userId, ReservationStatus.CONFIRMED));
+		assertIndexed("findByUserIdOrderByStartAtDesc", () ->
+			reservationRepository.findByUserIdOrderByStartAtDesc(userId, Limit.of(100)));
+		assertIndexed("findByIdAndUserId", () -> reservationRepository.findByIdAndUserId(1L, userId));
+		assertIndexed("findStudyRoomIdByIdAndUserId", () -> reservationRepository.findStudyRoomIdByIdAndUserId(1L, userId));
+		assertIndexed("findExpirableIdsForUpdate", () ->
+			reservationRepository.findExpirableIdsForUpdate(ReservationStatus.WAIT_PAYMENT.name(), FROM, 100));
+		assertIndexed("findUpcomingIdsByStudyRoomsForUpdate", () ->
+			reservationRepository.findUpcomingIdsByStudyRoomsForUpdate(List.of(room.getId()), statuses, FROM, 100));
+		assertIndexed("existsByStudyRoomId", () -> reservationRepository.existsByStudyRoomId(room.getId()));
+		assertIndexed("streamForExport", () -> {
+			try (Stream<?> rows = reservationRepository.streamForExport(FROM, TO)) {
+				rows.count();
+			}
+		});
+		assertIndexed("findPastIdsForUpdate", () -> reservationRepository.findPastIdsForUpdate(FROM, 100));
+		assertIndexed("findTerminalIdsForUpdate", () ->
+			reservationRepository.findTerminalIdsForUpdate(
+				List.of(ReservationStatus.EXPIRED.name(), ReservationStatus.CANCELED.name()), FROM, 100));
+		assertIndexed("updateStatusByIds", () ->
+			reservationRepository.updateStatusByIds(ReservationStatus.EXPIRED, List.of(1L, 2L)));
+		assertIndexed("findUpcomingIdsByUserForUpdate", () ->
+			reservationRepository.findUpcomingIdsByUserForUpdate(userId, statuses, FROM, 100));
+		assertIndexed("findReleasedIdsByUserForUpdate", () ->
+			reservationRepository.findReleasedIdsByUserForUpdate(userId, statuses, FROM, 100));
+		assertIndexed("existsByUserId", () -> reservationRepository.existsByUserId(userId));
+	}
+
+	@Test
+	void 예약_이력_쿼리는_인덱스를_탄다() {
+		assertIndexed("history.findByUserIdOrderByStartAtDesc", () ->
+			reservationHistoryRepository.findByUserIdOrderByStartAtDesc(userId, Limit.of(100)));
+		assertIndexed("history.streamForExport", () -> {
+			try (Stream<?> rows = reservationHistoryRepository.streamForExport(FROM, TO)) {
+				rows.count();
+			}
+		});
+		assertIndexed("history.streamForColumnarArchive", () -> {
+			try (Stream<?> rows = reservationHistoryRepository.streamForColumnarArchive(FROM, TO)) {
+				rows.count();
+			}
+		});
+		assertIndexed("history.copyFromReservation", () ->
+			reservationHistoryRepository.copyFromReservation(List.of(1L, 2L), FROM));
+		assertIndexed("history.findImportRows", () ->
+			reservationHistoryRepository.findImportRows(room.getId(), FROM, TO));
+		assertIndexed("history.existsByStudyRoomId", () -> reservationHistoryRepository.existsByStudyRoomId(room.getId()));
+		assertIndexed("history.copyFromReservationAnonymized", () ->
+			reservationHistoryRepository.copyFromReservationAnonymized(List.of(1L, 2L), FROM));
+		assertIndexed("history.findIdsByUserId", () -> reservationHistoryRepository.findIdsByUserId(userId, Limit.of(100)));
+		assertIndexed("history.anonymizeByIds", () -> reservationHistoryRepository.anonymizeByIds(List.of(1L, 2L)));
+	}
+
+	@Test
+	void 스터디룸_회원_쿼리는_인덱스를_탄다() {
+		assertIndexed("findByIdForUpdate", () -> studyRoomRepository.findByIdForUpdate(room.getId()));
+		assertIndexed("findByIdForOptimisticUpdate", () -> studyRoomRepository.findByIdForOptimisticUpdate(room.getId()));
+		assertIndexed("findAllByIdInForUpdate", () -> studyRoomRepository.findAllByIdInForUpdate(List.of(room.getId())));
+		assertIndexed("findDetailById", () -> studyRoomRepository.findDetailById(room.getId()));
+		assertIndexed("existsByName", () -> studyRoomRepository.existsByName("A룸"));
+
+		assertIndexed("findByEmail", () -> userRepository.findByEmail("plan@test.com"));
+		assertIndexed("findIdByEmail", () -> userRepository.findIdByEmail("plan@test.com"));
+		assertIndexed("findDeletedIdsBefore", () -> userRepository.findDeletedIdsBefore(FROM, Limit.of(100)));
+		assertIndexed("findDeletedIdsWithUpcoming", () -> userRepository.findDeletedIdsWithUpcoming(
+			FROM, List.of(ReservationStatus.WAIT_PAYMENT.name(), ReservationStatus.CONFIRMED.name()), FROM, 100));
+	}
+
+	@Test
+	void 운영_달력_쿼리는_인덱스를_탄다() {
+		assertIndexed("weekday.findByStudyRoomId", () -> roomWeekdayHoursRepository.findByStudyRoomId(room.getId()));
+		assertIndexed("weekday.deleteByStudyRoomId", () -> roomWeekdayHoursRepository.deleteByStudyRoomId(room.getId()));
+		assertIndexed("closure.findByStudyRoomIdAndEndAtAfter", () ->
+			roomClosureRepository.findByStudyRoomIdAndEndAtAfter(room.getId(), FROM));
+		assertIndexed("closure.findByStudyRoomIdIsNullAndEndAtAfter", () ->
+			roomClosureRepository.findByStudyRoomIdIsNullAndEndAtAfter(FROM));
+		assertIndexed("closure.findByEndAtAfter", () -> roomClosureRepository.findByEndAtAfter(FROM));
+		assertIndexed("closure.deleteByStudyRoomId", () -> roomClosureRepository.deleteByStudyRoomId(room.getId()));
+	}
+
+	@Test
+	void 결제_쿼리는_인덱스를_탄다() {
+		assertIndexed("payment.findByReservationId", () -> paymentRepository.findByReservationId(1L));
+		assertIndexed("payment.findByReservationIdAndUserId", () ->
+			paymentRepository.findByReservationIdAndUserId(1L, userId));
+		assertIndexed("payment.findStalled", () ->
+			paymentRepository.findByStatusInAndUpdatedAtBeforeOrderByUpdatedAtAsc(
+				List.of(PaymentStatus.PENDING, PaymentStatus.AUTHORIZED, PaymentStatus.CONFIRMED), FROM, Limit.of(100)));
+	}
+
+	@Test
+	void 대기_쿼리는_인덱스를_탄다() {
+		assertIndexed("waitlist.findByStatus", () -> waitlistEntryRepository.findByStatus(WaitlistStatus.WAITING));
+		assertIndexed("waitlist.findByUserIdOrderByIdDesc", () -> waitlistEntryRepository.findByUserIdOrderByIdDesc(userId));
+		assertIndexed("waitlist.findByIdAndUserId", () -> waitlistEntryRepository.findByIdAndUserId(1L, userId));
+		assertIndexed("waitlist.countByUserIdAndStatus", () ->
+			waitlistEntryRepository.countByUserIdAndStatus(userId, WaitlistStatus.WAITING));
+		assertIndexed("waitlist.exists", () ->
+			waitlistEntryRepository.existsByUserIdAndStudyRoomIdAndStartAtAndEndAtAndStatus(
+				userId, room.getId(), FROM, TO, WaitlistStatus.WAITING));
+		assertIndexed("waitlist.expireStartedBefore", () -> waitlistEntryRepository.expireStartedBefore(FROM));
+		assertIndexed("waitlist.cancelWaitingByStudyRoomIds", () ->
+			waitlistEntryRepository.cancelWaitingByStudyRoomIds(List.of(room.getId())));
+		assertIndexed("waitlist.deleteByUserId", () -> waitlistEntryRepository.deleteByUserId(userId));
+	}
+
+	@Test
+	void 반복_예약_쿼리는_인덱스를_탄다() {
+		assertIndexed("series.findActiveOverlapping", () ->
+			reservationSeriesRepository.findActiveOverlapping(room.getId(), FROM, TO));
+		assertIndexed("series.findActiveOverlappingInRooms", () ->
+			reservationSeriesRepository.findActiveOverlappingInRooms(List.of(room.getId()), FROM, TO));
+		assertIndexed("series.findByUserIdOrderByIdDesc", () -> reservationSeriesRepository.findByUserIdOrderByIdDesc(userId));
+		assertIndexed("series.findByIdAndUserId", () -> reservationSeriesRepository.findByIdAndUserId(1L, userId));
+		assertIndexed("series.countByUserIdAndStatusAndLastEndAtAfter", () ->
+			reservationSeriesRepository.countByUserIdAndStatusAndLastEndAtAfter(userId, SeriesStatus.ACTIVE, FROM));
+		assertIndexed("series.existsByStudyRoomId", () -> reservationSeriesRepository.existsByStudyRoomId(room.getId()));
+		assertIndexed("series.cancelActiveByStudyRoomIds", () ->
+			reservationSeriesRepository.cancelActiveByStudyRoomIds(List.of(room.getId()), FROM));
+		assertIndexed("exclusion.findBySeriesIdInAndOccurrenceDateBetween", () ->
+			seriesExclusionRepository.findBySeriesIdInAndOccurrenceDateBetween(
+				List.of(1L, 2L), FROM.toLocalDate(), TO.toLocalDate()));
+		assertIndexed("exclusion.findBySeriesIdIn", () -> seriesExclusionRepository.findBySeriesIdIn(List.of(1L, 2L)));
+		assertIndexed("exclusion.existsBySeriesIdAndOccurrenceDate", () ->
+			seriesExclusionRepository.existsBySeriesIdAndOccurrenceDate(1L, FROM.toLocalDate()));
+		assertIndexed("series.deleteByUserId", () -> reservationSeriesRepository.deleteByUserId(userId));
+		assertIndexed("exclusion.deleteBySeriesIds", () -> seriesExclusionRepository.deleteBySeriesIds(List.of(1L, 2L)));
+	}
+
+	@Test
+	void 아웃박스_통계_멱등키_쿼리는_인덱스를_탄다() {
+		assertIndexed("outbox.findBatch", () ->
+			outboxEventRepository.findByIdGreaterThanAndCreatedAtLessThanEqualOrderByIdAsc(0L, TO, Limit.of(200)));
+		assertIndexed("outbox.appendForReservations", () ->
+			outboxEventRepository.appendForReservations("CANCELED", "CANCELED", List.of(1L, 2L), FROM));
+		assertIndexed("outbox.findByIdInOrderByIdAsc", () -> outboxEventRepository.findByIdInOrderByIdAsc(List.of(1L, 2L)));
+		assertIndexed("outbox.findMaxId", () -> outboxEventRepository.findMaxId());
+		assertIndexed("outbox.findIdsUpTo", () -> outboxEventRepository.findIdsUpTo(100L));
+		assertIndexed("outbox.deleteDispatched", () -> outboxEventRepository.deleteDispatched(100L, FROM));
+		assertIndexed("cursor.findByNameForUpdate", () -> outboxCursorRepository.findByNameForUpdate("stats"));
+		assertIndexed("cursor.findMinLastEventId", () -> outboxCursorRepository.findMinLastEventId());
+		assertIndexed("processed.markProcessed", () ->
+			outboxProcessedEventRepository.markProcessed("stats", 1L, FROM));
+		assertIndexed("processed.deleteByConsumer", () -> outboxProcessedEventRepository.deleteByConsumer("stats"));
+		assertIndexed("processed.deleteProcessed", () -> outboxProcessedEventRepository.deleteProcessed(100L, FROM));
+
+		assertIndexed("stat.findByStudyRoomIdAndStatDate", () ->
+			roomDailyStatRepository.findByStudyRoomIdAndStatDate(room.getId(), LocalDate.of(2026, 1, 1)));
+		assertIndexed("stat.findRange", () ->
+			roomDailyStatRepository.findByStudyRoomIdAndStatDateBetweenOrderByStatDateAsc(
+				room.getId(), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31)));
+
+		assertIndexed("idempotency.findByUserIdAndIdempotencyKey", () ->
+			idempotencyKeyRepository.findByUserIdAndIdempotencyKey(userId, "key"));
+		assertIndexed("idempotency.deleteCreatedBefore", () -> idempotencyKeyRepository.deleteCreatedBefore(FROM));
+	}
+
+	private void assertIndexed(String name, Runnable query) {
+		List<String> statements = capture(query);
+		assertThat(statements).as("%s : 실행된 SQL 없음", name).isNotEmpty();
+		for (String sql : statements) {
+			String plan = explain(sql);
+			assertThat(FULL_SCAN.matcher(plan).find())
+				.as("%s : 전체 스캔%n%s", name, plan)
+				.isFalse();
+		}
+	}
+
+	private List<String> capture(Runnable query) {
+		return transactionTemplate.execute(status -> {
+			List<String> statements;
+			CapturingStatementInspector.start();
+			try {
+				query.run();
+			} finally {
+				statements = CapturingStatementInspector.stop();
+				status.setRollbackOnly();
+			}
+			return statements;
+		});
+	}
+
+	// 파라미터는 바인딩하지 않음 (H2 EXPLAIN은 ANALYZE가 아니면 값 없이 계획만 만듦)
+	private String explain(String sql) {
+		try (Connection connection = dataSource.getConnection();
+				 PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+				 ResultSet resultSet = statement.executeQuery()) {
+			StringBuilder plan = new StringBuilder();
+			while (resultSet.next()) {
+				plan.append(resultSet.getString(1)).append('\n');
+			}
+			return plan.toString();
+		} catch (SQLException e) {
+			throw new IllegalStateException("EXPLAIN 실패 : " + sql, e);
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package me.studyroom.global.sql;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 서비스 메서드 하나가 실행하는 SQL 수를 정확히 검증 (지연 로딩 N+1이 다시 생기면 테스트가 깨지게)
+// SqlStatsDataSource가 씌워져 있어야 함 (studyroom.sql-stats.enabled=true)
+// 호출하는 쪽 트랜잭션이 없어야 커밋 시점 SQL(버전 증가 등)까지 포함됨
+public final class SqlCount {
+
+	private SqlCount() {
+	}
+
+	public static <T> Measured<T> measure(Supplier<T> action) {
+		SqlStats.start();
+		T result;
+		try {
+			result = action.get();
+		} catch (RuntimeException e) {
+			SqlStats.stop();
+			throw e;
+		}
+		return new Measured<>(result, SqlStats.stop());
+	}
+
+	public static SqlStats measure(Runnable action) {
+		return measure(() -> {
+			action.run();
+			return null;
+		}).stats();
+	}
+
+	public static <T> T assertSelects(int expected, Supplier<T> action) {
+		Measured<T> measured = measure(action);
+		assertThat(measured.stats().getSelects())
+			.as("SELECT 수 (%s)", measured.stats())
+			.isEqualTo(expected);
+		return measured.result();
+	}
+
+	public static <T> T assertStatements(int expected, Supplier<T> action) {
+		Measured<T> measured = measure(action);
+		assertThat(measured.stats().getStatements())
+			.as("SQL 수 (%s)", measured.stats())
+			.isEqualTo(expected);
+		return measured.result();
+	}
+
+	public record Measured<T>(T result, SqlStats stats) {
+	}
+}
@@ -0,0 +1,114 @@
+package me.studyroom.global.warmup;
+
+import me.studyroom.domain.outbox.OutboxEventRepository;
+import me.studyroom.domain.payment.PaymentRepository;
+import me.studyroom.domain.reservation.ReservationRepository;
+import me.studyroom.domain.reservation.service.ReservationService;
+import me.studyroom.domain.studyRoom.StudyRoom;
+import me.studyroom.domain.studyRoom.StudyRoomRepository;
+import me.studyroom.domain.studyRoom.calendar.OperatingCalendarIndex;
+import me.studyroom.domain.user.User;
+import me.studyroom.domain.user.UserRepository;
+import me.studyroom.global.dto.request.ReservationRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 가짜 예약이 롤백되는지 보려면 커밋된 상태를 세어야 하므로 @Transactional 사용 안 함
+@SpringBootTest(properties = {
+	"studyroom.warmup.iterations=3",
+	"studyroom.schedule.dir=build/warmup-test"
+})
+public class StartupWarmupTest {
+
+	@Autowired
+	private StartupWarmup startupWarmup;
+
+	@Autowired
+	private ApplicationAvailability applicationAvailability;
+
+	@Autowired
+	private OperatingCalendarIndex operatingCalendarIndex;
+
+	@Autowired
+	private ReservationService reservationService;
+
+	@Autowired
+	private ReservationRepository reservationRepository;
+
+	@Autowired
+	private PaymentRepository paymentRepository;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private StudyRoomRepository studyRoomRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@MockitoBean
+	private Clock clock;
+
+	private Long roomId;
+
+	@BeforeEach
+	void setUp() {
+		paymentRepository.deleteAll();
+		outboxEventRepository.deleteAll();
+		reservationRepository.deleteAll();
+		studyRoomRepository.deleteAll();
+		userRepository.deleteAll();
+
+		setNow(Instant.parse("2026-10-01T00:00:00Z"));
+		roomId = studyRoomRepository.save(new StudyRoom("A룸", true, "테스트룸", LocalTime.MIN, LocalTime.MAX)).getId();
+		Long userId = userRepository.save(new User("user", "user@test.com", "1234", "01011112222")).getId();
+		LocalDateTime start = LocalDateTime.now(clock).plusDays(1);
+		reservationService.reserve(new ReservationRequest.Create(roomId, start, start.plusHours(2)), userId);
+	}
+
+	@Test
+	void 가짜_예약은_롤백되고_인덱스에도_남지_않음() {
+		// given
+		long outboxEvents = outboxEventRepository.count();
+
+		// when
+		StartupWarmup.Result result = startupWarmup.run();
+
+		// then
+		assertThat(result.iterations()).isEqualTo(3);
+		assertThat(result.withinBudget()).isTrue();
+		assertThat(userRepository.count()).isEqualTo(1);
+		assertThat(studyRoomRepository.count()).isEqualTo(1);
+		assertThat(reservationRepository.count()).isEqualTo(1);
+		assertThat(outboxEventRepository.count()).isEqualTo(outboxEvents);
+		// 운영 달력은 실제 방만 (다시 적재됨 + 가짜 방은 지워짐)
+		assertThat(operatingCalendarIndex.size()).isEqualTo(1);
+		assertThat(operatingCalendarIndex.get(roomId)).isNotNull();
+	}
+
+	@Test
+	void 워밍업이_끝난_뒤에_트래픽을_받음() {
+		// when & then : ApplicationReadyEvent 리스너(워밍업)가 끝나야 ACCEPTING_TRAFFIC
+		assertThat(applicationAvailability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+	}
+
+	private void setNow(Instant instant) {
+		Mockito.when(clock.instant()).thenReturn(instant);
+		Mockito.when(clock.getZone()).thenReturn(ZoneId.systemDefault());
+	}
+}